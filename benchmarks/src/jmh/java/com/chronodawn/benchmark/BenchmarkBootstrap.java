@@ -0,0 +1,30 @@
+package com.chronodawn.benchmark;
+
+import com.chronodawn.config.ChronoDawnConfig;
+import com.chronodawn.config.ConfigDefaults;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+
+/**
+ * One-time setup shared by all benchmarks.
+ *
+ * Bootstraps the vanilla registries (so {@code Blocks}, {@code BlockState} and NBT work)
+ * and installs the default config. Mod registries are never populated outside a loader,
+ * so benchmarks must not touch {@code ModBlocks} and friends; code under test takes mod
+ * blocks as parameters where it needs them.
+ */
+public final class BenchmarkBootstrap {
+    private static boolean initialized = false;
+
+    private BenchmarkBootstrap() {}
+
+    public static synchronized void init() {
+        if (initialized) {
+            return;
+        }
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        ChronoDawnConfig.set(ConfigDefaults.defaults());
+        initialized = true;
+    }
+}
@@ -0,0 +1,69 @@
+package com.chronodawn.benchmark;
+
+import com.chronodawn.worldgen.protection.BlockProtectionHandler;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link BlockProtectionHandler#isProtected}, called for every block break and explosion
+ * block in every dimension.
+ *
+ * Boss rooms are registered in two dimensions so the dimension filter is exercised.
+ * The level is a Mockito stub that only answers {@code dimension()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class BlockProtectionBenchmark {
+    /** Protected rooms per dimension. */
+    @Param({"6", "64"})
+    public int rooms;
+
+    private ServerLevel overworld;
+    private BlockPos insideLastRoom;
+    private BlockPos outsideAllRooms;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.init();
+        BlockProtectionHandler.reset();
+
+        overworld = mock(ServerLevel.class);
+        when(overworld.dimension()).thenReturn(Level.OVERWORLD);
+        ServerLevel nether = mock(ServerLevel.class);
+        when(nether.dimension()).thenReturn(Level.NETHER);
+
+        for (int i = 0; i < rooms; i++) {
+            int x = i * 1000;
+            BoundingBox room = new BoundingBox(x, 0, 0, x + 40, 40, 40);
+            BlockProtectionHandler.registerProtectedArea(overworld, room, new BlockPos(x, 0, 0));
+            BlockProtectionHandler.registerProtectedArea(nether, room, new BlockPos(x, 0, 0));
+        }
+        insideLastRoom = new BlockPos((rooms - 1) * 1000 + 20, 20, 20);
+        outsideAllRooms = new BlockPos(500, 20, 20);
+    }
+
+    @TearDown
+    public void tearDown() {
+        BlockProtectionHandler.reset();
+    }
+
+    @Benchmark
+    public boolean isProtectedInside() {
+        return BlockProtectionHandler.isProtected(overworld, insideLastRoom);
+    }
+
+    /** The common case: breaking a block nowhere near a boss room. */
+    @Benchmark
+    public boolean isProtectedOutside() {
+        return BlockProtectionHandler.isProtected(overworld, outsideAllRooms);
+    }
+}
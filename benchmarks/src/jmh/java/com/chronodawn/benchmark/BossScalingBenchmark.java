@@ -0,0 +1,48 @@
+package com.chronodawn.benchmark;
+
+import com.chronodawn.entities.bosses.BossAbility;
+import com.chronodawn.entities.bosses.BossKind;
+import com.chronodawn.entities.bosses.BossScaling;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BossScaling}, which reads the config on every call (once per boss attack or
+ * ability use). Each invocation covers every boss kind or ability once.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class BossScalingBenchmark {
+    private static final BossKind[] KINDS = BossKind.values();
+    private static final BossAbility[] ABILITIES = BossAbility.values();
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.init();
+    }
+
+    @Benchmark
+    public void healthAndAttackDamage(Blackhole blackhole) {
+        for (BossKind kind : KINDS) {
+            blackhole.consume(BossScaling.health(kind));
+            blackhole.consume(BossScaling.attackDamage(kind));
+        }
+    }
+
+    @Benchmark
+    public void scaledDamage(Blackhole blackhole) {
+        for (BossKind kind : KINDS) {
+            blackhole.consume(BossScaling.scaledDamage(kind, 4.0));
+        }
+    }
+
+    @Benchmark
+    public void ability(Blackhole blackhole) {
+        for (BossAbility ability : ABILITIES) {
+            blackhole.consume(BossScaling.ability(ability));
+        }
+    }
+}
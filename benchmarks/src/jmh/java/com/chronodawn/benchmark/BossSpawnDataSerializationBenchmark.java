@@ -0,0 +1,58 @@
+package com.chronodawn.benchmark;
+
+import com.chronodawn.data.BossSpawnData;
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BossSpawnData} NBT round trip, run on every world save and load. The position
+ * sets grow with every boss structure found, so the size parameter models explored worlds.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class BossSpawnDataSerializationBenchmark {
+    /** Positions recorded per boss structure type. */
+    @Param({"10", "1000"})
+    public int positions;
+
+    private BossSpawnData data;
+    private CompoundTag saved;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.init();
+
+        Random random = new Random(42);
+        data = new BossSpawnData();
+        for (int i = 0; i < positions; i++) {
+            data.markTimeTyrantDoorSpawned(randomPos(random));
+            data.markTimeGuardianStructureSpawned(randomPos(random));
+            data.markChronosWardenDoorSpawned(randomPos(random));
+            data.markEntropyKeeperStructureProcessed(randomPos(random));
+            data.markEntropyKeeperMarkerSpawned(randomPos(random));
+            data.markClockworkColossusStructureSpawned(randomPos(random));
+        }
+        saved = data.saveData(new CompoundTag());
+    }
+
+    private static BlockPos randomPos(Random random) {
+        return new BlockPos(random.nextInt(60000) - 30000, random.nextInt(128), random.nextInt(60000) - 30000);
+    }
+
+    @Benchmark
+    public CompoundTag save() {
+        return data.saveData(new CompoundTag());
+    }
+
+    @Benchmark
+    public BossSpawnData load() {
+        BossSpawnData loaded = new BossSpawnData();
+        loaded.loadData(saved);
+        return loaded;
+    }
+}
@@ -0,0 +1,72 @@
+package com.chronodawn.benchmark;
+
+import com.chronodawn.core.portal.PortalRegistry;
+import com.chronodawn.core.portal.PortalStateMachine;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PortalRegistry} lookups, as done by portal blocks and teleport handling.
+ * Probes are fresh {@link BlockPos} instances, as they are in game.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PortalRegistryBenchmark {
+    private static final int PROBES = 1024;
+
+    @Param({"16", "1024"})
+    public int portals;
+
+    private final PortalRegistry registry = PortalRegistry.getInstance();
+    private BlockPos[] hits;
+    private BlockPos[] misses;
+    private int next;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.init();
+        registry.clear();
+
+        Random random = new Random(42);
+        BlockPos[] positions = new BlockPos[portals];
+        for (int i = 0; i < portals; i++) {
+            positions[i] = new BlockPos(random.nextInt(60000) - 30000, 64, random.nextInt(60000) - 30000);
+            registry.registerPortal(new PortalStateMachine(UUID.randomUUID(), Level.OVERWORLD, positions[i]));
+        }
+
+        hits = new BlockPos[PROBES];
+        misses = new BlockPos[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            BlockPos pos = positions[random.nextInt(portals)];
+            hits[i] = new BlockPos(pos.getX(), pos.getY(), pos.getZ());
+            misses[i] = new BlockPos(pos.getX(), pos.getY() + 1, pos.getZ());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        registry.clear();
+    }
+
+    @Benchmark
+    public PortalStateMachine getPortalAtHit() {
+        return registry.getPortalAt(hits[next++ & (PROBES - 1)]);
+    }
+
+    @Benchmark
+    public PortalStateMachine getPortalAtMiss() {
+        return registry.getPortalAt(misses[next++ & (PROBES - 1)]);
+    }
+
+    @Benchmark
+    public Set<UUID> getPortalsInDimension() {
+        return registry.getPortalsInDimension(Level.OVERWORLD);
+    }
+}
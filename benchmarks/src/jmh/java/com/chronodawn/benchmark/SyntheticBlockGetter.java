@@ -0,0 +1,58 @@
+package com.chronodawn.benchmark;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.FluidState;
+
+/**
+ * Sparse in-memory {@link BlockGetter} for benchmarks. Unset positions are air.
+ *
+ * A hash lookup per {@link #getBlockState} is a little slower than a real chunk section
+ * access, so absolute numbers are pessimistic; relative changes are what matter.
+ */
+public final class SyntheticBlockGetter implements BlockGetter {
+    private final Long2ObjectOpenHashMap<BlockState> blocks = new Long2ObjectOpenHashMap<>();
+
+    public SyntheticBlockGetter() {
+        blocks.defaultReturnValue(Blocks.AIR.defaultBlockState());
+    }
+
+    public SyntheticBlockGetter set(BlockPos pos, BlockState state) {
+        blocks.put(pos.asLong(), state);
+        return this;
+    }
+
+    @Override
+    public BlockEntity getBlockEntity(BlockPos pos) {
+        return null;
+    }
+
+    @Override
+    public BlockState getBlockState(BlockPos pos) {
+        return blocks.get(pos.asLong());
+    }
+
+    @Override
+    public FluidState getFluidState(BlockPos pos) {
+        return getBlockState(pos).getFluidState();
+    }
+
+    @Override
+    public int getHeight() {
+        return 384;
+    }
+
+    // The minimum-Y accessor is getMinBuildHeight() up to 1.21.1 and getMinY() from 1.21.2.
+    // Both are declared without @Override so this compiles against every supported version.
+    public int getMinBuildHeight() {
+        return -64;
+    }
+
+    public int getMinY() {
+        return -64;
+    }
+}
@@ -0,0 +1,73 @@
+package com.chronodawn.client;
+
+import com.chronodawn.benchmark.BenchmarkBootstrap;
+import com.chronodawn.benchmark.SyntheticBlockGetter;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TemporalGrassEdgeTint#blend}, run once per Temporal Grass Block on every chunk
+ * mesh bake. Red Sand and Suspicious Gravel stand in for Temporal Sand / Temporal Gravel.
+ *
+ * Fluid tags are not bound outside a world, so the water check never matches; the water
+ * ring is therefore always scanned in full, which is the worst case.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class TemporalGrassEdgeTintBenchmark {
+    private static final Block TEMPORAL_SAND = Blocks.RED_SAND;
+    private static final Block TEMPORAL_GRAVEL = Blocks.SUSPICIOUS_GRAVEL;
+    private static final int BASE = TemporalGrassEdgeTint.DEFAULT_FALLBACK;
+
+    private SyntheticBlockGetter world;
+    private BlockPos openField;
+    private BlockPos nextToSand;
+    private BlockPos nearGravel;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.init();
+
+        // 32x32 grass field at y=64 with a sand patch on one side and a gravel patch on the other
+        world = new SyntheticBlockGetter();
+        for (int x = 0; x < 32; x++) {
+            for (int z = 0; z < 32; z++) {
+                world.set(new BlockPos(x, 64, z), Blocks.GRASS_BLOCK.defaultBlockState());
+                world.set(new BlockPos(x, 63, z), Blocks.DIRT.defaultBlockState());
+            }
+        }
+        for (int x = 0; x < 4; x++) {
+            for (int z = 0; z < 4; z++) {
+                world.set(new BlockPos(x, 64, z), TEMPORAL_SAND.defaultBlockState());
+                world.set(new BlockPos(28 + x, 64, 28 + z), TEMPORAL_GRAVEL.defaultBlockState());
+            }
+        }
+        openField = new BlockPos(16, 64, 16);
+        nextToSand = new BlockPos(4, 64, 2);
+        nearGravel = new BlockPos(25, 64, 29);
+    }
+
+    /** No trigger in range: every neighbor is checked. */
+    @Benchmark
+    public int blendOpenField() {
+        return TemporalGrassEdgeTint.blend(world, openField, BASE,
+            TemporalGrassEdgeTint.EDGE_TINT, TemporalGrassEdgeTint.EDGE_TINT, TEMPORAL_SAND, TEMPORAL_GRAVEL);
+    }
+
+    @Benchmark
+    public int blendNextToSand() {
+        return TemporalGrassEdgeTint.blend(world, nextToSand, BASE,
+            TemporalGrassEdgeTint.EDGE_TINT, TemporalGrassEdgeTint.EDGE_TINT, TEMPORAL_SAND, TEMPORAL_GRAVEL);
+    }
+
+    @Benchmark
+    public int blendNearGravel() {
+        return TemporalGrassEdgeTint.blend(world, nearGravel, BASE,
+            TemporalGrassEdgeTint.EDGE_TINT, BASE, TEMPORAL_SAND, TEMPORAL_GRAVEL);
+    }
+}
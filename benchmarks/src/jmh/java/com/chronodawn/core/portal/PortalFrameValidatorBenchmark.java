@@ -0,0 +1,70 @@
+package com.chronodawn.core.portal;
+
+import com.chronodawn.benchmark.BenchmarkBootstrap;
+import com.chronodawn.benchmark.SyntheticBlockGetter;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PortalFrameValidator} on a synthetic X-axis frame, as run when a player uses a
+ * Time Hourglass. Obsidian stands in for the Clockstone Block.
+ *
+ * Lives in the validator's package to reach the package-private overloads that take the
+ * frame block as a parameter.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PortalFrameValidatorBenchmark {
+    private static final Block FRAME = Blocks.OBSIDIAN;
+
+    /** Frame width including the frame itself; height is max(width, MIN_HEIGHT). */
+    @Param({"4", "12", "23"})
+    public int width;
+
+    private SyntheticBlockGetter frameLevel;
+    private SyntheticBlockGetter loneBlockLevel;
+    private BlockPos clicked;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.init();
+
+        int height = Math.max(width, PortalFrameValidator.MIN_HEIGHT);
+        BlockPos bottomLeft = new BlockPos(0, 64, 0);
+        frameLevel = new SyntheticBlockGetter();
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                boolean edge = x == 0 || y == 0 || x == width - 1 || y == height - 1;
+                if (edge) {
+                    frameLevel.set(bottomLeft.offset(x, y, 0), FRAME.defaultBlockState());
+                }
+            }
+        }
+        // A player usually clicks the bottom edge
+        clicked = bottomLeft.offset(1, 0, 0);
+
+        loneBlockLevel = new SyntheticBlockGetter().set(clicked, FRAME.defaultBlockState());
+    }
+
+    @Benchmark
+    public PortalFrameValidator.PortalFrameData validateFrame() {
+        return PortalFrameValidator.validateFrame(frameLevel, clicked, Direction.Axis.X, FRAME);
+    }
+
+    /** A frame block with no frame around it: the full bounds scan, then rejection. */
+    @Benchmark
+    public PortalFrameValidator.PortalFrameData validateFrameLoneBlock() {
+        return PortalFrameValidator.validateFrame(loneBlockLevel, clicked, Direction.Axis.X, FRAME);
+    }
+
+    @Benchmark
+    public Object findPortalBounds() {
+        return PortalFrameValidator.findPortalBounds(frameLevel, clicked, Direction.EAST, Direction.UP, FRAME);
+    }
+}
@@ -1,6 +1,7 @@
 package com.chronodawn.blocks;
 
 import com.chronodawn.compat.CompatBlockProperties;
+import com.chronodawn.core.spread.SpreadRules;
 import com.chronodawn.registry.ModBlocks;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -87,10 +88,10 @@ public class TemporalGrassBlock extends SpreadingSnowyDirtBlock {
                             random.nextInt(3) - 1,
                             random.nextInt(5) - 3,
                             random.nextInt(3) - 1);
-                    // Only spread to temporal dirt blocks (not vanilla dirt)
-                    if (level.getBlockState(target).is(ModBlocks.TEMPORAL_DIRT.get())
-                            && canPropagate(grassState, level, target)) {
-                        level.setBlockAndUpdate(target, grassState.setValue(SNOWY,
+                    // Only spread to #chronodawn:temporal_grass_spreadable (temporal dirt, not vanilla dirt)
+                    BlockState converted = SpreadRules.TEMPORAL_GRASS.convert(level, level.getBlockState(target));
+                    if (converted != null && canPropagate(grassState, level, target)) {
+                        level.setBlockAndUpdate(target, converted.setValue(SNOWY,
                                 level.getBlockState(target.above()).is(Blocks.SNOW)));
                     }
                 }
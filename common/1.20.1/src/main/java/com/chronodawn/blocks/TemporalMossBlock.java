@@ -1,5 +1,6 @@
 package com.chronodawn.blocks;
 
+import com.chronodawn.core.spread.SpreadRules;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.server.level.ServerLevel;
@@ -24,7 +25,8 @@ import net.minecraft.world.level.material.MapColor;
  * - Blast Resistance: 0.1 (fragile)
  * - Tool: Can be mined with any tool or by hand (hoe is fastest)
  * - Moss sound (same as vanilla moss carpet)
- * - Spreads to adjacent dirt/stone blocks over time
+ * - Spreads to adjacent dirt/stone blocks over time (block tag
+ *   #chronodawn:temporal_moss_spreadable, see SpreadRules)
  *
  * Generation:
  * - Exclusive to chronodawn_swamp biome
@@ -72,26 +74,14 @@ public class TemporalMossBlock extends Block implements BonemealableBlock {
             BlockPos targetPos = pos.relative(direction);
             BlockState targetState = level.getBlockState(targetPos);
 
-            // Can spread to dirt, stone, or similar natural blocks
-            if (canSpreadTo(targetState)) {
-                level.setBlockAndUpdate(targetPos, this.defaultBlockState());
+            // Can spread to #chronodawn:temporal_moss_spreadable (dirt, stone, grass by default)
+            BlockState converted = SpreadRules.TEMPORAL_MOSS.convert(level, targetState);
+            if (converted != null) {
+                level.setBlockAndUpdate(targetPos, converted);
             }
         }
     }
 
-    /**
-     * Check if moss can spread to the target block.
-     */
-    private boolean canSpreadTo(BlockState state) {
-        // Can spread to dirt, stone, and similar natural blocks
-        Block block = state.getBlock();
-        String blockId = block.toString();
-
-        return blockId.contains("dirt") ||
-               blockId.contains("stone") ||
-               blockId.contains("grass_block");
-    }
-
     /**
      * Bonemeal can be used to spread moss faster.
      */
@@ -112,8 +102,9 @@ public class TemporalMossBlock extends Block implements BonemealableBlock {
             BlockPos targetPos = pos.relative(direction);
             BlockState targetState = level.getBlockState(targetPos);
 
-            if (canSpreadTo(targetState) && random.nextBoolean()) {
-                level.setBlockAndUpdate(targetPos, this.defaultBlockState());
+            BlockState converted = SpreadRules.TEMPORAL_MOSS.convert(level, targetState);
+            if (converted != null && random.nextBoolean()) {
+                level.setBlockAndUpdate(targetPos, converted);
             }
         }
     }
@@ -1,5 +1,7 @@
 package com.chronodawn.blocks;
 
+import com.chronodawn.client.particle.AmbientParticles;
+import com.chronodawn.client.performance.ClientServerLoad;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.util.RandomSource;
@@ -65,8 +67,11 @@ public class TemporalParticleEmitterBlock extends Block {
      */
     @Override
     public void animateTick(BlockState state, Level level, BlockPos pos, RandomSource random) {
-        // Spawn particles with 70% chance per tick (14 times per second on average)
-        if (random.nextFloat() < 0.7f) {
+        // Spawn particles with 70% chance per tick (14 times per second on average),
+        // scaled down while the server reports it is overloaded, then by distance,
+        // view and the per-tick budget of AmbientParticles
+        if (AmbientParticles.shouldSpawn(random, pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5,
+                0.7f * ClientServerLoad.particleDetail())) {
             // Particle position: random offset within block
             double x = pos.getX() + random.nextDouble();
             double y = pos.getY() + random.nextDouble() * 0.3; // Start near bottom of block
@@ -29,6 +29,14 @@ public class CompatGameTestHelper {
         helper.fail(message);
     }
 
+    /**
+     * Recent server tick durations in nanoseconds (100-entry ring buffer).
+     * In 1.20.1 the buffer is the public tickTimes field; getTickTimesNanos() arrives in 1.20.3.
+     */
+    public static long[] tickTimesNanos(GameTestHelper helper) {
+        return helper.getLevel().getServer().tickTimes;
+    }
+
     private CompatGameTestHelper() {
         // Utility class
     }
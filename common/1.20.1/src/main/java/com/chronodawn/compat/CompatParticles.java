@@ -0,0 +1,40 @@
+package com.chronodawn.compat;
+
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.Level;
+
+/**
+ * Minecraft 1.20.1 implementation of CompatParticles.
+ *
+ * Sends a vanilla particle packet to a single player. In this version
+ * ServerLevel.sendParticles(ServerPlayer, ...) takes a single {@code longDistance} flag.
+ */
+public class CompatParticles {
+    /**
+     * Send particles to one player, bypassing the per-level broadcast.
+     *
+     * @param longDistance true to lift the vanilla 32-block client-side cutoff
+     */
+    public static <T extends ParticleOptions> void sendToPlayer(ServerLevel level, ServerPlayer player, T particle,
+                                                                boolean longDistance,
+                                                                double x, double y, double z, int count,
+                                                                double dx, double dy, double dz, double speed) {
+        level.sendParticles(player, particle, longDistance, x, y, z, count, dx, dy, dz, speed);
+    }
+
+    /**
+     * Add one particle on the client, as vanilla does for a received particle packet.
+     *
+     * @param longDistance true to lift the vanilla 32-block cutoff
+     */
+    public static void addParticle(Level level, ParticleOptions particle, boolean longDistance,
+                                   double x, double y, double z, double dx, double dy, double dz) {
+        level.addParticle(particle, longDistance, x, y, z, dx, dy, dz);
+    }
+
+    private CompatParticles() {
+        // Utility class - prevent instantiation
+    }
+}
@@ -1,5 +1,7 @@
 package com.chronodawn.entities.bosses;
 
+import com.chronodawn.core.particle.ParticleDispatcher;
+import com.chronodawn.core.particle.ParticlePriority;
 import com.chronodawn.entities.ai.GroundSlamGoal;
 import com.chronodawn.registry.ModItems;
 import com.chronodawn.registry.ModSounds;
@@ -94,6 +96,9 @@ public class ChronosWardenEntity extends Monster {
     private int stoneStanceCooldown = 0;
     private int stoneStanceDuration = 0; // Remaining ticks in stance
 
+    // Players near the boss, refreshed once per tick
+    private final BossPlayerSnapshot nearbyPlayers = new BossPlayerSnapshot(this, 16.0);
+
     // Ground Slam timing
     private static final int GROUND_SLAM_COOLDOWN_PHASE1 = 200; // 10 seconds
     private static final int GROUND_SLAM_COOLDOWN_PHASE2 = 140; // 7 seconds
@@ -187,7 +192,9 @@ public class ChronosWardenEntity extends Monster {
 
                 // Particle effects during stance
                 if (this.level() instanceof ServerLevel serverLevel) {
-                    serverLevel.sendParticles(
+                    ParticleDispatcher.send(
+                        serverLevel,
+                        ParticlePriority.GAMEPLAY,
                         ParticleTypes.SOUL,
                         this.getX(),
                         this.getY() + 1.0,
@@ -363,7 +370,9 @@ public class ChronosWardenEntity extends Monster {
 
         // Particle effects
         if (this.level() instanceof ServerLevel serverLevel) {
-            serverLevel.sendParticles(
+            ParticleDispatcher.send(
+                serverLevel,
+                ParticlePriority.GAMEPLAY,
                 ParticleTypes.EXPLOSION,
                 this.getX(),
                 this.getY() + 0.1,
@@ -376,21 +385,19 @@ public class ChronosWardenEntity extends Monster {
 
         // Damage and knockback nearby entities
         AABB area = new AABB(this.blockPosition()).inflate(GROUND_SLAM_RANGE);
-        this.level().getEntitiesOfClass(LivingEntity.class, area).forEach(entity -> {
-            if (entity != this && entity instanceof Player) {
-                // Apply damage
-                entity.hurt(this.damageSources().mobAttack(this),
-                    BossScaling.ability(BossAbility.CHRONOS_WARDEN_GROUND_SLAM));
-
-                // Apply knockback
-                Vec3 direction = entity.position().subtract(this.position()).normalize();
-                entity.setDeltaMovement(entity.getDeltaMovement().add(
-                    direction.x * 0.5,
-                    0.3, // Upward knockback
-                    direction.z * 0.5
-                ));
-                entity.hurtMarked = true;
-            }
+        nearbyPlayers.playersIn(area).forEach(player -> {
+            // Apply damage
+            player.hurt(this.damageSources().mobAttack(this),
+                BossScaling.ability(BossAbility.CHRONOS_WARDEN_GROUND_SLAM));
+
+            // Apply knockback
+            Vec3 direction = player.position().subtract(this.position()).normalize();
+            player.setDeltaMovement(player.getDeltaMovement().add(
+                direction.x * 0.5,
+                0.3, // Upward knockback
+                direction.z * 0.5
+            ));
+            player.hurtMarked = true;
         });
 
         // Set cooldown
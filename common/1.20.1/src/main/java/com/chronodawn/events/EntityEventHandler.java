@@ -1,6 +1,8 @@
 package com.chronodawn.events;
 
 import com.chronodawn.ChronoDawn;
+import com.chronodawn.core.performance.ChronoDawnMetrics;
+import com.chronodawn.core.performance.DegradationGovernor;
 import com.chronodawn.core.teleport.TeleporterChargingHandler;
 import com.chronodawn.core.time.ReversedResonance;
 import com.chronodawn.core.time.TimeDistortionEffect;
@@ -55,19 +57,26 @@ public class EntityEventHandler {
      * Processes every 5 ticks to reduce performance impact.
      */
     private static int timeDistortionTickCounter = 0;
+    /**
+     * Hostile mobs slowed by the last time distortion pass, for ChronoDawnMetrics.
+     */
+    private static volatile int lastSlowedMobs = 0;
     /**
      * Register entity event listeners.
      */
     public static void register() {
+        ChronoDawnMetrics.gauge("time_distortion.slowed_mobs", () -> lastSlowedMobs);
+
         // Register Server Level Tick event for time distortion effect and spawning
         // We use SERVER_LEVEL_POST instead of LIVING_TICK (which doesn't exist in Architectury)
-        TickEvent.SERVER_LEVEL_POST.register(level -> {
+        TickEvent.SERVER_LEVEL_POST.register(ChronoDawnMetrics.timeLevelTick("time_distortion_entities", level -> {
             // Only process entities in ChronoDawn dimension
             // Use location() to compare ResourceLocation instead of ResourceKey
             if (level.dimension().location().equals(ModDimensions.CHRONO_DAWN_DIMENSION.location())) {
                 // T178: Optimize time distortion processing to 5-tick intervals
+                // Stretched to 20 ticks under load, still well inside the 100-tick Slowness duration
                 timeDistortionTickCounter++;
-                if (timeDistortionTickCounter >= 5) {
+                if (timeDistortionTickCounter >= DegradationGovernor.scaleInterval(5)) {
                     timeDistortionTickCounter = 0;
                     processChronoDawnEntities(level);
                 }
@@ -78,7 +87,7 @@ public class EntityEventHandler {
                 // Note: Time Tyrant spawns when Boss Room Door is opened, not on tick
                 // See BossRoomDoorBlock.use() for spawn logic
             }
-        });
+        }));
 
         // Register entity death event for boss defeat triggers
         EntityEvent.LIVING_DEATH.register((entity, source) -> {
@@ -97,13 +106,13 @@ public class EntityEventHandler {
         });
 
         // Register player tick event for teleporter charging and Chrono Aegis Clarity
-        TickEvent.PLAYER_POST.register(player -> {
+        TickEvent.PLAYER_POST.register(ChronoDawnMetrics.timePlayerTick("player_effects", player -> {
             if (player instanceof ServerPlayer serverPlayer) {
                 TeleporterChargingHandler.tick(serverPlayer);
                 handleChronoAegisClarity(serverPlayer);
                 com.chronodawn.items.equipment.TemporalAmberArmorItem.tryAutoRepair(serverPlayer);
             }
-        });
+        }));
 
         ChronoDawn.LOGGER.debug("Registered EntityEventHandler with time distortion effect, Time Guardian spawning, Time Tyrant spawning, boss defeat triggers, and teleporter charging");
     }
@@ -116,11 +125,13 @@ public class EntityEventHandler {
      */
     private static void processChronoDawnEntities(ServerLevel level) {
         // Iterate through all entities and apply time distortion to living entities
+        int slowed = 0;
         for (var entity : level.getAllEntities()) {
-            if (entity instanceof LivingEntity livingEntity) {
-                TimeDistortionEffect.applyTimeDistortion(livingEntity);
+            if (entity instanceof LivingEntity livingEntity && TimeDistortionEffect.applyTimeDistortion(livingEntity)) {
+                slowed++;
             }
         }
+        lastSlowedMobs = slowed;
     }
 
     /**
@@ -26,6 +26,12 @@ public class DeferredSpawnEggItem extends SpawnEggItem {
     private final int backgroundColor;
     private final int highlightColor;
 
+    // Reflected SpawnEggItem fields, shared by every spawn egg and resolved on first use
+    private static Field cachedByIdField;
+    private static boolean byIdFieldResolved = false;
+    private static Field cachedEntityTypeField;
+    private static boolean entityTypeFieldResolved = false;
+
     public DeferredSpawnEggItem(
         Supplier<? extends EntityType<? extends Mob>> entityTypeSupplier,
         int backgroundColor,
@@ -63,36 +69,11 @@ public class DeferredSpawnEggItem extends SpawnEggItem {
                 return;
             }
 
-            // Try to find the EntityType field with various possible names
-            Field entityTypeField = null;
-            String[] possibleFieldNames = {"defaultType", "f_43220_", "type"};
-
-            for (String fieldName : possibleFieldNames) {
-                try {
-                    entityTypeField = SpawnEggItem.class.getDeclaredField(fieldName);
-                    break;
-                } catch (NoSuchFieldException ignored) {
-                    // Try next name
-                }
-            }
-
-            // If still not found, search for EntityType field
+            Field entityTypeField = getEntityTypeField();
             if (entityTypeField == null) {
-                Field[] fields = SpawnEggItem.class.getDeclaredFields();
-                for (Field field : fields) {
-                    if (field.getType() == EntityType.class) {
-                        entityTypeField = field;
-                        break;
-                    }
-                }
-            }
-
-            if (entityTypeField == null) {
-                ChronoDawn.LOGGER.warn("Could not find EntityType field in SpawnEggItem");
                 return;
             }
 
-            entityTypeField.setAccessible(true);
             entityTypeField.set(this, entityType);
             ChronoDawn.LOGGER.debug("Successfully set entity type for spawn egg: {}", entityType.getDescriptionId());
         } catch (Exception e) {
@@ -101,43 +82,61 @@ public class DeferredSpawnEggItem extends SpawnEggItem {
     }
 
     /**
-     * Register this spawn egg's colors to vanilla's static BY_ID map using reflection.
-     * This is necessary because vanilla's rendering system uses the static map.
+     * SpawnEggItem's EntityType field, looked up once for all spawn eggs.
      */
-    private void registerColorsToVanillaMap() {
-        try {
-            // Try to find the BY_ID field with various possible names
-            Field byIdField = null;
-            String[] possibleFieldNames = {"BY_ID", "f_43221_", "byId", "BY_COLOR"};
+    private static Field getEntityTypeField() {
+        if (!entityTypeFieldResolved) {
+            entityTypeFieldResolved = true;
+            cachedEntityTypeField = findEntityTypeField();
+        }
+        return cachedEntityTypeField;
+    }
 
-            for (String fieldName : possibleFieldNames) {
-                try {
-                    byIdField = SpawnEggItem.class.getDeclaredField(fieldName);
-                    break;
-                } catch (NoSuchFieldException ignored) {
-                    // Try next name
-                }
+    private static Field findEntityTypeField() {
+        // Try to find the EntityType field with various possible names
+        Field entityTypeField = null;
+        String[] possibleFieldNames = {"defaultType", "f_43220_", "type"};
+
+        for (String fieldName : possibleFieldNames) {
+            try {
+                entityTypeField = SpawnEggItem.class.getDeclaredField(fieldName);
+                break;
+            } catch (NoSuchFieldException ignored) {
+                // Try next name
             }
+        }
 
-            // If still not found, search for Map<EntityType, SpawnEggItem> field
-            if (byIdField == null) {
-                Field[] fields = SpawnEggItem.class.getDeclaredFields();
-                for (Field field : fields) {
-                    if (java.lang.reflect.Modifier.isStatic(field.getModifiers())
-                        && field.getType() == java.util.Map.class) {
-                        byIdField = field;
-                        break;
-                    }
+        // If still not found, search for EntityType field
+        if (entityTypeField == null) {
+            Field[] fields = SpawnEggItem.class.getDeclaredFields();
+            for (Field field : fields) {
+                if (field.getType() == EntityType.class) {
+                    entityTypeField = field;
+                    break;
                 }
             }
+        }
+
+        if (entityTypeField == null) {
+            ChronoDawn.LOGGER.warn("Could not find EntityType field in SpawnEggItem");
+            return null;
+        }
+
+        entityTypeField.setAccessible(true);
+        return entityTypeField;
+    }
 
+    /**
+     * Register this spawn egg's colors to vanilla's static BY_ID map using reflection.
+     * This is necessary because vanilla's rendering system uses the static map.
+     */
+    private void registerColorsToVanillaMap() {
+        try {
+            Field byIdField = getByIdField();
             if (byIdField == null) {
-                ChronoDawn.LOGGER.warn("Could not find BY_ID field in SpawnEggItem");
                 return;
             }
 
-            byIdField.setAccessible(true);
-
             @SuppressWarnings("unchecked")
             Map<EntityType<? extends Mob>, SpawnEggItem> byIdMap = (Map<EntityType<? extends Mob>, SpawnEggItem>) byIdField.get(null);
 
@@ -151,6 +150,52 @@ public class DeferredSpawnEggItem extends SpawnEggItem {
         }
     }
 
+    /**
+     * SpawnEggItem's static BY_ID map field, looked up once for all spawn eggs.
+     */
+    private static Field getByIdField() {
+        if (!byIdFieldResolved) {
+            byIdFieldResolved = true;
+            cachedByIdField = findByIdField();
+        }
+        return cachedByIdField;
+    }
+
+    private static Field findByIdField() {
+        // Try to find the BY_ID field with various possible names
+        Field byIdField = null;
+        String[] possibleFieldNames = {"BY_ID", "f_43221_", "byId", "BY_COLOR"};
+
+        for (String fieldName : possibleFieldNames) {
+            try {
+                byIdField = SpawnEggItem.class.getDeclaredField(fieldName);
+                break;
+            } catch (NoSuchFieldException ignored) {
+                // Try next name
+            }
+        }
+
+        // If still not found, search for Map<EntityType, SpawnEggItem> field
+        if (byIdField == null) {
+            Field[] fields = SpawnEggItem.class.getDeclaredFields();
+            for (Field field : fields) {
+                if (java.lang.reflect.Modifier.isStatic(field.getModifiers())
+                    && field.getType() == java.util.Map.class) {
+                    byIdField = field;
+                    break;
+                }
+            }
+        }
+
+        if (byIdField == null) {
+            ChronoDawn.LOGGER.warn("Could not find BY_ID field in SpawnEggItem");
+            return null;
+        }
+
+        byIdField.setAccessible(true);
+        return byIdField;
+    }
+
     /**
      * Convenience constructor for RegistrySupplier.
      */
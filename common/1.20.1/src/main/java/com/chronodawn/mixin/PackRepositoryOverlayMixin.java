@@ -18,11 +18,12 @@
 package com.chronodawn.mixin;
 
 import com.chronodawn.ChronoDawn;
+import com.chronodawn.worldgen.runtime.InMemoryOverlayPackResources;
 import com.chronodawn.worldgen.runtime.OverlayPackBootstrap;
+import com.chronodawn.worldgen.runtime.OverlayPackContents;
 import com.chronodawn.worldgen.runtime.OverlayPackInjection;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.packs.PackType;
-import net.minecraft.server.packs.PathPackResources;
 import net.minecraft.server.packs.repository.Pack;
 import net.minecraft.server.packs.repository.PackRepository;
 import net.minecraft.server.packs.repository.PackSource;
@@ -31,18 +32,14 @@ import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.ModifyVariable;
 
-import java.nio.file.Path;
-
 /**
  * Fabric-only mixin (1.20.1 variant) that appends the Chrono Dawn runtime
  * config overlay to the {@link PackRepository} varargs at construction time.
  *
- * <p>1.20.1 lacks {@code PackLocationInfo} and
- * {@code PathPackResources.PathResourcesSupplier} (both added in 1.20.5),
- * so this version uses the older
+ * <p>1.20.1 lacks {@code PackLocationInfo} (added in 1.20.5), so this
+ * version uses the older
  * {@code Pack.readMetaAndCreate(name, title, alwaysActive, resources, type, position, source)}
- * overload and constructs {@link PathPackResources} directly with
- * {@code (name, path, isBuiltIn)}.
+ * overload with a name-based {@link InMemoryOverlayPackResources} supplier.
  */
 @Mixin(PackRepository.class)
 public abstract class PackRepositoryOverlayMixin {
@@ -56,17 +53,13 @@ public abstract class PackRepositoryOverlayMixin {
         if (!OverlayPackInjection.isServerDataRepository(sources)) {
             return sources;
         }
-        Path overlayPath = OverlayPackBootstrap.getOverlayPath();
-        if (overlayPath == null) {
+        OverlayPackContents overlay = OverlayPackBootstrap.getContents();
+        if (overlay == null) {
             return sources;
         }
 
         RepositorySource overlaySource = consumer -> {
-            Pack.ResourcesSupplier resourcesSupplier = name -> new PathPackResources(
-                OverlayPackBootstrap.PACK_ID,
-                overlayPath,
-                false
-            );
+            Pack.ResourcesSupplier resourcesSupplier = InMemoryOverlayPackResources.supplier(overlay);
             Pack pack = Pack.readMetaAndCreate(
                 OverlayPackBootstrap.PACK_ID,
                 Component.literal("ChronoDawn config overlay"),
@@ -80,8 +73,8 @@ public abstract class PackRepositoryOverlayMixin {
                 consumer.accept(pack);
             } else {
                 ChronoDawn.LOGGER.warn(
-                    "Runtime overlay pack at {} failed metadata validation; not registering",
-                    overlayPath
+                    "Runtime overlay pack (config {}) failed metadata validation; not registering",
+                    overlay.configHash()
                 );
             }
         };
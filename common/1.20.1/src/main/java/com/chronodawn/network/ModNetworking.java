@@ -1,7 +1,11 @@
 package com.chronodawn.network;
 
 import com.chronodawn.ChronoDawn;
+import com.chronodawn.client.environment.ChronoDawnEnvironmentState;
+import com.chronodawn.client.particle.ParticleBurstEffects;
+import com.chronodawn.client.performance.ClientServerLoad;
 import com.chronodawn.client.shield.ClientShieldCooldowns;
+import com.chronodawn.client.time.ClientTimeFlow;
 import com.chronodawn.compat.CompatResourceLocation;
 import dev.architectury.networking.NetworkManager;
 import dev.architectury.platform.Platform;
@@ -11,7 +15,8 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
 
 /**
- * Single-call S2C network registration + send helpers for ChronoDawn shields (1.20.1 variant).
+ * Single-call S2C network registration + send helpers for ChronoDawn shields, particle bursts,
+ * the dimension time flow, the client environment state and the server load level (1.20.1 variant).
  *
  * 1.20.1 uses Architectury 9.x's {@code FriendlyByteBuf}-based API rather than the newer
  * {@code CustomPacketPayload} + {@code StreamCodec} path. Semantics match the shared variant:
@@ -29,6 +34,18 @@ public final class ModNetworking {
     public static final ResourceLocation SHIELD_COOLDOWN_ID =
         CompatResourceLocation.create(ChronoDawn.MOD_ID, "s2c_shield_cd");
 
+    public static final ResourceLocation PARTICLE_BURST_ID =
+        CompatResourceLocation.create(ChronoDawn.MOD_ID, "s2c_particle_burst");
+
+    public static final ResourceLocation TIME_FLOW_ID =
+        CompatResourceLocation.create(ChronoDawn.MOD_ID, "s2c_time_flow");
+
+    public static final ResourceLocation ENVIRONMENT_STATE_ID =
+        CompatResourceLocation.create(ChronoDawn.MOD_ID, "s2c_environment_state");
+
+    public static final ResourceLocation SERVER_LOAD_ID =
+        CompatResourceLocation.create(ChronoDawn.MOD_ID, "s2c_server_load");
+
     public static void register() {
         // Architectury 9.x's registerS2CReceiver is @Environment(EnvType.CLIENT); calling
         // NetworkManager.registerReceiver(Side.S2C, ...) on a dedicated server throws
@@ -36,7 +53,7 @@ public final class ModNetworking {
         // pre-registration (sendToPlayer uses ServerPlayNetworking.createS2CPacket(id, buf)
         // directly), so the server path is a no-op.
         if (Platform.getEnvironment() != Env.CLIENT) {
-            ChronoDawn.LOGGER.debug("Skipping S2C shield-cooldown receiver registration (server env, 1.20.1)");
+            ChronoDawn.LOGGER.debug("Skipping S2C receiver registration (server env, 1.20.1)");
             return;
         }
         NetworkManager.registerReceiver(
@@ -47,7 +64,39 @@ public final class ModNetworking {
                 context.queue(() -> ClientShieldCooldowns.applyFromPayload(payload));
             }
         );
-        ChronoDawn.LOGGER.debug("Registered S2C shield-cooldown receiver (1.20.1 API)");
+        NetworkManager.registerReceiver(
+            NetworkManager.Side.S2C,
+            PARTICLE_BURST_ID,
+            (buf, context) -> {
+                S2CParticleBurstPayload payload = S2CParticleBurstPayload.decode(buf);
+                context.queue(() -> ParticleBurstEffects.applyFromPayload(payload));
+            }
+        );
+        NetworkManager.registerReceiver(
+            NetworkManager.Side.S2C,
+            TIME_FLOW_ID,
+            (buf, context) -> {
+                S2CTimeFlowPayload payload = S2CTimeFlowPayload.decode(buf);
+                context.queue(() -> ClientTimeFlow.applyFromPayload(payload, context.getPlayer().level()));
+            }
+        );
+        NetworkManager.registerReceiver(
+            NetworkManager.Side.S2C,
+            ENVIRONMENT_STATE_ID,
+            (buf, context) -> {
+                S2CEnvironmentStatePayload payload = S2CEnvironmentStatePayload.decode(buf);
+                context.queue(() -> ChronoDawnEnvironmentState.applyFromPayload(payload));
+            }
+        );
+        NetworkManager.registerReceiver(
+            NetworkManager.Side.S2C,
+            SERVER_LOAD_ID,
+            (buf, context) -> {
+                S2CServerLoadPayload payload = S2CServerLoadPayload.decode(buf);
+                context.queue(() -> ClientServerLoad.applyFromPayload(payload));
+            }
+        );
+        ChronoDawn.LOGGER.debug("Registered S2C shield-cooldown, particle-burst, time-flow, environment-state and server-load receivers (1.20.1 API)");
     }
 
     public static void sendShieldSpeedCooldown(ServerPlayer player, int durationTicks) {
@@ -72,4 +121,40 @@ public final class ModNetworking {
         } catch (Throwable ignored) {
         }
     }
+
+    public static void sendParticleBurst(ServerPlayer player, S2CParticleBurstPayload payload) {
+        try {
+            FriendlyByteBuf buf = new FriendlyByteBuf(io.netty.buffer.Unpooled.buffer());
+            S2CParticleBurstPayload.encode(payload, buf);
+            NetworkManager.sendToPlayer(player, PARTICLE_BURST_ID, buf);
+        } catch (Throwable ignored) {
+        }
+    }
+
+    public static void sendTimeFlow(ServerPlayer player, S2CTimeFlowPayload payload) {
+        try {
+            FriendlyByteBuf buf = new FriendlyByteBuf(io.netty.buffer.Unpooled.buffer());
+            S2CTimeFlowPayload.encode(payload, buf);
+            NetworkManager.sendToPlayer(player, TIME_FLOW_ID, buf);
+        } catch (Throwable ignored) {
+        }
+    }
+
+    public static void sendEnvironmentState(ServerPlayer player, S2CEnvironmentStatePayload payload) {
+        try {
+            FriendlyByteBuf buf = new FriendlyByteBuf(io.netty.buffer.Unpooled.buffer());
+            S2CEnvironmentStatePayload.encode(payload, buf);
+            NetworkManager.sendToPlayer(player, ENVIRONMENT_STATE_ID, buf);
+        } catch (Throwable ignored) {
+        }
+    }
+
+    public static void sendServerLoad(ServerPlayer player, S2CServerLoadPayload payload) {
+        try {
+            FriendlyByteBuf buf = new FriendlyByteBuf(io.netty.buffer.Unpooled.buffer());
+            S2CServerLoadPayload.encode(payload, buf);
+            NetworkManager.sendToPlayer(player, SERVER_LOAD_ID, buf);
+        } catch (Throwable ignored) {
+        }
+    }
 }
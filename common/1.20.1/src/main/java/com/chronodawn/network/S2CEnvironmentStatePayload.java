@@ -0,0 +1,32 @@
+package com.chronodawn.network;
+
+import net.minecraft.network.FriendlyByteBuf;
+
+/**
+ * S2C payload carrying the world state that drives Chrono Dawn's client environment.
+ *
+ * 1.20.1-specific replacement for the shared record under {@code common/shared}; like
+ * {@link S2CShieldCooldownPayload} it is a plain data class with explicit
+ * {@code encode}/{@code decode} helpers for Architectury 9.x's {@code FriendlyByteBuf} API.
+ */
+public final class S2CEnvironmentStatePayload {
+    private final boolean tyrantDefeated;
+    private final boolean fade;
+
+    public S2CEnvironmentStatePayload(boolean tyrantDefeated, boolean fade) {
+        this.tyrantDefeated = tyrantDefeated;
+        this.fade = fade;
+    }
+
+    public boolean tyrantDefeated() { return tyrantDefeated; }
+    public boolean fade() { return fade; }
+
+    public static void encode(S2CEnvironmentStatePayload payload, FriendlyByteBuf buf) {
+        buf.writeBoolean(payload.tyrantDefeated);
+        buf.writeBoolean(payload.fade);
+    }
+
+    public static S2CEnvironmentStatePayload decode(FriendlyByteBuf buf) {
+        return new S2CEnvironmentStatePayload(buf.readBoolean(), buf.readBoolean());
+    }
+}
@@ -0,0 +1,100 @@
+package com.chronodawn.network;
+
+import net.minecraft.network.FriendlyByteBuf;
+
+/**
+ * S2C payload describing a whole particle effect (ring, volume, line) instead of one
+ * {@code ClientboundLevelParticlesPacket} per particle group.
+ *
+ * 1.20.1-specific replacement for the shared record under {@code common/shared}; like
+ * {@link S2CShieldCooldownPayload} it is a plain data class with explicit
+ * {@code encode}/{@code decode} helpers for Architectury 9.x's {@code FriendlyByteBuf} API.
+ * Accessor names match the shared record so
+ * {@link com.chronodawn.client.particle.ParticleBurstEffects} stays version-agnostic.
+ */
+public final class S2CParticleBurstPayload {
+    public static final byte SHAPE_RING = 0;
+    public static final byte SHAPE_VOLUME = 1;
+    public static final byte SHAPE_LINE = 2;
+
+    private final byte shape;
+    private final int particleId;
+    private final double x;
+    private final double y;
+    private final double z;
+    private final int count;
+    private final float sizeX;
+    private final float sizeY;
+    private final float sizeZ;
+    private final float speed;
+    private final long seed;
+    private final boolean longDistance;
+
+    public S2CParticleBurstPayload(byte shape, int particleId, double x, double y, double z, int count,
+                                   float sizeX, float sizeY, float sizeZ, float speed, long seed,
+                                   boolean longDistance) {
+        this.shape = shape;
+        this.particleId = particleId;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.count = count;
+        this.sizeX = sizeX;
+        this.sizeY = sizeY;
+        this.sizeZ = sizeZ;
+        this.speed = speed;
+        this.seed = seed;
+        this.longDistance = longDistance;
+    }
+
+    public byte shape() { return shape; }
+    public int particleId() { return particleId; }
+    public double x() { return x; }
+    public double y() { return y; }
+    public double z() { return z; }
+    public int count() { return count; }
+    public float sizeX() { return sizeX; }
+    public float sizeY() { return sizeY; }
+    public float sizeZ() { return sizeZ; }
+    public float speed() { return speed; }
+    public long seed() { return seed; }
+    public boolean longDistance() { return longDistance; }
+
+    /** Copy for one receiving player (distance level-of-detail, budget trimming, long distance). */
+    public S2CParticleBurstPayload forPlayer(int newCount, boolean newLongDistance) {
+        return new S2CParticleBurstPayload(shape, particleId, x, y, z, newCount, sizeX, sizeY, sizeZ, speed, seed,
+            newLongDistance);
+    }
+
+    public static void encode(S2CParticleBurstPayload payload, FriendlyByteBuf buf) {
+        buf.writeByte(payload.shape);
+        buf.writeVarInt(payload.particleId);
+        buf.writeDouble(payload.x);
+        buf.writeDouble(payload.y);
+        buf.writeDouble(payload.z);
+        buf.writeVarInt(payload.count);
+        buf.writeFloat(payload.sizeX);
+        buf.writeFloat(payload.sizeY);
+        buf.writeFloat(payload.sizeZ);
+        buf.writeFloat(payload.speed);
+        buf.writeLong(payload.seed);
+        buf.writeBoolean(payload.longDistance);
+    }
+
+    public static S2CParticleBurstPayload decode(FriendlyByteBuf buf) {
+        return new S2CParticleBurstPayload(
+            buf.readByte(),
+            buf.readVarInt(),
+            buf.readDouble(),
+            buf.readDouble(),
+            buf.readDouble(),
+            buf.readVarInt(),
+            buf.readFloat(),
+            buf.readFloat(),
+            buf.readFloat(),
+            buf.readFloat(),
+            buf.readLong(),
+            buf.readBoolean()
+        );
+    }
+}
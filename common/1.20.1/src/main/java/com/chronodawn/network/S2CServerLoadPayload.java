@@ -0,0 +1,28 @@
+package com.chronodawn.network;
+
+import net.minecraft.network.FriendlyByteBuf;
+
+/**
+ * S2C payload carrying the server's degradation level.
+ *
+ * 1.20.1-specific replacement for the shared record under {@code common/shared}; like
+ * {@link S2CShieldCooldownPayload} it is a plain data class with explicit
+ * {@code encode}/{@code decode} helpers for Architectury 9.x's {@code FriendlyByteBuf} API.
+ */
+public final class S2CServerLoadPayload {
+    private final int level;
+
+    public S2CServerLoadPayload(int level) {
+        this.level = level;
+    }
+
+    public int level() { return level; }
+
+    public static void encode(S2CServerLoadPayload payload, FriendlyByteBuf buf) {
+        buf.writeVarInt(payload.level);
+    }
+
+    public static S2CServerLoadPayload decode(FriendlyByteBuf buf) {
+        return new S2CServerLoadPayload(buf.readVarInt());
+    }
+}
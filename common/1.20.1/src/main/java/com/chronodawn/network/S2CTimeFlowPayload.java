@@ -0,0 +1,57 @@
+package com.chronodawn.network;
+
+import com.chronodawn.core.time.TimeFlowState;
+import net.minecraft.network.FriendlyByteBuf;
+
+/**
+ * S2C payload carrying the Chrono Dawn {@link TimeFlowState}.
+ *
+ * 1.20.1-specific replacement for the shared record under {@code common/shared}; like
+ * {@link S2CShieldCooldownPayload} it is a plain data class with explicit
+ * {@code encode}/{@code decode} helpers for Architectury 9.x's {@code FriendlyByteBuf} API.
+ * Accessor names match the shared record so
+ * {@link com.chronodawn.client.time.ClientTimeFlow} stays version-agnostic.
+ */
+public final class S2CTimeFlowPayload {
+    private final long anchorGameTime;
+    private final long anchorDayTime;
+    private final float speed;
+    private final long sleepSkipTarget;
+
+    public S2CTimeFlowPayload(long anchorGameTime, long anchorDayTime, float speed, long sleepSkipTarget) {
+        this.anchorGameTime = anchorGameTime;
+        this.anchorDayTime = anchorDayTime;
+        this.speed = speed;
+        this.sleepSkipTarget = sleepSkipTarget;
+    }
+
+    public long anchorGameTime() { return anchorGameTime; }
+    public long anchorDayTime() { return anchorDayTime; }
+    public float speed() { return speed; }
+    public long sleepSkipTarget() { return sleepSkipTarget; }
+
+    public static S2CTimeFlowPayload of(TimeFlowState state) {
+        return new S2CTimeFlowPayload(state.anchorGameTime(), state.anchorDayTime(), state.speed(),
+            state.sleepSkipTarget());
+    }
+
+    public TimeFlowState toState() {
+        return new TimeFlowState(anchorGameTime, anchorDayTime, speed, sleepSkipTarget);
+    }
+
+    public static void encode(S2CTimeFlowPayload payload, FriendlyByteBuf buf) {
+        buf.writeVarLong(payload.anchorGameTime);
+        buf.writeVarLong(payload.anchorDayTime);
+        buf.writeFloat(payload.speed);
+        buf.writeVarLong(payload.sleepSkipTarget);
+    }
+
+    public static S2CTimeFlowPayload decode(FriendlyByteBuf buf) {
+        return new S2CTimeFlowPayload(
+            buf.readVarLong(),
+            buf.readVarLong(),
+            buf.readFloat(),
+            buf.readVarLong()
+        );
+    }
+}
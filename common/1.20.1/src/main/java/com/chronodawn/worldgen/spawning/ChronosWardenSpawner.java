@@ -1,12 +1,14 @@
 package com.chronodawn.worldgen.spawning;
 
 import com.chronodawn.ChronoDawn;
+import com.chronodawn.core.performance.DegradationGovernor;
 import com.chronodawn.entities.bosses.ChronosWardenEntity;
 import com.chronodawn.registry.ModEntities;
 import dev.architectury.event.events.common.LifecycleEvent;
 import net.minecraft.core.BlockPos;
 import net.minecraft.resources.ResourceLocation;
 import com.chronodawn.compat.CompatResourceLocation;
+import com.chronodawn.core.performance.SafeBlockAccess;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.MobSpawnType;
 import net.minecraft.world.level.ChunkPos;
@@ -94,7 +96,7 @@ public class ChronosWardenSpawner {
         int tickCounter = tickCounters.get(currentWorldId) + 1;
 
         // Only check every CHECK_INTERVAL ticks
-        if (tickCounter < CHECK_INTERVAL) {
+        if (tickCounter < DegradationGovernor.scaleInterval(CHECK_INTERVAL)) {
             tickCounters.put(currentWorldId, tickCounter);
             return;
         }
@@ -320,9 +322,9 @@ public class ChronosWardenSpawner {
         for (int i = 0; i < 10; i++) {
             BlockPos checkPos = startPos.below(i);
 
-            // Check if this is a valid spawn position (air with solid ground)
-            if (level.getBlockState(checkPos).isAir() &&
-                !level.getBlockState(checkPos.below()).isAir()) {
+            // Check if this is a valid spawn position (air with solid ground), without loading chunks
+            if (SafeBlockAccess.test(level, checkPos, BlockState::isAir) &&
+                SafeBlockAccess.test(level, checkPos.below(), state -> !state.isAir())) {
                 return checkPos;
             }
         }
@@ -1,6 +1,11 @@
 package com.chronodawn.worldgen.spawning;
 
 import com.chronodawn.ChronoDawn;
+import com.chronodawn.compat.CompatSavedData;
+import com.chronodawn.core.performance.ChronoDawnMetrics;
+import com.chronodawn.core.performance.DegradationGovernor;
+import com.chronodawn.core.performance.SafeBlockAccess;
+import com.chronodawn.data.BossSpawnData;
 import com.chronodawn.entities.bosses.ClockworkColossusEntity;
 import com.chronodawn.registry.ModEntities;
 import dev.architectury.event.events.common.LifecycleEvent;
@@ -9,10 +14,10 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.MobSpawnType;
+import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.levelgen.structure.BoundingBox;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Clockwork Colossus Spawner
@@ -23,23 +28,17 @@ import java.util.concurrent.ConcurrentHashMap;
  * - Location: Clockwork Depths Engine Room (ChronoDawn dimension)
  * - Trigger: Player enters within 20 blocks of the spawn marker
  * - Max per structure: 1
+ * - Persistence: Uses SavedData to prevent duplicate spawning after server restart
  *
  * Implementation Strategy:
- * - Uses server tick event to check registered engine rooms
- * - Checks if any player is inside a registered engine room
- * - Searches for DANGER!! sign markers within the engine room
+ * - Engine rooms and their DANGER!! sign markers are recorded by BossRoomProtectionProcessor
+ *   when the structure generates, and persisted in BossSpawnData
+ * - Uses server tick event to check online players against the recorded engine rooms
  * - Spawns Clockwork Colossus when player approaches marker
  *
  * Reference: T235 - Clockwork Colossus implementation
  */
 public class ClockworkColossusSpawner {
-    // Track structure positions where we've already spawned Clockwork Colossus
-    private static final Set<BlockPos> spawnedStructures = new HashSet<>();
-
-    // Track registered engine rooms (bounding boxes from BossRoomProtectionProcessor) (per-server runtime cache)
-    // Key: dimension ID, Value: Set of bounding boxes
-    private static final Map<ResourceLocation, Set<BoundingBox>> engineRooms = new ConcurrentHashMap<>();
-
     // Check interval (in ticks) - check every 10 seconds to reduce load
     private static final int CHECK_INTERVAL = 200;
     private static int tickCounter = 0;
@@ -53,11 +52,11 @@ public class ClockworkColossusSpawner {
      */
     public static void register() {
         // Use server tick event to check for Clockwork Depths structures
-        TickEvent.SERVER_POST.register(server -> {
+        TickEvent.SERVER_POST.register(ChronoDawnMetrics.timeServerTick("clockwork_colossus_spawner", server -> {
             for (ServerLevel level : server.getAllLevels()) {
                 checkAndSpawnColossus(level);
             }
-        });
+        }));
 
         LifecycleEvent.SERVER_LEVEL_LOAD.register(level -> {
             if (level instanceof ServerLevel) {
@@ -81,11 +80,9 @@ public class ClockworkColossusSpawner {
             return;
         }
 
-        ResourceLocation dimensionId = level.dimension().location();
-
         // Increment tick counter
         tickCounter++;
-        if (tickCounter < CHECK_INTERVAL) {
+        if (tickCounter < DegradationGovernor.scaleInterval(CHECK_INTERVAL)) {
             return;
         }
         tickCounter = 0;
@@ -95,9 +92,15 @@ public class ClockworkColossusSpawner {
             return;
         }
 
-        // Check if any player is inside a registered engine room
-        Set<BoundingBox> rooms = engineRooms.get(dimensionId);
-        if (rooms == null || rooms.isEmpty()) {
+        // Engine rooms and their spawn markers were recorded when the structure generated
+        BossSpawnData data = CompatSavedData.computeIfAbsent(
+            level.getDataStorage(),
+            BossSpawnData::new,
+            BossSpawnData::load,
+            BossSpawnData.getDataName()
+        );
+        Collection<BossSpawnData.EngineRoom> rooms = data.getClockworkColossusEngineRooms();
+        if (rooms.isEmpty()) {
             return;
         }
 
@@ -105,26 +108,23 @@ public class ClockworkColossusSpawner {
             BlockPos playerPos = player.blockPosition();
 
             // Check if player is inside any engine room
-            for (BoundingBox room : rooms) {
-                if (room.isInside(playerPos)) {
-
-                    // Use room center as structure identifier for tracking
-                    BlockPos roomCenter = new BlockPos(
-                        (room.minX() + room.maxX()) / 2,
-                        (room.minY() + room.maxY()) / 2,
-                        (room.minZ() + room.maxZ()) / 2
-                    );
-
-                    // Check if we've already spawned in this room
-                    if (spawnedStructures.contains(roomCenter)) {
+            for (BossSpawnData.EngineRoom room : rooms) {
+                if (room.bounds().isInside(playerPos)) {
+                    BlockPos roomCenter = room.center();
+
+                    // Check if we've already spawned in this room (check persisted data)
+                    if (data.hasClockworkColossusStructureSpawned(roomCenter)) {
                         continue;
                     }
 
-                    // Search for markers in this engine room
-                    List<BlockPos> markerPositions = findEngineRoomMarkersInBoundingBox(level, room);
-
+                    List<BlockPos> markerPositions = room.markers();
                     if (markerPositions.isEmpty()) {
-                        continue;
+                        // The signs were not seen during generation; search the room once and keep the result
+                        markerPositions = findEngineRoomMarkersInBoundingBox(level, room.bounds());
+                        if (markerPositions.isEmpty()) {
+                            continue;
+                        }
+                        data.registerClockworkColossusEngineRoom(room.bounds(), markerPositions);
                     }
 
                     // Check if player is within spawn distance of any marker
@@ -141,8 +141,8 @@ public class ClockworkColossusSpawner {
                         continue;
                     }
 
-                    // Mark this room as spawned
-                    spawnedStructures.add(roomCenter);
+                    // Mark this room as spawned (persisted to disk)
+                    data.markClockworkColossusStructureSpawned(roomCenter);
                     ChronoDawn.LOGGER.debug("Spawning Clockwork Colossus in engine room at {}", roomCenter);
 
                     // Spawn Clockwork Colossus
@@ -286,9 +286,9 @@ public class ClockworkColossusSpawner {
         for (int i = 0; i < 10; i++) {
             BlockPos checkPos = startPos.below(i);
 
-            // Check if this is a valid spawn position (air with solid ground)
-            if (level.getBlockState(checkPos).isAir() &&
-                !level.getBlockState(checkPos.below()).isAir()) {
+            // Check if this is a valid spawn position (air with solid ground), without loading chunks
+            if (SafeBlockAccess.test(level, checkPos, BlockState::isAir) &&
+                SafeBlockAccess.test(level, checkPos.below(), state -> !state.isAir())) {
                 return checkPos;
             }
         }
@@ -298,31 +298,44 @@ public class ClockworkColossusSpawner {
     }
 
     /**
-     * Register an engine room bounding box from BossRoomProtectionProcessor.
-     * Called when a Clockwork Depths engine room is detected during worldgen.
+     * Register an engine room and the spawn markers inside it, from BossRoomProtectionProcessor.
+     * Called when a Clockwork Depths engine room is detected during worldgen. The room is
+     * persisted in BossSpawnData, so it is still known after a server restart.
      *
      * @param level The ServerLevel containing the engine room
      * @param boundingBox The bounding box of the engine room
+     * @param markers Spawn markers (DANGER!! signs) found inside the engine room
      */
-    public static void registerEngineRoom(ServerLevel level, BoundingBox boundingBox) {
-        ResourceLocation dimensionId = level.dimension().location();
-        engineRooms.putIfAbsent(dimensionId, new HashSet<>());
-        engineRooms.get(dimensionId).add(boundingBox);
+    public static void registerEngineRoom(ServerLevel level, BoundingBox boundingBox, List<BlockPos> markers) {
+        BossSpawnData data = CompatSavedData.computeIfAbsent(
+            level.getDataStorage(),
+            BossSpawnData::new,
+            BossSpawnData::load,
+            BossSpawnData.getDataName()
+        );
+        data.registerClockworkColossusEngineRoom(boundingBox, markers);
 
-        ChronoDawn.LOGGER.debug("Registered Clockwork Depths engine room in dimension {}: {}",
-            dimensionId, boundingBox);
+        ChronoDawn.LOGGER.debug("Registered Clockwork Depths engine room in dimension {}: {} ({} spawn markers)",
+            level.dimension().location(), boundingBox, markers.size());
     }
 
     /**
      * Reset spawn tracking for a specific world (useful for testing or debugging).
+     * Recorded engine rooms are kept; only the spawn state is cleared.
      *
      * @param level The ServerLevel to reset spawn data for
      */
     public static void reset(ServerLevel level) {
-        ResourceLocation dimensionId = level.dimension().location();
-        spawnedStructures.clear();
-        engineRooms.remove(dimensionId);
+        BossSpawnData data = CompatSavedData.computeIfAbsent(
+            level.getDataStorage(),
+            BossSpawnData::new,
+            BossSpawnData::load,
+            BossSpawnData.getDataName()
+        );
+        data.resetClockworkColossus();
         tickCounter = 0;
+
+        ResourceLocation dimensionId = level.dimension().location();
         ChronoDawn.LOGGER.debug("Clockwork Colossus Spawner reset for dimension: {}", dimensionId);
     }
 }
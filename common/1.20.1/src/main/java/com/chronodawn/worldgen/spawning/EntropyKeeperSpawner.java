@@ -1,6 +1,8 @@
 package com.chronodawn.worldgen.spawning;
 
 import com.chronodawn.ChronoDawn;
+import com.chronodawn.core.performance.ChronoDawnMetrics;
+import com.chronodawn.core.performance.DegradationGovernor;
 import com.chronodawn.entities.bosses.EntropyKeeperEntity;
 import com.chronodawn.registry.ModEntities;
 import dev.architectury.event.events.common.LifecycleEvent;
@@ -71,11 +73,11 @@ public class EntropyKeeperSpawner {
         });
 
         // Register server tick event
-        TickEvent.SERVER_POST.register(server -> {
+        TickEvent.SERVER_POST.register(ChronoDawnMetrics.timeServerTick("entropy_keeper_spawner", server -> {
             for (ServerLevel level : server.getAllLevels()) {
                 checkAndSpawnKeeper(level);
             }
-        });
+        }));
 
         ChronoDawn.LOGGER.debug("Registered EntropyKeeperSpawner");
     }
@@ -94,7 +96,7 @@ public class EntropyKeeperSpawner {
         tickCounters.put(dimensionId, tickCounter);
 
         // Only check every CHECK_INTERVAL ticks
-        if (tickCounter < CHECK_INTERVAL) {
+        if (tickCounter < DegradationGovernor.scaleInterval(CHECK_INTERVAL)) {
             return;
         }
         tickCounters.put(dimensionId, 0);
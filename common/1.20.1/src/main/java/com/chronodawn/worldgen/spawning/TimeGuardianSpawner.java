@@ -1,6 +1,7 @@
 package com.chronodawn.worldgen.spawning;
 
 import com.chronodawn.ChronoDawn;
+import com.chronodawn.core.performance.DegradationGovernor;
 import com.chronodawn.entities.bosses.TimeGuardianEntity;
 import com.chronodawn.registry.ModEntities;
 import dev.architectury.event.events.common.LifecycleEvent;
@@ -94,7 +95,7 @@ public class TimeGuardianSpawner {
 
         // Increment tick counter and check interval
         int currentTick = tickCounter.incrementAndGet();
-        if (currentTick < CHECK_INTERVAL) {
+        if (currentTick < DegradationGovernor.scaleInterval(CHECK_INTERVAL)) {
             return;
         }
         tickCounter.set(0);
@@ -2,6 +2,8 @@ package com.chronodawn.worldgen.spawning;
 
 import com.chronodawn.ChronoDawn;
 import com.chronodawn.core.dimension.DimensionStabilizer;
+import com.chronodawn.core.performance.SafeBlockAccess;
+import com.chronodawn.core.performance.DegradationGovernor;
 import com.chronodawn.entities.bosses.TimeTyrantEntity;
 import com.chronodawn.registry.ModEntities;
 import dev.architectury.event.events.common.LifecycleEvent;
@@ -101,7 +103,7 @@ public class TimeTyrantSpawner {
         int tickCounter = tickCounters.get(currentWorldId) + 1;
 
         // Only check every CHECK_INTERVAL ticks
-        if (tickCounter < CHECK_INTERVAL) {
+        if (tickCounter < DegradationGovernor.scaleInterval(CHECK_INTERVAL)) {
             tickCounters.put(currentWorldId, tickCounter);
             return;
         }
@@ -344,9 +346,9 @@ public class TimeTyrantSpawner {
         for (int i = 0; i < 10; i++) {
             BlockPos checkPos = startPos.below(i);
 
-            // Check if this is a valid spawn position (air with solid ground)
-            if (level.getBlockState(checkPos).isAir() &&
-                !level.getBlockState(checkPos.below()).isAir()) {
+            // Check if this is a valid spawn position (air with solid ground), without loading chunks
+            if (SafeBlockAccess.test(level, checkPos, BlockState::isAir) &&
+                SafeBlockAccess.test(level, checkPos.below(), state -> !state.isAir())) {
                 return checkPos;
             }
         }
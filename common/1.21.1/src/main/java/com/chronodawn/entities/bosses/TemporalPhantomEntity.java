@@ -1,5 +1,7 @@
 package com.chronodawn.entities.bosses;
 
+import com.chronodawn.core.particle.ParticleDispatcher;
+import com.chronodawn.core.particle.ParticlePriority;
 import com.chronodawn.entities.projectiles.TimeBlastEntity;
 import com.chronodawn.registry.ModSounds;
 import com.chronodawn.worldgen.protection.BlockProtectionHandler;
@@ -164,7 +166,9 @@ public class TemporalPhantomEntity extends Monster implements RangedAttackMob {
                 double offsetX = (this.random.nextDouble() - 0.5) * 2.0;
                 double offsetY = this.random.nextDouble() * 2.0;
                 double offsetZ = (this.random.nextDouble() - 0.5) * 2.0;
-                serverLevel.sendParticles(
+                ParticleDispatcher.send(
+                    serverLevel,
+                    ParticlePriority.COSMETIC,
                     ParticleTypes.PORTAL,
                     this.getX() + offsetX,
                     this.getY() + offsetY,
@@ -206,7 +210,9 @@ public class TemporalPhantomEntity extends Monster implements RangedAttackMob {
 
             // Spawn particles
             if (this.level() instanceof ServerLevel serverLevel) {
-                serverLevel.sendParticles(
+                ParticleDispatcher.send(
+                    serverLevel,
+                    ParticlePriority.GAMEPLAY,
                     ParticleTypes.PORTAL,
                     this.getX(), this.getY() + 1.0, this.getZ(),
                     30,
@@ -286,7 +292,9 @@ public class TemporalPhantomEntity extends Monster implements RangedAttackMob {
             // For now, just play effects
 
             // Spawn summoning particles
-            serverLevel.sendParticles(
+            ParticleDispatcher.send(
+                serverLevel,
+                ParticlePriority.COSMETIC,
                 ParticleTypes.PORTAL,
                 this.getX() + offsetX,
                 this.getY(),
@@ -395,7 +403,9 @@ public class TemporalPhantomEntity extends Monster implements RangedAttackMob {
 
         // Spawn particles at departure
         if (this.level() instanceof ServerLevel serverLevel) {
-            serverLevel.sendParticles(
+            ParticleDispatcher.send(
+                serverLevel,
+                ParticlePriority.GAMEPLAY,
                 ParticleTypes.PORTAL,
                 this.getX(), this.getY() + 1.0, this.getZ(),
                 30,
@@ -416,7 +426,9 @@ public class TemporalPhantomEntity extends Monster implements RangedAttackMob {
 
         // Spawn particles at arrival
         if (this.level() instanceof ServerLevel serverLevel) {
-            serverLevel.sendParticles(
+            ParticleDispatcher.send(
+                serverLevel,
+                ParticlePriority.GAMEPLAY,
                 ParticleTypes.PORTAL,
                 this.getX(), this.getY() + 1.0, this.getZ(),
                 30,
@@ -1,5 +1,7 @@
 package com.chronodawn.entities.projectiles;
 
+import com.chronodawn.core.particle.ParticleDispatcher;
+import com.chronodawn.core.particle.ParticlePriority;
 import com.chronodawn.entities.bosses.BossProjectileDamage;
 import com.chronodawn.registry.ModSounds;
 import net.minecraft.core.particles.ParticleTypes;
@@ -101,7 +103,9 @@ public class GearProjectileEntity extends ThrowableProjectile {
         // Spawn iron particles on trail (server-side)
         if (!this.level().isClientSide && this.level() instanceof ServerLevel serverLevel) {
             if (ticksInAir % 2 == 0) {
-                serverLevel.sendParticles(
+                ParticleDispatcher.send(
+                    serverLevel,
+                    ParticlePriority.COSMETIC,
                     ParticleTypes.CRIT,
                     this.getX(),
                     this.getY(),
@@ -149,7 +153,9 @@ public class GearProjectileEntity extends ThrowableProjectile {
 
             // Impact particles
             if (this.level() instanceof ServerLevel serverLevel) {
-                serverLevel.sendParticles(
+                ParticleDispatcher.send(
+                    serverLevel,
+                    ParticlePriority.COSMETIC,
                     ParticleTypes.CRIT,
                     this.getX(),
                     this.getY(),
@@ -181,7 +187,9 @@ public class GearProjectileEntity extends ThrowableProjectile {
 
         // Impact particles
         if (this.level() instanceof ServerLevel serverLevel) {
-            serverLevel.sendParticles(
+            ParticleDispatcher.send(
+                serverLevel,
+                ParticlePriority.COSMETIC,
                 ParticleTypes.SMOKE,
                 this.getX(),
                 this.getY(),
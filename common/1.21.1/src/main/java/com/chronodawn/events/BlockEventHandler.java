@@ -1,6 +1,7 @@
 package com.chronodawn.events;
 
 import com.chronodawn.ChronoDawn;
+import com.chronodawn.core.performance.ChronoDawnMetrics;
 import com.chronodawn.core.portal.PortalRegistry;
 import com.chronodawn.core.portal.PortalState;
 import com.chronodawn.core.portal.PortalStateMachine;
@@ -81,6 +82,8 @@ public class BlockEventHandler {
      * Register block event listeners.
      */
     public static void register() {
+        ChronoDawnMetrics.gauge("sandstone.pending_restorations", pendingRestorations::size);
+
         // Register block break event for Reversing Time Sandstone and Spatially Linked Pickaxe
         BlockEvent.BREAK.register((level, pos, state, player, xp) -> {
             // Check if the broken block is Reversing Time Sandstone
@@ -97,7 +100,7 @@ public class BlockEventHandler {
         });
 
         // Register server tick event to remove portal blocks when portals are unstable
-        TickEvent.SERVER_POST.register(server -> {
+        TickEvent.SERVER_POST.register(ChronoDawnMetrics.timeServerTick("unstable_portal_cleanup", server -> {
             // Check global state
             ChronoDawnGlobalState globalState = ChronoDawnGlobalState.get(server);
             if (!globalState.arePortalsUnstable()) {
@@ -139,12 +142,12 @@ public class BlockEventHandler {
                     ChronoDawn.LOGGER.debug("Removed unstable portal blocks near {}", portalPos);
                 }
             }
-        });
+        }));
 
         // Register server tick event to process restoration timers
-        TickEvent.SERVER_LEVEL_POST.register(level -> {
+        TickEvent.SERVER_LEVEL_POST.register(ChronoDawnMetrics.timeLevelTick("sandstone_restoration", level -> {
             processRestorationTimers(level);
-        });
+        }));
 
         // Register block interaction event for axe stripping (Time Wood logs)
         InteractionEvent.RIGHT_CLICK_BLOCK.register((player, hand, pos, face) -> {
@@ -26,6 +26,10 @@ public class DeferredSpawnEggItem extends SpawnEggItem {
     private final int backgroundColor;
     private final int highlightColor;
 
+    // Reflected SpawnEggItem field, shared by every spawn egg and resolved on first use
+    private static Field cachedByIdField;
+    private static boolean byIdFieldResolved = false;
+
     public DeferredSpawnEggItem(
         Supplier<? extends EntityType<? extends Mob>> entityTypeSupplier,
         int backgroundColor,
@@ -55,38 +59,11 @@ public class DeferredSpawnEggItem extends SpawnEggItem {
      */
     private void registerColorsToVanillaMap() {
         try {
-            // Try to find the BY_ID field with various possible names
-            Field byIdField = null;
-            String[] possibleFieldNames = {"BY_ID", "f_43221_", "byId", "BY_COLOR"};
-
-            for (String fieldName : possibleFieldNames) {
-                try {
-                    byIdField = SpawnEggItem.class.getDeclaredField(fieldName);
-                    break;
-                } catch (NoSuchFieldException ignored) {
-                    // Try next name
-                }
-            }
-
-            // If still not found, search for Map<EntityType, SpawnEggItem> field
-            if (byIdField == null) {
-                Field[] fields = SpawnEggItem.class.getDeclaredFields();
-                for (Field field : fields) {
-                    if (java.lang.reflect.Modifier.isStatic(field.getModifiers())
-                        && field.getType() == java.util.Map.class) {
-                        byIdField = field;
-                        break;
-                    }
-                }
-            }
-
+            Field byIdField = getByIdField();
             if (byIdField == null) {
-                ChronoDawn.LOGGER.warn("Could not find BY_ID field in SpawnEggItem");
                 return;
             }
 
-            byIdField.setAccessible(true);
-
             @SuppressWarnings("unchecked")
             Map<EntityType<? extends Mob>, SpawnEggItem> byIdMap = (Map<EntityType<? extends Mob>, SpawnEggItem>) byIdField.get(null);
 
@@ -100,6 +77,52 @@ public class DeferredSpawnEggItem extends SpawnEggItem {
         }
     }
 
+    /**
+     * SpawnEggItem's static BY_ID map field, looked up once for all spawn eggs.
+     */
+    private static Field getByIdField() {
+        if (!byIdFieldResolved) {
+            byIdFieldResolved = true;
+            cachedByIdField = findByIdField();
+        }
+        return cachedByIdField;
+    }
+
+    private static Field findByIdField() {
+        // Try to find the BY_ID field with various possible names
+        Field byIdField = null;
+        String[] possibleFieldNames = {"BY_ID", "f_43221_", "byId", "BY_COLOR"};
+
+        for (String fieldName : possibleFieldNames) {
+            try {
+                byIdField = SpawnEggItem.class.getDeclaredField(fieldName);
+                break;
+            } catch (NoSuchFieldException ignored) {
+                // Try next name
+            }
+        }
+
+        // If still not found, search for Map<EntityType, SpawnEggItem> field
+        if (byIdField == null) {
+            Field[] fields = SpawnEggItem.class.getDeclaredFields();
+            for (Field field : fields) {
+                if (java.lang.reflect.Modifier.isStatic(field.getModifiers())
+                    && field.getType() == java.util.Map.class) {
+                    byIdField = field;
+                    break;
+                }
+            }
+        }
+
+        if (byIdField == null) {
+            ChronoDawn.LOGGER.warn("Could not find BY_ID field in SpawnEggItem");
+            return null;
+        }
+
+        byIdField.setAccessible(true);
+        return byIdField;
+    }
+
     /**
      * Convenience constructor for RegistrySupplier.
      */
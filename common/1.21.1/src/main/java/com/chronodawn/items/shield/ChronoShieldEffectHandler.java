@@ -1,5 +1,7 @@
 package com.chronodawn.items.shield;
 
+import com.chronodawn.core.particle.ParticleDispatcher;
+import com.chronodawn.core.particle.ParticlePriority;
 import net.minecraft.core.Holder;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceLocation;
@@ -90,7 +92,9 @@ public final class ChronoShieldEffectHandler {
                 double angle = (Math.PI * 2.0 * i) / 8.0;
                 double dx = Math.cos(angle) * 0.8;
                 double dz = Math.sin(angle) * 0.8;
-                level.sendParticles(
+                ParticleDispatcher.send(
+                    level,
+                    ParticlePriority.COSMETIC,
                     com.chronodawn.registry.ModParticles.CHRONO_SHIELD_ECHO.get(),
                     player.getX() + dx, player.getY() + 1.2, player.getZ() + dz,
                     1, 0, 0, 0, 0
@@ -148,7 +152,9 @@ public final class ChronoShieldEffectHandler {
                 double dx = (random.nextDouble() - 0.5) * 1.5;
                 double dy = random.nextDouble() * 1.0;
                 double dz = (random.nextDouble() - 0.5) * 1.5;
-                level.sendParticles(
+                ParticleDispatcher.send(
+                    level,
+                    ParticlePriority.COSMETIC,
                     com.chronodawn.registry.ModParticles.CHRONO_SHIELD_ECHO.get(),
                     player.getX() + dx, player.getY() + dy, player.getZ() + dz,
                     1, 0, 0.05, 0, 0.02
@@ -173,7 +179,9 @@ public final class ChronoShieldEffectHandler {
     public static void emitEchoActiveDriftFx(net.minecraft.server.level.ServerPlayer player) {
         try {
             net.minecraft.server.level.ServerLevel level = (net.minecraft.server.level.ServerLevel) player.level();
-            level.sendParticles(
+            ParticleDispatcher.send(
+                level,
+                ParticlePriority.COSMETIC,
                 com.chronodawn.registry.ModParticles.CHRONO_SHIELD_ECHO.get(),
                 player.getX(), player.getY() + 1.0, player.getZ(),
                 1,
@@ -1,13 +1,10 @@
 package com.chronodawn.mixin.client;
 
-import com.chronodawn.core.dimension.ChronoDawnBiomeProvider;
+import com.chronodawn.client.environment.ChronoDawnEnvironmentState;
 import com.mojang.blaze3d.systems.RenderSystem;
 import net.minecraft.client.Camera;
-import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.renderer.FogRenderer;
-import net.minecraft.core.BlockPos;
-import net.minecraft.core.Holder;
-import net.minecraft.world.level.biome.Biome;
+import net.minecraft.util.Mth;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
@@ -17,12 +14,15 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 /**
  * Client-side mixin to modify fog density in the ChronoDawn Dark Forest biome.
  *
- * This mixin checks if the camera is inside the Dark Forest biome and applies
- * dense fog only when actually in the biome (not in surrounding areas).
+ * This mixin applies dense fog only when the camera is actually in the biome
+ * (not in surrounding areas). The biome check is done once per client tick by
+ * {@link ChronoDawnEnvironmentState}, which also eases the fog in and out over
+ * a couple of seconds so it does not snap at the biome border.
  *
  * Fog parameters:
  * - Normal fog: start ~0, end ~viewDistance (usually 128-256 blocks)
  * - Dark Forest fog (inside biome only): start 5, end 60 blocks (very dense)
+ * - Crossing the border: blended between the two
  */
 @Mixin(FogRenderer.class)
 public class FogRendererMixin {
@@ -65,18 +65,13 @@ public class FogRendererMixin {
             return;
         }
 
-        // Get client level
-        if (!(camera.getEntity().level() instanceof ClientLevel clientLevel)) {
+        // Apply fog only while the camera is inside (or just leaving) the Dark Forest biome
+        float darkForestFog = ChronoDawnEnvironmentState.darkForestFog(partialTick);
+        if (darkForestFog <= 0.0f) {
             return;
         }
 
-        BlockPos cameraPos = camera.getBlockPosition();
-        Holder<Biome> currentBiome = clientLevel.getBiome(cameraPos);
-
-        // Apply fog only if camera is actually inside Dark Forest biome
-        if (currentBiome.is(ChronoDawnBiomeProvider.CHRONO_DAWN_DARK_FOREST)) {
-            RenderSystem.setShaderFogStart(DARK_FOREST_FOG_START);
-            RenderSystem.setShaderFogEnd(DARK_FOREST_FOG_END);
-        }
+        RenderSystem.setShaderFogStart(Mth.lerp(darkForestFog, RenderSystem.getShaderFogStart(), DARK_FOREST_FOG_START));
+        RenderSystem.setShaderFogEnd(Mth.lerp(darkForestFog, RenderSystem.getShaderFogEnd(), DARK_FOREST_FOG_END));
     }
 }
@@ -1,6 +1,8 @@
 package com.chronodawn.worldgen.spawning;
 
 import com.chronodawn.ChronoDawn;
+import com.chronodawn.core.performance.ChronoDawnMetrics;
+import com.chronodawn.core.performance.DegradationGovernor;
 import com.chronodawn.data.BossSpawnData;
 import com.chronodawn.compat.CompatSavedData;
 import com.chronodawn.entities.bosses.ClockworkColossusEntity;
@@ -11,13 +13,14 @@ import dev.architectury.event.events.common.TickEvent;
 import net.minecraft.core.BlockPos;
 import net.minecraft.resources.ResourceLocation;
 import com.chronodawn.compat.CompatResourceLocation;
+import com.chronodawn.core.performance.SafeBlockAccess;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.MobSpawnType;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.levelgen.structure.Structure;
+import net.minecraft.world.level.block.state.BlockState;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Clockwork Colossus Spawner
@@ -31,8 +34,9 @@ import java.util.concurrent.ConcurrentHashMap;
  * - Persistence: Uses SavedData to prevent duplicate spawning after server restart
  *
  * Implementation Strategy:
- * - Uses server tick event to check for Clockwork Depths structures
- * - Searches for Structure Void marker block in engine room
+ * - Engine rooms and their DANGER!! sign markers are recorded by BossRoomProtectionProcessor
+ *   when the structure generates, and persisted in BossSpawnData
+ * - Uses server tick event to check online players against the recorded engine rooms
  * - Uses SavedData to persist spawn state across server restarts
  * - Spawns Clockwork Colossus when player approaches marker
  * - Spawn position: 3 blocks above marker, 7 blocks away from center
@@ -51,19 +55,6 @@ public class ClockworkColossusSpawner {
         "clockwork_depths"
     );
 
-    // Track registered engine rooms (bounding boxes from BossRoomProtectionProcessor) (per-server runtime cache)
-    // Key: dimension ID, Value: Set of bounding boxes
-    private static final Map<ResourceLocation, Set<net.minecraft.world.level.levelgen.structure.BoundingBox>> engineRooms = new ConcurrentHashMap<>();
-
-    // Cache found markers to avoid repeated expensive searches (per-server runtime cache)
-    // Key: dimension ID, Value: Map of structure identifier → marker positions (T430: dimension isolation)
-    private static final Map<ResourceLocation, Map<BlockPos, List<BlockPos>>> cachedMarkers = new ConcurrentHashMap<>();
-
-    // Track chunks we've already searched (to avoid re-scanning) (per-server runtime cache)
-    // Key: dimension ID, Value: Map of chunk position → timestamp (T430: dimension isolation)
-    private static final Map<ResourceLocation, Map<ChunkPos, Long>> searchedChunks = new ConcurrentHashMap<>();
-    private static final long SEARCH_CACHE_DURATION_MS = 300000; // Cache for 5 minutes
-
     // Check interval (in ticks) - check every 10 seconds to reduce load
     private static final int CHECK_INTERVAL = 200;
     private static int tickCounter = 0;
@@ -77,11 +68,11 @@ public class ClockworkColossusSpawner {
      */
     public static void register() {
         // Use server tick event to check for Clockwork Depths structures
-        TickEvent.SERVER_POST.register(server -> {
+        TickEvent.SERVER_POST.register(ChronoDawnMetrics.timeServerTick("clockwork_colossus_spawner", server -> {
             for (ServerLevel level : server.getAllLevels()) {
                 checkAndSpawnColossus(level);
             }
-        });
+        }));
 
         LifecycleEvent.SERVER_LEVEL_LOAD.register(level -> {
             if (level instanceof ServerLevel serverLevel) {
@@ -104,19 +95,9 @@ public class ClockworkColossusSpawner {
             return;
         }
 
-        ResourceLocation dimensionId = level.dimension().location();
-
-        // Get saved data for this world (persists across server restarts)
-        BossSpawnData data = CompatSavedData.computeIfAbsent(
-            level.getDataStorage(),
-            BossSpawnData::new,
-            BossSpawnData::load,
-            BossSpawnData.getDataName()
-        );
-
         // Increment tick counter
         tickCounter++;
-        if (tickCounter < CHECK_INTERVAL) {
+        if (tickCounter < DegradationGovernor.scaleInterval(CHECK_INTERVAL)) {
             return;
         }
         tickCounter = 0;
@@ -126,9 +107,15 @@ public class ClockworkColossusSpawner {
             return;
         }
 
-        // Check if any player is inside a registered engine room
-        Set<net.minecraft.world.level.levelgen.structure.BoundingBox> rooms = engineRooms.get(dimensionId);
-        if (rooms == null || rooms.isEmpty()) {
+        // Engine rooms and their spawn markers were recorded when the structure generated
+        BossSpawnData data = CompatSavedData.computeIfAbsent(
+            level.getDataStorage(),
+            BossSpawnData::new,
+            BossSpawnData::load,
+            BossSpawnData.getDataName()
+        );
+        Collection<BossSpawnData.EngineRoom> rooms = data.getClockworkColossusEngineRooms();
+        if (rooms.isEmpty()) {
             return;
         }
 
@@ -136,26 +123,23 @@ public class ClockworkColossusSpawner {
             BlockPos playerPos = player.blockPosition();
 
             // Check if player is inside any engine room
-            for (net.minecraft.world.level.levelgen.structure.BoundingBox room : rooms) {
-                if (room.isInside(playerPos)) {
-
-                    // Use room center as structure identifier for caching
-                    BlockPos roomCenter = new BlockPos(
-                        (room.minX() + room.maxX()) / 2,
-                        (room.minY() + room.maxY()) / 2,
-                        (room.minZ() + room.maxZ()) / 2
-                    );
+            for (BossSpawnData.EngineRoom room : rooms) {
+                if (room.bounds().isInside(playerPos)) {
+                    BlockPos roomCenter = room.center();
 
                     // Check if we've already spawned in this room (check persisted data)
                     if (data.hasClockworkColossusStructureSpawned(roomCenter)) {
                         continue;
                     }
 
-                    // Search for markers in this engine room
-                    List<BlockPos> markerPositions = findEngineRoomMarkersInBoundingBox(level, room);
-
+                    List<BlockPos> markerPositions = room.markers();
                     if (markerPositions.isEmpty()) {
-                        continue;
+                        // The signs were not seen during generation; search the room once and keep the result
+                        markerPositions = findEngineRoomMarkersInBoundingBox(level, room.bounds());
+                        if (markerPositions.isEmpty()) {
+                            continue;
+                        }
+                        data.registerClockworkColossusEngineRoom(room.bounds(), markerPositions);
                     }
 
                     // Check if player is within spawn distance of any marker
@@ -243,78 +227,6 @@ public class ClockworkColossusSpawner {
         return false;
     }
 
-    /**
-     * Find all engine room spawn markers (Signs with "DANGER!!" text) in Clockwork Depths.
-     *
-     * The NBT should contain multiple Crimson Signs with "DANGER!!" text at desired spawn positions.
-     * Only searches within registered engine room bounding boxes.
-     *
-     * @param level The ServerLevel to search in
-     * @param chunkPos The chunk position containing the structure
-     * @return List of marker positions (empty if none found)
-     */
-    private static List<BlockPos> findEngineRoomMarkers(ServerLevel level, ChunkPos chunkPos) {
-        long startTime = System.nanoTime();
-
-        List<BlockPos> markers = new ArrayList<>();
-        ResourceLocation dimensionId = level.dimension().location();
-
-        // Get registered engine rooms for this dimension
-        Set<net.minecraft.world.level.levelgen.structure.BoundingBox> rooms = engineRooms.get(dimensionId);
-        if (rooms == null || rooms.isEmpty()) {
-            return markers;
-        }
-
-        // Find engine rooms that intersect with this chunk
-        int chunkMinX = chunkPos.getMinBlockX();
-        int chunkMaxX = chunkPos.getMaxBlockX();
-        int chunkMinZ = chunkPos.getMinBlockZ();
-        int chunkMaxZ = chunkPos.getMaxBlockZ();
-
-        for (net.minecraft.world.level.levelgen.structure.BoundingBox room : rooms) {
-            // Check if this room intersects with the chunk
-            if (room.maxX() < chunkMinX || room.minX() > chunkMaxX ||
-                room.maxZ() < chunkMinZ || room.minZ() > chunkMaxZ) {
-                continue; // Room doesn't intersect this chunk
-            }
-
-            // Search for signs with "DANGER!!" text within this bounding box
-            for (BlockPos pos : BlockPos.betweenClosed(room.minX(), room.minY(), room.minZ(),
-                                                        room.maxX(), room.maxY(), room.maxZ())) {
-                var blockEntity = level.getBlockEntity(pos);
-                if (blockEntity instanceof net.minecraft.world.level.block.entity.SignBlockEntity sign) {
-                    boolean isDangerSign = false;
-
-                    var frontText = sign.getFrontText();
-                    for (int i = 0; i < 4; i++) {
-                        String lineText = frontText.getMessage(i, false).getString();
-                        if (lineText.contains("DANGER!!")) {
-                            isDangerSign = true;
-                            break;
-                        }
-                    }
-
-                    if (isDangerSign) {
-                        markers.add(pos.immutable());
-                    }
-                }
-            }
-        }
-
-        long endTime = System.nanoTime();
-        long durationMs = (endTime - startTime) / 1_000_000;
-
-        if (durationMs > 100) {
-            ChronoDawn.LOGGER.warn("Clockwork Depths marker search took {}ms at chunk {} - found {} markers",
-                durationMs, chunkPos, markers.size());
-        } else {
-            ChronoDawn.LOGGER.debug("Clockwork Depths marker search took {}ms at chunk {} - found {} markers",
-                durationMs, chunkPos, markers.size());
-        }
-
-        return markers;
-    }
-
     /**
      * Check if any player is within the specified distance of the given position.
      *
@@ -430,9 +342,9 @@ public class ClockworkColossusSpawner {
         for (int i = 0; i < 10; i++) {
             BlockPos checkPos = startPos.below(i);
 
-            // Check if this is a valid spawn position (air with solid ground)
-            if (level.getBlockState(checkPos).isAir() &&
-                !level.getBlockState(checkPos.below()).isAir()) {
+            // Check if this is a valid spawn position (air with solid ground), without loading chunks
+            if (SafeBlockAccess.test(level, checkPos, BlockState::isAir) &&
+                SafeBlockAccess.test(level, checkPos.below(), state -> !state.isAir())) {
                 return checkPos;
             }
         }
@@ -442,82 +354,31 @@ public class ClockworkColossusSpawner {
     }
 
     /**
-     * Cache found markers for future lookups.
-     * T430: Now dimension-aware to prevent cross-dimension cache collisions.
-     *
-     * @param dimensionId The dimension ID
-     * @param markers List of marker positions found in a structure
-     */
-    private static void cacheMarkers(ResourceLocation dimensionId, List<BlockPos> markers) {
-        if (markers.isEmpty()) return;
-
-        // Initialize dimension map if needed
-        cachedMarkers.putIfAbsent(dimensionId, new ConcurrentHashMap<>());
-        Map<BlockPos, List<BlockPos>> dimensionCache = cachedMarkers.get(dimensionId);
-
-        // Use first marker as key
-        BlockPos key = markers.stream()
-            .min((a, b) -> {
-                int cmp = Integer.compare(a.getX(), b.getX());
-                if (cmp != 0) return cmp;
-                cmp = Integer.compare(a.getY(), b.getY());
-                if (cmp != 0) return cmp;
-                return Integer.compare(a.getZ(), b.getZ());
-            })
-            .orElse(markers.get(0));
-
-        dimensionCache.put(key, new ArrayList<>(markers));
-    }
-
-    /**
-     * Get cached markers for a chunk (if any).
-     * T430: Now dimension-aware to prevent cross-dimension cache collisions.
-     *
-     * @param dimensionId The dimension ID
-     * @param chunkPos Chunk position
-     * @return List of marker positions, or null if not cached
-     */
-    private static List<BlockPos> getCachedMarkersForChunk(ResourceLocation dimensionId, ChunkPos chunkPos) {
-        Map<BlockPos, List<BlockPos>> dimensionCache = cachedMarkers.get(dimensionId);
-        if (dimensionCache == null) {
-            return null;
-        }
-
-        // Check if any cached marker set has markers in this chunk
-        for (List<BlockPos> markers : dimensionCache.values()) {
-            for (BlockPos marker : markers) {
-                int markerChunkX = marker.getX() >> 4;
-                int markerChunkZ = marker.getZ() >> 4;
-
-                if (markerChunkX == chunkPos.x && markerChunkZ == chunkPos.z) {
-                    return markers;
-                }
-            }
-        }
-
-        return null;
-    }
-
-    /**
-     * Register an engine room bounding box from BossRoomProtectionProcessor.
-     * Called when a Clockwork Depths engine room is detected during worldgen.
+     * Register an engine room and the spawn markers inside it, from BossRoomProtectionProcessor.
+     * Called when a Clockwork Depths engine room is detected during worldgen. The room is
+     * persisted in BossSpawnData, so it is still known after a server restart.
      *
      * @param level The ServerLevel containing the engine room
      * @param boundingBox The bounding box of the engine room
+     * @param markers Spawn markers (DANGER!! signs) found inside the engine room
      */
-    public static void registerEngineRoom(ServerLevel level, net.minecraft.world.level.levelgen.structure.BoundingBox boundingBox) {
-        ResourceLocation dimensionId = level.dimension().location();
-        engineRooms.putIfAbsent(dimensionId, ConcurrentHashMap.newKeySet());
-        Set<net.minecraft.world.level.levelgen.structure.BoundingBox> rooms = engineRooms.get(dimensionId);
-        rooms.add(boundingBox);
+    public static void registerEngineRoom(ServerLevel level, net.minecraft.world.level.levelgen.structure.BoundingBox boundingBox,
+                                          List<BlockPos> markers) {
+        BossSpawnData data = CompatSavedData.computeIfAbsent(
+            level.getDataStorage(),
+            BossSpawnData::new,
+            BossSpawnData::load,
+            BossSpawnData.getDataName()
+        );
+        data.registerClockworkColossusEngineRoom(boundingBox, markers);
 
-        ChronoDawn.LOGGER.debug("Registered Clockwork Depths engine room in dimension {}: {}",
-            dimensionId, boundingBox);
+        ChronoDawn.LOGGER.debug("Registered Clockwork Depths engine room in dimension {}: {} ({} spawn markers)",
+            level.dimension().location(), boundingBox, markers.size());
     }
 
     /**
      * Reset spawn tracking for a specific world (useful for testing or debugging).
-     * T430: Now properly clears dimension-specific caches.
+     * Recorded engine rooms are kept; only the spawn state is cleared.
      *
      * @param level The ServerLevel to reset spawn data for
      */
@@ -532,9 +393,6 @@ public class ClockworkColossusSpawner {
         tickCounter = 0;
 
         ResourceLocation dimensionId = level.dimension().location();
-        engineRooms.remove(dimensionId);
-        cachedMarkers.remove(dimensionId);
-        searchedChunks.remove(dimensionId);
         ChronoDawn.LOGGER.debug("Clockwork Colossus Spawner reset for dimension: {}", dimensionId);
     }
 }
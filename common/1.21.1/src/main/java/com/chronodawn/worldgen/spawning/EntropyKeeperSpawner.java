@@ -1,6 +1,8 @@
 package com.chronodawn.worldgen.spawning;
 
 import com.chronodawn.ChronoDawn;
+import com.chronodawn.core.performance.ChronoDawnMetrics;
+import com.chronodawn.core.performance.DegradationGovernor;
 import com.chronodawn.data.BossSpawnData;
 import com.chronodawn.compat.CompatSavedData;
 import com.chronodawn.entities.bosses.EntropyKeeperEntity;
@@ -74,11 +76,11 @@ public class EntropyKeeperSpawner {
         });
 
         // Register server tick event
-        TickEvent.SERVER_POST.register(server -> {
+        TickEvent.SERVER_POST.register(ChronoDawnMetrics.timeServerTick("entropy_keeper_spawner", server -> {
             for (ServerLevel level : server.getAllLevels()) {
                 checkAndSpawnKeeper(level);
             }
-        });
+        }));
 
         ChronoDawn.LOGGER.debug("Registered EntropyKeeperSpawner");
     }
@@ -96,7 +98,7 @@ public class EntropyKeeperSpawner {
 
         // Increment tick counter and check interval
         tickCounter++;
-        if (tickCounter < CHECK_INTERVAL) {
+        if (tickCounter < DegradationGovernor.scaleInterval(CHECK_INTERVAL)) {
             return;
         }
         tickCounter = 0;
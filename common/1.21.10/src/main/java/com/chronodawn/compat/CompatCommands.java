@@ -0,0 +1,22 @@
+package com.chronodawn.compat;
+
+import net.minecraft.commands.CommandSourceStack;
+
+import java.util.function.Predicate;
+
+/**
+ * Compatibility helper for command permission checks (Minecraft 1.21.10).
+ */
+public class CompatCommands {
+    /**
+     * Requirement for operator commands (permission level 2, like /gamerule).
+     * Before 1.21.11, CommandSourceStack.hasPermission() takes the numeric level.
+     */
+    public static Predicate<CommandSourceStack> gameMaster() {
+        return source -> source.hasPermission(2);
+    }
+
+    private CompatCommands() {
+        // Utility class
+    }
+}
@@ -1,6 +1,8 @@
 package com.chronodawn.entities.bosses;
 
 import com.chronodawn.ChronoDawn;
+import com.chronodawn.core.particle.ParticleBursts;
+import com.chronodawn.core.particle.ParticlePriority;
 import com.chronodawn.registry.ModSounds;
 import com.chronodawn.worldgen.protection.BlockProtectionHandler;
 import net.minecraft.core.particles.ParticleTypes;
@@ -88,6 +90,9 @@ public class ClockworkColossusEntity extends Monster implements RangedAttackMob
     private boolean repairProtocolUsed = false;
     private int repairCooldown = 0;
 
+    // Players near the boss, refreshed once per tick; covers the full ground slam strip
+    private final BossPlayerSnapshot nearbyPlayers = new BossPlayerSnapshot(this, 16.0);
+
     // Gear Shot timing (both phases)
     private static final int GEAR_SHOT_COOLDOWN_TICKS = 160; // 8 seconds
 
@@ -237,21 +242,15 @@ public class ClockworkColossusEntity extends Monster implements RangedAttackMob
 
         // Particle effects
         if (this.level() instanceof ServerLevel serverLevel) {
-            for (int i = 0; i < 50; i++) {
-                double offsetX = (this.random.nextDouble() - 0.5) * 2.0;
-                double offsetY = this.random.nextDouble() * 2.5;
-                double offsetZ = (this.random.nextDouble() - 0.5) * 2.0;
-
-                serverLevel.sendParticles(
-                    ParticleTypes.FLAME,
-                    this.getX() + offsetX,
-                    this.getY() + offsetY,
-                    this.getZ() + offsetZ,
-                    5,
-                    0, 0, 0,
-                    0.05
-                );
-            }
+            ParticleBursts.volume(
+                serverLevel,
+                ParticlePriority.COSMETIC,
+                ParticleTypes.FLAME,
+                this.getX(), this.getY(), this.getZ(),
+                250,
+                1.0, 2.5,
+                0.05
+            );
         }
     }
 
@@ -297,21 +296,15 @@ public class ClockworkColossusEntity extends Monster implements RangedAttackMob
 
         // Particle effects
         if (this.level() instanceof ServerLevel serverLevel) {
-            for (int i = 0; i < 30; i++) {
-                double offsetX = (this.random.nextDouble() - 0.5) * 2.0;
-                double offsetY = this.random.nextDouble() * 2.5;
-                double offsetZ = (this.random.nextDouble() - 0.5) * 2.0;
-
-                serverLevel.sendParticles(
-                    ParticleTypes.HAPPY_VILLAGER,
-                    this.getX() + offsetX,
-                    this.getY() + offsetY,
-                    this.getZ() + offsetZ,
-                    3,
-                    0, 0, 0,
-                    0.0
-                );
-            }
+            ParticleBursts.volume(
+                serverLevel,
+                ParticlePriority.COSMETIC,
+                ParticleTypes.HAPPY_VILLAGER,
+                this.getX(), this.getY(), this.getZ(),
+                90,
+                1.0, 2.5,
+                0.0
+            );
         }
     }
 
@@ -365,8 +358,7 @@ public class ClockworkColossusEntity extends Monster implements RangedAttackMob
                 double checkZ = centerZ + perpZ * width;
 
                 // Damage players within range
-                this.level().getEntitiesOfClass(
-                    Player.class,
+                nearbyPlayers.playersIn(
                     new net.minecraft.world.phys.AABB(
                         checkX - 0.5, this.getY() - 1, checkZ - 0.5,
                         checkX + 0.5, this.getY() + 3, checkZ + 0.5
@@ -377,21 +369,22 @@ public class ClockworkColossusEntity extends Monster implements RangedAttackMob
                     // Small knockback
                     player.knockback(0.3, -dirX, -dirZ);
                 });
-
-                // Particle effects
-                if (this.level() instanceof ServerLevel serverLevel) {
-                    serverLevel.sendParticles(
-                        ParticleTypes.SMOKE,
-                        checkX,
-                        this.getY() + 0.1,
-                        checkZ,
-                        3,
-                        0.2, 0.1, 0.2,
-                        0.01
-                    );
-                }
             }
         }
+
+        // Particle effects: the whole shockwave strip as one burst packet
+        if (this.level() instanceof ServerLevel serverLevel) {
+            ParticleBursts.line(
+                serverLevel,
+                ParticlePriority.GAMEPLAY,
+                ParticleTypes.SMOKE,
+                this.getX() + dirX, this.getY() + 0.1, this.getZ() + dirZ,
+                dirX * (GROUND_SLAM_RANGE - 1), dirZ * (GROUND_SLAM_RANGE - 1),
+                1.2,
+                GROUND_SLAM_RANGE * 9,
+                0.01
+            );
+        }
     }
 
     /**
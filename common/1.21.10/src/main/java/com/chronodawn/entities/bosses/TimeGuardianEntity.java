@@ -1,5 +1,8 @@
 package com.chronodawn.entities.bosses;
 
+import com.chronodawn.core.particle.ParticleBursts;
+import com.chronodawn.core.particle.ParticleDispatcher;
+import com.chronodawn.core.particle.ParticlePriority;
 import com.chronodawn.core.time.MobAICanceller;
 import com.chronodawn.entities.ai.TimeGuardianRangedAttackGoal;
 import com.chronodawn.entities.projectiles.TimeBlastEntity;
@@ -93,6 +96,9 @@ public class TimeGuardianEntity extends Monster implements RangedAttackMob {
     private int postTeleportDelay = 0; // Delay after teleport before attacking
     private int rangedAttackCooldown = 0; // Cooldown for ranged attacks (T210)
 
+    // Players near the boss, refreshed once per tick
+    private final BossPlayerSnapshot nearbyPlayers = new BossPlayerSnapshot(this, 16.0);
+
     // Teleport timing (Phase 2) - public for testing
     public static final int TELEPORT_COOLDOWN_TICKS = 100; // 5 seconds
     public static final int POST_TELEPORT_DELAY_TICKS = 15; // 0.75 seconds delay after teleport
@@ -231,21 +237,16 @@ public class TimeGuardianEntity extends Monster implements RangedAttackMob {
 
                 // Spawn particles (server-side)
                 if (this.level() instanceof ServerLevel serverLevel) {
-                    for (int i = 0; i < 30; i++) {
-                        double offsetX = (this.random.nextDouble() - 0.5) * 2.0;
-                        double offsetY = this.random.nextDouble() * 2.0;
-                        double offsetZ = (this.random.nextDouble() - 0.5) * 2.0;
-
-                        serverLevel.sendParticles(
-                            ParticleTypes.PORTAL,
-                            this.getX() + offsetX,
-                            this.getY() + offsetY,
-                            this.getZ() + offsetZ,
-                            3, // particle count
-                            0, 0, 0, // delta
-                            0.0 // speed
-                        );
-                    }
+                    // 30 points of 3 particles in a 2x2x2 box, as one burst packet
+                    ParticleBursts.volume(
+                        serverLevel,
+                        ParticlePriority.GAMEPLAY,
+                        ParticleTypes.PORTAL,
+                        this.getX(), this.getY(), this.getZ(),
+                        90,
+                        1.0, 2.0,
+                        0.0
+                    );
                 }
             }
         }
@@ -317,7 +318,9 @@ public class TimeGuardianEntity extends Monster implements RangedAttackMob {
         // Teleport with particles (server-side)
         if (this.level() instanceof ServerLevel serverLevel) {
             // Particles at departure point
-            serverLevel.sendParticles(
+            ParticleDispatcher.send(
+                serverLevel,
+                ParticlePriority.GAMEPLAY,
                 ParticleTypes.PORTAL,
                 this.getX(), this.getY() + 1.0, this.getZ(),
                 20, // particle count
@@ -328,7 +331,9 @@ public class TimeGuardianEntity extends Monster implements RangedAttackMob {
             this.teleportTo(validTeleportPos.x, validTeleportPos.y, validTeleportPos.z);
 
             // Particles at arrival point
-            serverLevel.sendParticles(
+            ParticleDispatcher.send(
+                serverLevel,
+                ParticlePriority.GAMEPLAY,
                 ParticleTypes.PORTAL,
                 validTeleportPos.x, validTeleportPos.y + 1.0, validTeleportPos.z,
                 20, // particle count
@@ -437,7 +442,7 @@ public class TimeGuardianEntity extends Monster implements RangedAttackMob {
 
         AABB aoeBox = this.getBoundingBox().inflate(AOE_RANGE);
 
-        this.level().getEntitiesOfClass(Player.class, aoeBox).forEach(player -> {
+        nearbyPlayers.playersIn(aoeBox).forEach(player -> {
             // Physical damage, scaled by the boss's configured damage multiplier
             player.hurt(this.damageSources().mobAttack(this),
                 BossScaling.ability(BossAbility.TIME_GUARDIAN_AOE));
@@ -456,38 +461,28 @@ public class TimeGuardianEntity extends Monster implements RangedAttackMob {
         });
 
         // Visual feedback - purple circle on ground (time-themed)
-        // Must use ServerLevel.sendParticles() when running on server side
+        // Must be sent from the server side (client-side addParticle would only show locally)
         if (this.level() instanceof ServerLevel serverLevel) {
-            for (int i = 0; i < 100; i++) {
-                double angle = (Math.PI * 2.0 * i) / 100;
-                double offsetX = Math.cos(angle) * AOE_RANGE;
-                double offsetZ = Math.sin(angle) * AOE_RANGE;
-
-                // Ground-level purple particles
-                // 1.21.9: DRAGON_BREATH changed to ParticleType<PowerParticleOption>, use WITCH as purple alternative
-                serverLevel.sendParticles(
-                    ParticleTypes.WITCH,
-                    this.getX() + offsetX,
-                    this.getY() + 0.1,
-                    this.getZ() + offsetZ,
-                    1, // particle count per position
-                    0, 0.05, 0, // delta X, Y, Z
-                    0.0 // speed
-                );
+            // Ground-level purple particles, one burst packet for the whole ring
+            // 1.21.9: DRAGON_BREATH changed to ParticleType<PowerParticleOption>, use WITCH as purple alternative
+            ParticleBursts.ring(
+                serverLevel,
+                ParticlePriority.GAMEPLAY,
+                ParticleTypes.WITCH,
+                this.getX(), this.getY() + 0.1, this.getZ(),
+                100,
+                AOE_RANGE
+            );
 
-                // Additional PORTAL particles for time effect
-                if (i % 5 == 0) {
-                    serverLevel.sendParticles(
-                        ParticleTypes.PORTAL,
-                        this.getX() + offsetX,
-                        this.getY() + 0.5,
-                        this.getZ() + offsetZ,
-                        2, // particle count
-                        0, 0, 0, // delta X, Y, Z
-                        0.0 // speed
-                    );
-                }
-            }
+            // Additional PORTAL particles for time effect
+            ParticleBursts.ring(
+                serverLevel,
+                ParticlePriority.COSMETIC,
+                ParticleTypes.PORTAL,
+                this.getX(), this.getY() + 0.5, this.getZ(),
+                40,
+                AOE_RANGE
+            );
         }
 
         // Sound feedback - time magic AoE (using evoker spell sound for magical feel)
@@ -1,5 +1,8 @@
 package com.chronodawn.entities.bosses;
 
+import com.chronodawn.core.particle.ParticleBursts;
+import com.chronodawn.core.particle.ParticleDispatcher;
+import com.chronodawn.core.particle.ParticlePriority;
 import com.chronodawn.core.time.MobAICanceller;
 import com.chronodawn.entities.bosses.ExtendedMeleeAttackGoal;
 import com.chronodawn.registry.ModEffects;
@@ -106,6 +109,10 @@ public class TimeTyrantEntity extends Monster {
     // One-time abilities
     private boolean hasUsedTimeReversal = false;
 
+    // Players near the boss, refreshed once per tick; flagged = has Chrono Aegis.
+    // 64 blocks covers the 32-block Aegis/broadcast search box from any corner.
+    private final BossPlayerSnapshot nearbyPlayers = new BossPlayerSnapshot(this, 64.0, this::hasChronoAegis);
+
     // Chrono Aegis debuff flags (T238 - Chrono Aegis Integration)
     private boolean chronoAegisAnchorActive = false;     // Prevents teleport for 3s after teleport
     private boolean chronoAegisDisruptionActive = false; // HP recovery reduction active
@@ -259,7 +266,9 @@ public class TimeTyrantEntity extends Monster {
 
         // Spawn particles
         if (this.level() instanceof ServerLevel serverLevel) {
-            serverLevel.sendParticles(
+            ParticleDispatcher.send(
+                serverLevel,
+                ParticlePriority.GAMEPLAY,
                 ParticleTypes.PORTAL,
                 this.getX(),
                 this.getY() + 1.0,
@@ -335,7 +344,9 @@ public class TimeTyrantEntity extends Monster {
 
         // Visual and audio feedback
         if (this.level() instanceof ServerLevel serverLevel) {
-            serverLevel.sendParticles(
+            ParticleDispatcher.send(
+                serverLevel,
+                ParticlePriority.GAMEPLAY,
                 ParticleTypes.WITCH,
                 target.getX(),
                 target.getY() + 1.0,
@@ -543,7 +554,9 @@ public class TimeTyrantEntity extends Monster {
 
         // Spawn particles at departure
         if (this.level() instanceof ServerLevel serverLevel) {
-            serverLevel.sendParticles(
+            ParticleDispatcher.send(
+                serverLevel,
+                ParticlePriority.GAMEPLAY,
                 ParticleTypes.PORTAL,
                 this.getX(),
                 this.getY() + 1.0,
@@ -568,7 +581,9 @@ public class TimeTyrantEntity extends Monster {
 
         // Spawn particles at arrival
         if (this.level() instanceof ServerLevel serverLevel) {
-            serverLevel.sendParticles(
+            ParticleDispatcher.send(
+                serverLevel,
+                ParticlePriority.GAMEPLAY,
                 ParticleTypes.PORTAL,
                 this.getX(),
                 this.getY() + 1.0,
@@ -637,7 +652,9 @@ public class TimeTyrantEntity extends Monster {
 
         // Visual feedback
         if (this.level() instanceof ServerLevel serverLevel) {
-            serverLevel.sendParticles(
+            ParticleDispatcher.send(
+                serverLevel,
+                ParticlePriority.GAMEPLAY,
                 ParticleTypes.ENCHANT,
                 this.getX(),
                 this.getY() + 1.0,
@@ -665,7 +682,7 @@ public class TimeTyrantEntity extends Monster {
         AABB aoeBox = new AABB(this.blockPosition()).inflate(AOE_RANGE);
 
         boolean hitAnyEntity = false;
-        for (Player player : this.level().getEntitiesOfClass(Player.class, aoeBox)) {
+        for (Player player : nearbyPlayers.playersIn(aoeBox)) {
             if (player.isAlive()) {
                 // Damage (Chrono Aegis: Temporal Shield - 50% reduction)
                 float damage = BossScaling.ability(BossAbility.TIME_TYRANT_AOE);
@@ -695,22 +712,17 @@ public class TimeTyrantEntity extends Monster {
         if (hitAnyEntity) {
             // Visual feedback
             if (this.level() instanceof ServerLevel serverLevel) {
-                // Ground circle particles
-                for (double angle = 0; angle < Math.PI * 2; angle += Math.PI / 16) {
-                    double x = this.getX() + Math.cos(angle) * AOE_RANGE;
-                    double z = this.getZ() + Math.sin(angle) * AOE_RANGE;
-                    serverLevel.sendParticles(
-                        ParticleTypes.CRIMSON_SPORE,
-                        x,
-                        this.getY() + 0.1,
-                        z,
-                        1,
-                        0.0,
-                        0.0,
-                        0.0,
-                        0.0
-                    );
-                }
+                // Ground circle particles (one burst packet instead of one per point)
+                ParticleBursts.ring(
+                    serverLevel,
+                    ParticlePriority.GAMEPLAY,
+                    ParticleTypes.CRIMSON_SPORE,
+                    this.getX(),
+                    this.getY() + 0.1,
+                    this.getZ(),
+                    32,
+                    AOE_RANGE
+                );
             }
 
             // Sound effect
@@ -754,7 +766,9 @@ public class TimeTyrantEntity extends Monster {
 
         // Visual feedback
         if (this.level() instanceof ServerLevel serverLevel) {
-            serverLevel.sendParticles(
+            ParticleDispatcher.send(
+                serverLevel,
+                ParticlePriority.GAMEPLAY,
                 ParticleTypes.HAPPY_VILLAGER,
                 this.getX(),
                 this.getY() + 1.0,
@@ -766,7 +780,9 @@ public class TimeTyrantEntity extends Monster {
                 0.2
             );
 
-            serverLevel.sendParticles(
+            ParticleDispatcher.send(
+                serverLevel,
+                ParticlePriority.GAMEPLAY,
                 ParticleTypes.END_ROD,
                 this.getX(),
                 this.getY() + 1.0,
@@ -793,7 +809,7 @@ public class TimeTyrantEntity extends Monster {
         Component message = Component.literal("Time Tyrant reverses time!")
             .withStyle(net.minecraft.ChatFormatting.RED, net.minecraft.ChatFormatting.BOLD);
 
-        for (Player player : this.level().getEntitiesOfClass(Player.class, new AABB(this.blockPosition()).inflate(32.0))) {
+        for (Player player : nearbyPlayers.playersIn(new AABB(this.blockPosition()).inflate(32.0))) {
             player.displayClientMessage(message, true);
         }
     }
@@ -862,7 +878,9 @@ public class TimeTyrantEntity extends Monster {
 
         // Visual feedback: spawn particles
         if (this.level() instanceof ServerLevel serverLevel) {
-            serverLevel.sendParticles(
+            ParticleDispatcher.send(
+                serverLevel,
+                ParticlePriority.GAMEPLAY,
                 ParticleTypes.WITCH,
                 this.getX(),
                 this.getY() + 1.5,
@@ -940,7 +958,9 @@ public class TimeTyrantEntity extends Monster {
 
                 // Visual feedback: effect ended
                 if (this.level() instanceof ServerLevel serverLevel) {
-                    serverLevel.sendParticles(
+                    ParticleDispatcher.send(
+                        serverLevel,
+                        ParticlePriority.GAMEPLAY,
                         ParticleTypes.POOF,
                         this.getX(),
                         this.getY() + 1.5,
@@ -1037,12 +1057,16 @@ public class TimeTyrantEntity extends Monster {
      * Task: T238 [US3] Integrate Chrono Aegis effects into Time Tyrant
      */
     private boolean hasNearbyChronoAegisPlayer() {
-        AABB searchBox = new AABB(this.blockPosition()).inflate(32.0);
+        return nearbyPlayers.anyFlaggedIn(new AABB(this.blockPosition()).inflate(32.0));
+    }
+
+    /**
+     * Whether the player currently has the Chrono Aegis buff.
+     */
+    private boolean hasChronoAegis(Player player) {
         Holder<net.minecraft.world.effect.MobEffect> aegisEffect =
             BuiltInRegistries.MOB_EFFECT.wrapAsHolder(ModEffects.CHRONO_AEGIS_BUFF.get());
-        return this.level().getEntitiesOfClass(Player.class, searchBox)
-            .stream()
-            .anyMatch(player -> player.hasEffect(aegisEffect));
+        return player.hasEffect(aegisEffect);
     }
 
     @Override
@@ -215,6 +215,21 @@ public final class RegistryDrivenTestGenerator {
         return FadedPlainsTests.generateTests(NamedTest::new);
     }
 
+    /**
+     * Generates the opt-in MSPT load test (empty unless CHRONODAWN_LOAD_TESTS is set).
+     */
+    public static List<NamedTest> generateLoadTests() {
+        return LoadTests.generateTests(NamedTest::new);
+    }
+
+    /**
+     * Generates the opt-in worldgen throughput benchmark (empty unless
+     * CHRONODAWN_WORLDGEN_BENCHMARK is set).
+     */
+    public static List<NamedTest> generateWorldgenBenchmarkTests() {
+        return WorldgenBenchmark.generateTests(NamedTest::new);
+    }
+
     /**
      * Generates tests verifying that all item registry IDs match their field names.
      */
@@ -424,6 +439,13 @@ public final class RegistryDrivenTestGenerator {
      * Generate all tests from all categories.
      */
     public static List<NamedTest> generateAllTests() {
+        if (LoadTests.isEnabled() || WorldgenBenchmark.isEnabled()) {
+            // Tick time and generation throughput are server-wide, so benchmark runs
+            // leave out the functional suite
+            List<NamedTest> benchmarks = new ArrayList<>(generateLoadTests());
+            benchmarks.addAll(generateWorldgenBenchmarkTests());
+            return benchmarks;
+        }
         List<NamedTest> all = new ArrayList<>();
         all.addAll(generateBlockPlacementTests());
         all.addAll(generateEntitySpawnTests());
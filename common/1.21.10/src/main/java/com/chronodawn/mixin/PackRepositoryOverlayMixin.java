@@ -18,13 +18,14 @@
 package com.chronodawn.mixin;
 
 import com.chronodawn.ChronoDawn;
+import com.chronodawn.worldgen.runtime.InMemoryOverlayPackResources;
 import com.chronodawn.worldgen.runtime.OverlayPackBootstrap;
+import com.chronodawn.worldgen.runtime.OverlayPackContents;
 import com.chronodawn.worldgen.runtime.OverlayPackInjection;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.packs.PackLocationInfo;
 import net.minecraft.server.packs.PackSelectionConfig;
 import net.minecraft.server.packs.PackType;
-import net.minecraft.server.packs.PathPackResources;
 import net.minecraft.server.packs.repository.Pack;
 import net.minecraft.server.packs.repository.PackRepository;
 import net.minecraft.server.packs.repository.PackSource;
@@ -33,12 +34,11 @@ import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.ModifyVariable;
 
-import java.nio.file.Path;
 import java.util.Optional;
 
 /**
  * Fabric-only mixin that appends the Chrono Dawn runtime config overlay to the
- * {@link PackRepository} varargs at construction time, so that the on-disk
+ * {@link PackRepository} varargs at construction time, so that the in-memory
  * overlay datapack participates in {@code /reload} discovery.
  *
  * <p>NeoForge has a first-class {@code AddPackFindersEvent}; Fabric does not,
@@ -62,8 +62,8 @@ public abstract class PackRepositoryOverlayMixin {
         if (!OverlayPackInjection.isServerDataRepository(sources)) {
             return sources;
         }
-        Path overlayPath = OverlayPackBootstrap.getOverlayPath();
-        if (overlayPath == null) {
+        OverlayPackContents overlay = OverlayPackBootstrap.getContents();
+        if (overlay == null) {
             return sources;
         }
 
@@ -79,7 +79,7 @@ public abstract class PackRepositoryOverlayMixin {
             PackSelectionConfig selection = new PackSelectionConfig(true, Pack.Position.TOP, false);
             Pack pack = Pack.readMetaAndCreate(
                 info,
-                new PathPackResources.PathResourcesSupplier(overlayPath),
+                InMemoryOverlayPackResources.supplier(overlay),
                 PackType.SERVER_DATA,
                 selection
             );
@@ -87,8 +87,8 @@ public abstract class PackRepositoryOverlayMixin {
                 consumer.accept(pack);
             } else {
                 ChronoDawn.LOGGER.warn(
-                    "Runtime overlay pack at {} failed metadata validation; not registering",
-                    overlayPath
+                    "Runtime overlay pack (config {}) failed metadata validation; not registering",
+                    overlay.configHash()
                 );
             }
         };
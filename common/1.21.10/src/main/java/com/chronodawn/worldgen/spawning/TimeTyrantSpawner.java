@@ -2,6 +2,7 @@ package com.chronodawn.worldgen.spawning;
 
 import com.chronodawn.ChronoDawn;
 import com.chronodawn.core.dimension.DimensionStabilizer;
+import com.chronodawn.core.performance.SafeBlockAccess;
 import com.chronodawn.data.BossSpawnData;
 import com.chronodawn.compat.CompatSavedData;
 import com.chronodawn.entities.bosses.TimeTyrantEntity;
@@ -81,9 +82,9 @@ public class TimeTyrantSpawner {
         for (int i = 0; i < 10; i++) {
             BlockPos checkPos = startPos.below(i);
 
-            // Check if this is a valid spawn position (air with solid ground)
-            if (level.getBlockState(checkPos).isAir() &&
-                !level.getBlockState(checkPos.below()).isAir()) {
+            // Check if this is a valid spawn position (air with solid ground), without loading chunks
+            if (SafeBlockAccess.test(level, checkPos, BlockState::isAir) &&
+                SafeBlockAccess.test(level, checkPos.below(), state -> !state.isAir())) {
                 return checkPos;
             }
         }
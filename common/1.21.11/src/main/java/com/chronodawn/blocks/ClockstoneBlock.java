@@ -16,11 +16,6 @@ import net.minecraft.world.level.block.state.BlockBehaviour;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.material.MapColor;
 
-import java.util.HashSet;
-import java.util.LinkedList;
-import java.util.Queue;
-import java.util.Set;
-
 /**
  * Clockstone Block - Portal frame building material.
  *
@@ -80,45 +75,24 @@ public class ClockstoneBlock extends Block {
 
     /**
      * Destroy all portal blocks connected to this frame position.
-     * Uses BFS to find and destroy all portal blocks that form a connected portal.
+     * Each adjacent portal is removed in one pass by {@link ChronoDawnPortalBlock#collapsePortal}.
      *
      * @param level The level
      * @param framePos Position of the broken frame block
      */
     private void destroyConnectedPortal(Level level, BlockPos framePos) {
-        Set<BlockPos> visited = new HashSet<>();
-        Queue<BlockPos> queue = new LinkedList<>();
+        int destroyed = 0;
 
-        // Start BFS from all 6 adjacent positions
+        // A frame block can border up to two portals (e.g. at a shared corner)
         for (Direction direction : Direction.values()) {
             BlockPos adjacent = framePos.relative(direction);
             if (level.getBlockState(adjacent).is(ModBlocks.CHRONO_DAWN_PORTAL.get())) {
-                queue.add(adjacent);
-                visited.add(adjacent);
-            }
-        }
-
-        // BFS to find all connected portal blocks
-        while (!queue.isEmpty()) {
-            BlockPos current = queue.poll();
-
-            // Remove this portal block
-            level.removeBlock(current, false);
-
-            // Check all 6 adjacent positions for more portal blocks
-            for (Direction direction : Direction.values()) {
-                BlockPos adjacent = current.relative(direction);
-                BlockState adjacentState = level.getBlockState(adjacent);
-
-                if (adjacentState.is(ModBlocks.CHRONO_DAWN_PORTAL.get()) && !visited.contains(adjacent)) {
-                    queue.add(adjacent);
-                    visited.add(adjacent);
-                }
+                destroyed += ChronoDawnPortalBlock.collapsePortal(level, adjacent).size();
             }
         }
 
-        if (!visited.isEmpty()) {
-            ChronoDawn.LOGGER.debug("Destroyed {} connected portal blocks due to frame break at {}", visited.size(), framePos);
+        if (destroyed > 0) {
+            ChronoDawn.LOGGER.debug("Destroyed {} connected portal blocks due to frame break at {}", destroyed, framePos);
         }
     }
 }
@@ -1,6 +1,7 @@
 package com.chronodawn.blocks;
 
 import com.chronodawn.ChronoDawn;
+import com.chronodawn.core.spread.SpreadRules;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.Identifier;
@@ -29,7 +30,8 @@ import net.minecraft.world.level.material.MapColor;
  * - Blast Resistance: 0.1 (fragile)
  * - Tool: Can be mined with any tool or by hand (hoe is fastest)
  * - Moss sound (same as vanilla moss carpet)
- * - Spreads to adjacent dirt/stone blocks over time
+ * - Spreads to adjacent dirt/stone blocks over time (block tag
+ *   #chronodawn:temporal_moss_spreadable, see SpreadRules)
  *
  * Generation:
  * - Exclusive to chronodawn_swamp biome
@@ -79,26 +81,14 @@ public class TemporalMossBlock extends Block implements BonemealableBlock {
             BlockPos targetPos = pos.relative(direction);
             BlockState targetState = level.getBlockState(targetPos);
 
-            // Can spread to dirt, stone, or similar natural blocks
-            if (canSpreadTo(targetState)) {
-                level.setBlockAndUpdate(targetPos, this.defaultBlockState());
+            // Can spread to #chronodawn:temporal_moss_spreadable (dirt, stone, grass by default)
+            BlockState converted = SpreadRules.TEMPORAL_MOSS.convert(level, targetState);
+            if (converted != null) {
+                level.setBlockAndUpdate(targetPos, converted);
             }
         }
     }
 
-    /**
-     * Check if moss can spread to the target block.
-     */
-    private boolean canSpreadTo(BlockState state) {
-        // Can spread to dirt, stone, and similar natural blocks
-        Block block = state.getBlock();
-        String blockId = block.toString();
-
-        return blockId.contains("dirt") ||
-               blockId.contains("stone") ||
-               blockId.contains("grass_block");
-    }
-
     /**
      * Bonemeal can be used to spread moss faster.
      */
@@ -119,8 +109,9 @@ public class TemporalMossBlock extends Block implements BonemealableBlock {
             BlockPos targetPos = pos.relative(direction);
             BlockState targetState = level.getBlockState(targetPos);
 
-            if (canSpreadTo(targetState) && random.nextBoolean()) {
-                level.setBlockAndUpdate(targetPos, this.defaultBlockState());
+            BlockState converted = SpreadRules.TEMPORAL_MOSS.convert(level, targetState);
+            if (converted != null && random.nextBoolean()) {
+                level.setBlockAndUpdate(targetPos, converted);
             }
         }
     }
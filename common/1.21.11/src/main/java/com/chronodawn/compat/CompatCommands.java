@@ -0,0 +1,23 @@
+package com.chronodawn.compat;
+
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+
+import java.util.function.Predicate;
+
+/**
+ * Compatibility helper for command permission checks (Minecraft 1.21.11).
+ */
+public class CompatCommands {
+    /**
+     * Requirement for operator commands (permission level 2, like /gamerule).
+     * In 1.21.11, numeric permission levels are replaced by permission checks.
+     */
+    public static Predicate<CommandSourceStack> gameMaster() {
+        return Commands.hasPermission(Commands.LEVEL_GAMEMASTERS);
+    }
+
+    private CompatCommands() {
+        // Utility class
+    }
+}
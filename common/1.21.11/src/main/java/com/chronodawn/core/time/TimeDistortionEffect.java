@@ -48,16 +48,17 @@ public class TimeDistortionEffect {
      * Apply time distortion effect to a living entity if applicable.
      *
      * @param entity The living entity to potentially apply the effect to
+     * @return true if the entity was slowed
      */
-    public static void applyTimeDistortion(LivingEntity entity) {
+    public static boolean applyTimeDistortion(LivingEntity entity) {
         // Check if entity is in ChronoDawn dimension
         if (!isInChronoDawnDimension(entity)) {
-            return;
+            return false;
         }
 
         // Check if entity is a hostile mob (not a player)
         if (!isHostileMob(entity)) {
-            return;
+            return false;
         }
 
         // Check dimension state for Eye of Chronos enhancement
@@ -73,6 +74,7 @@ public class TimeDistortionEffect {
                 false,                   // Ambient
                 false                    // Show particles
         ));
+        return true;
     }
 
     /**
@@ -3,6 +3,9 @@ package com.chronodawn.events;
 import com.chronodawn.ChronoDawn;
 import com.chronodawn.compat.CompatAdvancementHelper;
 import com.chronodawn.compat.CompatResourceLocation;
+import com.chronodawn.core.dimension.DimensionStabilizer;
+import com.chronodawn.core.performance.ChronoDawnMetrics;
+import com.chronodawn.core.performance.SafeBlockAccess;
 import com.chronodawn.core.portal.PortalRegistry;
 import com.chronodawn.core.portal.PortalState;
 import com.chronodawn.core.portal.PortalStateMachine;
@@ -71,7 +74,7 @@ public class PlayerEventHandler {
      */
     public static void register() {
         // Register server tick event to monitor player dimension changes
-        TickEvent.SERVER_POST.register(server -> {
+        TickEvent.SERVER_POST.register(ChronoDawnMetrics.timeServerTick("player_dimension_tracking", server -> {
             for (ServerPlayer player : server.getPlayerList().getPlayers()) {
                 ResourceKey<Level> currentDimension = player.level().dimension();
                 ResourceKey<Level> previousDimension = playerDimensions.get(player.getUUID());
@@ -88,12 +91,15 @@ public class PlayerEventHandler {
                 // Update tracked dimension
                 playerDimensions.put(player.getUUID(), currentDimension);
             }
-        });
+        }));
 
         // Grant Time Tyrant defeat advancement on login for players who weren't online during defeat.
         // Using PLAYER_JOIN instead of tick polling ensures advancement data is fully loaded.
         PlayerEvent.PLAYER_JOIN.register(PlayerEventHandler::checkAndGrantTyrantDefeatAdvancement);
 
+        // Sync Time Tyrant defeat state to the client (drives Chrono Dawn sky color)
+        PlayerEvent.PLAYER_JOIN.register(DimensionStabilizer::syncEnvironmentState);
+
         ChronoDawn.LOGGER.debug("Registered PlayerEventHandler");
     }
 
@@ -102,12 +108,8 @@ public class PlayerEventHandler {
      * Check if Time Tyrant has been defeated, and grant advancement if player doesn't have it yet.
      * Called once on player login via PlayerEvent.PLAYER_JOIN.
      *
-     * Design Note:
-     * This method uses advancements as a "proxy" for world state synchronization:
-     * - World state (ChronoDawnGlobalState.isTyrantDefeated) is server-side only
-     * - Sky color rendering is client-side (SkyColorMixin)
-     * - Minecraft automatically syncs advancements to clients
-     * - By granting advancement to all players when defeated, we effectively sync world state
+     * The client sky color no longer reads this advancement; world state is synced
+     * directly by {@link DimensionStabilizer#syncEnvironmentState}.
      *
      * The initial grant to online players at defeat time is handled by DimensionStabilizer.
      * This method covers players who log in after the defeat.
@@ -127,10 +129,7 @@ public class PlayerEventHandler {
             "story/us3/time_tyrant_defeat"
         );
 
-        // Grant advancement if player doesn't have it yet
-        // This advancement serves dual purpose:
-        // 1. Player achievement (Liberator of Chrono Dawn)
-        // 2. Proxy for world state on client side (enables sky color change)
+        // Grant advancement if player doesn't have it yet (Liberator of Chrono Dawn)
         if (CompatAdvancementHelper.grantAdvancement(((net.minecraft.server.level.ServerLevel) player.level()).getServer(), player, advancementId)) {
             ChronoDawn.LOGGER.debug("Auto-granted Time Tyrant defeat advancement to player {} based on world state",
                 player.getName().getString());
@@ -243,12 +242,18 @@ public class PlayerEventHandler {
         ChronoDawn.LOGGER.debug("Searching for portal blocks near {} in dimension {}",
             centerPos, level.dimension().identifier());
 
+        // Only loaded chunks are searched; the portal the player just used is always loaded
+        SafeBlockAccess.Reader reader = SafeBlockAccess.reader(level);
+
         // Search for portal blocks in a larger 30x30x30 area
         for (int x = -15; x <= 15; x++) {
             for (int y = -15; y <= 15; y++) {
                 for (int z = -15; z <= 15; z++) {
                     BlockPos searchPos = centerPos.offset(x, y, z);
-                    var blockState = level.getBlockState(searchPos);
+                    var blockState = reader.get(searchPos);
+                    if (blockState == null) {
+                        continue;
+                    }
 
                     // Check for ChronoDawn portal blocks
                     if (blockState.is(ModBlocks.CHRONO_DAWN_PORTAL.get())) {
@@ -273,7 +278,10 @@ public class PlayerEventHandler {
                 for (int y = -50; y <= 50; y++) {
                     for (int z = -50; z <= 50; z++) {
                         BlockPos searchPos = centerPos.offset(x, y, z);
-                        var blockState = level.getBlockState(searchPos);
+                        var blockState = reader.get(searchPos);
+                        if (blockState == null) {
+                            continue;
+                        }
 
                         // Check for ChronoDawn portal blocks
                         if (blockState.is(ModBlocks.CHRONO_DAWN_PORTAL.get())) {
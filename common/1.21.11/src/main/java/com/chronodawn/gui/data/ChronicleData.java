@@ -15,14 +15,47 @@ import java.util.*;
 /**
  * Loader and cache for Chronicle guidebook data.
  * Loads category and entry data from JSON files in resource packs.
+ *
+ * Loading is split the same way as a vanilla reload listener (see {@link ChronicleReloadListener}):
+ * {@link #prepare} reads and parses every file on a worker thread into an immutable
+ * {@link Contents}, and {@link #apply} swaps it in on the main thread. The book only ever
+ * reads the current {@link Contents}, so opening it does no I/O or parsing.
  */
 public class ChronicleData {
     private static final Gson GSON = new Gson();
     private static final String CATEGORIES_PATH = "assets/chronodawn/chronicle/categories.json";
     private static final String ENTRIES_PATH_PREFIX = "assets/chronodawn/chronicle/entries/";
 
-    private final Map<String, Category> categories = new LinkedHashMap<>();
-    private boolean loaded = false;
+    // Define all entry names for each category
+    // Note: ResourceManager doesn't provide directory listing, so we enumerate explicitly
+    private static final Map<String, String[]> CATEGORY_ENTRIES = Map.of(
+        // Getting Started category
+        "basics", new String[]{
+            "welcome", "ancient_ruins", "time_hourglass",
+            "portal_building", "portal_activation", "escaping"
+        },
+        // Progression category
+        "progression", new String[]{
+            "time_distortion", "biomes", "wood_types",
+            "forgotten_library", "portal_stabilizer", "progression_path"
+        },
+        // Structures category
+        "structures", new String[]{
+            "desert_clock_tower", "guardian_vault", "clockwork_depths",
+            "phantom_catacombs", "entropy_crypt", "master_clock"
+        },
+        // Boss Battles category
+        "bosses", new String[]{
+            "time_guardian", "chronos_warden", "clockwork_colossus",
+            "temporal_phantom", "entropy_keeper", "time_tyrant"
+        },
+        // Items & Equipment category
+        "items", new String[]{
+            "clockstone", "time_crystals", "chrono_aegis", "ultimate_artifacts"
+        }
+    );
+
+    private volatile Contents contents = Contents.EMPTY;
 
     private static ChronicleData instance;
 
@@ -36,43 +69,97 @@ public class ChronicleData {
     }
 
     /**
-     * Load all Chronicle data from the resource manager.
-     * This should be called during resource reload.
+     * Parsed Chronicle data, built once per resource reload and never modified afterwards.
+     *
+     * @param categories Categories in display (sortnum) order
+     * @param categoriesById Categories by ID
+     * @param problems Missing or malformed files found while loading, for the reload log
+     * @param loaded Whether the categories file was read successfully
+     */
+    public record Contents(List<Category> categories, Map<String, Category> categoriesById,
+                           List<String> problems, boolean loaded) {
+        static final Contents EMPTY = new Contents(List.of(), Map.of(), List.of(), false);
+
+        public int entryCount() {
+            return categories.stream().mapToInt(category -> category.getEntries().size()).sum();
+        }
+    }
+
+    /**
+     * Read and parse all Chronicle data from the resource manager.
+     * Safe to call off the main thread: it only reads resources and builds new objects.
      *
      * @param resourceManager Resource manager
+     * @return Parsed data, to be passed to {@link #apply}
      */
-    public void load(ResourceManager resourceManager) {
-        categories.clear();
-        loaded = false;
+    public static Contents prepare(ResourceManager resourceManager) {
+        Map<String, Category> categories = new LinkedHashMap<>();
+        List<String> problems = new ArrayList<>();
 
         try {
             // Load categories
-            loadCategories(resourceManager);
+            if (!loadCategories(resourceManager, categories, problems)) {
+                return new Contents(List.of(), Map.of(), List.copyOf(problems), false);
+            }
+        } catch (IOException | RuntimeException e) {
+            problems.add(CATEGORIES_PATH + ": " + e.getMessage());
+            return new Contents(List.of(), Map.of(), List.copyOf(problems), false);
+        }
 
-            // Load entries for each category
-            loadEntries(resourceManager);
+        // Load entries for each category
+        for (Category category : categories.values()) {
+            loadEntriesForCategory(resourceManager, category, problems);
+        }
 
-            loaded = true;
+        // Read image page sizes now so the book never decodes images while rendering
+        resolveImageSizes(categories.values(), resourceManager);
+
+        List<Category> sorted = new ArrayList<>(categories.values());
+        sorted.sort(Comparator.comparingInt(Category::getSortnum));
+
+        return new Contents(List.copyOf(sorted), Collections.unmodifiableMap(categories),
+            List.copyOf(problems), true);
+    }
+
+    /**
+     * Install data built by {@link #prepare} and report any problems found while loading.
+     * Called on the main thread.
+     *
+     * @param prepared Parsed data
+     */
+    public void apply(Contents prepared) {
+        for (String problem : prepared.problems()) {
+            ChronoDawn.LOGGER.warn("Chronicle data: {}", problem);
+        }
 
-            // Count total entries
-            int totalEntries = categories.values().stream()
-                .mapToInt(category -> category.getEntries().size())
-                .sum();
+        this.contents = prepared;
 
+        if (prepared.loaded()) {
             ChronoDawn.LOGGER.debug("Loaded {} Chronicle categories with {} total entries",
-                categories.size(), totalEntries);
-        } catch (IOException e) {
-            ChronoDawn.LOGGER.error("Failed to load Chronicle data", e);
+                prepared.categories().size(), prepared.entryCount());
+        } else {
+            ChronoDawn.LOGGER.error("Failed to load Chronicle data");
         }
     }
 
-    private void loadCategories(ResourceManager resourceManager) throws IOException {
+    /**
+     * Load all Chronicle data from the resource manager on the calling thread.
+     * Prefer registering {@link ChronicleReloadListener}, which parses on a worker thread.
+     *
+     * @param resourceManager Resource manager
+     */
+    public void load(ResourceManager resourceManager) {
+        apply(prepare(resourceManager));
+    }
+
+    private static boolean loadCategories(ResourceManager resourceManager, Map<String, Category> categories,
+                                          List<String> problems) throws IOException {
         Identifier categoriesLocation = CompatResourceLocation.create("chronodawn", "chronicle/categories.json");
 
         Optional<Resource> resource = resourceManager.getResource(categoriesLocation);
         if (resource.isEmpty()) {
-            ChronoDawn.LOGGER.warn("Categories file not found: {}", CATEGORIES_PATH);
-            return;
+            problems.add("Categories file not found: " + CATEGORIES_PATH);
+            return false;
         }
 
         try (BufferedReader reader = resource.get().openAsReader()) {
@@ -80,87 +167,50 @@ public class ChronicleData {
 
             for (Map.Entry<String, com.google.gson.JsonElement> entry : json.entrySet()) {
                 String categoryId = entry.getKey();
-                JsonObject categoryJson = entry.getValue().getAsJsonObject();
-                Category category = new Category(categoryId, categoryJson);
-                categories.put(categoryId, category);
+                try {
+                    JsonObject categoryJson = entry.getValue().getAsJsonObject();
+                    categories.put(categoryId, new Category(categoryId, categoryJson));
+                } catch (RuntimeException e) {
+                    problems.add("Malformed category '" + categoryId + "' in " + CATEGORIES_PATH + ": " + e.getMessage());
+                }
             }
         }
+        return true;
     }
 
-    private void loadEntries(ResourceManager resourceManager) throws IOException {
-        // For each category, search for entry JSON files
-        for (String categoryId : categories.keySet()) {
-            String entryPathPrefix = "chronicle/entries/" + categoryId + "/";
+    private static void loadEntriesForCategory(ResourceManager resourceManager, Category category,
+                                               List<String> problems) {
+        String categoryId = category.getId();
+        String[] entryNames = CATEGORY_ENTRIES.getOrDefault(categoryId, new String[0]);
 
-            // Search for all JSON files in the category directory
-            // Note: ResourceManager doesn't have a directory listing API,
-            // so we'll need to try loading specific entry files
-            // For now, we'll implement a simple approach that works with known entries
+        for (String entryName : entryNames) {
+            String entryPath = "chronicle/entries/" + categoryId + "/" + entryName + ".json";
+            Identifier entryLocation = CompatResourceLocation.create("chronodawn", entryPath);
 
-            // Try to discover entries by looking at resource paths
-            // This is a limitation of ResourceManager - in production, we'd use a registry approach
-            loadEntriesForCategory(resourceManager, categoryId);
+            Optional<Resource> resource = resourceManager.getResource(entryLocation);
+            if (resource.isEmpty()) {
+                problems.add("Entry file not found: " + ENTRIES_PATH_PREFIX + categoryId + "/" + entryName + ".json");
+                continue;
+            }
+
+            try (BufferedReader reader = resource.get().openAsReader()) {
+                JsonObject json = GSON.fromJson(reader, JsonObject.class);
+                category.addEntry(new Entry(entryName, json));
+            } catch (IOException | RuntimeException e) {
+                // RuntimeException covers JSON syntax errors and missing/mistyped fields
+                problems.add("Failed to load entry " + categoryId + "/" + entryName + ": " + e.getMessage());
+            }
         }
     }
 
-    private void loadEntriesForCategory(ResourceManager resourceManager, String categoryId) {
-        // Define all entry names for each category
-        // Note: ResourceManager doesn't provide directory listing, so we enumerate explicitly
-        Map<String, String[]> categoryEntries = new HashMap<>();
-
-        // Getting Started category
-        categoryEntries.put("basics", new String[]{
-            "welcome", "ancient_ruins", "time_hourglass",
-            "portal_building", "portal_activation", "escaping"
-        });
-
-        // Progression category
-        categoryEntries.put("progression", new String[]{
-            "time_distortion", "biomes", "wood_types",
-            "forgotten_library", "portal_stabilizer", "progression_path"
-        });
-
-        // Structures category
-        categoryEntries.put("structures", new String[]{
-            "desert_clock_tower", "guardian_vault", "clockwork_depths",
-            "phantom_catacombs", "entropy_crypt", "master_clock"
-        });
-
-        // Boss Battles category
-        categoryEntries.put("bosses", new String[]{
-            "time_guardian", "chronos_warden", "clockwork_colossus",
-            "temporal_phantom", "entropy_keeper", "time_tyrant"
-        });
-
-        // Items & Equipment category
-        categoryEntries.put("items", new String[]{
-            "clockstone", "time_crystals", "chrono_aegis", "ultimate_artifacts"
-        });
-
-        String[] entryNames = categoryEntries.getOrDefault(categoryId, new String[0]);
-
-        for (String entryName : entryNames) {
-            Identifier entryLocation = CompatResourceLocation.create(
-                "chronodawn",
-                "chronicle/entries/" + categoryId + "/" + entryName + ".json"
-            );
-
-            try {
-                Optional<Resource> resource = resourceManager.getResource(entryLocation);
-                if (resource.isPresent()) {
-                    try (BufferedReader reader = resource.get().openAsReader()) {
-                        JsonObject json = GSON.fromJson(reader, JsonObject.class);
-                        Entry entry = new Entry(entryName, json);
-
-                        // Add entry to its category
-                        Category category = categories.get(categoryId);
-                        if (category != null) {
-                            category.addEntry(entry);
-                        }
+    private static void resolveImageSizes(Collection<Category> categories, ResourceManager resourceManager) {
+        for (Category category : categories) {
+            for (Entry entry : category.getEntries()) {
+                for (Page page : entry.getPages()) {
+                    if (page.getType() == Page.PageType.IMAGE) {
+                        page.resolveImageSize(resourceManager);
                     }
                 }
-            } catch (IOException e) {
-                ChronoDawn.LOGGER.warn("Failed to load entry: {}/{}", categoryId, entryName);
             }
         }
     }
@@ -171,9 +221,7 @@ public class ChronicleData {
      * @return List of categories
      */
     public List<Category> getCategories() {
-        List<Category> categoryList = new ArrayList<>(categories.values());
-        categoryList.sort((a, b) -> Integer.compare(a.getSortnum(), b.getSortnum()));
-        return categoryList;
+        return contents.categories();
     }
 
     /**
@@ -183,7 +231,7 @@ public class ChronicleData {
      * @return Category, or null if not found
      */
     public Category getCategory(String id) {
-        return categories.get(id);
+        return contents.categoriesById().get(id);
     }
 
     /**
@@ -192,7 +240,7 @@ public class ChronicleData {
      * @return true if loaded
      */
     public boolean isLoaded() {
-        return loaded;
+        return contents.loaded();
     }
 
     /**
@@ -2,6 +2,8 @@ package com.chronodawn.mixin;
 
 import com.chronodawn.ChronoDawn;
 import com.chronodawn.api.ChronoDawnTimeHolder;
+import com.chronodawn.client.time.ClientTimeFlow;
+import com.chronodawn.core.time.TimeFlowState;
 import com.chronodawn.data.ChronoDawnTimeData;
 import com.chronodawn.registry.ModDimensions;
 import net.minecraft.server.level.ServerLevel;
@@ -37,7 +39,7 @@ public abstract class LevelGetTimeMixin implements ChronoDawnTimeHolder {
 
     /**
      * Intercept getDayTime() and return independent time for ChronoDawn.
-     * Server side only: client uses vanilla value synced via ClientboundSetTimePacket.
+     * Server side: the independent time. Client side: extrapolated from {@link ClientTimeFlow}.
      */
     @Inject(method = "getDayTime", at = @At("RETURN"), cancellable = true)
     private void interceptGetDayTime(CallbackInfoReturnable<Long> cir) {
@@ -63,8 +65,15 @@ public abstract class LevelGetTimeMixin implements ChronoDawnTimeHolder {
             }
 
             cir.setReturnValue(chronodawn$independentTime);
+        } else if (level.isClientSide()
+                && level.dimension().equals(ModDimensions.CHRONO_DAWN_DIMENSION)) {
+            // Client side: extrapolate from the server's time flow so the sky follows the
+            // varying speed smoothly. Falls back to vanilla until the first payload arrives.
+            TimeFlowState flow = ClientTimeFlow.current(level);
+            if (flow != null) {
+                cir.setReturnValue(flow.dayTimeAt(level.getGameTime()));
+            }
         }
-        // Client side: use vanilla value (correctly synced from server via time packets)
     }
 
     // Note: isDay() method was removed in 1.21.5, so we don't intercept it here.
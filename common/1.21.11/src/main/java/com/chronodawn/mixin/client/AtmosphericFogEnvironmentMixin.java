@@ -1,14 +1,12 @@
 package com.chronodawn.mixin.client;
 
-import com.chronodawn.core.dimension.ChronoDawnBiomeProvider;
+import com.chronodawn.client.environment.ChronoDawnEnvironmentState;
 import net.minecraft.client.Camera;
 import net.minecraft.client.DeltaTracker;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.renderer.fog.FogData;
 import net.minecraft.client.renderer.fog.environment.AtmosphericFogEnvironment;
-import net.minecraft.core.BlockPos;
-import net.minecraft.core.Holder;
-import net.minecraft.world.level.biome.Biome;
+import net.minecraft.util.Mth;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
@@ -19,9 +17,9 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
  * Client-side mixin to apply dense fog inside the ChronoDawn Dark Forest biome.
  *
  * 1.21.11 dropped the (Entity, BlockPos) pair from the per-environment
- * {@code setupFog} signature in favour of {@link Camera}, so this version
- * derives the block position from the camera. Otherwise the override logic
- * is identical to 1.21.6-1.21.10.
+ * {@code setupFog} signature in favour of {@link Camera}. The biome check is
+ * done per client tick by {@link ChronoDawnEnvironmentState} in every version,
+ * so the override logic is identical to 1.21.6-1.21.10.
  */
 @Mixin(AtmosphericFogEnvironment.class)
 public class AtmosphericFogEnvironmentMixin {
@@ -43,15 +41,23 @@ public class AtmosphericFogEnvironmentMixin {
         DeltaTracker deltaTracker,
         CallbackInfo ci
     ) {
-        BlockPos pos = camera.blockPosition();
-        Holder<Biome> biome = level.getBiome(pos);
-        if (!biome.is(ChronoDawnBiomeProvider.CHRONO_DAWN_DARK_FOREST)) {
+        float darkForestFog = ChronoDawnEnvironmentState.darkForestFog(deltaTracker.getGameTimeDeltaPartialTick(false));
+        if (darkForestFog <= 0.0f) {
             return;
         }
 
-        fogData.environmentalStart = Math.min(fogData.environmentalStart, DARK_FOREST_FOG_START);
-        fogData.environmentalEnd = Math.min(fogData.environmentalEnd, DARK_FOREST_FOG_END);
-        fogData.renderDistanceStart = Math.min(fogData.renderDistanceStart, DARK_FOREST_FOG_START);
-        fogData.renderDistanceEnd = Math.min(fogData.renderDistanceEnd, DARK_FOREST_FOG_END);
+        fogData.environmentalStart = tighten(fogData.environmentalStart, DARK_FOREST_FOG_START, darkForestFog);
+        fogData.environmentalEnd = tighten(fogData.environmentalEnd, DARK_FOREST_FOG_END, darkForestFog);
+        fogData.renderDistanceStart = tighten(fogData.renderDistanceStart, DARK_FOREST_FOG_START, darkForestFog);
+        fogData.renderDistanceEnd = tighten(fogData.renderDistanceEnd, DARK_FOREST_FOG_END, darkForestFog);
+    }
+
+    /**
+     * Blend {@code value} toward {@code target} by {@code strength}, never widening it
+     * (so blindness/darkness fog stays denser than the biome override).
+     */
+    @Unique
+    private static float tighten(float value, float target, float strength) {
+        return Math.min(value, Mth.lerp(strength, value, target));
     }
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2025 ksoichiro
+ *
+ * This file is part of Chrono Dawn.
+ *
+ * Chrono Dawn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, version 3 of the License.
+ *
+ * Chrono Dawn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Chrono Dawn. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.chronodawn.worldgen.runtime;
+
+import com.chronodawn.compat.CompatResourceLocation;
+import net.minecraft.resources.Identifier;
+import net.minecraft.server.packs.AbstractPackResources;
+import net.minecraft.server.packs.PackLocationInfo;
+import net.minecraft.server.packs.PackResources;
+import net.minecraft.server.packs.PackType;
+import net.minecraft.server.packs.repository.Pack;
+import net.minecraft.server.packs.resources.IoSupplier;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link PackResources} serving the runtime overlay datapack straight from
+ * {@link OverlayPackContents}, with no directory behind it.
+ *
+ * <p>{@link AbstractPackResources} reads {@code pack.mcmeta} through
+ * {@link #getRootResource}, so pack metadata validation works as for an
+ * on-disk pack.
+ *
+ * <p>1.21.11 variant: {@code ResourceLocation} was renamed to {@code Identifier}.
+ */
+public class InMemoryOverlayPackResources extends AbstractPackResources {
+    private final OverlayPackContents contents;
+
+    public InMemoryOverlayPackResources(PackLocationInfo location, OverlayPackContents contents) {
+        super(location);
+        this.contents = contents;
+    }
+
+    /**
+     * Supplier for {@code Pack.readMetaAndCreate}. Every open shares the same
+     * immutable contents.
+     */
+    public static Pack.ResourcesSupplier supplier(OverlayPackContents contents) {
+        return new Pack.ResourcesSupplier() {
+            @Override
+            public PackResources openPrimary(PackLocationInfo location) {
+                return new InMemoryOverlayPackResources(location, contents);
+            }
+
+            @Override
+            public PackResources openFull(PackLocationInfo location, Pack.Metadata metadata) {
+                return openPrimary(location);
+            }
+        };
+    }
+
+    @Nullable
+    @Override
+    public IoSupplier<InputStream> getRootResource(String... elements) {
+        return open(String.join("/", elements));
+    }
+
+    @Nullable
+    @Override
+    public IoSupplier<InputStream> getResource(PackType packType, Identifier location) {
+        return open(packType.getDirectory() + "/" + location.getNamespace() + "/" + location.getPath());
+    }
+
+    @Override
+    public void listResources(PackType packType, String namespace, String path, PackResources.ResourceOutput output) {
+        for (Map.Entry<String, byte[]> entry : contents.list(packType.getDirectory(), namespace, path).entrySet()) {
+            byte[] bytes = entry.getValue();
+            output.accept(CompatResourceLocation.create(namespace, entry.getKey()), () -> new ByteArrayInputStream(bytes));
+        }
+    }
+
+    @Override
+    public Set<String> getNamespaces(PackType type) {
+        return contents.namespaces(type.getDirectory());
+    }
+
+    @Override
+    public void close() {
+        // Nothing to release
+    }
+
+    @Nullable
+    private IoSupplier<InputStream> open(String path) {
+        byte[] bytes = contents.get(path);
+        return bytes == null ? null : () -> new ByteArrayInputStream(bytes);
+    }
+}
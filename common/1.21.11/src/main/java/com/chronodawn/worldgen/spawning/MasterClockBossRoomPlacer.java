@@ -1,6 +1,10 @@
 package com.chronodawn.worldgen.spawning;
 
 import com.chronodawn.ChronoDawn;
+import com.chronodawn.core.performance.ChronoDawnMetrics;
+import com.chronodawn.core.performance.DegradationGovernor;
+import com.chronodawn.data.MasterClockPlacementData;
+import com.chronodawn.data.MasterClockPlacementData.Phase;
 import com.chronodawn.registry.ModDimensions;
 import dev.architectury.event.events.common.TickEvent;
 import net.minecraft.core.BlockPos;
@@ -8,6 +12,8 @@ import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.resources.Identifier;
 import com.chronodawn.compat.CompatResourceLocation;
+import com.chronodawn.worldgen.templates.ChronoDawnTemplateCache;
+import com.chronodawn.worldgen.templates.SlicedTemplatePlacement;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.block.Blocks;
@@ -21,7 +27,6 @@ import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemp
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -37,6 +42,9 @@ import java.util.concurrent.ConcurrentHashMap;
  *
  * This ensures boss_room is never exposed on surface, even on mountains.
  *
+ * Progress is saved per world in MasterClockPlacementData, so a restart resumes each
+ * Master Clock at the phase it reached and finished ones are never searched again.
+ *
  * Implementation inspired by PhantomCatacombsBossRoomPlacer.
  */
 public class MasterClockBossRoomPlacer {
@@ -71,84 +79,18 @@ public class MasterClockBossRoomPlacer {
     // Target Y coordinate for corridor placement (above boss room)
     private static final int CORRIDOR_Y = -30;
 
-    // Track structure positions where we've already placed boss_room (per dimension)
-    // Thread-safe: ConcurrentHashMap prevents race conditions in multiplayer
-    private static final Map<Identifier, Set<BlockPos>> processedStructures = new ConcurrentHashMap<>();
+    // Placement state of each Master Clock (phase, found markers, completion) is kept in
+    // MasterClockPlacementData, so it belongs to the world and survives restarts
 
-    // Track structures currently being processed (multi-tick state machine)
-    // Thread-safe: ConcurrentHashMap prevents race conditions in multiplayer
-    private static final Map<BlockPos, StructureProcessingState> processingStates = new ConcurrentHashMap<>();
+    // Surface marker search area around the structure origin (in chunks)
+    // Master Clock structures are typically 3-5 chunks across
+    private static final int SURFACE_SEARCH_RADIUS = 3;
 
     // Check interval (in ticks) - check every 30 seconds
     private static final int CHECK_INTERVAL = 600;
     // Thread-safe: ConcurrentHashMap prevents race conditions in multiplayer
     private static final Map<Identifier, Integer> tickCounters = new ConcurrentHashMap<>();
 
-    /**
-     * Processing state enum for multi-tick state machine.
-     * Each state represents a phase of the boss room placement process.
-     */
-    private enum ProcessingPhase {
-        SEARCHING_SURFACE_MARKER,  // Searching for Dropper marker at surface (chunk by chunk)
-        SEARCHING_JIGSAW,          // Searching for Jigsaw block (chunk by chunk)
-        PLACING_CORRIDOR,          // Placing corridor at Y=-30
-        PLACING_STAIRS,            // Placing stairs segments (segment by segment)
-        PLACING_BOSS_ROOM,         // Placing boss room at Y=-50
-        FINALIZING,                // Final cleanup and waterlogging
-        COMPLETED                  // Processing completed
-    }
-
-    /**
-     * State object for tracking multi-tick processing of a structure.
-     * This allows processing to be spread across multiple ticks to prevent freezing.
-     */
-    private static class StructureProcessingState {
-        final BlockPos structureOrigin;
-        final ChunkPos initialChunkPos;
-        final Identifier dimensionId;
-        ProcessingPhase phase;
-
-        // Marker search state
-        List<ChunkPos> structureChunks;
-        int currentChunkIndex;
-        BlockPos surfaceMarkerPos;
-        Direction surfaceMarkerDirection; // Direction from dropper
-        BlockPos surfaceJigsawPos;
-        int searchRetryCount;
-
-        // Stairs placement state
-        List<BlockPos> stairsPositions;
-        int currentStairsIndex;
-        List<net.minecraft.world.level.levelgen.structure.BoundingBox> protectedAreas;
-        net.minecraft.core.Vec3i stairsTemplateSize;
-        Rotation stairsRotation;
-
-        // Templates
-        StructureTemplate corridorTemplate;
-        StructureTemplate stairsTemplate;
-        StructureTemplate stairsBottomTemplate;
-        StructureTemplate bossRoomTemplate;
-
-        // Boss room position
-        BlockPos bossRoomPos;
-        Rotation bossRoomRotation;
-
-        StructureProcessingState(BlockPos origin, ChunkPos chunkPos, Identifier dimId) {
-            this.structureOrigin = origin;
-            this.initialChunkPos = chunkPos;
-            this.dimensionId = dimId;
-            this.phase = ProcessingPhase.SEARCHING_SURFACE_MARKER;
-            this.structureChunks = new ArrayList<>();
-            this.currentChunkIndex = 0;
-            this.surfaceMarkerPos = null;
-            this.surfaceJigsawPos = null;
-            this.searchRetryCount = 0;
-            this.stairsPositions = new ArrayList<>();
-            this.currentStairsIndex = 0;
-            this.protectedAreas = new ArrayList<>();
-        }
-    }
-
     /**
      * Check if a chunk contains a Master Clock structure.
      */
@@ -364,8 +306,7 @@ public class MasterClockBossRoomPlacer {
             horizontalDirection
         );
 
-        var structureTemplateManager = level.getStructureManager();
-        var templateOptional = structureTemplateManager.get(STAIRS_TEMPLATE);
+        var templateOptional = ChronoDawnTemplateCache.get(level, STAIRS_TEMPLATE);
 
         if (templateOptional.isEmpty()) {
             ChronoDawn.LOGGER.error("Failed to load stairs template: {}", STAIRS_TEMPLATE);
@@ -536,7 +477,7 @@ public class MasterClockBossRoomPlacer {
             lastStairsPos.getY(), stairsBottomPos.getY());
 
         // Place stairs_bottom at the end
-        var stairsBottomOptional = structureTemplateManager.get(STAIRS_BOTTOM_TEMPLATE);
+        var stairsBottomOptional = ChronoDawnTemplateCache.get(level, STAIRS_BOTTOM_TEMPLATE);
         if (stairsBottomOptional.isEmpty()) {
             ChronoDawn.LOGGER.error("Failed to load stairs_bottom template: {}", STAIRS_BOTTOM_TEMPLATE);
             return null;
@@ -745,8 +686,7 @@ public class MasterClockBossRoomPlacer {
             direction
         );
 
-        var structureTemplateManager = level.getStructureManager();
-        var templateOptional = structureTemplateManager.get(CORRIDOR_TEMPLATE);
+        var templateOptional = ChronoDawnTemplateCache.get(level, CORRIDOR_TEMPLATE);
 
         if (templateOptional.isEmpty()) {
             ChronoDawn.LOGGER.error("Failed to load corridor template: {}", CORRIDOR_TEMPLATE);
@@ -1277,21 +1217,22 @@ public class MasterClockBossRoomPlacer {
     /**
      * Place boss_room connected to corridor via Jigsaw Block.
      * Also performs final water removal from stairs after all structures are placed.
+     * The room is written over the following ticks; {@code onPlaced} runs once it is finished,
+     * or {@code onFailed} if writing it fails partway.
      */
     private static boolean placeBossRoom(ServerLevel level, BlockPos corridorJigsawPos, Rotation corridorRotation,
                                           List<BlockPos> stairsPositions, net.minecraft.core.Vec3i stairsTemplateSize,
                                           Rotation stairsRotation,
-                                          List<net.minecraft.world.level.levelgen.structure.BoundingBox> protectedAreas) {
+                                          List<net.minecraft.world.level.levelgen.structure.BoundingBox> protectedAreas,
+                                          Runnable onPlaced, Runnable onFailed) {
         ChronoDawn.LOGGER.debug(
             "Placing boss_room connected to corridor Jigsaw at {} (corridor rotation: {})",
             corridorJigsawPos,
             corridorRotation
         );
 
-        var structureTemplateManager = level.getStructureManager();
-
         // Load boss_room template
-        var templateOptional = structureTemplateManager.get(BOSS_ROOM_TEMPLATE);
+        var templateOptional = ChronoDawnTemplateCache.get(level, BOSS_ROOM_TEMPLATE);
         if (templateOptional.isEmpty()) {
             ChronoDawn.LOGGER.error("Failed to load boss_room template: {}", BOSS_ROOM_TEMPLATE);
             return false;
@@ -1375,9 +1316,27 @@ public class MasterClockBossRoomPlacer {
             ChronoDawn.LOGGER.error("Failed to load processor list: {}", e.getMessage(), e);
         }
 
-        // STEP 2: Place structure (processors will be applied)
-        template.placeInWorld(level, placementPos, placementPos, settings, level.random, 3);
+        // STEP 2: Place structure over the next ticks (processors will be applied); STEP 3 onwards
+        // run in finishBossRoom once it is complete
+        SlicedTemplatePlacement.place(level, template, placementPos, placementPos, settings, level.random, 3,
+            () -> {
+                finishBossRoom(level, corridorJigsawPos, placementPos, bossRoomRotation, bossRoomJigsawOffset,
+                    templateSize, stairsPositions, stairsTemplateSize, stairsRotation);
+                onPlaced.run();
+            },
+            onFailed);
+
+        return true;
+    }
 
+    /**
+     * Steps after the boss_room template is in the world: waterlogging, protection markers,
+     * Jigsaw Block removal and decorative water conversion.
+     */
+    private static void finishBossRoom(ServerLevel level, BlockPos corridorJigsawPos, BlockPos placementPos,
+                                       Rotation bossRoomRotation, BlockPos bossRoomJigsawOffset,
+                                       net.minecraft.core.Vec3i templateSize, List<BlockPos> stairsPositions,
+                                       net.minecraft.core.Vec3i stairsTemplateSize, Rotation stairsRotation) {
         // STEP 3: Finalize waterlogging AFTER placement (mimic StructureStartMixin @RETURN)
         finalizeWaterloggingAfterPlacement(level, placementPos, templateSize, bossRoomRotation);
 
@@ -1495,21 +1454,14 @@ public class MasterClockBossRoomPlacer {
             });
 
         ChronoDawn.LOGGER.debug("Successfully placed boss_room via Jigsaw connection");
-        return true;
     }
 
     /**
      * Initialize processing for a Master Clock structure.
-     * Creates a state machine entry if structure is found and not already processed.
+     * Creates a saved progress entry if structure is found and not already processed.
      * Actual processing happens in progressAllProcessing().
      */
     public static void processStructure(ServerLevel level, ChunkPos chunkPos) {
-        Identifier dimensionId = level.dimension().identifier();
-
-        // Thread-safe: Use ConcurrentHashMap.newKeySet() for thread-safe Set
-        processedStructures.putIfAbsent(dimensionId, ConcurrentHashMap.newKeySet());
-        Set<BlockPos> dimensionProcessed = processedStructures.get(dimensionId);
-
         if (!hasMasterClock(level, chunkPos)) {
             return;
         }
@@ -1519,13 +1471,15 @@ public class MasterClockBossRoomPlacer {
             return;
         }
 
+        MasterClockPlacementData data = MasterClockPlacementData.get(level);
+
         // Already processed
-        if (dimensionProcessed.contains(structureOrigin)) {
+        if (data.isCompleted(structureOrigin)) {
             return;
         }
 
         // Already processing
-        if (processingStates.containsKey(structureOrigin)) {
+        if (data.isInProgress(structureOrigin)) {
             return;
         }
 
@@ -1536,8 +1490,7 @@ public class MasterClockBossRoomPlacer {
             structureOrigin
         );
 
-        StructureProcessingState state = new StructureProcessingState(structureOrigin, chunkPos, dimensionId);
-        processingStates.put(structureOrigin, state);
+        data.start(structureOrigin);
     }
 
     /**
@@ -1552,20 +1505,24 @@ public class MasterClockBossRoomPlacer {
 
         Identifier dimensionId = level.dimension().identifier();
 
-        // Thread-safe: Use ConcurrentHashMap.newKeySet() for thread-safe Set
-        processedStructures.putIfAbsent(dimensionId, ConcurrentHashMap.newKeySet());
         tickCounters.putIfAbsent(dimensionId, 0);
 
         // Thread-safe: Use atomic compute operation for tick counter increment
         int currentTick = tickCounters.compute(dimensionId, (k, v) -> (v == null ? 0 : v) + 1);
 
-        if (currentTick < CHECK_INTERVAL) {
+        if (currentTick < DegradationGovernor.scaleInterval(CHECK_INTERVAL)) {
             // Still progress active processing states even between checks
             progressAllProcessing(level);
             return;
         }
         tickCounters.put(dimensionId, 0);
 
+        // Under heavy load new rooms wait; rooms already being placed keep advancing
+        if (DegradationGovernor.defersPlacement()) {
+            progressAllProcessing(level);
+            return;
+        }
+
         if (level.players().isEmpty()) {
             return;
         }
@@ -1591,22 +1548,15 @@ public class MasterClockBossRoomPlacer {
      * Called every tick to advance multi-tick state machine.
      */
     private static void progressAllProcessing(ServerLevel level) {
-        if (processingStates.isEmpty()) {
+        MasterClockPlacementData data = MasterClockPlacementData.get(level);
+        if (data.getInProgress().isEmpty()) {
             return;
         }
 
         // Process each active state
         List<BlockPos> completedStructures = new ArrayList<>();
 
-        for (Map.Entry<BlockPos, StructureProcessingState> entry : processingStates.entrySet()) {
-            BlockPos structureOrigin = entry.getKey();
-            StructureProcessingState state = entry.getValue();
-
-            // Verify dimension matches
-            if (!state.dimensionId.equals(level.dimension().identifier())) {
-                continue;
-            }
-
+        for (MasterClockPlacementData.Progress state : data.getInProgress()) {
             // Process current phase
             switch (state.phase) {
                 case SEARCHING_SURFACE_MARKER -> progressSearchSurfaceMarker(level, state);
@@ -1615,17 +1565,16 @@ public class MasterClockBossRoomPlacer {
                 case PLACING_STAIRS -> progressPlacingStairs(level, state);
                 case PLACING_BOSS_ROOM -> progressPlacingBossRoom(level, state);
                 case FINALIZING -> progressFinalizing(level, state);
-                case COMPLETED -> completedStructures.add(structureOrigin);
+                case COMPLETED -> completedStructures.add(state.structureOrigin);
             }
         }
 
+        // Every step updates the saved progress
+        data.setDirty();
+
         // Remove completed states and mark as processed
         for (BlockPos structureOrigin : completedStructures) {
-            processingStates.remove(structureOrigin);
-            Set<BlockPos> dimensionProcessed = processedStructures.get(level.dimension().identifier());
-            if (dimensionProcessed != null) {
-                dimensionProcessed.add(structureOrigin);
-            }
+            data.complete(structureOrigin);
             ChronoDawn.LOGGER.debug("Completed boss_room placement for Master Clock at {}", structureOrigin);
         }
     }
@@ -1633,27 +1582,21 @@ public class MasterClockBossRoomPlacer {
     /**
      * Phase 1: Search for Surface Dropper marker (chunk by chunk).
      */
-    private static void progressSearchSurfaceMarker(ServerLevel level, StructureProcessingState state) {
-        // Initialize chunk list on first call
-        if (state.structureChunks.isEmpty()) {
-            // Create search area around structure origin
-            // Master Clock structures are typically 3-5 chunks across
-            int searchRadius = 3; // chunks
-            ChunkPos origin = new ChunkPos(state.structureOrigin);
-
-            for (int cx = -searchRadius; cx <= searchRadius; cx++) {
-                for (int cz = -searchRadius; cz <= searchRadius; cz++) {
-                    state.structureChunks.add(new ChunkPos(origin.x + cx, origin.z + cz));
-                }
-            }
-
+    private static void progressSearchSurfaceMarker(ServerLevel level, MasterClockPlacementData.Progress state) {
+        int searchDiameter = SURFACE_SEARCH_RADIUS * 2 + 1;
+        int searchChunks = searchDiameter * searchDiameter;
+        if (state.currentChunkIndex == 0) {
             ChronoDawn.LOGGER.debug("Master Clock at {}: searching {} chunks for surface marker",
-                state.structureOrigin, state.structureChunks.size());
+                state.structureOrigin, searchChunks);
         }
 
-        // Process one chunk per tick
-        if (state.currentChunkIndex < state.structureChunks.size()) {
-            ChunkPos chunkPos = state.structureChunks.get(state.currentChunkIndex);
+        // Process one chunk per tick; the saved index lets a restart resume at the same chunk
+        if (state.currentChunkIndex < searchChunks) {
+            ChunkPos origin = new ChunkPos(state.structureOrigin);
+            ChunkPos chunkPos = new ChunkPos(
+                origin.x + state.currentChunkIndex / searchDiameter - SURFACE_SEARCH_RADIUS,
+                origin.z + state.currentChunkIndex % searchDiameter - SURFACE_SEARCH_RADIUS
+            );
 
             // Search this chunk for Dropper
             BlockPos chunkMin = chunkPos.getWorldPosition();
@@ -1666,7 +1609,7 @@ public class MasterClockBossRoomPlacer {
                             state.surfaceMarkerPos = pos;
                             state.surfaceMarkerDirection = blockState.getValue(net.minecraft.world.level.block.state.properties.BlockStateProperties.FACING);
                             ChronoDawn.LOGGER.debug("Found surface Dropper marker at {} facing {}", pos, state.surfaceMarkerDirection);
-                            state.phase = ProcessingPhase.SEARCHING_JIGSAW;
+                            state.phase = Phase.SEARCHING_JIGSAW;
                             return;
                         }
                     }
@@ -1680,7 +1623,7 @@ public class MasterClockBossRoomPlacer {
             if (state.searchRetryCount > 3) {
                 ChronoDawn.LOGGER.warn("Master Clock at {}: no surface marker found after {} retries, giving up",
                     state.structureOrigin, state.searchRetryCount);
-                state.phase = ProcessingPhase.COMPLETED;
+                state.phase = Phase.COMPLETED;
             } else {
                 ChronoDawn.LOGGER.debug("Master Clock at {}: no surface marker found, retry {}/3",
                     state.structureOrigin, state.searchRetryCount);
@@ -1692,26 +1635,26 @@ public class MasterClockBossRoomPlacer {
     /**
      * Phase 2: Search for Jigsaw block (not used in current implementation, skip to stairs).
      */
-    private static void progressSearchJigsaw(ServerLevel level, StructureProcessingState state) {
+    private static void progressSearchJigsaw(ServerLevel level, MasterClockPlacementData.Progress state) {
         // For now, skip jigsaw search and go directly to corridor placement
         // This can be implemented if needed
-        state.phase = ProcessingPhase.PLACING_CORRIDOR;
+        state.phase = Phase.PLACING_CORRIDOR;
     }
 
     /**
      * Phase 3: Place corridor at Y=-30 (single step).
      */
-    private static void progressPlacingCorridor(ServerLevel level, StructureProcessingState state) {
+    private static void progressPlacingCorridor(ServerLevel level, MasterClockPlacementData.Progress state) {
         if (state.surfaceMarkerPos == null || state.surfaceMarkerDirection == null) {
             ChronoDawn.LOGGER.error("Cannot place corridor: no surface marker or direction");
-            state.phase = ProcessingPhase.COMPLETED;
+            state.phase = Phase.COMPLETED;
             return;
         }
 
         // Verify direction is horizontal
         if (state.surfaceMarkerDirection == Direction.UP || state.surfaceMarkerDirection == Direction.DOWN) {
             ChronoDawn.LOGGER.error("Dropper must face horizontally, not {}", state.surfaceMarkerDirection);
-            state.phase = ProcessingPhase.COMPLETED;
+            state.phase = Phase.COMPLETED;
             return;
         }
 
@@ -1720,17 +1663,17 @@ public class MasterClockBossRoomPlacer {
         ChronoDawn.LOGGER.debug("Removed dropper marker at {}", state.surfaceMarkerPos);
 
         // Initialize stairs placement (will be done in next phase)
-        state.phase = ProcessingPhase.PLACING_STAIRS;
+        state.phase = Phase.PLACING_STAIRS;
     }
 
     /**
      * Phase 4: Place stairs segments (one segment per tick).
      */
-    private static void progressPlacingStairs(ServerLevel level, StructureProcessingState state) {
+    private static void progressPlacingStairs(ServerLevel level, MasterClockPlacementData.Progress state) {
         // For this initial implementation, place all stairs at once
         // TODO: Split into segments in future optimization
         if (state.surfaceMarkerPos == null || state.surfaceMarkerDirection == null) {
-            state.phase = ProcessingPhase.COMPLETED;
+            state.phase = Phase.COMPLETED;
             return;
         }
 
@@ -1738,7 +1681,7 @@ public class MasterClockBossRoomPlacer {
         StairsPlacementResult result = placeStairsDynamically(level, state.surfaceMarkerPos, state.surfaceMarkerDirection, CORRIDOR_Y);
         if (result == null) {
             ChronoDawn.LOGGER.error("Failed to place stairs");
-            state.phase = ProcessingPhase.COMPLETED;
+            state.phase = Phase.COMPLETED;
             return;
         }
 
@@ -1750,7 +1693,7 @@ public class MasterClockBossRoomPlacer {
         BlockState jigsawState = level.getBlockState(result.stairsBottomJigsawPos);
         if (!jigsawState.is(Blocks.JIGSAW)) {
             ChronoDawn.LOGGER.error("Expected jigsaw at stairs end");
-            state.phase = ProcessingPhase.COMPLETED;
+            state.phase = Phase.COMPLETED;
             return;
         }
 
@@ -1764,7 +1707,7 @@ public class MasterClockBossRoomPlacer {
 
         if (corridorResult == null) {
             ChronoDawn.LOGGER.error("Failed to place corridor");
-            state.phase = ProcessingPhase.COMPLETED;
+            state.phase = Phase.COMPLETED;
             return;
         }
 
@@ -1776,38 +1719,53 @@ public class MasterClockBossRoomPlacer {
         state.stairsTemplateSize = result.stairsTemplateSize;
         state.stairsRotation = result.stairsRotation;
 
-        state.phase = ProcessingPhase.PLACING_BOSS_ROOM;
+        state.phase = Phase.PLACING_BOSS_ROOM;
         ChronoDawn.LOGGER.debug("Stairs and corridor placed, proceeding to boss room");
     }
 
     /**
-     * Phase 5: Place boss room (single step).
+     * Phase 5: Place boss room. The room is written over the following ticks and the phase only
+     * moves on once it is finished, so a save taken mid-placement resumes by placing it again.
      */
-    private static void progressPlacingBossRoom(ServerLevel level, StructureProcessingState state) {
+    private static void progressPlacingBossRoom(ServerLevel level, MasterClockPlacementData.Progress state) {
+        if (state.bossRoomPlacementQueued) {
+            return;
+        }
         if (state.bossRoomPos == null) {
-            state.phase = ProcessingPhase.COMPLETED;
+            state.phase = Phase.COMPLETED;
             return;
         }
 
+        state.bossRoomPlacementQueued = true;
         boolean success = placeBossRoom(level, state.bossRoomPos, state.bossRoomRotation,
-            state.stairsPositions, state.stairsTemplateSize, state.stairsRotation, state.protectedAreas);
+            state.stairsPositions, state.stairsTemplateSize, state.stairsRotation, state.protectedAreas,
+            () -> {
+                ChronoDawn.LOGGER.debug("Boss room placed successfully at {}", state.bossRoomPos);
+                state.bossRoomPlacementQueued = false;
+                state.phase = Phase.FINALIZING;
+                MasterClockPlacementData.get(level).setDirty();
+            },
+            () -> {
+                ChronoDawn.LOGGER.error("Failed to place boss room at {}", state.bossRoomPos);
+                state.bossRoomPlacementQueued = false;
+                state.phase = Phase.COMPLETED;
+                MasterClockPlacementData.get(level).setDirty();
+            });
 
-        if (success) {
-            ChronoDawn.LOGGER.debug("Boss room placed successfully at {}", state.bossRoomPos);
-            state.phase = ProcessingPhase.FINALIZING;
-        } else {
+        if (!success) {
             ChronoDawn.LOGGER.error("Failed to place boss room");
-            state.phase = ProcessingPhase.COMPLETED;
+            state.bossRoomPlacementQueued = false;
+            state.phase = Phase.COMPLETED;
         }
     }
 
     /**
      * Phase 6: Finalize (cleanup, waterlogging, etc.).
      */
-    private static void progressFinalizing(ServerLevel level, StructureProcessingState state) {
+    private static void progressFinalizing(ServerLevel level, MasterClockPlacementData.Progress state) {
         // Any final cleanup can go here
         ChronoDawn.LOGGER.debug("Finalizing boss room placement for {}", state.structureOrigin);
-        state.phase = ProcessingPhase.COMPLETED;
+        state.phase = Phase.COMPLETED;
     }
 
     /**
@@ -1843,17 +1801,15 @@ public class MasterClockBossRoomPlacer {
                     continue;
                 }
 
-                Identifier dimensionId = level.dimension().identifier();
-                processedStructures.putIfAbsent(dimensionId, ConcurrentHashMap.newKeySet());
-                Set<BlockPos> dimensionProcessed = processedStructures.get(dimensionId);
+                MasterClockPlacementData data = MasterClockPlacementData.get(level);
 
                 // Check if already processed or processing
-                if (dimensionProcessed.contains(structureOrigin)) {
+                if (data.isCompleted(structureOrigin)) {
                     ChronoDawn.LOGGER.debug("Master Clock at {} already processed, skipping", structureOrigin);
                     return;
                 }
 
-                if (processingStates.containsKey(structureOrigin)) {
+                if (data.isInProgress(structureOrigin)) {
                     ChronoDawn.LOGGER.debug("Master Clock at {} already being processed, skipping", structureOrigin);
                     return;
                 }
@@ -1864,8 +1820,7 @@ public class MasterClockBossRoomPlacer {
                     structureOrigin
                 );
 
-                StructureProcessingState state = new StructureProcessingState(structureOrigin, chunkPos, dimensionId);
-                processingStates.put(structureOrigin, state);
+                data.start(structureOrigin);
 
                 // Trigger immediate processing (will be progressed on next server tick)
                 return;
@@ -1879,10 +1834,18 @@ public class MasterClockBossRoomPlacer {
      * Register event handlers.
      */
     public static void register() {
-        TickEvent.SERVER_POST.register(server -> {
+        TickEvent.SERVER_POST.register(ChronoDawnMetrics.timeServerTick("master_clock_placer", server -> {
             for (ServerLevel level : server.getAllLevels()) {
                 checkAndPlaceRooms(level);
             }
+        }));
+        ChronoDawnMetrics.gaugeGroup("placers.master_clock", server -> {
+            ServerLevel level = server.getLevel(ModDimensions.CHRONO_DAWN_DIMENSION);
+            if (level == null) {
+                return Map.of();
+            }
+            MasterClockPlacementData data = MasterClockPlacementData.get(level);
+            return Map.of("completed", data.getCompletedCount(), "in_progress", data.getInProgress().size());
         });
 
         ChronoDawn.LOGGER.debug("Registered MasterClockBossRoomPlacer");
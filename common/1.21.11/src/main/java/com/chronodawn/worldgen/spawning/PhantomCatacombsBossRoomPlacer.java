@@ -1,12 +1,16 @@
 package com.chronodawn.worldgen.spawning;
 
 import com.chronodawn.ChronoDawn;
+import com.chronodawn.core.performance.ChronoDawnMetrics;
+import com.chronodawn.core.performance.DegradationGovernor;
 import com.chronodawn.registry.ModBlocks;
 import com.chronodawn.registry.ModDimensions;
 import dev.architectury.event.events.common.TickEvent;
 import net.minecraft.core.BlockPos;
 import net.minecraft.resources.Identifier;
 import com.chronodawn.compat.CompatResourceLocation;
+import com.chronodawn.worldgen.templates.ChronoDawnTemplateCache;
+import com.chronodawn.worldgen.templates.SlicedTemplatePlacement;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.core.Direction;
@@ -87,6 +91,7 @@ public class PhantomCatacombsBossRoomPlacer {
         SEARCHING_MARKERS,     // Searching for Crying Obsidian markers (chunk by chunk)
         EVALUATING_CANDIDATES, // Evaluating placement candidates (batch by batch)
         PLACING_ROOMS,         // Placing room_7 and boss_room
+        AWAITING_PLACEMENT,    // boss_room being written over several ticks by SlicedTemplatePlacement
         COMPLETED              // Processing completed
     }
 
@@ -420,10 +425,8 @@ public class PhantomCatacombsBossRoomPlacer {
      * @return The position of room_7's Amethyst Block connector (for boss_room placement), or null if failed
      */
     private static BlockPos placeRoom7(ServerLevel level, BlockPos deadEndPos) {
-        var structureTemplateManager = level.getStructureManager();
-
         // Load room_7 template
-        var templateOptional = structureTemplateManager.get(ROOM_7_TEMPLATE);
+        var templateOptional = ChronoDawnTemplateCache.get(level, ROOM_7_TEMPLATE);
         if (templateOptional.isEmpty()) {
             ChronoDawn.LOGGER.error("Failed to load room_7 template: {}", ROOM_7_TEMPLATE);
             return null;
@@ -756,13 +759,13 @@ public class PhantomCatacombsBossRoomPlacer {
      *
      * @param level        The ServerLevel
      * @param connectorPos The position of the Amethyst Block connector in room_7
-     * @return true if placement was successful
+     * @param onPlaced     Run once the room is in the world and finished
+     * @param onFailed     Run instead if writing the room fails partway
+     * @return true if placement was started (the room is completed over the following ticks)
      */
-    private static boolean placeBossRoom(ServerLevel level, BlockPos connectorPos) {
-        var structureTemplateManager = level.getStructureManager();
-
+    private static boolean placeBossRoom(ServerLevel level, BlockPos connectorPos, Runnable onPlaced, Runnable onFailed) {
         // Load boss_room template
-        var templateOptional = structureTemplateManager.get(BOSS_ROOM_TEMPLATE);
+        var templateOptional = ChronoDawnTemplateCache.get(level, BOSS_ROOM_TEMPLATE);
         if (templateOptional.isEmpty()) {
             ChronoDawn.LOGGER.error("Failed to load boss_room template: {}", BOSS_ROOM_TEMPLATE);
             return false;
@@ -897,8 +900,22 @@ public class PhantomCatacombsBossRoomPlacer {
         }
 
         // Place structure
-        template.placeInWorld(level, placementPos, placementPos, settings, level.random, 2);
+        SlicedTemplatePlacement.place(level, template, placementPos, placementPos, settings, level.random, 2,
+            () -> {
+                finishBossRoom(level, connectorPos, placementPos, exitDir, sizeX, sizeY, sizeZ);
+                onPlaced.run();
+            },
+            onFailed);
+
+        return true;
+    }
 
+    /**
+     * Steps after the boss_room template is in the world: water and waterlogging removal
+     * and registration for Temporal Phantom spawning.
+     */
+    private static void finishBossRoom(ServerLevel level, BlockPos connectorPos, BlockPos placementPos,
+                                       Direction exitDir, int sizeX, int sizeY, int sizeZ) {
         // Remove water blocks after placement (in case water flowed in from surroundings)
         int waterRemovedAfter = 0;
         for (BlockPos pos : BlockPos.betweenClosed(
@@ -966,8 +983,6 @@ public class PhantomCatacombsBossRoomPlacer {
         );
 
         TemporalPhantomSpawner.registerBossRoom(level, bossRoomCenter);
-
-        return true;
     }
 
     /**
@@ -1246,9 +1261,8 @@ public class PhantomCatacombsBossRoomPlacer {
         }
 
         // Load templates
-        var structureTemplateManager = level.getServer().getStructureManager();
-        var room7TemplateOpt = structureTemplateManager.get(ROOM_7_TEMPLATE);
-        var bossRoomTemplateOpt = structureTemplateManager.get(BOSS_ROOM_TEMPLATE);
+        var room7TemplateOpt = ChronoDawnTemplateCache.get(level, ROOM_7_TEMPLATE);
+        var bossRoomTemplateOpt = ChronoDawnTemplateCache.get(level, BOSS_ROOM_TEMPLATE);
 
         if (room7TemplateOpt.isEmpty() || bossRoomTemplateOpt.isEmpty()) {
             ChronoDawn.LOGGER.error("Failed to load templates for boss_room placement");
@@ -1308,6 +1322,9 @@ public class PhantomCatacombsBossRoomPlacer {
                 case SEARCHING_MARKERS -> progressMarkerSearch(level, state);
                 case EVALUATING_CANDIDATES -> progressCandidateEvaluation(level, state);
                 case PLACING_ROOMS -> progressRoomPlacement(level, state);
+                case AWAITING_PLACEMENT -> {
+                    // Advanced by the placement's completion callback
+                }
                 case COMPLETED -> {
                     // Remove from processing states
                     processingStates.remove(state.structureOrigin);
@@ -1473,6 +1490,9 @@ public class PhantomCatacombsBossRoomPlacer {
 
     /**
      * Progress room placement phase - places rooms and cleans up.
+     * The boss_room is written over the following ticks. Markers are only removed, and the
+     * structure completed, once it is in the world, so a placement cut short by a crash leaves
+     * the markers for the structure to be processed again.
      */
     private static void progressRoomPlacement(ServerLevel level, StructureProcessingState state) {
         if (state.selectedCandidate == null) {
@@ -1482,21 +1502,18 @@ public class PhantomCatacombsBossRoomPlacer {
                 state.structureOrigin
             );
 
-            boolean success = placeBossRoomIndependently(level, state.structureOrigin, state.boundingBox);
+            // A chamber that fails partway is completed like one that could not be started
+            state.phase = ProcessingPhase.AWAITING_PLACEMENT;
+            boolean success = placeBossRoomIndependently(level, state.structureOrigin, state.boundingBox,
+                () -> completeHiddenChamberPlacement(level, state),
+                () -> completeHiddenChamberPlacement(level, state));
 
             if (success) {
-                ChronoDawn.LOGGER.debug("Successfully placed boss_room as hidden chamber (fallback) for {}", state.structureOrigin);
+                ChronoDawn.LOGGER.debug("Placing boss_room as hidden chamber (fallback) for {}", state.structureOrigin);
             } else {
                 ChronoDawn.LOGGER.error("Failed to place boss_room even as hidden chamber for {}", state.structureOrigin);
+                completeHiddenChamberPlacement(level, state);
             }
-
-            // Clean up markers
-            int markersRemoved = cleanupCryingObsidianMarkers(level, state.structureOrigin, state.boundingBox, state.initialChunkPos);
-            if (markersRemoved > 0) {
-                ChronoDawn.LOGGER.debug("Removed {} Crying Obsidian markers from structure {} (fallback)", markersRemoved, state.structureOrigin);
-            }
-
-            state.phase = ProcessingPhase.COMPLETED;
             return;
         }
 
@@ -1531,10 +1548,12 @@ public class PhantomCatacombsBossRoomPlacer {
         // Store rotation
         lastRoom7Rotation = state.selectedCandidate.room7Rotation;
 
-        // Place boss room
-        if (placeBossRoom(level, room7ConnectorPos)) {
+        // Place boss room; one that fails partway is completed like one that could not be started
+        state.phase = ProcessingPhase.AWAITING_PLACEMENT;
+        if (placeBossRoom(level, room7ConnectorPos, () -> completeRoomPlacement(level, state),
+                () -> completeRoomPlacement(level, state))) {
             ChronoDawn.LOGGER.debug(
-                "Successfully placed room_7 + boss_room for structure {} (dead_end at {}, room_7 connector at {}, collision count: {})",
+                "Placed room_7 and placing boss_room for structure {} (dead_end at {}, room_7 connector at {}, collision count: {})",
                 state.structureOrigin,
                 state.selectedCandidate.deadEndPos,
                 room7ConnectorPos,
@@ -1546,9 +1565,14 @@ public class PhantomCatacombsBossRoomPlacer {
                 room7ConnectorPos,
                 state.structureOrigin
             );
+            completeRoomPlacement(level, state);
         }
+    }
 
-        // Clean up markers
+    /**
+     * Remove the markers found for the structure and mark it completed, once its boss_room is in the world.
+     */
+    private static void completeRoomPlacement(ServerLevel level, StructureProcessingState state) {
         int markersRemoved = 0;
         for (BlockPos markerPos : state.foundMarkers) {
             BlockState blockState = level.getBlockState(markerPos);
@@ -1565,6 +1589,18 @@ public class PhantomCatacombsBossRoomPlacer {
         state.phase = ProcessingPhase.COMPLETED;
     }
 
+    /**
+     * Remove every marker in the structure and mark it completed, once the hidden chamber is in the world.
+     */
+    private static void completeHiddenChamberPlacement(ServerLevel level, StructureProcessingState state) {
+        int markersRemoved = cleanupCryingObsidianMarkers(level, state.structureOrigin, state.boundingBox, state.initialChunkPos);
+        if (markersRemoved > 0) {
+            ChronoDawn.LOGGER.debug("Removed {} Crying Obsidian markers from structure {} (fallback)", markersRemoved, state.structureOrigin);
+        }
+
+        state.phase = ProcessingPhase.COMPLETED;
+    }
+
     /**
      * Find suitable locations for room_7 placement (DEPRECATED - now done incrementally).
      *
@@ -1661,13 +1697,19 @@ public class PhantomCatacombsBossRoomPlacer {
         int currentTick = tickCounters.compute(dimensionId, (k, v) -> (v == null ? 0 : v) + 1);
 
         // Only check every CHECK_INTERVAL ticks for new structures
-        if (currentTick < CHECK_INTERVAL) {
+        if (currentTick < DegradationGovernor.scaleInterval(CHECK_INTERVAL)) {
             // But always progress existing processing states
             progressAllProcessing(level);
             return;
         }
         tickCounters.put(dimensionId, 0);
 
+        // Under heavy load new rooms wait; rooms already being placed keep advancing
+        if (DegradationGovernor.defersPlacement()) {
+            progressAllProcessing(level);
+            return;
+        }
+
         // Only process if there are players in the dimension
         if (level.players().isEmpty()) {
             // Still progress existing processing states
@@ -1944,12 +1986,16 @@ public class PhantomCatacombsBossRoomPlacer {
      * @param level            ServerLevel
      * @param structureOrigin  Structure origin position
      * @param boundingBox      Structure bounding box
-     * @return true if placement succeeded
+     * @param onPlaced         Run once the chamber is in the world and finished
+     * @param onFailed         Run instead if writing the chamber fails partway
+     * @return true if placement was started (the chamber is completed over the following ticks)
      */
     private static boolean placeBossRoomIndependently(
         ServerLevel level,
         BlockPos structureOrigin,
-        BoundingBox boundingBox
+        BoundingBox boundingBox,
+        Runnable onPlaced,
+        Runnable onFailed
     ) {
         // Calculate hidden chamber position (offset from structure center)
         BlockPos hiddenPos = calculateHiddenChamberPosition(structureOrigin, boundingBox);
@@ -1960,8 +2006,7 @@ public class PhantomCatacombsBossRoomPlacer {
         );
 
         // Load boss_room template
-        var structureManager = level.getStructureManager();
-        var templateOptional = structureManager.get(BOSS_ROOM_TEMPLATE);
+        var templateOptional = ChronoDawnTemplateCache.get(level, BOSS_ROOM_TEMPLATE);
 
         if (templateOptional.isEmpty()) {
             ChronoDawn.LOGGER.error("Boss_room template {} not found", BOSS_ROOM_TEMPLATE);
@@ -2000,8 +2045,21 @@ public class PhantomCatacombsBossRoomPlacer {
             ChronoDawn.LOGGER.error("Failed to load processor list for hidden chamber: {}", e.getMessage(), e);
         }
 
-        template.placeInWorld(level, hiddenPos, hiddenPos, settings, level.random, 2);
+        SlicedTemplatePlacement.place(level, template, hiddenPos, hiddenPos, settings, level.random, 2,
+            () -> {
+                finishHiddenChamber(level, hiddenPos, template);
+                onPlaced.run();
+            },
+            onFailed);
 
+        return true;
+    }
+
+    /**
+     * Steps after the hidden chamber template is in the world: water and waterlogging removal
+     * and registration for Temporal Phantom spawning.
+     */
+    private static void finishHiddenChamber(ServerLevel level, BlockPos hiddenPos, StructureTemplate template) {
         // Remove water blocks after placement (in case water flowed in from surroundings)
         net.minecraft.core.Vec3i templateSize = template.getSize();
         int sizeX = templateSize.getX();
@@ -2061,8 +2119,6 @@ public class PhantomCatacombsBossRoomPlacer {
         );
 
         TemporalPhantomSpawner.registerBossRoom(level, bossRoomCenter);
-
-        return true;
     }
 
     /**
@@ -2094,10 +2150,17 @@ public class PhantomCatacombsBossRoomPlacer {
      * Register event handlers for boss_room placement.
      */
     public static void register() {
-        TickEvent.SERVER_POST.register(server -> {
+        TickEvent.SERVER_POST.register(ChronoDawnMetrics.timeServerTick("phantom_catacombs_placer", server -> {
             for (ServerLevel level : server.getAllLevels()) {
                 checkAndPlaceRooms(level);
             }
+        }));
+        ChronoDawnMetrics.gaugeGroup("placers.phantom_catacombs", server -> {
+            int processed = 0;
+            for (Set<BlockPos> dimensionProcessed : processedStructures.values()) {
+                processed += dimensionProcessed.size();
+            }
+            return Map.of("processed", processed, "in_progress", processingStates.size());
         });
 
         ChronoDawn.LOGGER.debug("Registered PhantomCatacombsBossRoomPlacer");
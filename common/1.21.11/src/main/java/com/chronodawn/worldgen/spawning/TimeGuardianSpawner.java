@@ -1,6 +1,7 @@
 package com.chronodawn.worldgen.spawning;
 
 import com.chronodawn.ChronoDawn;
+import com.chronodawn.core.performance.DegradationGovernor;
 import com.chronodawn.data.BossSpawnData;
 import com.chronodawn.compat.CompatSavedData;
 import com.chronodawn.entities.bosses.TimeGuardianEntity;
@@ -79,7 +80,7 @@ public class TimeGuardianSpawner {
 
         // Increment tick counter and check interval
         int currentTick = tickCounter.incrementAndGet();
-        if (currentTick < CHECK_INTERVAL) {
+        if (currentTick < DegradationGovernor.scaleInterval(CHECK_INTERVAL)) {
             return;
         }
         tickCounter.set(0);
@@ -1,6 +1,7 @@
 package com.chronodawn.core.portal;
 
 import com.chronodawn.ChronoDawn;
+import com.chronodawn.core.performance.SafeBlockAccess;
 import com.chronodawn.data.ChronoDawnGlobalState;
 import com.chronodawn.items.TimeHourglassItem;
 import com.chronodawn.registry.ModBlocks;
@@ -447,7 +448,8 @@ public class PortalTeleportHandler {
             for (int y = -PORTAL_SEARCH_RADIUS; y <= PORTAL_SEARCH_RADIUS; y++) {
                 for (int z = -PORTAL_SEARCH_RADIUS; z <= PORTAL_SEARCH_RADIUS; z++) {
                     BlockPos checkPos = coords.offset(x, y, z);
-                    BlockState state = level.getBlockState(checkPos);
+                    // The destination may not be loaded yet, and a portal there must not be missed
+                    BlockState state = SafeBlockAccess.getBlockStateOrLoad(level, checkPos, "PortalTeleportHandler.findNearbyPortal");
 
                     if (state.is(ModBlocks.CHRONO_DAWN_PORTAL.get())) {
                         // Found portal block, return this position
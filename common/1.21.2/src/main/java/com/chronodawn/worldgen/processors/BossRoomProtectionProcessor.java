@@ -10,6 +10,7 @@ import com.mojang.serialization.MapCodec;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.LevelReader;
+import net.minecraft.world.level.block.SignBlock;
 import net.minecraft.world.level.levelgen.structure.BoundingBox;
 import net.minecraft.world.level.levelgen.structure.templatesystem.StructurePlaceSettings;
 import net.minecraft.world.level.levelgen.structure.templatesystem.StructureProcessor;
@@ -32,6 +33,10 @@ import java.util.concurrent.ConcurrentHashMap;
  * - boss_room_min/max: Temporary protection (removed when boss defeated) → BlockProtectionHandler
  * - permanent_protection_min/max: Permanent protection (never removed) → PermanentProtectionHandler
  *
+ * Signs reading "DANGER!!" (Clockwork Colossus spawn markers) are recorded as well and handed to
+ * ClockworkColossusSpawner together with the engine room that contains them, so the spawner
+ * never has to search the room for them.
+ *
  * Protection registration is deferred to server tick because:
  * - Structure generation happens in background threads
  * - ServerLevel is not available during structure processing
@@ -86,6 +91,10 @@ public class BossRoomProtectionProcessor extends StructureProcessor {
     // Example: minPos → maxPos and maxPos → minPos
     private static final Map<BlockPos, BlockPos> PAIRED_MARKERS = new ConcurrentHashMap<>();
 
+    // Clockwork Colossus spawn markers seen during generation, claimed by the engine room containing them
+    // Key: sign world position, Value: time added (for cleanup)
+    private static final Map<BlockPos, Long> PENDING_SPAWN_MARKERS = new ConcurrentHashMap<>();
+
     // Track last cleanup time to prevent memory leak from orphaned markers
     private static long lastCleanupTime = System.currentTimeMillis();
     private static final long CLEANUP_INTERVAL_MS = 60000; // Clean up every 60 seconds
@@ -149,6 +158,11 @@ public class BossRoomProtectionProcessor extends StructureProcessor {
         StructureTemplate.StructureBlockInfo currentBlockInfo,
         StructurePlaceSettings settings
     ) {
+        if (isColossusSpawnMarker(currentBlockInfo)) {
+            PENDING_SPAWN_MARKERS.put(currentBlockInfo.pos().immutable(), System.currentTimeMillis());
+            return currentBlockInfo;
+        }
+
         // Check if this is a Boss Room Boundary Marker block
         if (!currentBlockInfo.state().is(ModBlocks.BOSS_ROOM_BOUNDARY_MARKER.get())) {
             return currentBlockInfo;
@@ -240,6 +254,31 @@ public class BossRoomProtectionProcessor extends StructureProcessor {
         );
     }
 
+    /**
+     * Whether the block is a sign reading "DANGER!!", which marks a Clockwork Colossus spawn point.
+     * The text is matched on the raw sign NBT, whose layout differs between versions.
+     */
+    private static boolean isColossusSpawnMarker(StructureTemplate.StructureBlockInfo info) {
+        return info.nbt() != null
+            && info.state().getBlock() instanceof SignBlock
+            && info.nbt().toString().contains("DANGER!!");
+    }
+
+    /**
+     * Remove and return the pending Clockwork Colossus spawn markers inside an engine room.
+     */
+    private static List<BlockPos> takeSpawnMarkers(BoundingBox area) {
+        List<BlockPos> markers = new ArrayList<>();
+        PENDING_SPAWN_MARKERS.keySet().removeIf(pos -> {
+            if (area.isInside(pos)) {
+                markers.add(pos);
+                return true;
+            }
+            return false;
+        });
+        return markers;
+    }
+
     /**
      * Register all pending boss room protections.
      * Should be called from server tick event (single-threaded, safe to do pairing).
@@ -373,7 +412,7 @@ public class BossRoomProtectionProcessor extends StructureProcessor {
 
                 // Clockwork Depths engine room is roughly 30x30x16
                 if (width >= 20 && width <= 40 && depth >= 20 && depth <= 40 && height >= 10 && height <= 25) {
-                    ClockworkColossusSpawner.registerEngineRoom(level, bossRoomArea);
+                    ClockworkColossusSpawner.registerEngineRoom(level, bossRoomArea, takeSpawnMarkers(bossRoomArea));
                 }
 
                 double distance = Math.sqrt(minMarker.pos.distSqr(maxMarker.pos));
@@ -549,6 +588,9 @@ public class BossRoomProtectionProcessor extends StructureProcessor {
             }
         }
 
+        // Spawn markers outside any engine room are never claimed
+        PENDING_SPAWN_MARKERS.values().removeIf(addedTime -> currentTime - addedTime > MARKER_EXPIRY_MS);
+
         if (removedCount > 0) {
             ChronoDawn.LOGGER.debug("Cleaned up {} expired boss room markers (older than {} seconds)",
                 removedCount, MARKER_EXPIRY_MS / 1000);
@@ -629,7 +671,7 @@ public class BossRoomProtectionProcessor extends StructureProcessor {
             int height = bossRoomArea.maxY() - bossRoomArea.minY();
 
             if (width >= 20 && width <= 40 && depth >= 20 && depth <= 40 && height >= 10 && height <= 25) {
-                ClockworkColossusSpawner.registerEngineRoom(level, bossRoomArea);
+                ClockworkColossusSpawner.registerEngineRoom(level, bossRoomArea, takeSpawnMarkers(bossRoomArea));
             }
 
             // Record pairing
@@ -1,6 +1,8 @@
 package com.chronodawn.blocks;
 
 import com.chronodawn.ChronoDawn;
+import com.chronodawn.client.particle.AmbientParticles;
+import com.chronodawn.client.performance.ClientServerLoad;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
@@ -72,8 +74,11 @@ public class TemporalParticleEmitterBlock extends Block {
      */
     @Override
     public void animateTick(BlockState state, Level level, BlockPos pos, RandomSource random) {
-        // Spawn particles with 70% chance per tick (14 times per second on average)
-        if (random.nextFloat() < 0.7f) {
+        // Spawn particles with 70% chance per tick (14 times per second on average),
+        // scaled down while the server reports it is overloaded, then by distance,
+        // view and the per-tick budget of AmbientParticles
+        if (AmbientParticles.shouldSpawn(random, pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5,
+                0.7f * ClientServerLoad.particleDetail())) {
             // Particle position: random offset within block
             double x = pos.getX() + random.nextDouble();
             double y = pos.getY() + random.nextDouble() * 0.3; // Start near bottom of block
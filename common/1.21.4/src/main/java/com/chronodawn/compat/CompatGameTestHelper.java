@@ -30,6 +30,13 @@ public class CompatGameTestHelper {
         helper.fail(message);
     }
 
+    /**
+     * Recent server tick durations in nanoseconds (100-entry ring buffer).
+     */
+    public static long[] tickTimesNanos(GameTestHelper helper) {
+        return helper.getLevel().getServer().getTickTimesNanos();
+    }
+
     private CompatGameTestHelper() {
         // Utility class
     }
@@ -1,6 +1,10 @@
 package com.chronodawn.worldgen.spawning;
 
 import com.chronodawn.ChronoDawn;
+import com.chronodawn.compat.CompatSavedData;
+import com.chronodawn.core.performance.ChronoDawnMetrics;
+import com.chronodawn.core.performance.DegradationGovernor;
+import com.chronodawn.data.BossSpawnData;
 import com.chronodawn.entities.bosses.TemporalPhantomEntity;
 import com.chronodawn.registry.ModEntities;
 import com.chronodawn.registry.ModDimensions;
@@ -32,6 +36,7 @@ import java.util.concurrent.ConcurrentHashMap;
  *
  * Implementation Strategy:
  * - Tracks boss_room positions after PhantomCatacombsBossRoomPlacer completes
+ *   (persisted in BossSpawnData, together with the rooms that have already spawned)
  * - Checks if any player enters boss_room bounding box
  * - Spawns Temporal Phantom at boss_room center when triggered
  * - Tracks spawned boss_rooms to avoid duplicate spawning
@@ -45,15 +50,6 @@ public class TemporalPhantomSpawner {
         "phantom_catacombs"
     );
 
-    // Track boss_room positions (per dimension)
-    // Key: dimension ID, Value: Set of boss_room center positions
-    // Thread-safe: ConcurrentHashMap prevents race conditions in multiplayer
-    private static final Map<ResourceLocation, Set<BlockPos>> bossRoomPositions = new ConcurrentHashMap<>();
-
-    // Track boss_rooms where Temporal Phantom has already spawned (per dimension)
-    // Thread-safe: ConcurrentHashMap prevents race conditions in multiplayer
-    private static final Map<ResourceLocation, Set<BlockPos>> spawnedBossRooms = new ConcurrentHashMap<>();
-
     // Check interval (in ticks) - check every 1 second
     private static final int CHECK_INTERVAL = 20;
     // Thread-safe: ConcurrentHashMap prevents race conditions in multiplayer
@@ -62,15 +58,20 @@ public class TemporalPhantomSpawner {
     /**
      * Register boss_room position for later spawn checking.
      * Called by PhantomCatacombsBossRoomPlacer after successful boss_room placement.
+     * The position is persisted, so the room is still checked after a server restart.
      *
      * @param level ServerLevel
      * @param bossRoomCenter Boss_room center position
      */
     public static void registerBossRoom(ServerLevel level, BlockPos bossRoomCenter) {
         ResourceLocation dimensionId = level.dimension().location();
-        // Thread-safe: Use ConcurrentHashMap.newKeySet() for thread-safe Set
-        bossRoomPositions.putIfAbsent(dimensionId, ConcurrentHashMap.newKeySet());
-        bossRoomPositions.get(dimensionId).add(bossRoomCenter.immutable());
+        BossSpawnData data = CompatSavedData.computeIfAbsent(
+            level.getDataStorage(),
+            BossSpawnData::new,
+            BossSpawnData::load,
+            BossSpawnData.getDataName()
+        );
+        data.registerTemporalPhantomBossRoom(bossRoomCenter);
 
         ChronoDawn.LOGGER.debug(
             "Registered Phantom Catacombs boss_room at {} in dimension {} for Temporal Phantom spawning",
@@ -90,11 +91,11 @@ public class TemporalPhantomSpawner {
         });
 
         // Register server tick event to check for players entering boss_rooms
-        dev.architectury.event.events.common.TickEvent.SERVER_POST.register(server -> {
+        dev.architectury.event.events.common.TickEvent.SERVER_POST.register(ChronoDawnMetrics.timeServerTick("temporal_phantom_spawner", server -> {
             for (ServerLevel level : server.getAllLevels()) {
                 checkAndSpawnPhantom(level);
             }
-        });
+        }));
 
         ChronoDawn.LOGGER.debug("Registered TemporalPhantomSpawner");
     }
@@ -119,31 +120,32 @@ public class TemporalPhantomSpawner {
         int tickCounter = tickCounters.compute(dimensionId, (k, v) -> (v == null ? 0 : v) + 1);
 
         // Only check every CHECK_INTERVAL ticks
-        if (tickCounter < CHECK_INTERVAL) {
+        if (tickCounter < DegradationGovernor.scaleInterval(CHECK_INTERVAL)) {
             return;
         }
         tickCounters.put(dimensionId, 0);
 
-        // No boss_rooms registered in this dimension
-        if (!bossRoomPositions.containsKey(dimensionId)) {
-            return;
-        }
-
         // No players in this dimension
         if (level.players().isEmpty()) {
             return;
         }
 
-        // Initialize spawned tracking for this dimension
-        // Thread-safe: Use ConcurrentHashMap.newKeySet() for thread-safe Set
-        spawnedBossRooms.putIfAbsent(dimensionId, ConcurrentHashMap.newKeySet());
-        Set<BlockPos> spawned = spawnedBossRooms.get(dimensionId);
-        Set<BlockPos> bossRooms = bossRoomPositions.get(dimensionId);
+        // Boss rooms recorded when they were placed
+        BossSpawnData data = CompatSavedData.computeIfAbsent(
+            level.getDataStorage(),
+            BossSpawnData::new,
+            BossSpawnData::load,
+            BossSpawnData.getDataName()
+        );
+        Set<BlockPos> bossRooms = data.getTemporalPhantomBossRooms();
+        if (bossRooms.isEmpty()) {
+            return;
+        }
 
         // Check each boss_room
         for (BlockPos bossRoomCenter : bossRooms) {
             // Skip if already spawned
-            if (spawned.contains(bossRoomCenter)) {
+            if (data.hasTemporalPhantomSpawned(bossRoomCenter)) {
                 continue;
             }
 
@@ -170,7 +172,7 @@ public class TemporalPhantomSpawner {
                 );
                 // Spawn Temporal Phantom at boss_room center
                 spawnTemporalPhantom(level, bossRoomCenter);
-                spawned.add(bossRoomCenter);
+                data.markTemporalPhantomSpawned(bossRoomCenter);
             }
         }
     }
@@ -267,12 +269,11 @@ public class TemporalPhantomSpawner {
 
     /**
      * Clear tracking data for a dimension (useful for dimension unload).
+     * Recorded boss rooms and their spawn state live in BossSpawnData and are kept.
      *
      * @param dimensionId Dimension resource location
      */
     public static void clearDimension(ResourceLocation dimensionId) {
-        bossRoomPositions.remove(dimensionId);
-        spawnedBossRooms.remove(dimensionId);
         tickCounters.remove(dimensionId);
     }
 
@@ -280,8 +281,6 @@ public class TemporalPhantomSpawner {
      * Reset all tracking data (useful for world reload).
      */
     public static void reset() {
-        bossRoomPositions.clear();
-        spawnedBossRooms.clear();
         tickCounters.clear();
     }
 }
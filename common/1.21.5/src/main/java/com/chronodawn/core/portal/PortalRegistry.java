@@ -181,6 +181,17 @@ public class PortalRegistry {
         return portals.values();
     }
 
+    /**
+     * Number of registered portals per dimension, keyed by dimension ID.
+     *
+     * @return Sorted map of dimension ID to portal count
+     */
+    public Map<String, Integer> countByDimension() {
+        Map<String, Integer> counts = new TreeMap<>();
+        portalsByDimension.forEach((dimension, ids) -> counts.put(dimension.location().toString(), ids.size()));
+        return counts;
+    }
+
     /**
      * Clear all portals (for world unload).
      */
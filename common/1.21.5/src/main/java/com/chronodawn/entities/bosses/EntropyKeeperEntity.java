@@ -1,5 +1,8 @@
 package com.chronodawn.entities.bosses;
 
+import com.chronodawn.core.particle.ParticleBursts;
+import com.chronodawn.core.particle.ParticleDispatcher;
+import com.chronodawn.core.particle.ParticlePriority;
 import com.chronodawn.registry.ModSounds;
 import com.chronodawn.worldgen.protection.BlockProtectionHandler;
 import net.minecraft.core.BlockPos;
@@ -83,6 +86,9 @@ public class EntropyKeeperEntity extends Monster {
     private int degradationTimer = 0;
     private boolean entropyBurstTriggered = false;
 
+    // Players near the boss, refreshed once per tick
+    private final BossPlayerSnapshot nearbyPlayers = new BossPlayerSnapshot(this, 16.0);
+
     public EntropyKeeperEntity(EntityType<? extends EntropyKeeperEntity> entityType, Level level) {
         super(entityType, level);
         this.bossEvent = new ServerBossEvent(
@@ -167,7 +173,9 @@ public class EntropyKeeperEntity extends Monster {
                 double offsetX = (this.random.nextDouble() - 0.5) * 1.5;
                 double offsetY = this.random.nextDouble() * 2.0;
                 double offsetZ = (this.random.nextDouble() - 0.5) * 1.5;
-                serverLevel.sendParticles(
+                ParticleDispatcher.send(
+                    serverLevel,
+                    ParticlePriority.COSMETIC,
                     ParticleTypes.SCULK_SOUL,
                     this.getX() + offsetX,
                     this.getY() + offsetY,
@@ -191,26 +199,20 @@ public class EntropyKeeperEntity extends Monster {
      */
     private void applyDecayAura() {
         AABB aabb = this.getBoundingBox().inflate(DECAY_AURA_RADIUS);
-        List<Player> nearbyPlayers = this.level().getEntitiesOfClass(Player.class, aabb);
-
-        for (Player player : nearbyPlayers) {
+        for (Player player : nearbyPlayers.playersIn(aabb)) {
             player.addEffect(new MobEffectInstance(MobEffects.WITHER, 60, 0)); // 3 seconds, Wither I
         }
 
         // Spawn aura particles
         if (this.level() instanceof ServerLevel serverLevel) {
-            for (int i = 0; i < 10; i++) {
-                double angle = (Math.PI * 2 * i) / 10;
-                double x = this.getX() + Math.cos(angle) * DECAY_AURA_RADIUS;
-                double z = this.getZ() + Math.sin(angle) * DECAY_AURA_RADIUS;
-                serverLevel.sendParticles(
-                    ParticleTypes.SMOKE,
-                    x, this.getY() + 0.5, z,
-                    1,
-                    0.0, 0.0, 0.0,
-                    0.0
-                );
-            }
+            ParticleBursts.ring(
+                serverLevel,
+                ParticlePriority.GAMEPLAY,
+                ParticleTypes.SMOKE,
+                this.getX(), this.getY() + 0.5, this.getZ(),
+                10,
+                DECAY_AURA_RADIUS
+            );
         }
     }
 
@@ -252,20 +254,17 @@ public class EntropyKeeperEntity extends Monster {
 
         // Create 3x3 area of particle effects (visual only, no block changes)
         if (this.level() instanceof ServerLevel serverLevel) {
-            for (int x = -1; x <= 1; x++) {
-                for (int z = -1; z <= 1; z++) {
-                    BlockPos pos = targetPos.offset(x, 0, z);
-                    serverLevel.sendParticles(
-                        ParticleTypes.SCULK_SOUL,
-                        pos.getX() + 0.5,
-                        pos.getY() + 0.1,
-                        pos.getZ() + 0.5,
-                        5,
-                        0.3, 0.0, 0.3,
-                        0.0
-                    );
-                }
-            }
+            ParticleBursts.volume(
+                serverLevel,
+                ParticlePriority.COSMETIC,
+                ParticleTypes.SCULK_SOUL,
+                targetPos.getX() + 0.5,
+                targetPos.getY() + 0.1,
+                targetPos.getZ() + 0.5,
+                45,
+                1.5, 0.0,
+                0.0
+            );
         }
 
         // Apply effects to players standing in the area
@@ -273,9 +272,7 @@ public class EntropyKeeperEntity extends Monster {
             targetPos.getX() - 1, targetPos.getY(), targetPos.getZ() - 1,
             targetPos.getX() + 2, targetPos.getY() + 1, targetPos.getZ() + 2
         );
-        List<Player> playersInPatch = this.level().getEntitiesOfClass(Player.class, aabb);
-
-        for (Player player : playersInPatch) {
+        for (Player player : nearbyPlayers.playersIn(aabb)) {
             player.addEffect(new MobEffectInstance(MobEffects.SLOWNESS, 60, 1)); // Slowness II, 3s
             player.addEffect(new MobEffectInstance(MobEffects.POISON, 60, 0)); // Poison I, 3s
         }
@@ -342,14 +339,18 @@ public class EntropyKeeperEntity extends Monster {
 
         // Spawn explosion particles
         if (this.level() instanceof ServerLevel serverLevel) {
-            serverLevel.sendParticles(
+            ParticleDispatcher.send(
+                serverLevel,
+                ParticlePriority.GAMEPLAY,
                 ParticleTypes.EXPLOSION,
                 this.getX(), this.getY() + 1.0, this.getZ(),
                 20,
                 3.0, 1.0, 3.0,
                 0.1
             );
-            serverLevel.sendParticles(
+            ParticleDispatcher.send(
+                serverLevel,
+                ParticlePriority.GAMEPLAY,
                 ParticleTypes.SCULK_SOUL,
                 this.getX(), this.getY() + 1.0, this.getZ(),
                 50,
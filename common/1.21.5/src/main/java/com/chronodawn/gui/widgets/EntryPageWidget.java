@@ -2,8 +2,8 @@ package com.chronodawn.gui.widgets;
 
 import com.chronodawn.gui.ChronicleScreen;
 import com.chronodawn.gui.data.Entry;
+import com.chronodawn.gui.data.ImageSize;
 import com.chronodawn.gui.data.Page;
-import com.mojang.blaze3d.platform.NativeImage;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.Font;
 import net.minecraft.client.gui.GuiGraphics;
@@ -15,7 +15,6 @@ import net.minecraft.client.gui.narration.NarrationElementOutput;
 import net.minecraft.client.resources.sounds.SimpleSoundInstance;
 import net.minecraft.client.sounds.SoundManager;
 import net.minecraft.network.chat.Component;
-import net.minecraft.server.packs.resources.ResourceManager;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.RecipeHolder;
@@ -27,11 +26,11 @@ import net.minecraft.core.registries.Registries;
 import net.minecraft.resources.ResourceKey;
 import com.mojang.blaze3d.systems.RenderSystem;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.WeakHashMap;
 
 /**
  * Widget for displaying entry pages in the Chronicle guidebook.
@@ -43,6 +42,13 @@ public class EntryPageWidget extends AbstractWidget {
     // Vanilla book.png texture for page navigation buttons
     private static final ResourceLocation BOOK_TEXTURE =
         CompatResourceLocation.create("minecraft", "textures/gui/book.png");
+
+    // Pre-baked vignette fade (see renderVignetteEffect)
+    private static final ResourceLocation VIGNETTE_TEXTURE =
+        CompatResourceLocation.create("chronodawn", "textures/gui/chronicle/vignette.png");
+    private static final int VIGNETTE_SIZE = 31;
+    private static final int VIGNETTE_FADE = 15;
+
     private static final WidgetSprites PAGE_FORWARD_SPRITES = new WidgetSprites(
         CompatResourceLocation.create("minecraft", "widget/page_forward"),
         CompatResourceLocation.create("minecraft", "widget/page_forward_highlighted")
@@ -56,7 +62,11 @@ public class EntryPageWidget extends AbstractWidget {
     private int currentPageIndex = 0;
 
     // Virtual pages created by splitting long text pages
-    private List<VirtualPage> virtualPages = new ArrayList<>();
+    private List<VirtualPage> virtualPages = List.of();
+
+    // Wrapped layouts per entry. Entries are rebuilt on every resource reload (which is also
+    // when the language or font changes), so weak keys let stale layouts go with them.
+    private static final Map<Entry, Layout> LAYOUT_CACHE = new WeakHashMap<>();
 
     private Button previousButton;
     private Button nextButton;
@@ -73,12 +83,14 @@ public class EntryPageWidget extends AbstractWidget {
         final List<String> lines; // For text pages
         final ResourceLocation recipe; // For recipe pages
         final ResourceLocation image; // For image pages
+        final ImageSize imageSize; // For image pages; null if the image could not be read
 
         VirtualPage(List<String> lines) {
             this.type = Page.PageType.TEXT;
             this.lines = lines;
             this.recipe = null;
             this.image = null;
+            this.imageSize = null;
         }
 
         VirtualPage(ResourceLocation recipe) {
@@ -86,13 +98,24 @@ public class EntryPageWidget extends AbstractWidget {
             this.lines = null;
             this.recipe = recipe;
             this.image = null;
+            this.imageSize = null;
         }
 
-        VirtualPage(Page.PageType type, ResourceLocation image) {
-            this.type = type;
+        VirtualPage(ResourceLocation image, ImageSize imageSize) {
+            this.type = Page.PageType.IMAGE;
             this.lines = null;
             this.recipe = null;
             this.image = image;
+            this.imageSize = imageSize;
+        }
+    }
+
+    /**
+     * Virtual pages of one entry, wrapped for a given page size and language.
+     */
+    private record Layout(int width, int height, String languageCode, List<VirtualPage> pages) {
+        boolean matches(int width, int height, String languageCode) {
+            return this.width == width && this.height == height && this.languageCode.equals(languageCode);
         }
     }
 
@@ -109,41 +132,60 @@ public class EntryPageWidget extends AbstractWidget {
     public void setEntry(Entry entry) {
         this.currentEntry = entry;
         this.currentPageIndex = 0;
-        this.virtualPages.clear();
+        this.virtualPages = entry != null ? getLayout(entry) : List.of();
 
-        if (entry != null) {
-            // Calculate how many lines can fit on one page
-            int maxTextHeight = height - 40; // Reserve space for page number
-            int maxLinesPerPage = maxTextHeight / LINE_HEIGHT;
+        updatePageButtons();
+    }
 
-            Font font = Minecraft.getInstance().font;
-            int maxLineWidth = width - (TEXT_MARGIN * 2);
+    /**
+     * Get the virtual pages for an entry at this widget's size and the current language,
+     * wrapping the text only if no cached layout matches.
+     */
+    private List<VirtualPage> getLayout(Entry entry) {
+        String languageCode = ChronicleScreen.getLanguageCode();
+        Layout cached = LAYOUT_CACHE.get(entry);
+        if (cached != null && cached.matches(width, height, languageCode)) {
+            return cached.pages();
+        }
 
-            // Process each page in the entry
-            for (Page page : entry.getPages()) {
-                if (page.getType() == Page.PageType.TEXT) {
-                    // Get text and wrap it
-                    String languageCode = ChronicleScreen.getLanguageCode();
-                    String text = page.getText().get(languageCode);
-                    List<String> allLines = wrapText(text, maxLineWidth, font);
-
-                    // Split wrapped lines into virtual pages
-                    for (int i = 0; i < allLines.size(); i += maxLinesPerPage) {
-                        int endIndex = Math.min(i + maxLinesPerPage, allLines.size());
-                        List<String> pageLines = allLines.subList(i, endIndex);
-                        virtualPages.add(new VirtualPage(new ArrayList<>(pageLines)));
-                    }
-                } else if (page.getType() == Page.PageType.RECIPE) {
-                    // Recipe pages are not split
-                    virtualPages.add(new VirtualPage(page.getRecipe()));
-                } else if (page.getType() == Page.PageType.IMAGE) {
-                    // Image pages are not split
-                    virtualPages.add(new VirtualPage(Page.PageType.IMAGE, page.getImage()));
+        List<VirtualPage> pages = buildLayout(entry, languageCode);
+        LAYOUT_CACHE.put(entry, new Layout(width, height, languageCode, pages));
+        return pages;
+    }
+
+    private List<VirtualPage> buildLayout(Entry entry, String languageCode) {
+        List<VirtualPage> pages = new ArrayList<>();
+
+        // Calculate how many lines can fit on one page
+        int maxTextHeight = height - 40; // Reserve space for page number
+        int maxLinesPerPage = maxTextHeight / LINE_HEIGHT;
+
+        Font font = Minecraft.getInstance().font;
+        int maxLineWidth = width - (TEXT_MARGIN * 2);
+
+        // Process each page in the entry
+        for (Page page : entry.getPages()) {
+            if (page.getType() == Page.PageType.TEXT) {
+                // Get text and wrap it
+                String text = page.getText().get(languageCode);
+                List<String> allLines = wrapText(text, maxLineWidth, font);
+
+                // Split wrapped lines into virtual pages
+                for (int i = 0; i < allLines.size(); i += maxLinesPerPage) {
+                    int endIndex = Math.min(i + maxLinesPerPage, allLines.size());
+                    List<String> pageLines = allLines.subList(i, endIndex);
+                    pages.add(new VirtualPage(new ArrayList<>(pageLines)));
                 }
+            } else if (page.getType() == Page.PageType.RECIPE) {
+                // Recipe pages are not split
+                pages.add(new VirtualPage(page.getRecipe()));
+            } else if (page.getType() == Page.PageType.IMAGE) {
+                // Image pages are not split
+                pages.add(new VirtualPage(page.getImage(), page.getImageSize()));
             }
         }
 
-        updatePageButtons();
+        return List.copyOf(pages);
     }
 
     /**
@@ -322,14 +364,14 @@ public class EntryPageWidget extends AbstractWidget {
             int availableWidth = width - (TEXT_MARGIN * 2);
             int availableHeight = height - 50; // Reserve space for page number
 
-            // Get image dimensions
-            int[] dimensions = getImageDimensions(imageLocation);
-            if (dimensions == null) {
+            // Image size is read from the PNG header on resource reload (see ChronicleData)
+            ImageSize imageSize = virtualPage.imageSize;
+            if (imageSize == null) {
                 throw new Exception("Could not load image dimensions");
             }
 
-            int imageWidth = dimensions[0];
-            int imageHeight = dimensions[1];
+            int imageWidth = imageSize.width();
+            int imageHeight = imageSize.height();
 
             // Calculate scale factor to fit within available space while maintaining aspect ratio
             float scaleX = (float) availableWidth / imageWidth;
@@ -391,6 +433,11 @@ public class EntryPageWidget extends AbstractWidget {
     /**
      * Render vignette effect (fade edges) around the image for a sketch-like appearance.
      *
+     * The fade is pre-baked into {@code vignette.png}: a 15px fade on each side of a 1px
+     * middle row/column. It is drawn as a nine-slice (four corners at native size, four
+     * edges stretched from the middle row/column), so the corners keep their shape at any
+     * image size. The centre of the texture is fully transparent and is skipped.
+     *
      * @param graphics GuiGraphics for rendering
      * @param x Image X position
      * @param y Image Y position
@@ -398,122 +445,37 @@ public class EntryPageWidget extends AbstractWidget {
      * @param height Image height
      */
     private void renderVignetteEffect(GuiGraphics graphics, int x, int y, int width, int height) {
-        // Book background color (0xF0E0D0 = RGB 240, 224, 208)
-        int bookBgColor = 0xF0E0D0;
-        int r = (bookBgColor >> 16) & 0xFF;
-        int g = (bookBgColor >> 8) & 0xFF;
-        int b = bookBgColor & 0xFF;
-
-        // Vignette fade distance (how far the fade extends inward)
-        int fadeDistance = 15;
-
-        // Top edge gradient (opaque to transparent, top to bottom)
-        for (int i = 0; i <= fadeDistance; i++) {
-            int alpha = (int) (255 * (1.0f - (float) i / fadeDistance));
-            int color = (alpha << 24) | (r << 16) | (g << 8) | b;
-            graphics.fill(x, y + i, x + width, y + i + 1, color);
-        }
-
-        // Bottom edge gradient (transparent to opaque, bottom to top)
-        for (int i = 0; i <= fadeDistance; i++) {
-            int alpha = (int) (255 * (1.0f - (float) i / fadeDistance));
-            int color = (alpha << 24) | (r << 16) | (g << 8) | b;
-            graphics.fill(x, y + height - i, x + width, y + height - i + 1, color);
-        }
-
-        // Left edge gradient (opaque to transparent, left to right)
-        for (int i = 0; i <= fadeDistance; i++) {
-            int alpha = (int) (255 * (1.0f - (float) i / fadeDistance));
-            int color = (alpha << 24) | (r << 16) | (g << 8) | b;
-            graphics.fill(x + i, y, x + i + 1, y + height, color);
-        }
-
-        // Right edge gradient (opaque to transparent, right to left)
-        for (int i = 0; i <= fadeDistance; i++) {
-            int alpha = (int) (255 * (1.0f - (float) i / fadeDistance));
-            int color = (alpha << 24) | (r << 16) | (g << 8) | b;
-            graphics.fill(x + width - i, y, x + width - i + 1, y + height, color);
-        }
-
-        // Corner fade (diagonal gradients for smoother corners)
-        // Top-left corner (distance from top-left corner)
-        for (int i = 0; i <= fadeDistance; i++) {
-            for (int j = 0; j <= fadeDistance; j++) {
-                float distance = (float) Math.sqrt(i * i + j * j);
-                if (distance <= fadeDistance) {
-                    int alpha = (int) (255 * (1.0f - distance / fadeDistance));
-                    int color = (alpha << 24) | (r << 16) | (g << 8) | b;
-                    graphics.fill(x + i, y + j, x + i + 1, y + j + 1, color);
-                }
-            }
-        }
-
-        // Top-right corner (distance from top-right corner)
-        for (int i = 0; i <= fadeDistance; i++) {
-            for (int j = 0; j <= fadeDistance; j++) {
-                float distance = (float) Math.sqrt(i * i + j * j);
-                if (distance <= fadeDistance) {
-                    int alpha = (int) (255 * (1.0f - distance / fadeDistance));
-                    int color = (alpha << 24) | (r << 16) | (g << 8) | b;
-                    graphics.fill(x + width - 1 - i, y + j, x + width - i, y + j + 1, color);
-                }
-            }
-        }
-
-        // Bottom-left corner (distance from bottom-left corner)
-        for (int i = 0; i <= fadeDistance; i++) {
-            for (int j = 0; j <= fadeDistance; j++) {
-                float distance = (float) Math.sqrt(i * i + j * j);
-                if (distance <= fadeDistance) {
-                    int alpha = (int) (255 * (1.0f - distance / fadeDistance));
-                    int color = (alpha << 24) | (r << 16) | (g << 8) | b;
-                    graphics.fill(x + i, y + height - 1 - j, x + i + 1, y + height - j, color);
-                }
-            }
-        }
-
-        // Bottom-right corner (distance from bottom-right corner)
-        for (int i = 0; i <= fadeDistance; i++) {
-            for (int j = 0; j <= fadeDistance; j++) {
-                float distance = (float) Math.sqrt(i * i + j * j);
-                if (distance <= fadeDistance) {
-                    int alpha = (int) (255 * (1.0f - distance / fadeDistance));
-                    int color = (alpha << 24) | (r << 16) | (g << 8) | b;
-                    graphics.fill(x + width - 1 - i, y + height - 1 - j,
-                                 x + width - i, y + height - j, color);
-                }
-            }
+        if (width < VIGNETTE_FADE * 2 || height < VIGNETTE_FADE * 2) {
+            // Too small for the nine-slice; stretch the whole texture instead
+            blitVignette(graphics, x, y, width, height, 0, 0, VIGNETTE_SIZE, VIGNETTE_SIZE);
+        } else {
+            int fade = VIGNETTE_FADE;
+            int far = VIGNETTE_SIZE - fade; // Texture offset of the right/bottom slices
+            int innerWidth = width - fade * 2;
+            int innerHeight = height - fade * 2;
+
+            // Corners
+            blitVignette(graphics, x, y, fade, fade, 0, 0, fade, fade);
+            blitVignette(graphics, x + width - fade, y, fade, fade, far, 0, fade, fade);
+            blitVignette(graphics, x, y + height - fade, fade, fade, 0, far, fade, fade);
+            blitVignette(graphics, x + width - fade, y + height - fade, fade, fade, far, far, fade, fade);
+
+            // Edges (top, bottom, left, right)
+            blitVignette(graphics, x + fade, y, innerWidth, fade, fade, 0, 1, fade);
+            blitVignette(graphics, x + fade, y + height - fade, innerWidth, fade, fade, far, 1, fade);
+            blitVignette(graphics, x, y + fade, fade, innerHeight, 0, fade, fade, 1);
+            blitVignette(graphics, x + width - fade, y + fade, fade, innerHeight, far, fade, fade, 1);
         }
     }
 
     /**
-     * Get the dimensions of an image texture.
-     *
-     * @param imageLocation Resource location of the image
-     * @return int array [width, height], or null if failed
+     * Draw a region of the vignette texture stretched to the given screen rectangle.
      */
-    private int[] getImageDimensions(ResourceLocation imageLocation) {
-        try {
-            ResourceManager resourceManager = Minecraft.getInstance().getResourceManager();
-
-            // Convert texture location to resource location
-            // textures/gui/chronicle/image.png -> assets/chronodawn/textures/gui/chronicle/image.png
-            ResourceLocation resourcePath = CompatResourceLocation.create(
-                imageLocation.getNamespace(),
-                imageLocation.getPath()
-            );
-
-            // Open the image file
-            try (InputStream stream = resourceManager.open(resourcePath)) {
-                NativeImage image = NativeImage.read(stream);
-                int width = image.getWidth();
-                int height = image.getHeight();
-                image.close();
-                return new int[]{width, height};
-            }
-        } catch (IOException e) {
-            return null;
-        }
+    private static void blitVignette(GuiGraphics graphics, int x, int y, int width, int height,
+                                     int u, int v, int uWidth, int vHeight) {
+        graphics.blit(net.minecraft.client.renderer.RenderType::guiTextured,
+                     VIGNETTE_TEXTURE, x, y, (float) u, (float) v,
+                     width, height, uWidth, vHeight, VIGNETTE_SIZE, VIGNETTE_SIZE);
     }
 
     /**
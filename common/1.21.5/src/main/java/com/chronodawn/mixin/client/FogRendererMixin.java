@@ -1,13 +1,10 @@
 package com.chronodawn.mixin.client;
 
-import com.chronodawn.core.dimension.ChronoDawnBiomeProvider;
+import com.chronodawn.client.environment.ChronoDawnEnvironmentState;
 import net.minecraft.client.Camera;
-import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.renderer.FogParameters;
 import net.minecraft.client.renderer.FogRenderer;
-import net.minecraft.core.BlockPos;
-import net.minecraft.core.Holder;
-import net.minecraft.world.level.biome.Biome;
+import net.minecraft.util.Mth;
 import org.joml.Vector4f;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
@@ -22,7 +19,8 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
  * {@link FogParameters} record instead of mutating GL state via
  * {@code RenderSystem.setShaderFogStart/End}. We override the return value
  * with a copy that keeps the vanilla color/shape/alpha but tightens
- * start/end to produce dense fog inside the biome.
+ * start/end to produce dense fog inside the biome. The biome check and the
+ * fade across the biome border come from {@link ChronoDawnEnvironmentState}.
  */
 @Mixin(FogRenderer.class)
 public class FogRendererMixin {
@@ -52,14 +50,9 @@ public class FogRendererMixin {
         if (thickFog) {
             return;
         }
-        if (!(camera.getEntity().level() instanceof ClientLevel clientLevel)) {
-            return;
-        }
-
-        BlockPos cameraPos = camera.getBlockPosition();
-        Holder<Biome> currentBiome = clientLevel.getBiome(cameraPos);
 
-        if (!currentBiome.is(ChronoDawnBiomeProvider.CHRONO_DAWN_DARK_FOREST)) {
+        float darkForestFog = ChronoDawnEnvironmentState.darkForestFog(partialTick);
+        if (darkForestFog <= 0.0f) {
             return;
         }
 
@@ -71,8 +64,8 @@ public class FogRendererMixin {
         // Use Math.min so vanilla mob-effect fog (blindness/darkness) inside
         // the biome stays denser than the biome override instead of being widened.
         cir.setReturnValue(new FogParameters(
-            Math.min(original.start(), DARK_FOREST_FOG_START),
-            Math.min(original.end(), DARK_FOREST_FOG_END),
+            Math.min(original.start(), Mth.lerp(darkForestFog, original.start(), DARK_FOREST_FOG_START)),
+            Math.min(original.end(), Mth.lerp(darkForestFog, original.end(), DARK_FOREST_FOG_END)),
             original.shape(),
             original.red(),
             original.green(),
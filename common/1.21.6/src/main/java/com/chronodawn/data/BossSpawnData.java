@@ -5,8 +5,13 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -22,6 +27,10 @@ import java.util.concurrent.ConcurrentHashMap;
  * - ChronosWardenSpawnData
  * - EntropyKeeperSpawnData
  * - ClockworkColossusSpawnData
+ *
+ * Also holds the boss rooms recorded when their structures generate (Temporal Phantom boss
+ * rooms, Clockwork Colossus engine rooms with their spawn markers), so the spawners only
+ * compare player positions against known rooms instead of searching the world.
  */
 public class BossSpawnData extends CompatSavedData {
     private static final String DATA_NAME = "boss_spawns";
@@ -42,6 +51,32 @@ public class BossSpawnData extends CompatSavedData {
 
     // Clockwork Colossus data
     private final Set<BlockPos> clockworkColossusSpawnedStructures = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    // Key: engine room center
+    private final Map<BlockPos, EngineRoom> clockworkColossusEngineRooms = new ConcurrentHashMap<>();
+
+    // Temporal Phantom data
+    private final Set<BlockPos> temporalPhantomBossRooms = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private final Set<BlockPos> temporalPhantomSpawnedRooms = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    /**
+     * A Clockwork Depths engine room and the signs in it the Clockwork Colossus spawns at.
+     */
+    public record EngineRoom(BoundingBox bounds, List<BlockPos> markers) {
+        /**
+         * Room center, used as the key for the room's spawn state.
+         */
+        public BlockPos center() {
+            return centerOf(bounds);
+        }
+
+        public static BlockPos centerOf(BoundingBox bounds) {
+            return new BlockPos(
+                (bounds.minX() + bounds.maxX()) / 2,
+                (bounds.minY() + bounds.maxY()) / 2,
+                (bounds.minZ() + bounds.maxZ()) / 2
+            );
+        }
+    }
 
     public BossSpawnData() {
         super();
@@ -128,6 +163,39 @@ public class BossSpawnData extends CompatSavedData {
                 BlockPos pos = BlockPos.of(structureTag.getLongOr("Pos", 0L));
                 this.clockworkColossusSpawnedStructures.add(pos);
             }
+
+            ListTag roomsList = colossusTag.getListOrEmpty("EngineRooms");
+            for (int i = 0; i < roomsList.size(); i++) {
+                CompoundTag roomTag = roomsList.getCompound(i).orElse(new CompoundTag());
+                BoundingBox bounds = BoundingBox.fromCorners(
+                    BlockPos.of(roomTag.getLongOr("Min", 0L)),
+                    BlockPos.of(roomTag.getLongOr("Max", 0L))
+                );
+                List<BlockPos> markers = new ArrayList<>();
+                ListTag markersList = roomTag.getListOrEmpty("Markers");
+                for (int j = 0; j < markersList.size(); j++) {
+                    CompoundTag markerTag = markersList.getCompound(j).orElse(new CompoundTag());
+                    markers.add(BlockPos.of(markerTag.getLongOr("Pos", 0L)));
+                }
+                EngineRoom room = new EngineRoom(bounds, List.copyOf(markers));
+                this.clockworkColossusEngineRooms.put(room.center(), room);
+            }
+        }
+
+        // Load Temporal Phantom data
+        CompoundTag phantomTag = tag.getCompoundOrEmpty("TemporalPhantom");
+        if (!phantomTag.isEmpty()) {
+            ListTag roomsList = phantomTag.getListOrEmpty("BossRooms");
+            for (int i = 0; i < roomsList.size(); i++) {
+                CompoundTag roomTag = roomsList.getCompound(i).orElse(new CompoundTag());
+                this.temporalPhantomBossRooms.add(BlockPos.of(roomTag.getLongOr("Pos", 0L)));
+            }
+
+            ListTag spawnedList = phantomTag.getListOrEmpty("SpawnedRooms");
+            for (int i = 0; i < spawnedList.size(); i++) {
+                CompoundTag roomTag = spawnedList.getCompound(i).orElse(new CompoundTag());
+                this.temporalPhantomSpawnedRooms.add(BlockPos.of(roomTag.getLongOr("Pos", 0L)));
+            }
         }
     }
 
@@ -199,11 +267,37 @@ public class BossSpawnData extends CompatSavedData {
             colossusStructuresList.add(structureTag);
         }
         colossusTag.put("SpawnedStructures", colossusStructuresList);
+
+        ListTag engineRoomsList = new ListTag();
+        for (EngineRoom room : clockworkColossusEngineRooms.values()) {
+            CompoundTag roomTag = new CompoundTag();
+            roomTag.putLong("Min", new BlockPos(room.bounds().minX(), room.bounds().minY(), room.bounds().minZ()).asLong());
+            roomTag.putLong("Max", new BlockPos(room.bounds().maxX(), room.bounds().maxY(), room.bounds().maxZ()).asLong());
+            roomTag.put("Markers", writePositions(room.markers()));
+            engineRoomsList.add(roomTag);
+        }
+        colossusTag.put("EngineRooms", engineRoomsList);
         tag.put("ClockworkColossus", colossusTag);
 
+        // Save Temporal Phantom data
+        CompoundTag phantomTag = new CompoundTag();
+        phantomTag.put("BossRooms", writePositions(temporalPhantomBossRooms));
+        phantomTag.put("SpawnedRooms", writePositions(temporalPhantomSpawnedRooms));
+        tag.put("TemporalPhantom", phantomTag);
+
         return tag;
     }
 
+    private static ListTag writePositions(Collection<BlockPos> positions) {
+        ListTag list = new ListTag();
+        for (BlockPos pos : positions) {
+            CompoundTag posTag = new CompoundTag();
+            posTag.putLong("Pos", pos.asLong());
+            list.add(posTag);
+        }
+        return list;
+    }
+
     // ========================================
     // Time Tyrant methods
     // ========================================
@@ -287,6 +381,52 @@ public class BossSpawnData extends CompatSavedData {
         setDirty();
     }
 
+    /**
+     * Record an engine room and its spawn markers. Markers are merged with those already
+     * recorded for the same room.
+     */
+    public void registerClockworkColossusEngineRoom(BoundingBox bounds, List<BlockPos> markers) {
+        BlockPos center = EngineRoom.centerOf(bounds);
+        EngineRoom existing = clockworkColossusEngineRooms.get(center);
+        List<BlockPos> merged = new ArrayList<>(existing == null ? List.of() : existing.markers());
+        for (BlockPos marker : markers) {
+            if (!merged.contains(marker)) {
+                merged.add(marker.immutable());
+            }
+        }
+        if (existing == null || merged.size() != existing.markers().size()) {
+            clockworkColossusEngineRooms.put(center, new EngineRoom(bounds, List.copyOf(merged)));
+            setDirty();
+        }
+    }
+
+    public Collection<EngineRoom> getClockworkColossusEngineRooms() {
+        return Collections.unmodifiableCollection(clockworkColossusEngineRooms.values());
+    }
+
+    // ========================================
+    // Temporal Phantom methods
+    // ========================================
+
+    public void registerTemporalPhantomBossRoom(BlockPos center) {
+        if (temporalPhantomBossRooms.add(center.immutable())) {
+            setDirty();
+        }
+    }
+
+    public Set<BlockPos> getTemporalPhantomBossRooms() {
+        return Collections.unmodifiableSet(temporalPhantomBossRooms);
+    }
+
+    public boolean hasTemporalPhantomSpawned(BlockPos center) {
+        return temporalPhantomSpawnedRooms.contains(center);
+    }
+
+    public void markTemporalPhantomSpawned(BlockPos center) {
+        temporalPhantomSpawnedRooms.add(center);
+        setDirty();
+    }
+
     // ========================================
     // Reset methods (for testing/debugging)
     // ========================================
@@ -313,17 +453,25 @@ public class BossSpawnData extends CompatSavedData {
         setDirty();
     }
 
+    // Recorded rooms are part of the world and are kept; only spawn state is cleared
+
     public void resetClockworkColossus() {
         clockworkColossusSpawnedStructures.clear();
         setDirty();
     }
 
+    public void resetTemporalPhantom() {
+        temporalPhantomSpawnedRooms.clear();
+        setDirty();
+    }
+
     public void resetAll() {
         resetTimeTyrant();
         resetTimeGuardian();
         resetChronosWarden();
         resetEntropyKeeper();
         resetClockworkColossus();
+        resetTemporalPhantom();
         setDirty();
     }
 }
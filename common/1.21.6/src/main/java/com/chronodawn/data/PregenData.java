@@ -0,0 +1,141 @@
+package com.chronodawn.data;
+
+import com.chronodawn.ChronoDawn;
+import com.chronodawn.compat.CompatSavedData;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.storage.DimensionDataStorage;
+
+/**
+ * Saved data for the {@code /chronodawn pregen} job in the ChronoDawn dimension.
+ *
+ * This is the 1.21.5-specific version with single-parameter load method
+ * and updated NBT API (getBooleanOr/getIntOr instead of getBoolean/getInt).
+ *
+ * Tracks:
+ * - Whether a job is running
+ * - The spiral centre and radius (in chunks)
+ * - The index of the next chunk in the spiral, so the job resumes after a restart
+ * - Whether the eager Time Keeper Village pass has run
+ */
+public class PregenData extends CompatSavedData {
+    private static final String DATA_NAME = "chronodawn_pregen";
+
+    private boolean active = false;
+    private int centerChunkX = 0;
+    private int centerChunkZ = 0;
+    private int radiusChunks = 0;
+    private int nextIndex = 0;
+    private boolean villagePassDone = false;
+
+    public PregenData() {
+        super();
+    }
+
+    /**
+     * Get or create the pregen data for a ChronoDawn level.
+     *
+     * @param level ServerLevel (should be ChronoDawn dimension)
+     * @return Pregen data instance
+     */
+    public static PregenData get(ServerLevel level) {
+        DimensionDataStorage storage = level.getDataStorage();
+        return CompatSavedData.computeIfAbsent(
+            storage,
+            PregenData::new,
+            PregenData::load,
+            DATA_NAME
+        );
+    }
+
+    /**
+     * Load data from NBT.
+     * In 1.21.5, the load method no longer needs HolderLookup.Provider.
+     *
+     * @param tag NBT tag
+     * @return Loaded data
+     */
+    public static PregenData load(CompoundTag tag) {
+        PregenData data = new PregenData();
+        data.loadData(tag);
+        return data;
+    }
+
+    @Override
+    public CompoundTag saveData(CompoundTag tag) {
+        tag.putBoolean("Active", active);
+        tag.putInt("CenterChunkX", centerChunkX);
+        tag.putInt("CenterChunkZ", centerChunkZ);
+        tag.putInt("RadiusChunks", radiusChunks);
+        tag.putInt("NextIndex", nextIndex);
+        tag.putBoolean("VillagePassDone", villagePassDone);
+        return tag;
+    }
+
+    @Override
+    public void loadData(CompoundTag tag) {
+        active = tag.getBooleanOr("Active", false);
+        centerChunkX = tag.getIntOr("CenterChunkX", 0);
+        centerChunkZ = tag.getIntOr("CenterChunkZ", 0);
+        radiusChunks = tag.getIntOr("RadiusChunks", 0);
+        nextIndex = tag.getIntOr("NextIndex", 0);
+        villagePassDone = tag.getBooleanOr("VillagePassDone", false);
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public int getCenterChunkX() {
+        return centerChunkX;
+    }
+
+    public int getCenterChunkZ() {
+        return centerChunkZ;
+    }
+
+    public int getRadiusChunks() {
+        return radiusChunks;
+    }
+
+    public int getNextIndex() {
+        return nextIndex;
+    }
+
+    public boolean isVillagePassDone() {
+        return villagePassDone;
+    }
+
+    /**
+     * Start a new job, replacing any previous one.
+     */
+    public void start(int centerChunkX, int centerChunkZ, int radiusChunks) {
+        this.active = true;
+        this.centerChunkX = centerChunkX;
+        this.centerChunkZ = centerChunkZ;
+        this.radiusChunks = radiusChunks;
+        this.nextIndex = 0;
+        this.villagePassDone = false;
+        setDirty();
+        ChronoDawn.LOGGER.debug("Pregen started at chunk ({}, {}) with radius {}",
+            centerChunkX, centerChunkZ, radiusChunks);
+    }
+
+    public void setNextIndex(int nextIndex) {
+        this.nextIndex = nextIndex;
+        setDirty();
+    }
+
+    public void markVillagePassDone() {
+        this.villagePassDone = true;
+        setDirty();
+    }
+
+    /**
+     * Stop the job (finished or cancelled). The last position is kept for status output.
+     */
+    public void stop() {
+        this.active = false;
+        setDirty();
+    }
+}
@@ -1,6 +1,8 @@
 package com.chronodawn.items;
 
 import com.chronodawn.ChronoDawn;
+import com.chronodawn.core.particle.ParticleDispatcher;
+import com.chronodawn.core.particle.ParticlePriority;
 import com.chronodawn.core.portal.PortalRegistry;
 import com.chronodawn.core.portal.PortalState;
 import com.chronodawn.core.portal.PortalStateMachine;
@@ -198,7 +200,9 @@ public class PortalStabilizerItem extends Item {
 
                     // Spawn particles at this frame block
                     // END_ROD: White particles rising upward (like clock hands)
-                    serverLevel.sendParticles(
+                    ParticleDispatcher.send(
+                        serverLevel,
+                        ParticlePriority.COSMETIC,
                         net.minecraft.core.particles.ParticleTypes.END_ROD,
                         framePos.getX() + 0.5,
                         framePos.getY() + 0.5,
@@ -209,7 +213,9 @@ public class PortalStabilizerItem extends Item {
                     );
 
                     // FLAME: Orange particles matching portal theme
-                    serverLevel.sendParticles(
+                    ParticleDispatcher.send(
+                        serverLevel,
+                        ParticlePriority.COSMETIC,
                         net.minecraft.core.particles.ParticleTypes.FLAME,
                         framePos.getX() + 0.5,
                         framePos.getY() + 0.5,
@@ -11,6 +11,8 @@ import net.minecraft.core.registries.Registries;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import com.chronodawn.compat.CompatResourceLocation;
+import com.chronodawn.core.performance.SafeBlockAccess;
+import com.chronodawn.worldgen.templates.ChronoDawnTemplateCache;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.EntitySpawnReason;
@@ -83,31 +85,43 @@ public class TimeKeeperVillagePlacer {
             return;
         }
 
+        // Find suitable position near player's entry point (not world spawn)
+        // This ensures the village is near where the player actually enters ChronoDawn
+        placeNear(level, player.blockPosition());
+    }
+
+    /**
+     * Places the Time Keeper Village near {@code center} if it has not been placed yet.
+     * Used on first player entry and eagerly by {@code /chronodawn pregen}.
+     *
+     * @param level ChronoDawn ServerLevel
+     * @param center Center of the search area
+     * @return true if the village exists after this call
+     */
+    public static boolean placeNear(ServerLevel level, BlockPos center) {
         // Check if village is already placed
         TimeKeeperVillageData data = TimeKeeperVillageData.get(level);
         if (data.isPlaced()) {
             ChronoDawn.LOGGER.debug("Time Keeper Village already placed at {}", data.getPosition());
-            return;
+            return true;
         }
 
-        // Find suitable position near player's entry point (not world spawn)
-        // This ensures the village is near where the player actually enters ChronoDawn
-        BlockPos playerEntryPos = player.blockPosition();
-        BlockPos villagePos = findSuitablePosition(level, playerEntryPos);
+        BlockPos villagePos = findSuitablePosition(level, center);
 
         if (villagePos != null) {
             boolean success = placeVillage(level, villagePos);
             if (success) {
                 data.setPlaced(villagePos);
-                ChronoDawn.LOGGER.debug("Successfully placed Time Keeper Village at {} for player {}",
-                    villagePos, player.getName().getString());
-            } else {
-                ChronoDawn.LOGGER.warn("Failed to place Time Keeper Village structure at {}", villagePos);
+                ChronoDawn.LOGGER.debug("Successfully placed Time Keeper Village at {} near {}",
+                    villagePos, center);
+                return true;
             }
+            ChronoDawn.LOGGER.warn("Failed to place Time Keeper Village structure at {}", villagePos);
         } else {
-            ChronoDawn.LOGGER.warn("Could not find suitable position for Time Keeper Village near player entry point {}",
-                playerEntryPos);
+            ChronoDawn.LOGGER.warn("Could not find suitable position for Time Keeper Village near {}",
+                center);
         }
+        return false;
     }
 
     /**
@@ -270,10 +284,8 @@ public class TimeKeeperVillagePlacer {
      * @return true if placement succeeded
      */
     private static boolean placeVillage(ServerLevel level, BlockPos pos) {
-        var structureTemplateManager = level.getStructureManager();
-
         // Load template
-        var templateOptional = structureTemplateManager.get(VILLAGE_TEMPLATE);
+        var templateOptional = ChronoDawnTemplateCache.get(level, VILLAGE_TEMPLATE);
         if (templateOptional.isEmpty()) {
             ChronoDawn.LOGGER.error("Failed to load Time Keeper Village template: {}", VILLAGE_TEMPLATE);
             ChronoDawn.LOGGER.error("Make sure the NBT file exists at: data/chronodawn/structure/time_keeper_village.nbt");
@@ -368,15 +380,16 @@ public class TimeKeeperVillagePlacer {
     private static void setChestLootTables(ServerLevel level, BlockPos placementPos, net.minecraft.core.Vec3i templateSize) {
         int chestsFound = 0;
 
-        // Scan the entire structure volume for chests
+        // Scan the entire structure volume for chests (just placed, so its chunks are loaded)
+        SafeBlockAccess.Reader reader = SafeBlockAccess.reader(level);
         for (int dx = 0; dx < templateSize.getX(); dx++) {
             for (int dy = 0; dy < templateSize.getY(); dy++) {
                 for (int dz = 0; dz < templateSize.getZ(); dz++) {
                     BlockPos checkPos = placementPos.offset(dx, dy, dz);
-                    BlockState blockState = level.getBlockState(checkPos);
+                    BlockState blockState = reader.get(checkPos);
 
                     // Check if this block is a chest
-                    if (blockState.getBlock() instanceof ChestBlock) {
+                    if (blockState != null && blockState.getBlock() instanceof ChestBlock) {
                         var blockEntity = level.getBlockEntity(checkPos);
                         if (blockEntity instanceof ChestBlockEntity chestBlockEntity) {
                             // Set the loot table
@@ -1,6 +1,8 @@
 package com.chronodawn.core.teleport;
 
 import com.chronodawn.blocks.ClockTowerTeleporterBlock;
+import com.chronodawn.core.particle.ParticleDispatcher;
+import com.chronodawn.core.particle.ParticlePriority;
 import com.chronodawn.registry.ModBlocks;
 import com.chronodawn.registry.ModSounds;
 import net.minecraft.core.BlockPos;
@@ -76,7 +78,9 @@ public class TeleporterChargingHandler {
             double offsetY = level.random.nextDouble() * 1.5;
             double offsetZ = (level.random.nextDouble() - 0.5) * 1.5;
 
-            level.sendParticles(
+            ParticleDispatcher.send(
+                level,
+                ParticlePriority.COSMETIC,
                 ORANGE_PARTICLE,
                 teleporterPos.getX() + 0.5 + offsetX,
                 teleporterPos.getY() + 0.5 + offsetY,
@@ -154,7 +158,9 @@ public class TeleporterChargingHandler {
             double offsetY = progress * 2.0;
             double offsetZ = Math.sin(angle) * radius;
 
-            level.sendParticles(
+            ParticleDispatcher.send(
+                level,
+                ParticlePriority.COSMETIC,
                 ORANGE_PARTICLE,
                 teleporterPos.getX() + 0.5 + offsetX,
                 teleporterPos.getY() + 0.5 + offsetY,
@@ -172,7 +178,9 @@ public class TeleporterChargingHandler {
                 double offsetY = level.random.nextDouble() * 1.5;
                 double offsetZ = (level.random.nextDouble() - 0.5) * 0.8;
 
-                level.sendParticles(
+                ParticleDispatcher.send(
+                    level,
+                    ParticlePriority.COSMETIC,
                     ParticleTypes.FLAME,
                     teleporterPos.getX() + 0.5 + offsetX,
                     teleporterPos.getY() + 0.5 + offsetY,
@@ -225,7 +233,9 @@ public class TeleporterChargingHandler {
 
         // Teleport sound and particles at departure
         level.playSound(null, player.blockPosition(), ModSounds.TELEPORTER_WARP.get(), SoundSource.PLAYERS, 1.0f, 1.0f);
-        level.sendParticles(
+        ParticleDispatcher.send(
+            level,
+            ParticlePriority.COSMETIC,
             ParticleTypes.PORTAL,
             player.getX(), player.getY() + 1.0, player.getZ(),
             50,
@@ -242,7 +252,9 @@ public class TeleporterChargingHandler {
 
         // Teleport sound and particles at arrival
         level.playSound(null, targetPos, ModSounds.TELEPORTER_WARP.get(), SoundSource.PLAYERS, 1.0f, 1.0f);
-        level.sendParticles(
+        ParticleDispatcher.send(
+            level,
+            ParticlePriority.COSMETIC,
             ParticleTypes.PORTAL,
             targetPos.getX() + 0.5, targetPos.getY() + 1.0, targetPos.getZ() + 0.5,
             50,
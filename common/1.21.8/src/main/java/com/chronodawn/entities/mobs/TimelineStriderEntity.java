@@ -1,5 +1,6 @@
 package com.chronodawn.entities.mobs;
 
+import com.chronodawn.entities.ai.StareDetector;
 import net.minecraft.core.BlockPos;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.util.RandomSource;
@@ -15,7 +16,6 @@ import net.minecraft.world.entity.monster.Monster;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.ServerLevelAccessor;
-import net.minecraft.world.phys.Vec3;
 import net.minecraft.server.level.ServerLevel;
 
 /**
@@ -61,33 +61,15 @@ public class TimelineStriderEntity extends Monster {
             .add(Attributes.FOLLOW_RANGE, 64.0);
     }
 
-    /**
-     * Check if the player is looking at this entity's head (Enderman-like stare detection).
-     */
-    private boolean isLookingAtMe(Player player) {
-        Vec3 viewVec = player.getViewVector(1.0F).normalize();
-        Vec3 toEntity = new Vec3(
-            this.getX() - player.getX(),
-            this.getEyeY() - player.getEyeY(),
-            this.getZ() - player.getZ()
-        );
-        double distance = toEntity.length();
-        toEntity = toEntity.normalize();
-        double dot = viewVec.dot(toEntity);
-        // Player is looking at this entity if dot product is high enough
-        // and within follow range
-        return dot > 1.0 - 0.025 / distance && player.hasLineOfSight(this);
-    }
-
     @Override
     public void aiStep() {
         super.aiStep();
 
         if (!this.level().isClientSide) {
             // Check for player stare to set target
-            Player nearestPlayer = this.level().getNearestPlayer(this, 64.0);
-            if (nearestPlayer != null && isLookingAtMe(nearestPlayer) && this.getTarget() == null) {
-                this.setTarget(nearestPlayer);
+            Player staringPlayer = StareDetector.findStaringPlayer(this);
+            if (staringPlayer != null) {
+                this.setTarget(staringPlayer);
                 this.targetChangeTime = this.tickCount;
             }
         }
@@ -1,7 +1,12 @@
 package com.chronodawn.gui.data;
 
+import com.chronodawn.ChronoDawn;
 import com.google.gson.JsonObject;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.ResourceManager;
+
+import java.io.IOException;
+import java.io.InputStream;
 
 /**
  * Represents a single page in a Chronicle entry.
@@ -12,6 +17,8 @@ public class Page {
     private final LocalizedText text;
     private final ResourceLocation recipe;
     private final ResourceLocation image;
+    // Resolved from the PNG header on resource reload; null if not an image page or unreadable
+    private ImageSize imageSize;
 
     public Page(JsonObject json) {
         // Determine page type
@@ -55,6 +62,31 @@ public class Page {
         return image;
     }
 
+    /**
+     * Pixel size of this page's image, or null for non-image pages and unreadable images.
+     */
+    public ImageSize getImageSize() {
+        return imageSize;
+    }
+
+    /**
+     * Read this page's image size from its PNG header.
+     * Called by {@link ChronicleData} on each (re)load so rendering never opens the file.
+     *
+     * @param resourceManager Resource manager
+     */
+    public void resolveImageSize(ResourceManager resourceManager) {
+        if (image == null) {
+            return;
+        }
+        try (InputStream stream = resourceManager.open(image)) {
+            imageSize = ImageSize.read(stream);
+        } catch (IOException e) {
+            imageSize = null;
+            ChronoDawn.LOGGER.warn("Failed to read Chronicle image {}: {}", image, e.getMessage());
+        }
+    }
+
     public enum PageType {
         TEXT,
         RECIPE,
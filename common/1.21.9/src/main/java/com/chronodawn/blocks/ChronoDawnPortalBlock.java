@@ -18,7 +18,14 @@
 package com.chronodawn.blocks;
 
 import com.chronodawn.ChronoDawn;
+import com.chronodawn.client.particle.AmbientParticles;
+import com.chronodawn.core.particle.ParticleDispatcher;
+import com.chronodawn.core.particle.ParticlePriority;
+import com.chronodawn.core.performance.ChronoDawnMetrics;
 import com.chronodawn.registry.ModBlocks;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.particles.BlockParticleOption;
@@ -43,6 +50,7 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.StateDefinition;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
 import net.minecraft.world.level.block.state.properties.EnumProperty;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
 import net.minecraft.world.phys.shapes.CollisionContext;
 import net.minecraft.world.phys.shapes.VoxelShape;
 
@@ -129,6 +137,10 @@ public class ChronoDawnPortalBlock extends Block {
      */
     private static final Map<UUID, BlockPos> PENDING_TELEPORTS = new java.util.concurrent.ConcurrentHashMap<>();
 
+    static {
+        ChronoDawnMetrics.gauge("portal_teleports.pending", PENDING_TELEPORTS::size);
+    }
+
     /**
      * Tracks the last game tick when the portal counter was incremented for each entity.
      * Used to prevent duplicate counter increments when entity touches multiple portal blocks in the same tick.
@@ -521,39 +533,54 @@ public class ChronoDawnPortalBlock extends Block {
 
         // Spawn orange/golden particles (Nether Portal style)
         // Gentle, floating particles that slowly drift away from portal surface
+        // The first block of a portal animated in a tick emits for the whole portal
+        AmbientParticles.PortalEmitter emitter = AmbientParticles.claimPortal(level, pos, this);
+        if (emitter == null) {
+            return;
+        }
+
         Direction.Axis axis = state.getValue(AXIS);
+        BoundingBox bounds = emitter.bounds();
+        for (int i = 0; i < emitter.particlesPerTick(); i++) {
+            // Random block of the portal
+            int blockX = bounds.minX() + random.nextInt(bounds.getXSpan());
+            int blockY = bounds.minY() + random.nextInt(bounds.getYSpan());
+            int blockZ = bounds.minZ() + random.nextInt(bounds.getZSpan());
+
+            double x = blockX + random.nextDouble();
+            double y = blockY + random.nextDouble();
+            double z = blockZ + random.nextDouble();
+            if (!AmbientParticles.shouldSpawn(random, x, y, z, 1.0f)) {
+                continue;
+            }
 
-        // Reduce particle spawn frequency - only spawn 1 particle per tick
-        double x = pos.getX() + random.nextDouble();
-        double y = pos.getY() + random.nextDouble();
-        double z = pos.getZ() + random.nextDouble();
+            // Very gentle particle speed - subtle floating motion
+            double speedX = (random.nextDouble() - 0.5) * 0.1;
+            double speedY = (random.nextDouble() - 0.5) * 0.1;
+            double speedZ = (random.nextDouble() - 0.5) * 0.1;
 
-        // Very gentle particle speed - subtle floating motion
-        double speedX = (random.nextDouble() - 0.5) * 0.1;
-        double speedY = (random.nextDouble() - 0.5) * 0.1;
-        double speedZ = (random.nextDouble() - 0.5) * 0.1;
+            int j = random.nextInt(2) * 2 - 1;
 
-        int j = random.nextInt(2) * 2 - 1;
+            // Adjust particle spawn position based on portal axis
+            // Spawn particles slightly away from portal surface
+            if (axis == Direction.Axis.X) {
+                // X-axis portal (particles drift gently along Z)
+                z = blockZ + 0.5 + 0.25 * j;
+                speedZ = random.nextFloat() * 0.3F * j; // Reduced from 2.0F to 0.3F
+            } else {
+                // Z-axis portal (particles drift gently along X)
+                x = blockX + 0.5 + 0.25 * j;
+                speedX = random.nextFloat() * 0.3F * j; // Reduced from 2.0F to 0.3F
+            }
 
-        // Adjust particle spawn position based on portal axis
-        // Spawn particles slightly away from portal surface
-        if (axis == Direction.Axis.X) {
-            // X-axis portal (particles drift gently along Z)
-            z = pos.getZ() + 0.5 + 0.25 * j;
-            speedZ = random.nextFloat() * 0.3F * j; // Reduced from 2.0F to 0.3F
-        } else {
-            // Z-axis portal (particles drift gently along X)
-            x = pos.getX() + 0.5 + 0.25 * j;
-            speedX = random.nextFloat() * 0.3F * j; // Reduced from 2.0F to 0.3F
+            // Use custom ChronoDawn Portal particles
+            // Golden/orange particles that float gently like Nether Portal
+            level.addParticle(
+                com.chronodawn.registry.ModParticles.CHRONO_DAWN_PORTAL.get(),
+                x, y, z,
+                speedX, speedY, speedZ
+            );
         }
-
-        // Use custom ChronoDawn Portal particles
-        // Golden/orange particles that float gently like Nether Portal
-        level.addParticle(
-            com.chronodawn.registry.ModParticles.CHRONO_DAWN_PORTAL.get(),
-            x, y, z,
-            speedX, speedY, speedZ
-        );
     }
 
     public ItemStack getCloneItemStack(BlockGetter level, BlockPos pos, BlockState state) {
@@ -626,43 +653,27 @@ public class ChronoDawnPortalBlock extends Block {
             return;
         }
 
-        // Find all connected portal blocks using flood fill
-        Set<BlockPos> portalBlocks = new HashSet<>();
-        Queue<BlockPos> toCheck = new LinkedList<>();
-        toCheck.add(startPos);
-        portalBlocks.add(startPos);
-
-        while (!toCheck.isEmpty()) {
-            BlockPos current = toCheck.poll();
-
-            // Check all 6 directions
-            for (Direction direction : Direction.values()) {
-                BlockPos neighbor = current.relative(direction);
-                if (!portalBlocks.contains(neighbor) && level.getBlockState(neighbor).is(this)) {
-                    portalBlocks.add(neighbor);
-                    toCheck.add(neighbor);
-                }
-            }
-        }
+        // Remove the whole portal in one pass
+        LongOpenHashSet portalBlocks = collapsePortal(level, startPos);
 
-        // Destroy all connected portal blocks with particle effects
+        // Break particles at every removed portal block
         BlockState portalState = this.defaultBlockState();
-        for (BlockPos pos : portalBlocks) {
-            // Spawn break particles before removing the block
-            // Use BLOCK_MARKER particle type for portal block destruction
-            level.sendParticles(
+        LongIterator removed = portalBlocks.iterator();
+        while (removed.hasNext()) {
+            long pos = removed.nextLong();
+            ParticleDispatcher.send(
+                level,
+                ParticlePriority.COSMETIC,
                 new BlockParticleOption(ParticleTypes.BLOCK, portalState),
-                pos.getX() + 0.5,
-                pos.getY() + 0.5,
-                pos.getZ() + 0.5,
+                BlockPos.getX(pos) + 0.5,
+                BlockPos.getY(pos) + 0.5,
+                BlockPos.getZ(pos) + 0.5,
                 15, // particle count
                 0.3, // x spread
                 0.3, // y spread
                 0.3, // z spread
                 0.1  // speed
             );
-
-            level.removeBlock(pos, false);
         }
 
         // Play glass break sound at the center of the portal
@@ -741,4 +752,71 @@ public class ChronoDawnPortalBlock extends Block {
         // Clear the queue
         PENDING_TELEPORTS.clear();
     }
+
+    /**
+     * Remove the portal that contains {@code startPos}.
+     *
+     * The flood fill follows portal blocks of the same axis within the portal's plane, using
+     * packed positions. Each block is removed without neighbour or shape updates, so the portal
+     * blocks still standing do not run {@link #updateShape} (and this fill) again for every
+     * removal. Afterwards the blocks on the edge of the portal notify their neighbours once,
+     * which reaches the frame.
+     *
+     * @param level The level
+     * @param startPos Any block of the portal
+     * @return Packed positions of the removed portal blocks (empty if {@code startPos} is not a portal block)
+     */
+    static LongOpenHashSet collapsePortal(Level level, BlockPos startPos) {
+        LongOpenHashSet portalBlocks = new LongOpenHashSet();
+        BlockState startState = level.getBlockState(startPos);
+        if (!(startState.getBlock() instanceof ChronoDawnPortalBlock)) {
+            return portalBlocks;
+        }
+
+        Direction.Axis axis = startState.getValue(AXIS);
+        Direction[] planeDirections = axis == Direction.Axis.X
+            ? new Direction[] {Direction.WEST, Direction.EAST, Direction.DOWN, Direction.UP}
+            : new Direction[] {Direction.NORTH, Direction.SOUTH, Direction.DOWN, Direction.UP};
+
+        // Breadth-first fill over the portal plane
+        BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        LongArrayFIFOQueue toCheck = new LongArrayFIFOQueue();
+        long start = startPos.asLong();
+        portalBlocks.add(start);
+        toCheck.enqueue(start);
+        while (!toCheck.isEmpty()) {
+            long current = toCheck.dequeueLong();
+            for (Direction direction : planeDirections) {
+                long neighbor = BlockPos.offset(current, direction);
+                if (portalBlocks.contains(neighbor)) {
+                    continue;
+                }
+                BlockState neighborState = level.getBlockState(cursor.set(neighbor));
+                if (neighborState.is(startState.getBlock()) && neighborState.getValue(AXIS) == axis) {
+                    portalBlocks.add(neighbor);
+                    toCheck.enqueue(neighbor);
+                }
+            }
+        }
+
+        // Remove quietly: the neighbours in the plane are either portal blocks removed here or frame
+        BlockState air = Blocks.AIR.defaultBlockState();
+        LongIterator positions = portalBlocks.iterator();
+        while (positions.hasNext()) {
+            level.setBlock(cursor.set(positions.nextLong()), air, Block.UPDATE_CLIENTS | Block.UPDATE_KNOWN_SHAPE);
+        }
+
+        // One notification pass over the edge of the portal, i.e. next to the frame
+        positions = portalBlocks.iterator();
+        while (positions.hasNext()) {
+            long pos = positions.nextLong();
+            for (Direction direction : planeDirections) {
+                if (!portalBlocks.contains(BlockPos.offset(pos, direction))) {
+                    level.updateNeighborsAt(cursor.set(pos), startState.getBlock());
+                    break;
+                }
+            }
+        }
+        return portalBlocks;
+    }
 }
@@ -31,6 +31,13 @@ public class CompatGameTestHelper {
         helper.fail(Component.literal(message));
     }
 
+    /**
+     * Recent server tick durations in nanoseconds (100-entry ring buffer).
+     */
+    public static long[] tickTimesNanos(GameTestHelper helper) {
+        return helper.getLevel().getServer().getTickTimesNanos();
+    }
+
     private CompatGameTestHelper() {
         // Utility class
     }
@@ -1,14 +1,13 @@
 package com.chronodawn.mixin.client;
 
-import com.chronodawn.core.dimension.ChronoDawnBiomeProvider;
+import com.chronodawn.client.environment.ChronoDawnEnvironmentState;
 import net.minecraft.client.DeltaTracker;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.renderer.fog.FogData;
 import net.minecraft.client.renderer.fog.environment.AtmosphericFogEnvironment;
 import net.minecraft.core.BlockPos;
-import net.minecraft.core.Holder;
+import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
-import net.minecraft.world.level.biome.Biome;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
@@ -23,6 +22,8 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
  * {@code FogEnvironment} mutate a shared {@link FogData} struct instead.
  * We hook {@link AtmosphericFogEnvironment#setupFog} (the air/atmosphere case)
  * and tighten the resulting start/end values when standing in the biome.
+ * Whether the camera is in the biome (eased over the border) is read from
+ * {@link ChronoDawnEnvironmentState} instead of looked up on every call.
  */
 @Mixin(AtmosphericFogEnvironment.class)
 public class AtmosphericFogEnvironmentMixin {
@@ -45,14 +46,23 @@ public class AtmosphericFogEnvironmentMixin {
         DeltaTracker deltaTracker,
         CallbackInfo ci
     ) {
-        Holder<Biome> biome = level.getBiome(pos);
-        if (!biome.is(ChronoDawnBiomeProvider.CHRONO_DAWN_DARK_FOREST)) {
+        float darkForestFog = ChronoDawnEnvironmentState.darkForestFog(deltaTracker.getGameTimeDeltaPartialTick(false));
+        if (darkForestFog <= 0.0f) {
             return;
         }
 
-        fogData.environmentalStart = Math.min(fogData.environmentalStart, DARK_FOREST_FOG_START);
-        fogData.environmentalEnd = Math.min(fogData.environmentalEnd, DARK_FOREST_FOG_END);
-        fogData.renderDistanceStart = Math.min(fogData.renderDistanceStart, DARK_FOREST_FOG_START);
-        fogData.renderDistanceEnd = Math.min(fogData.renderDistanceEnd, DARK_FOREST_FOG_END);
+        fogData.environmentalStart = tighten(fogData.environmentalStart, DARK_FOREST_FOG_START, darkForestFog);
+        fogData.environmentalEnd = tighten(fogData.environmentalEnd, DARK_FOREST_FOG_END, darkForestFog);
+        fogData.renderDistanceStart = tighten(fogData.renderDistanceStart, DARK_FOREST_FOG_START, darkForestFog);
+        fogData.renderDistanceEnd = tighten(fogData.renderDistanceEnd, DARK_FOREST_FOG_END, darkForestFog);
+    }
+
+    /**
+     * Blend {@code value} toward {@code target} by {@code strength}, never widening it
+     * (so blindness/darkness fog stays denser than the biome override).
+     */
+    @Unique
+    private static float tighten(float value, float target, float strength) {
+        return Math.min(value, Mth.lerp(strength, value, target));
     }
 }
@@ -0,0 +1,181 @@
+package com.chronodawn.gametest;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Checked-in scenario list and tick-time budgets for {@link LoadTests}.
+ *
+ * The default file is {@code common/gametest/chronodawn-load-test-baseline.json}, read from
+ * the source tree so it never ends up in the release jar. It is found by walking up from the
+ * working directory, which works for the loader run directories and the unit tests. Setting
+ * {@code CHRONODAWN_LOAD_TEST_BASELINE} to a file path replaces it, e.g. to try tighter
+ * budgets locally before committing them.
+ *
+ * Format:
+ * <pre>
+ * {
+ *   "warmupTicks": 40,
+ *   "sampleTicks": 200,
+ *   "scenarios": [
+ *     { "name": "idle", "maxAvgMs": 5.0, "maxP99Ms": 20.0 },
+ *     { "name": "temporal_wraith", "entity": "chronodawn:temporal_wraith", "population": 32,
+ *       "maxAvgMs": 15.0, "maxP99Ms": 40.0 },
+ *     { "name": "gear_volley", "entity": "chronodawn:gear_projectile", "population": 32,
+ *       "volleyIntervalTicks": 10, "maxAvgMs": 10.0, "maxP99Ms": 30.0 }
+ *   ]
+ * }
+ * </pre>
+ * A scenario without {@code entity} measures the empty pen. With {@code volleyIntervalTicks}
+ * the entity is fired as a projectile volley of {@code population} every interval instead of
+ * being spawned once. {@code maxAvgMs} and {@code maxP99Ms} are optional but go together: a
+ * scenario without them is measured and reported but cannot fail. This is for trying out a
+ * new scenario locally; every scenario in the checked-in file has a budget.
+ */
+public record LoadTestBaseline(int warmupTicks, int sampleTicks, List<Scenario> scenarios) {
+
+    public static final String FILE = "common/gametest/chronodawn-load-test-baseline.json";
+    public static final String PATH_ENV = "CHRONODAWN_LOAD_TEST_BASELINE";
+
+    /**
+     * Server tick times are kept in a 100-entry ring buffer, so samples are read in
+     * windows of this size.
+     */
+    public static final int SAMPLE_WINDOW_TICKS = 100;
+
+    /**
+     * One load scenario and its budget.
+     *
+     * @param entityId entity type ID, or {@code null} for the empty pen
+     * @param volleyIntervalTicks ticks between projectile volleys, or 0 to spawn once
+     * @param maxAvgMs average tick time budget, or 0 if the scenario has no budget yet
+     * @param maxP99Ms p99 tick time budget, or 0 if the scenario has no budget yet
+     */
+    public record Scenario(
+        String name,
+        String entityId,
+        int population,
+        int volleyIntervalTicks,
+        double maxAvgMs,
+        double maxP99Ms
+    ) {
+        public boolean isVolley() {
+            return volleyIntervalTicks > 0;
+        }
+
+        public boolean hasBudget() {
+            return maxAvgMs > 0;
+        }
+    }
+
+    public LoadTestBaseline {
+        scenarios = List.copyOf(scenarios);
+    }
+
+    /**
+     * Loads the baseline from {@link #PATH_ENV} if set, otherwise from {@link #locate()}.
+     *
+     * @throws IllegalStateException if the file is missing or malformed
+     */
+    public static LoadTestBaseline load() {
+        String override = System.getenv(PATH_ENV);
+        Path path = override != null && !override.isBlank() ? Path.of(override) : locate();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return parse(reader);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read load test baseline " + path, e);
+        }
+    }
+
+    /**
+     * Finds {@link #FILE} in the source tree by walking up from the working directory.
+     *
+     * @throws IllegalStateException if no parent directory contains it
+     */
+    public static Path locate() {
+        for (Path dir = Path.of("").toAbsolutePath(); dir != null; dir = dir.getParent()) {
+            Path candidate = dir.resolve(FILE);
+            if (Files.isRegularFile(candidate)) {
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("Load test baseline " + FILE + " not found above "
+            + Path.of("").toAbsolutePath() + "; set " + PATH_ENV + " to its path");
+    }
+
+    /**
+     * Parses a baseline file.
+     *
+     * @throws IllegalStateException if a required field is missing or a value is out of range
+     */
+    public static LoadTestBaseline parse(Reader reader) {
+        JsonObject root;
+        try {
+            root = JsonParser.parseReader(reader).getAsJsonObject();
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("Load test baseline is not a JSON object", e);
+        }
+
+        int warmupTicks = intField(root, "warmupTicks", 40);
+        // Round up to whole ring-buffer windows
+        int sampleTicks = intField(root, "sampleTicks", SAMPLE_WINDOW_TICKS);
+        sampleTicks = Math.max(1, (sampleTicks + SAMPLE_WINDOW_TICKS - 1) / SAMPLE_WINDOW_TICKS) * SAMPLE_WINDOW_TICKS;
+
+        if (!root.has("scenarios") || !root.get("scenarios").isJsonArray()) {
+            throw new IllegalStateException("Load test baseline has no 'scenarios' array");
+        }
+        JsonArray array = root.getAsJsonArray("scenarios");
+        List<Scenario> scenarios = new ArrayList<>(array.size());
+        Set<String> names = new HashSet<>();
+        for (JsonElement element : array) {
+            JsonObject object = element.getAsJsonObject();
+            if (!object.has("name")) {
+                throw new IllegalStateException("Load test scenario without a 'name': " + object);
+            }
+            String name = object.get("name").getAsString();
+            if (!names.add(name)) {
+                throw new IllegalStateException("Duplicate load test scenario: " + name);
+            }
+            String entityId = object.has("entity") ? object.get("entity").getAsString() : null;
+            int population = intField(object, "population", entityId != null ? 1 : 0);
+            int volleyInterval = intField(object, "volleyIntervalTicks", 0);
+            if (volleyInterval > 0 && entityId == null) {
+                throw new IllegalStateException("Volley scenario '" + name + "' has no 'entity'");
+            }
+            if (object.has("maxAvgMs") != object.has("maxP99Ms")) {
+                throw new IllegalStateException("Load test scenario '" + name + "' needs both 'maxAvgMs' and 'maxP99Ms' or neither");
+            }
+            double maxAvgMs = object.has("maxAvgMs") ? object.get("maxAvgMs").getAsDouble() : 0.0;
+            double maxP99Ms = object.has("maxP99Ms") ? object.get("maxP99Ms").getAsDouble() : 0.0;
+            if (object.has("maxAvgMs") && (maxAvgMs <= 0 || maxP99Ms < maxAvgMs)) {
+                throw new IllegalStateException("Load test scenario '" + name
+                    + "' needs 0 < maxAvgMs <= maxP99Ms: " + maxAvgMs + " / " + maxP99Ms);
+            }
+            scenarios.add(new Scenario(name, entityId, population, volleyInterval, maxAvgMs, maxP99Ms));
+        }
+        return new LoadTestBaseline(warmupTicks, sampleTicks, scenarios);
+    }
+
+    private static int intField(JsonObject object, String key, int fallback) {
+        if (!object.has(key)) {
+            return fallback;
+        }
+        int value = object.get(key).getAsInt();
+        if (value < 0) {
+            throw new IllegalStateException("'" + key + "' must not be negative: " + value);
+        }
+        return value;
+    }
+}
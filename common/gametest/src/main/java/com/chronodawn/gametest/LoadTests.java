@@ -0,0 +1,314 @@
+package com.chronodawn.gametest;
+
+import com.chronodawn.ChronoDawn;
+import com.chronodawn.compat.CompatGameTestHelper;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.projectile.Projectile;
+import net.minecraft.world.level.block.Blocks;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Shared MSPT load test generator used across all Minecraft versions.
+ *
+ * Spawns each scenario from {@link LoadTestBaseline} into a barrier pen inside the test
+ * structure, samples the server's own tick times and fails when a scenario's average or
+ * p99 tick time exceeds its budget. Scenarios without a budget are only measured and
+ * reported. Scenarios run one after another inside a single test,
+ * because tick time is server-wide and concurrent tests would measure each other.
+ *
+ * Load tests are opt-in. With {@code CHRONODAWN_LOAD_TESTS=1} (or
+ * {@code -Dchronodawn.loadTests=true}) the registry-driven generator returns only the load
+ * test, so nothing else shares the server while it is measured:
+ * <pre>
+ * CHRONODAWN_LOAD_TESTS=1 ./gradlew :fabric:runGameTest -Ptarget_mc_version=1.21.11
+ * CHRONODAWN_LOAD_TESTS=1 ./gradlew :neoforge:runGameTestServer -Ptarget_mc_version=1.21.11
+ * </pre>
+ * {@code CHRONODAWN_LOAD_TEST_SCALE} multiplies every population (e.g. {@code 2.0} to find
+ * the point where a budget breaks). Results are logged and written to
+ * {@code chronodawn-load-test-report.json} in the server run directory.
+ */
+public final class LoadTests {
+
+    public static final String ENABLE_ENV = "CHRONODAWN_LOAD_TESTS";
+    public static final String ENABLE_PROPERTY = "chronodawn.loadTests";
+    public static final String SCALE_ENV = "CHRONODAWN_LOAD_TEST_SCALE";
+    public static final String REPORT_FILE = "chronodawn-load-test-report.json";
+
+    // Pen inside the 10x10x10 empty_test structure: stone floor at y=1, barrier walls and roof
+    private static final int PEN_SIZE = 10;
+    private static final int FLOOR_Y = 1;
+    private static final int ROOF_Y = 9;
+    private static final BlockPos VOLLEY_ORIGIN = new BlockPos(4, 4, 4);
+    private static final float VOLLEY_VELOCITY = 0.6f;
+
+    // Ticks between scenarios for removed entities to unload and the server to settle
+    private static final int SETTLE_TICKS = 20;
+
+    private LoadTests() {
+        // Utility class
+    }
+
+    @FunctionalInterface
+    public interface TimedTestFactory<T> {
+        T create(String name, Consumer<GameTestHelper> test, int timeoutTicks);
+    }
+
+    /**
+     * Measured tick times for one scenario.
+     */
+    public record Result(
+        String name,
+        String entity,
+        int population,
+        String status,
+        double avgMs,
+        double p99Ms,
+        double maxMs,
+        double maxAvgMs,
+        double maxP99Ms
+    ) {
+        boolean exceeded() {
+            return "exceeded".equals(status);
+        }
+    }
+
+    public static boolean isEnabled() {
+        String env = System.getenv(ENABLE_ENV);
+        return "1".equals(env) || "true".equalsIgnoreCase(env) || Boolean.getBoolean(ENABLE_PROPERTY);
+    }
+
+    /**
+     * Generates the load test, or nothing when load tests are not enabled.
+     */
+    public static <T> List<T> generateTests(TimedTestFactory<T> factory) {
+        if (!isEnabled()) {
+            return List.of();
+        }
+        LoadTestBaseline baseline = LoadTestBaseline.load();
+        double scale = populationScale();
+        int ticksPerScenario = baseline.warmupTicks() + baseline.sampleTicks() + SETTLE_TICKS;
+        int timeout = baseline.scenarios().size() * ticksPerScenario + SETTLE_TICKS * 5;
+        return List.of(factory.create("load_test_mspt",
+            helper -> new Run(helper, baseline, scale).start(), timeout));
+    }
+
+    private static double populationScale() {
+        String value = System.getenv(SCALE_ENV);
+        if (value == null || value.isBlank()) {
+            return 1.0;
+        }
+        try {
+            return Math.max(0.0, Double.parseDouble(value));
+        } catch (NumberFormatException e) {
+            ChronoDawn.LOGGER.warn("[LoadTest] Ignoring invalid {}={}", SCALE_ENV, value);
+            return 1.0;
+        }
+    }
+
+    /**
+     * Average and p99 of tick times in nanoseconds, as {@code [avgMs, p99Ms, maxMs]}.
+     */
+    static double[] summarize(long[] tickNanos) {
+        if (tickNanos.length == 0) {
+            return new double[] {0.0, 0.0, 0.0};
+        }
+        long[] sorted = tickNanos.clone();
+        Arrays.sort(sorted);
+        long sum = 0;
+        for (long nanos : sorted) {
+            sum += nanos;
+        }
+        int p99Index = Math.max(0, (int) Math.ceil(sorted.length * 0.99) - 1);
+        return new double[] {
+            sum / (double) sorted.length / 1_000_000.0,
+            sorted[p99Index] / 1_000_000.0,
+            sorted[sorted.length - 1] / 1_000_000.0
+        };
+    }
+
+    /**
+     * State for one pass over all scenarios. Every step is scheduled with
+     * {@link GameTestHelper#runAfterDelay}, so everything runs on the server thread.
+     */
+    private static final class Run {
+        private final GameTestHelper helper;
+        private final LoadTestBaseline baseline;
+        private final double scale;
+        private final List<Result> results = new ArrayList<>();
+        private final List<Entity> spawned = new ArrayList<>();
+        private long[] samples = new long[0];
+        private boolean volleyActive;
+
+        Run(GameTestHelper helper, LoadTestBaseline baseline, double scale) {
+            this.helper = helper;
+            this.baseline = baseline;
+            this.scale = scale;
+        }
+
+        void start() {
+            buildPen();
+            // Let the pen and test structure settle before the first measurement
+            helper.runAfterDelay(SETTLE_TICKS, () -> runScenario(0));
+        }
+
+        private void buildPen() {
+            for (int x = 0; x < PEN_SIZE; x++) {
+                for (int z = 0; z < PEN_SIZE; z++) {
+                    boolean edge = x == 0 || z == 0 || x == PEN_SIZE - 1 || z == PEN_SIZE - 1;
+                    helper.setBlock(x, FLOOR_Y, z, Blocks.STONE);
+                    helper.setBlock(x, ROOF_Y, z, Blocks.BARRIER);
+                    if (edge) {
+                        for (int y = FLOOR_Y + 1; y < ROOF_Y; y++) {
+                            helper.setBlock(x, y, z, Blocks.BARRIER);
+                        }
+                    }
+                }
+            }
+        }
+
+        private void runScenario(int index) {
+            if (index >= baseline.scenarios().size()) {
+                finish();
+                return;
+            }
+            LoadTestBaseline.Scenario scenario = baseline.scenarios().get(index);
+
+            EntityType<?> type = null;
+            if (scenario.entityId() != null) {
+                Optional<EntityType<?>> resolved = EntityType.byString(scenario.entityId());
+                if (resolved.isEmpty()) {
+                    // Entity not registered in this Minecraft version
+                    results.add(new Result(scenario.name(), scenario.entityId(), 0, "skipped",
+                        0.0, 0.0, 0.0, scenario.maxAvgMs(), scenario.maxP99Ms()));
+                    helper.runAfterDelay(1, () -> runScenario(index + 1));
+                    return;
+                }
+                type = resolved.get();
+            }
+
+            int population = type == null ? 0 : Math.max(1, (int) Math.round(scenario.population() * scale));
+            if (type != null) {
+                if (scenario.isVolley()) {
+                    volleyActive = true;
+                    fireVolleys(type, population, scenario.volleyIntervalTicks());
+                } else {
+                    for (int i = 0; i < population; i++) {
+                        spawned.add(helper.spawn(type, spawnPos(i)));
+                    }
+                }
+            }
+
+            samples = new long[0];
+            helper.runAfterDelay(baseline.warmupTicks() + LoadTestBaseline.SAMPLE_WINDOW_TICKS,
+                () -> sampleWindow(index, scenario, population, 1));
+        }
+
+        private void fireVolleys(EntityType<?> type, int population, int interval) {
+            if (!volleyActive) {
+                return;
+            }
+            spawned.removeIf(Entity::isRemoved);
+            RandomSource random = helper.getLevel().getRandom();
+            for (int i = 0; i < population; i++) {
+                Entity entity = helper.spawn(type, VOLLEY_ORIGIN);
+                if (entity instanceof Projectile projectile) {
+                    double angle = random.nextDouble() * Math.PI * 2.0;
+                    projectile.shoot(Math.cos(angle), 0.1, Math.sin(angle), VOLLEY_VELOCITY, 0.0f);
+                }
+                spawned.add(entity);
+            }
+            helper.runAfterDelay(interval, () -> fireVolleys(type, population, interval));
+        }
+
+        private void sampleWindow(int index, LoadTestBaseline.Scenario scenario, int population, int window) {
+            long[] ring = CompatGameTestHelper.tickTimesNanos(helper);
+            long[] merged = Arrays.copyOf(samples, samples.length + ring.length);
+            System.arraycopy(ring, 0, merged, samples.length, ring.length);
+            samples = merged;
+
+            if (window * LoadTestBaseline.SAMPLE_WINDOW_TICKS < baseline.sampleTicks()) {
+                helper.runAfterDelay(LoadTestBaseline.SAMPLE_WINDOW_TICKS,
+                    () -> sampleWindow(index, scenario, population, window + 1));
+                return;
+            }
+
+            double[] summary = summarize(samples);
+            boolean exceeded = scenario.hasBudget()
+                && (summary[0] > scenario.maxAvgMs() || summary[1] > scenario.maxP99Ms());
+            String status = !scenario.hasBudget() ? "measured" : exceeded ? "exceeded" : "ok";
+            Result result = new Result(scenario.name(), scenario.entityId(), population,
+                status, summary[0], summary[1], summary[2],
+                scenario.maxAvgMs(), scenario.maxP99Ms());
+            results.add(result);
+            ChronoDawn.LOGGER.info("[LoadTest] {} x{}: avg {} ms, p99 {} ms, max {} ms ({}){}",
+                result.name(), population, format(result.avgMs()), format(result.p99Ms()),
+                format(result.maxMs()),
+                scenario.hasBudget()
+                    ? "budget " + format(result.maxAvgMs()) + " / " + format(result.maxP99Ms())
+                    : "no budget",
+                exceeded ? " EXCEEDED" : "");
+
+            volleyActive = false;
+            for (Entity entity : spawned) {
+                if (!entity.isRemoved()) {
+                    entity.discard();
+                }
+            }
+            spawned.clear();
+            helper.runAfterDelay(SETTLE_TICKS, () -> runScenario(index + 1));
+        }
+
+        private void finish() {
+            writeReport();
+            List<String> exceeded = results.stream()
+                .filter(Result::exceeded)
+                .map(r -> r.name() + " (avg " + format(r.avgMs()) + "/" + format(r.maxAvgMs())
+                    + " ms, p99 " + format(r.p99Ms()) + "/" + format(r.maxP99Ms()) + " ms)")
+                .toList();
+            if (exceeded.isEmpty()) {
+                helper.succeed();
+            } else {
+                CompatGameTestHelper.fail(helper, "Tick time budget exceeded: " + String.join(", ", exceeded));
+            }
+        }
+
+        private void writeReport() {
+            Gson gson = new GsonBuilder().setPrettyPrinting().create();
+            Path path = Path.of(REPORT_FILE);
+            try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+                gson.toJson(new Report(baseline.warmupTicks(), baseline.sampleTicks(), scale, results), writer);
+                ChronoDawn.LOGGER.info("[LoadTest] Report written to {}", path.toAbsolutePath());
+            } catch (IOException e) {
+                ChronoDawn.LOGGER.warn("[LoadTest] Failed to write report to {}", path.toAbsolutePath(), e);
+            }
+        }
+
+        private static BlockPos spawnPos(int i) {
+            int interior = PEN_SIZE - 2;
+            return new BlockPos(1 + i % interior, FLOOR_Y + 1, 1 + (i / interior) % interior);
+        }
+    }
+
+    private record Report(int warmupTicks, int sampleTicks, double populationScale, List<Result> scenarios) {}
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+}
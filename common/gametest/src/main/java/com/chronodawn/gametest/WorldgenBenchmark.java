@@ -0,0 +1,218 @@
+package com.chronodawn.gametest;
+
+import com.chronodawn.ChronoDawn;
+import com.chronodawn.compat.CompatGameTestHelper;
+import com.chronodawn.registry.ModDimensions;
+import com.chronodawn.worldgen.profiling.WorldgenProfiler;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerLevel;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Headless worldgen throughput benchmark for the Chrono Dawn dimension.
+ *
+ * Force-loads an N×N chunk area of the Chrono Dawn dimension on the gametest server,
+ * waits until every chunk reaches FULL status and reports chunks per second together
+ * with the time spent in each placed feature and structure start (see
+ * {@link WorldgenProfiler}). The gametest server always creates its world with seed 0,
+ * so repeated runs generate the same terrain. Delete the gametest world
+ * ({@code run/gametestworld}) between runs; chunks loaded from disk are not generated.
+ *
+ * Opt-in like {@link LoadTests}:
+ * <pre>
+ * CHRONODAWN_WORLDGEN_BENCHMARK=1 ./gradlew :fabric:runGameTest -Ptarget_mc_version=1.21.11
+ * CHRONODAWN_WORLDGEN_BENCHMARK=1 ./gradlew :neoforge:runGameTestServer -Ptarget_mc_version=1.21.11
+ * </pre>
+ * {@code CHRONODAWN_WORLDGEN_BENCHMARK_SIZE} sets N (default 16). The report is written to
+ * {@code chronodawn-worldgen-benchmark.json} in the server run directory.
+ */
+public final class WorldgenBenchmark {
+
+    public static final String ENABLE_ENV = "CHRONODAWN_WORLDGEN_BENCHMARK";
+    public static final String ENABLE_PROPERTY = "chronodawn.worldgenBenchmark";
+    public static final String SIZE_ENV = "CHRONODAWN_WORLDGEN_BENCHMARK_SIZE";
+    public static final String REPORT_FILE = "chronodawn-worldgen-benchmark.json";
+
+    private static final int DEFAULT_SIZE = 16;
+    private static final int MAX_SIZE = 64;
+    // Far enough from the dimension's spawn that nothing in the area is generated up front
+    private static final int ORIGIN_CHUNK_X = 256;
+    private static final int ORIGIN_CHUNK_Z = 256;
+    // Generous per-chunk allowance; the test only fails on timeout
+    private static final int TIMEOUT_TICKS_PER_CHUNK = 40;
+    private static final int MIN_TIMEOUT_TICKS = 2400;
+
+    private WorldgenBenchmark() {
+        // Utility class
+    }
+
+    /**
+     * Time spent in one placed feature or structure start.
+     */
+    public record Section(String type, String id, long calls, double totalMs, double avgMicros, double share) {}
+
+    private record Report(
+        long seed,
+        String dimension,
+        int originChunkX,
+        int originChunkZ,
+        int size,
+        int chunks,
+        double wallSeconds,
+        double chunksPerSecond,
+        Map<String, Double> totalMsByType,
+        List<Section> sections
+    ) {}
+
+    public static boolean isEnabled() {
+        String env = System.getenv(ENABLE_ENV);
+        return "1".equals(env) || "true".equalsIgnoreCase(env) || Boolean.getBoolean(ENABLE_PROPERTY);
+    }
+
+    /**
+     * Generates the benchmark test, or nothing when the benchmark is not enabled.
+     */
+    public static <T> List<T> generateTests(LoadTests.TimedTestFactory<T> factory) {
+        if (!isEnabled()) {
+            return List.of();
+        }
+        int size = areaSize();
+        int timeout = Math.max(MIN_TIMEOUT_TICKS, size * size * TIMEOUT_TICKS_PER_CHUNK);
+        return List.of(factory.create("worldgen_benchmark", helper -> run(helper, size), timeout));
+    }
+
+    private static int areaSize() {
+        String value = System.getenv(SIZE_ENV);
+        if (value == null || value.isBlank()) {
+            return DEFAULT_SIZE;
+        }
+        try {
+            return Math.max(1, Math.min(MAX_SIZE, Integer.parseInt(value.trim())));
+        } catch (NumberFormatException e) {
+            ChronoDawn.LOGGER.warn("[WorldgenBenchmark] Ignoring invalid {}={}", SIZE_ENV, value);
+            return DEFAULT_SIZE;
+        }
+    }
+
+    private static void run(GameTestHelper helper, int size) {
+        ServerLevel level = helper.getLevel().getServer().getLevel(ModDimensions.CHRONO_DAWN_DIMENSION);
+        if (level == null) {
+            CompatGameTestHelper.fail(helper, "Chrono Dawn dimension is not loaded");
+            return;
+        }
+
+        int alreadyLoaded = countLoaded(level, size);
+        if (alreadyLoaded > 0) {
+            ChronoDawn.LOGGER.warn("[WorldgenBenchmark] {} of {} chunks were already loaded; "
+                + "delete the gametest world for a clean measurement", alreadyLoaded, size * size);
+        }
+
+        WorldgenProfiler.start();
+        long startNanos = System.nanoTime();
+        forceArea(level, size, true);
+        helper.runAfterDelay(1, () -> poll(helper, level, size, startNanos));
+    }
+
+    private static void poll(GameTestHelper helper, ServerLevel level, int size, long startNanos) {
+        if (countLoaded(level, size) < size * size) {
+            helper.runAfterDelay(1, () -> poll(helper, level, size, startNanos));
+            return;
+        }
+        long wallNanos = System.nanoTime() - startNanos;
+        WorldgenProfiler.stop();
+        forceArea(level, size, false);
+
+        Report report = buildReport(level, size, wallNanos, WorldgenProfiler.snapshot());
+        ChronoDawn.LOGGER.info("[WorldgenBenchmark] {} chunks in {} s: {} chunks/s",
+            report.chunks(), format(report.wallSeconds()), format(report.chunksPerSecond()));
+        for (Section section : report.sections().subList(0, Math.min(10, report.sections().size()))) {
+            ChronoDawn.LOGGER.info("[WorldgenBenchmark]   {} {}: {} ms over {} calls ({}%)",
+                section.type(), section.id(), format(section.totalMs()), section.calls(),
+                format(section.share() * 100.0));
+        }
+        writeReport(report);
+        helper.succeed();
+    }
+
+    private static Report buildReport(ServerLevel level, int size, long wallNanos,
+            List<WorldgenProfiler.SectionStats> stats) {
+        long totalNanos = 0;
+        for (WorldgenProfiler.SectionStats stat : stats) {
+            totalNanos += stat.totalNanos();
+        }
+        List<Section> sections = new ArrayList<>(stats.size());
+        Map<String, Double> byType = new LinkedHashMap<>();
+        for (WorldgenProfiler.SectionStats stat : stats) {
+            double totalMs = stat.totalNanos() / 1_000_000.0;
+            sections.add(new Section(
+                stat.type(),
+                stat.id(),
+                stat.calls(),
+                totalMs,
+                stat.calls() > 0 ? stat.totalNanos() / 1_000.0 / stat.calls() : 0.0,
+                totalNanos > 0 ? stat.totalNanos() / (double) totalNanos : 0.0));
+            byType.merge(stat.type(), totalMs, Double::sum);
+        }
+        int chunks = size * size;
+        double wallSeconds = wallNanos / 1_000_000_000.0;
+        return new Report(
+            level.getSeed(),
+            // ResourceKey.location() is renamed in 1.21.11; the toString() form is stable
+            WorldgenProfiler.parseLabel(level.dimension().toString())[1],
+            ORIGIN_CHUNK_X,
+            ORIGIN_CHUNK_Z,
+            size,
+            chunks,
+            wallSeconds,
+            wallSeconds > 0 ? chunks / wallSeconds : 0.0,
+            byType,
+            sections);
+    }
+
+    private static void forceArea(ServerLevel level, int size, boolean forced) {
+        for (int dx = 0; dx < size; dx++) {
+            for (int dz = 0; dz < size; dz++) {
+                level.setChunkForced(ORIGIN_CHUNK_X + dx, ORIGIN_CHUNK_Z + dz, forced);
+            }
+        }
+    }
+
+    private static int countLoaded(ServerLevel level, int size) {
+        int loaded = 0;
+        for (int dx = 0; dx < size; dx++) {
+            for (int dz = 0; dz < size; dz++) {
+                if (level.getChunkSource().getChunkNow(ORIGIN_CHUNK_X + dx, ORIGIN_CHUNK_Z + dz) != null) {
+                    loaded++;
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private static void writeReport(Report report) {
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        Path path = Path.of(REPORT_FILE);
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            gson.toJson(report, writer);
+            ChronoDawn.LOGGER.info("[WorldgenBenchmark] Report written to {}", path.toAbsolutePath());
+        } catch (IOException e) {
+            ChronoDawn.LOGGER.warn("[WorldgenBenchmark] Failed to write report to {}", path.toAbsolutePath(), e);
+        }
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+}
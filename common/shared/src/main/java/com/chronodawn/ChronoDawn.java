@@ -17,10 +17,15 @@
  */
 package com.chronodawn;
 
+import com.chronodawn.command.ChronoDawnCommands;
 import com.chronodawn.config.ChronoDawnConfig;
 import com.chronodawn.config.ConfigLoader;
 import com.chronodawn.core.dimension.ChronoDawnBiomeProvider;
 import com.chronodawn.core.dimension.ChronoDawnDimension;
+import com.chronodawn.core.performance.ChronoDawnMetrics;
+import com.chronodawn.core.performance.DegradationGovernor;
+import com.chronodawn.core.performance.SafeBlockAccess;
+import com.chronodawn.core.performance.StartupProfiler;
 import com.chronodawn.core.portal.PortalPersistenceManager;
 import com.chronodawn.events.ChronoDawnEvents;
 import com.chronodawn.registry.ModBlocks;
@@ -36,6 +41,7 @@ import com.chronodawn.registry.ModParticles;
 import com.chronodawn.registry.ModSounds;
 import com.chronodawn.registry.ModStructureProcessorTypes;
 import com.chronodawn.registry.ModTreeDecoratorTypes;
+import com.chronodawn.worldgen.pregen.ChronoDawnPregenerator;
 import com.chronodawn.worldgen.runtime.OverlayPackBootstrap;
 import com.chronodawn.worldgen.runtime.OverlayPackPlatform;
 import com.chronodawn.worldgen.spawning.ChronosWardenSpawner;
@@ -46,6 +52,8 @@ import com.chronodawn.worldgen.spawning.PhantomCatacombsBossRoomPlacer;
 import com.chronodawn.worldgen.spawning.TemporalPhantomSpawner;
 import com.chronodawn.worldgen.spawning.TimeGuardianSpawner;
 import com.chronodawn.worldgen.spawning.TimeTyrantSpawner;
+import com.chronodawn.worldgen.templates.ChronoDawnTemplateCache;
+import com.chronodawn.worldgen.templates.SlicedTemplatePlacement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -56,34 +64,40 @@ public class ChronoDawn {
     public static void init() {
         LOGGER.info("ChronoDawn Mod (common) initialized");
 
-        // Load TOML config and materialise the runtime overlay datapack to disk.
-        // Loader-specific code reads the path back via OverlayPackBootstrap.getOverlayPath()
+        // Load TOML config and build the runtime overlay datapack in memory.
+        // Loader-specific code reads it back via OverlayPackBootstrap.getContents()
         // when constructing its pack source.
+        long configStart = System.nanoTime();
         java.nio.file.Path configDir = OverlayPackPlatform.getConfigDirectory();
         ChronoDawnConfig config = ConfigLoader.load(configDir);
-        OverlayPackBootstrap.writeOverlay(configDir, config);
+        OverlayPackBootstrap.init(configDir, config);
+        StartupProfiler.record("config", configStart);
+
+        // Metrics ([performance.metrics]) come first so subsystems registered below can report to them
+        ChronoDawnMetrics.register();
 
         // Initialize registries (Phase 2 - Foundational)
-        ModFluids.register();
-        ModBlocks.register();
-        ModBlockEntities.register();
-        ModItems.register();
-        ModSounds.register();
-        ModEffects.register();
-        ModEntities.register();
-        ModParticles.register();
-        ModDimensions.register();
-        ModCreativeTabs.register();
-        ModTreeDecoratorTypes.register();
-        ModStructureProcessorTypes.register();
-        ModFeatures.register();
+        // Each registry is timed for the startup profile; on Fabric this is where the entries are built
+        StartupProfiler.time("registry/fluids", ModFluids::register);
+        StartupProfiler.time("registry/blocks", ModBlocks::register);
+        StartupProfiler.time("registry/block_entities", ModBlockEntities::register);
+        StartupProfiler.time("registry/items", ModItems::register);
+        StartupProfiler.time("registry/sounds", ModSounds::register);
+        StartupProfiler.time("registry/effects", ModEffects::register);
+        StartupProfiler.time("registry/entities", ModEntities::register);
+        StartupProfiler.time("registry/particles", ModParticles::register);
+        StartupProfiler.time("registry/dimensions", ModDimensions::register);
+        StartupProfiler.time("registry/creative_tabs", ModCreativeTabs::register);
+        StartupProfiler.time("registry/tree_decorators", ModTreeDecoratorTypes::register);
+        StartupProfiler.time("registry/structure_processors", ModStructureProcessorTypes::register);
+        StartupProfiler.time("registry/features", ModFeatures::register);
 
         // Note: Spawn egg initialization is platform-specific
         // - Fabric: Called immediately in ChronoDawnFabric.onInitialize()
         // - NeoForge: Called in FMLCommonSetupEvent (ChronoDawnNeoForge.commonSetup())
 
         // Register event handlers (Phase 2 - Foundational)
-        ChronoDawnEvents.register();
+        StartupProfiler.time("events", ChronoDawnEvents::register);
 
         // Initialize dimension systems (Phase 3 - User Story 1)
         ChronoDawnDimension.init();
@@ -102,8 +116,22 @@ public class ChronoDawn {
         MasterClockBossRoomPlacer.register();
         PhantomCatacombsBossRoomPlacer.register();
         TemporalPhantomSpawner.register();
+        // Structure templates used by the placers, preloaded off the server thread
+        ChronoDawnTemplateCache.register();
+        // Boss rooms are written over several ticks ([performance.template_placement])
+        SlicedTemplatePlacement.register();
         // EntropyKeeperSpawner disabled - Entropy Keeper now spawns via EntropyCryptTrapdoorBlock
         // EntropyKeeperSpawner.register();
+
+        // Load-based degradation (/chronodawn degradation)
+        DegradationGovernor.register();
+
+        // Chunk loads forced by block reads, counted in development environments
+        SafeBlockAccess.register();
+
+        // Chunk pregeneration (/chronodawn pregen)
+        ChronoDawnPregenerator.register();
+        ChronoDawnCommands.register();
     }
 }
 
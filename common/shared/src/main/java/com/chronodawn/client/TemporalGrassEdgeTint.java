@@ -10,6 +10,7 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.tags.FluidTags;
 import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.BlockAndTintGetter;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.Nullable;
@@ -178,7 +179,8 @@ public final class TemporalGrassEdgeTint {
         // result is unchanged) — the warm gradient otherwise reads as too dark
         // against the warm-tinted gravel itself.
         int gravelEdge = isInFadedPlains(pos) ? base : EDGE_TINT;
-        return blend(world, pos, base, EDGE_TINT, gravelEdge);
+        return blend(world, pos, base, EDGE_TINT, gravelEdge,
+            ModBlocks.TEMPORAL_SAND.get(), ModBlocks.TEMPORAL_GRAVEL.get());
     }
 
     /**
@@ -237,9 +239,13 @@ public final class TemporalGrassEdgeTint {
      * {@code sandEdgeTint} or {@code gravelEdgeTint} depending on which trigger
      * type is closest, with sand winning ties) and one for water proximity
      * (toward {@link #WET_TINT}). All scans share the same loop.
+     *
+     * <p>Temporal Sand / Temporal Gravel are passed in rather than looked up per
+     * neighbor, which also lets the benchmarks run the scan with vanilla stand-ins.
      */
     static int blend(BlockGetter world, BlockPos pos, int baseTint,
-                     int sandEdgeTint, int gravelEdgeTint) {
+                     int sandEdgeTint, int gravelEdgeTint,
+                     Block temporalSand, Block temporalGravel) {
         int minDistSand = RADIUS + 1;
         int minDistGravel = RADIUS + 1;
         int minDistWater = WATER_RADIUS + 1;
@@ -255,10 +261,10 @@ public final class TemporalGrassEdgeTint {
                 if (!canImproveSand && !canImproveGravel && !canImproveWater) continue;
                 cur.set(pos.getX() + dx, pos.getY(), pos.getZ() + dz);
                 BlockState neighbor = world.getBlockState(cur);
-                if (canImproveSand && isSandEdgeTrigger(neighbor)) {
+                if (canImproveSand && isSandEdgeTrigger(neighbor, temporalSand)) {
                     minDistSand = d;
                 }
-                if (canImproveGravel && isGravelEdgeTrigger(neighbor)) {
+                if (canImproveGravel && isGravelEdgeTrigger(neighbor, temporalGravel)) {
                     minDistGravel = d;
                 }
                 if (canImproveWater) {
@@ -290,13 +296,13 @@ public final class TemporalGrassEdgeTint {
         return result;
     }
 
-    static boolean isSandEdgeTrigger(BlockState state) {
-        return state.is(ModBlocks.TEMPORAL_SAND.get())
+    static boolean isSandEdgeTrigger(BlockState state, Block temporalSand) {
+        return state.is(temporalSand)
             || state.is(Blocks.SAND);
     }
 
-    static boolean isGravelEdgeTrigger(BlockState state) {
-        return state.is(ModBlocks.TEMPORAL_GRAVEL.get())
+    static boolean isGravelEdgeTrigger(BlockState state, Block temporalGravel) {
+        return state.is(temporalGravel)
             || state.is(Blocks.GRAVEL);
     }
 
@@ -0,0 +1,185 @@
+package com.chronodawn.client.environment;
+
+import com.chronodawn.core.dimension.ChronoDawnBiomeProvider;
+import com.chronodawn.network.S2CEnvironmentStatePayload;
+import com.chronodawn.registry.ModDimensions;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.Holder;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.biome.Biome;
+
+/**
+ * Client-side snapshot of everything the Chrono Dawn sky and fog mixins need.
+ *
+ * {@code SkyColorMixin} and the Dark Forest fog mixins run every frame (several times per
+ * frame for fog). Before this class they each looked up the camera biome, checked the
+ * dimension and walked the advancement progress map on every call. Now {@link #tick()}
+ * does that work once per client tick and the mixins only read the resulting fields.
+ *
+ * Values are also eased between ticks so nothing snaps:
+ * <ul>
+ *   <li>Sky color fades from grey to blue over {@link #SKY_FADE_TICKS} when the Time
+ *       Tyrant is defeated while the player is online.</li>
+ *   <li>Dark Forest fog thickens or clears over {@link #FOG_FADE_TICKS} when the camera
+ *       crosses the biome border; render code blends further with the partial tick.</li>
+ * </ul>
+ *
+ * The Time Tyrant state comes from {@link S2CEnvironmentStatePayload} (sent on login and
+ * on defeat) rather than from the client's advancement progress.
+ *
+ * All access is on the client main thread (tick, packet queue and rendering).
+ * Like {@link com.chronodawn.client.shield.ClientShieldCooldowns}, this class references
+ * {@link Minecraft} and is only loaded on clients.
+ */
+public final class ChronoDawnEnvironmentState {
+    private ChronoDawnEnvironmentState() {}
+
+    // Vanilla-style RGB without alpha; 1.21.11 callers add the 0xFF alpha prefix
+    public static final int DEFAULT_SKY_COLOR = 0x909090;
+    public static final int CLEARED_SKY_COLOR = 0x5588DD;
+
+    private static final int SKY_FADE_TICKS = 100; // 5 seconds
+    private static final int FOG_FADE_TICKS = 40;  // 2 seconds
+
+    // Pushed by the server
+    private static boolean tyrantDefeated = false;
+
+    // Recomputed every client tick
+    private static ClientLevel trackedLevel = null;
+    private static boolean inChronoDawn = false;
+    private static Holder<Biome> cameraBiome = null;
+
+    // Sky color transition: skyColor = lerp(skyColorFrom, skyColorTarget, skyBlend)
+    private static int skyColorFrom = DEFAULT_SKY_COLOR;
+    private static int skyColorTarget = DEFAULT_SKY_COLOR;
+    private static float skyBlend = 1.0f;
+    private static int skyColor = DEFAULT_SKY_COLOR;
+
+    // Dark Forest fog strength, 0 (vanilla) to 1 (full override)
+    private static float previousDarkForestFog = 0.0f;
+    private static float darkForestFog = 0.0f;
+
+    /**
+     * Packet-receiver entry point (client main thread).
+     */
+    public static void applyFromPayload(S2CEnvironmentStatePayload payload) {
+        tyrantDefeated = payload.tyrantDefeated();
+        int target = targetSkyColor();
+        if (payload.fade()) {
+            startSkyTransition(target);
+        } else {
+            snapSky(target);
+        }
+    }
+
+    /**
+     * Called once per client tick from the platform tick handlers.
+     */
+    public static void tick() {
+        Minecraft minecraft = Minecraft.getInstance();
+        ClientLevel level = minecraft.level;
+        if (level == null) {
+            reset();
+            return;
+        }
+
+        // New world or dimension: start from the settled state instead of fading into it
+        boolean levelChanged = level != trackedLevel;
+        trackedLevel = level;
+        inChronoDawn = level.dimension().equals(ModDimensions.CHRONO_DAWN_DIMENSION);
+
+        Entity camera = minecraft.getCameraEntity();
+        cameraBiome = camera != null ? level.getBiome(camera.blockPosition()) : null;
+
+        // Sky
+        int target = targetSkyColor();
+        if (target != skyColorTarget) {
+            startSkyTransition(target);
+        }
+        if (skyBlend < 1.0f) {
+            skyBlend = Math.min(1.0f, skyBlend + 1.0f / SKY_FADE_TICKS);
+            skyColor = lerpColor(skyColorFrom, skyColorTarget, skyBlend);
+        }
+
+        // Fog
+        float fogTarget = cameraBiome != null && cameraBiome.is(ChronoDawnBiomeProvider.CHRONO_DAWN_DARK_FOREST)
+            ? 1.0f : 0.0f;
+        if (levelChanged) {
+            previousDarkForestFog = fogTarget;
+            darkForestFog = fogTarget;
+        } else {
+            previousDarkForestFog = darkForestFog;
+            darkForestFog = approach(darkForestFog, fogTarget, 1.0f / FOG_FADE_TICKS);
+        }
+    }
+
+    /** Whether the client is currently in the Chrono Dawn dimension. */
+    public static boolean inChronoDawn() {
+        return inChronoDawn;
+    }
+
+    /** Biome at the camera entity as of the last tick, or {@code null} outside a world. */
+    public static Holder<Biome> cameraBiome() {
+        return cameraBiome;
+    }
+
+    public static boolean isTyrantDefeated() {
+        return tyrantDefeated;
+    }
+
+    /**
+     * Sky color to use in place of {@link #DEFAULT_SKY_COLOR} (RGB, no alpha).
+     */
+    public static int skyColor() {
+        return skyColor;
+    }
+
+    /**
+     * Dark Forest fog strength for this frame, 0 (vanilla fog) to 1 (full Dark Forest fog).
+     */
+    public static float darkForestFog(float partialTick) {
+        return previousDarkForestFog + (darkForestFog - previousDarkForestFog) * partialTick;
+    }
+
+    private static int targetSkyColor() {
+        return tyrantDefeated ? CLEARED_SKY_COLOR : DEFAULT_SKY_COLOR;
+    }
+
+    private static void startSkyTransition(int target) {
+        skyColorFrom = skyColor;
+        skyColorTarget = target;
+        skyBlend = 0.0f;
+    }
+
+    private static void snapSky(int target) {
+        skyColorFrom = target;
+        skyColorTarget = target;
+        skyBlend = 1.0f;
+        skyColor = target;
+    }
+
+    private static void reset() {
+        tyrantDefeated = false;
+        trackedLevel = null;
+        inChronoDawn = false;
+        cameraBiome = null;
+        snapSky(DEFAULT_SKY_COLOR);
+        previousDarkForestFog = 0.0f;
+        darkForestFog = 0.0f;
+    }
+
+    private static float approach(float value, float target, float step) {
+        if (value < target) {
+            return Math.min(target, value + step);
+        }
+        return Math.max(target, value - step);
+    }
+
+    private static int lerpColor(int from, int to, float t) {
+        int r = Math.round(((from >> 16) & 0xFF) + (((to >> 16) & 0xFF) - ((from >> 16) & 0xFF)) * t);
+        int g = Math.round(((from >> 8) & 0xFF) + (((to >> 8) & 0xFF) - ((from >> 8) & 0xFF)) * t);
+        int b = Math.round((from & 0xFF) + ((to & 0xFF) - (from & 0xFF)) * t);
+        return (r << 16) | (g << 8) | b;
+    }
+}
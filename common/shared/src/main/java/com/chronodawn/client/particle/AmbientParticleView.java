@@ -0,0 +1,53 @@
+package com.chronodawn.client.particle;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Feeds {@link AmbientParticles} the camera, view cone and particle setting once per client tick.
+ *
+ * The view cone is a circle around the look direction wide enough to hold the whole screen
+ * (the diagonal of the field of view) plus {@link #CONE_MARGIN}, so particles at the edge of the
+ * screen and ones drifting into it are kept. It is only used in first person, where the camera
+ * sits at the camera entity's eyes.
+ *
+ * Like {@link com.chronodawn.client.environment.ChronoDawnEnvironmentState}, this class
+ * references {@link Minecraft} and is only loaded on clients.
+ */
+public final class AmbientParticleView {
+    private AmbientParticleView() {}
+
+    private static final double CONE_MARGIN = Math.toRadians(10.0);
+
+    /**
+     * Called once per client tick from the platform tick handlers.
+     */
+    public static void tick() {
+        Minecraft minecraft = Minecraft.getInstance();
+        ClientLevel level = minecraft.level;
+        Entity camera = minecraft.getCameraEntity();
+        if (level == null || camera == null) {
+            AmbientParticles.reset();
+            return;
+        }
+
+        // ParticleStatus moved packages in 1.21.2; its order (All, Decreased, Minimal) did not change
+        AmbientParticles.beginTick(level, minecraft.options.particles().get().ordinal());
+
+        Vec3 eye = camera.getEyePosition();
+        if (!minecraft.options.getCameraType().isFirstPerson()) {
+            AmbientParticles.setCamera(eye.x, eye.y, eye.z, 0.0, 0.0, 0.0, Math.PI);
+            return;
+        }
+
+        Vec3 look = camera.getViewVector(1.0F);
+        double aspect = minecraft.getWindow().getHeight() > 0
+            ? (double) minecraft.getWindow().getWidth() / minecraft.getWindow().getHeight()
+            : 1.0;
+        double halfFov = Math.toRadians(minecraft.options.fov().get()) / 2.0;
+        double halfDiagonal = Math.atan(Math.tan(halfFov) * Math.sqrt(1.0 + aspect * aspect));
+        AmbientParticles.setCamera(eye.x, eye.y, eye.z, look.x, look.y, look.z, halfDiagonal + CONE_MARGIN);
+    }
+}
@@ -0,0 +1,247 @@
+package com.chronodawn.client.particle;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+
+import java.util.function.Function;
+
+/**
+ * Level of detail for the ambient particles Chrono Dawn blocks add in {@code animateTick}.
+ *
+ * Each client tick vanilla runs {@code animateTick} on about 1,300 random blocks around the
+ * camera, so the particle count of Temporal Particle Emitters and portals grows with the number
+ * of those blocks in a build. Before adding a particle, blocks ask {@link #shouldSpawn}, which:
+ * <ul>
+ *   <li>caps Chrono Dawn ambient particles at {@link #TICK_BUDGET} per client tick, half that
+ *       on Decreased particles and none on Minimal (vanilla drops them there anyway)</li>
+ *   <li>thins them out with distance: full chance within {@link #NEAR_DISTANCE} blocks of the
+ *       camera, falling to {@link #FAR_DETAIL} at {@link #FAR_DISTANCE}, beyond which vanilla
+ *       does not add particles at all</li>
+ *   <li>skips positions outside the camera's view cone in first person</li>
+ * </ul>
+ *
+ * Portal blocks go through {@link #claimPortal} first, so a portal spawns its particles from
+ * one emitter per tick instead of from every block that happens to be animated.
+ *
+ * {@link AmbientParticleView} refreshes the camera and settings once per client tick. Like
+ * {@link com.chronodawn.client.performance.ClientServerLoad}, this class touches no client-only
+ * classes, so block code shared with the server may reference it. All access is on the client
+ * main thread.
+ */
+public final class AmbientParticles {
+    private AmbientParticles() {}
+
+    /** Chrono Dawn ambient particles per client tick on the "All" particle setting. */
+    public static final int TICK_BUDGET = 64;
+
+    public static final double NEAR_DISTANCE = 16.0;
+    public static final double FAR_DISTANCE = 32.0;
+    public static final double FAR_DETAIL = 0.25;
+
+    // Within this distance the view cone is not checked: particles drift, and the cone is coarse up close
+    private static final double CONE_MIN_DISTANCE = 4.0;
+
+    // Portal emitters are rebuilt this often, so a relit portal is picked up
+    private static final int PORTAL_CACHE_TICKS = 100;
+    // Largest Chrono Dawn portal interior is 21x21; the fill stops well beyond that
+    private static final int MAX_PORTAL_BLOCKS = 1024;
+
+    // Refreshed every client tick
+    private static long tick = 0;
+    private static int budget = TICK_BUDGET;
+    private static boolean cameraKnown = false;
+    private static double cameraX, cameraY, cameraZ;
+    private static boolean coneKnown = false;
+    private static double lookX, lookY, lookZ;
+    private static double minConeCos;
+
+    private static final Long2ObjectOpenHashMap<PortalEmitter> portalEmitters = new Long2ObjectOpenHashMap<>();
+    private static Object portalLevel = null;
+
+    /**
+     * One portal's shared emitter: its bounds in the portal plane and the tick it last emitted.
+     */
+    public static final class PortalEmitter {
+        private final BoundingBox bounds;
+        private final int particlesPerTick;
+        private long lastTick = -1;
+
+        private PortalEmitter(BoundingBox bounds, int blockCount) {
+            this.bounds = bounds;
+            // Grows with the portal's edge rather than its area: 1 for a 2x3 portal, 5 for 21x21
+            this.particlesPerTick = Math.max(1, Math.round((float) Math.sqrt(blockCount) / 4.0f));
+        }
+
+        public BoundingBox bounds() {
+            return bounds;
+        }
+
+        public int particlesPerTick() {
+            return particlesPerTick;
+        }
+    }
+
+    /**
+     * Start a client tick. Called by {@link AmbientParticleView}.
+     *
+     * @param level The client level, compared by identity to drop portal emitters on a world or dimension change
+     * @param particleStatus Ordinal of the vanilla particle setting (0 All, 1 Decreased, 2 Minimal)
+     */
+    static void beginTick(Object level, int particleStatus) {
+        tick++;
+        budget = switch (particleStatus) {
+            case 0 -> TICK_BUDGET;
+            case 1 -> TICK_BUDGET / 2;
+            default -> 0;
+        };
+        if (level != portalLevel || tick % PORTAL_CACHE_TICKS == 0) {
+            portalEmitters.clear();
+            portalLevel = level;
+        }
+    }
+
+    /**
+     * Set the camera position; {@code lookX..lookZ} is a unit view vector, or all zero when the
+     * view cone should not be checked (third person). {@code coneHalfAngle} is in radians.
+     */
+    static void setCamera(double x, double y, double z, double lookX, double lookY, double lookZ,
+                          double coneHalfAngle) {
+        cameraKnown = true;
+        cameraX = x;
+        cameraY = y;
+        cameraZ = z;
+        coneKnown = (lookX != 0.0 || lookY != 0.0 || lookZ != 0.0) && coneHalfAngle < Math.PI / 2.0;
+        AmbientParticles.lookX = lookX;
+        AmbientParticles.lookY = lookY;
+        AmbientParticles.lookZ = lookZ;
+        minConeCos = Math.cos(coneHalfAngle);
+    }
+
+    /**
+     * Forget the camera and portal emitters (no world loaded).
+     */
+    static void reset() {
+        cameraKnown = false;
+        coneKnown = false;
+        budget = TICK_BUDGET;
+        portalEmitters.clear();
+        portalLevel = null;
+    }
+
+    /**
+     * Whether to add an ambient particle at ({@code x}, {@code y}, {@code z}), which the caller
+     * would otherwise add with probability {@code chance}. Counts against this tick's budget
+     * when it returns {@code true}.
+     */
+    public static boolean shouldSpawn(RandomSource random, double x, double y, double z, float chance) {
+        if (budget <= 0) {
+            return false;
+        }
+
+        double detail = chance;
+        if (cameraKnown) {
+            double dx = x - cameraX;
+            double dy = y - cameraY;
+            double dz = z - cameraZ;
+            double distanceSq = dx * dx + dy * dy + dz * dz;
+            if (distanceSq > FAR_DISTANCE * FAR_DISTANCE) {
+                return false;
+            }
+
+            double distance = Math.sqrt(distanceSq);
+            if (coneKnown && distance > CONE_MIN_DISTANCE
+                    && dx * lookX + dy * lookY + dz * lookZ < minConeCos * distance) {
+                return false;
+            }
+            if (distance > NEAR_DISTANCE) {
+                double t = (distance - NEAR_DISTANCE) / (FAR_DISTANCE - NEAR_DISTANCE);
+                detail *= 1.0 - (1.0 - FAR_DETAIL) * t;
+            }
+        }
+
+        if (random.nextFloat() >= detail) {
+            return false;
+        }
+        budget--;
+        return true;
+    }
+
+    /**
+     * The emitter of the portal that contains {@code pos}, or {@code null} if that portal
+     * already emitted this tick (or {@code pos} is not a block of {@code portalBlock}).
+     * The portal is found by a fill over its plane the first time one of its blocks asks,
+     * and cached for every block in it.
+     */
+    public static PortalEmitter claimPortal(BlockGetter level, BlockPos pos, Block portalBlock) {
+        return claimPortal(level::getBlockState, pos, portalBlock);
+    }
+
+    // Takes the block lookup rather than a BlockGetter so tests need no level
+    static PortalEmitter claimPortal(Function<BlockPos, BlockState> level, BlockPos pos, Block portalBlock) {
+        long packed = pos.asLong();
+        PortalEmitter emitter = portalEmitters.get(packed);
+        if (emitter == null) {
+            emitter = findPortal(level, pos, portalBlock);
+            if (emitter == null) {
+                return null;
+            }
+        }
+        if (emitter.lastTick == tick) {
+            return null;
+        }
+        emitter.lastTick = tick;
+        return emitter;
+    }
+
+    private static PortalEmitter findPortal(Function<BlockPos, BlockState> level, BlockPos start, Block portalBlock) {
+        BlockState startState = level.apply(start);
+        if (!startState.is(portalBlock) || !startState.hasProperty(BlockStateProperties.HORIZONTAL_AXIS)) {
+            return null;
+        }
+
+        Direction.Axis axis = startState.getValue(BlockStateProperties.HORIZONTAL_AXIS);
+        Direction[] planeDirections = axis == Direction.Axis.X
+            ? new Direction[] {Direction.WEST, Direction.EAST, Direction.DOWN, Direction.UP}
+            : new Direction[] {Direction.NORTH, Direction.SOUTH, Direction.DOWN, Direction.UP};
+
+        // Breadth-first fill over the portal plane
+        LongOpenHashSet members = new LongOpenHashSet();
+        LongArrayFIFOQueue toCheck = new LongArrayFIFOQueue();
+        BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        BoundingBox bounds = new BoundingBox(start);
+        members.add(start.asLong());
+        toCheck.enqueue(start.asLong());
+        while (!toCheck.isEmpty() && members.size() < MAX_PORTAL_BLOCKS) {
+            long current = toCheck.dequeueLong();
+            for (Direction direction : planeDirections) {
+                long neighbor = BlockPos.offset(current, direction);
+                if (members.contains(neighbor)) {
+                    continue;
+                }
+                BlockState neighborState = level.apply(cursor.set(neighbor));
+                if (neighborState.is(portalBlock) && neighborState.getValue(BlockStateProperties.HORIZONTAL_AXIS) == axis) {
+                    members.add(neighbor);
+                    toCheck.enqueue(neighbor);
+                    bounds = bounds.encapsulate(cursor);
+                }
+            }
+        }
+
+        PortalEmitter emitter = new PortalEmitter(bounds, members.size());
+        LongIterator iterator = members.iterator();
+        while (iterator.hasNext()) {
+            portalEmitters.put(iterator.nextLong(), emitter);
+        }
+        return emitter;
+    }
+}
@@ -0,0 +1,95 @@
+package com.chronodawn.client.particle;
+
+import com.chronodawn.compat.CompatParticles;
+import com.chronodawn.network.S2CParticleBurstPayload;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.particles.ParticleType;
+import net.minecraft.core.particles.SimpleParticleType;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.util.RandomSource;
+
+/**
+ * Client-side expansion of {@link S2CParticleBurstPayload} into individual particles.
+ *
+ * All randomness comes from a {@link RandomSource} seeded with the payload's seed, so a
+ * burst expands to the same layout on every client. Particles are added through
+ * {@link ClientLevel#addParticle}, which already honours the vanilla particle setting, with
+ * the payload's long-distance flag so bursts sent beyond 32 blocks are not culled.
+ *
+ * Client-only: loaded lazily from the S2C receiver lambda in {@code ModNetworking}.
+ */
+public final class ParticleBurstEffects {
+    private ParticleBurstEffects() {}
+
+    /**
+     * Packet-receiver entry point. Called on the client main thread
+     * (architectury queues the call via {@code PacketContext#queue}).
+     */
+    public static void applyFromPayload(S2CParticleBurstPayload payload) {
+        ClientLevel level = Minecraft.getInstance().level;
+        if (level == null || payload.count() <= 0) return;
+
+        ParticleType<?> type = BuiltInRegistries.PARTICLE_TYPE.byId(payload.particleId());
+        if (!(type instanceof SimpleParticleType particle)) return;
+
+        RandomSource random = RandomSource.create(payload.seed());
+        switch (payload.shape()) {
+            case S2CParticleBurstPayload.SHAPE_RING -> ring(level, particle, payload, random);
+            case S2CParticleBurstPayload.SHAPE_VOLUME -> volume(level, particle, payload, random);
+            case S2CParticleBurstPayload.SHAPE_LINE -> line(level, particle, payload, random);
+            default -> { }
+        }
+    }
+
+    private static void ring(ClientLevel level, SimpleParticleType particle,
+                             S2CParticleBurstPayload payload, RandomSource random) {
+        int count = payload.count();
+        double radius = payload.sizeX();
+        for (int i = 0; i < count; i++) {
+            double angle = (Math.PI * 2 * i) / count;
+            spawn(level, particle, payload, random,
+                payload.x() + Math.cos(angle) * radius,
+                payload.y(),
+                payload.z() + Math.sin(angle) * radius);
+        }
+    }
+
+    private static void volume(ClientLevel level, SimpleParticleType particle,
+                               S2CParticleBurstPayload payload, RandomSource random) {
+        for (int i = 0; i < payload.count(); i++) {
+            spawn(level, particle, payload, random,
+                payload.x() + (random.nextDouble() - 0.5) * 2.0 * payload.sizeX(),
+                payload.y() + random.nextDouble() * payload.sizeY(),
+                payload.z() + (random.nextDouble() - 0.5) * 2.0 * payload.sizeZ());
+        }
+    }
+
+    private static void line(ClientLevel level, SimpleParticleType particle,
+                             S2CParticleBurstPayload payload, RandomSource random) {
+        double dx = payload.sizeX();
+        double dz = payload.sizeZ();
+        double length = Math.sqrt(dx * dx + dz * dz);
+        // Unit perpendicular in the XZ plane; degenerate segments collapse to a point
+        double perpX = length == 0 ? 0 : -dz / length;
+        double perpZ = length == 0 ? 0 : dx / length;
+        for (int i = 0; i < payload.count(); i++) {
+            double t = random.nextDouble();
+            double w = (random.nextDouble() - 0.5) * 2.0 * payload.sizeY();
+            spawn(level, particle, payload, random,
+                payload.x() + dx * t + perpX * w,
+                payload.y(),
+                payload.z() + dz * t + perpZ * w);
+        }
+    }
+
+    private static void spawn(ClientLevel level, SimpleParticleType particle,
+                              S2CParticleBurstPayload payload, RandomSource random,
+                              double x, double y, double z) {
+        double speed = payload.speed();
+        CompatParticles.addParticle(level, particle, payload.longDistance(), x, y, z,
+            random.nextGaussian() * speed,
+            random.nextGaussian() * speed,
+            random.nextGaussian() * speed);
+    }
+}
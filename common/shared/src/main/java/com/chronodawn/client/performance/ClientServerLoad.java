@@ -0,0 +1,46 @@
+package com.chronodawn.client.performance;
+
+import com.chronodawn.core.performance.DegradationLevel;
+import com.chronodawn.network.S2CServerLoadPayload;
+
+/**
+ * Client-side copy of the server's {@link DegradationLevel}, fed by {@link S2CServerLoadPayload}.
+ *
+ * Blocks whose particles are spawned on the client in {@code animateTick} scale their
+ * chance by {@link #particleDetail()}, matching what {@code ParticleDispatcher} does for
+ * server-sent particles.
+ *
+ * The level is server-wide, so it stays valid across dimension changes; {@link #reset()}
+ * returns to {@link DegradationLevel#NORMAL} when the client disconnects, and the next server
+ * sends its own level on join.
+ *
+ * Like {@link com.chronodawn.client.time.ClientTimeFlow}, this class touches no client-only
+ * classes, so block code shared with the server may reference it.
+ */
+public final class ClientServerLoad {
+    private ClientServerLoad() {}
+
+    private static volatile DegradationLevel level = DegradationLevel.NORMAL;
+
+    /**
+     * Packet-receiver entry point (client main thread).
+     */
+    public static void applyFromPayload(S2CServerLoadPayload payload) {
+        level = DegradationLevel.byOrdinal(payload.level());
+    }
+
+    public static DegradationLevel level() {
+        return level;
+    }
+
+    public static float particleDetail() {
+        return (float) level.particleDetail();
+    }
+
+    /**
+     * Forget the server's load. Called from the loader's client disconnect event.
+     */
+    public static void reset() {
+        level = DegradationLevel.NORMAL;
+    }
+}
@@ -0,0 +1,54 @@
+package com.chronodawn.client.time;
+
+import com.chronodawn.core.time.TimeFlowState;
+import com.chronodawn.network.S2CTimeFlowPayload;
+
+/**
+ * Client-side copy of the Chrono Dawn time flow, fed by {@link S2CTimeFlowPayload}.
+ *
+ * {@code LevelGetTimeMixin} returns {@link TimeFlowState#dayTimeAt} for the client's
+ * Chrono Dawn level while a state is present, so the sky follows the server's varying
+ * speed smoothly instead of ticking at 1x and snapping on every vanilla time packet.
+ * Vanilla {@code ClientboundSetTimePacket}s still keep the client's game time in step
+ * with the server, which is all the extrapolation needs.
+ *
+ * A state only applies to the client level it arrived in, so after a dimension change or a
+ * new world the sky runs at vanilla speed until the server sends the new level's state.
+ * {@link #reset()} drops it when the client disconnects.
+ *
+ * Unlike the other {@code client} helpers this class touches no client-only classes:
+ * the mixin that reads it is applied on both sides.
+ */
+public final class ClientTimeFlow {
+    private ClientTimeFlow() {}
+
+    private static volatile TimeFlowState current = null;
+    // Compared by identity; an Object so this class stays free of client-only types
+    private static volatile Object currentLevel = null;
+
+    /**
+     * Packet-receiver entry point (client main thread).
+     *
+     * @param level The client level the payload arrived in
+     */
+    public static void applyFromPayload(S2CTimeFlowPayload payload, Object level) {
+        current = payload.toState();
+        currentLevel = level;
+    }
+
+    /**
+     * Latest state from the server for {@code level}, or {@code null} if none has arrived
+     * since the client entered that level.
+     */
+    public static TimeFlowState current(Object level) {
+        return level == currentLevel ? current : null;
+    }
+
+    /**
+     * Forget the state. Called from the loader's client disconnect event.
+     */
+    public static void reset() {
+        current = null;
+        currentLevel = null;
+    }
+}
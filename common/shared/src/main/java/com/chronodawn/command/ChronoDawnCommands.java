@@ -0,0 +1,127 @@
+package com.chronodawn.command;
+
+import com.chronodawn.ChronoDawn;
+import com.chronodawn.compat.CompatCommands;
+import com.chronodawn.config.ChronoDawnConfig;
+import com.chronodawn.core.performance.DegradationGovernor;
+import com.chronodawn.worldgen.pregen.ChronoDawnPregenerator;
+import com.chronodawn.worldgen.pregen.PregenSpiral;
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import dev.architectury.event.events.common.CommandRegistrationEvent;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.commands.arguments.coordinates.ColumnPosArgument;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ColumnPos;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * {@code /chronodawn} server commands.
+ *
+ * - {@code /chronodawn pregen <radius> [center]}: pregenerate the ChronoDawn dimension within
+ *   {@code radius} blocks of {@code center} (default: the executor's position)
+ * - {@code /chronodawn pregen status}: progress and ETA of the running job
+ * - {@code /chronodawn pregen cancel}: stop the running job
+ * - {@code /chronodawn degradation}: current {@link DegradationGovernor} level and average tick time
+ *
+ * All subcommands require operator permission (level 2).
+ */
+public final class ChronoDawnCommands {
+    private ChronoDawnCommands() {}
+
+    private static final int MIN_RADIUS_BLOCKS = 16;
+    private static final int MAX_RADIUS_BLOCKS = 16384;
+
+    /**
+     * Register command handlers.
+     */
+    public static void register() {
+        CommandRegistrationEvent.EVENT.register((dispatcher, registry, selection) -> registerCommands(dispatcher));
+
+        ChronoDawn.LOGGER.debug("Registered ChronoDawnCommands");
+    }
+
+    private static void registerCommands(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal(ChronoDawn.MOD_ID)
+            .requires(CompatCommands.gameMaster())
+            .then(Commands.literal("pregen")
+                .then(Commands.literal("status")
+                    .executes(ChronoDawnCommands::pregenStatus))
+                .then(Commands.literal("cancel")
+                    .executes(ChronoDawnCommands::pregenCancel))
+                .then(Commands.argument("radius", IntegerArgumentType.integer(MIN_RADIUS_BLOCKS, MAX_RADIUS_BLOCKS))
+                    .executes(context -> pregenStart(context, null))
+                    .then(Commands.argument("center", ColumnPosArgument.columnPos())
+                        .executes(context -> pregenStart(context,
+                            ColumnPosArgument.getColumnPos(context, "center"))))))
+            .then(Commands.literal("degradation")
+                .executes(ChronoDawnCommands::degradationStatus)));
+    }
+
+    private static int pregenStart(CommandContext<CommandSourceStack> context, ColumnPos center) {
+        CommandSourceStack source = context.getSource();
+        int radiusBlocks = IntegerArgumentType.getInteger(context, "radius");
+        int radiusChunks = (radiusBlocks + 15) >> 4;
+
+        ChunkPos centerChunk;
+        if (center != null) {
+            centerChunk = new ChunkPos(center.x() >> 4, center.z() >> 4);
+        } else {
+            Vec3 position = source.getPosition();
+            centerChunk = new ChunkPos((int) Math.floor(position.x) >> 4, (int) Math.floor(position.z) >> 4);
+        }
+
+        ServerPlayer player = source.getPlayer();
+        UUID initiator = player != null ? player.getUUID() : null;
+        switch (ChronoDawnPregenerator.start(source.getServer(), centerChunk, radiusChunks, initiator)) {
+            case STARTED -> {
+                int total = PregenSpiral.count(radiusChunks);
+                source.sendSuccess(() -> Component.translatable("commands.chronodawn.pregen.started",
+                    total, centerChunk.getMiddleBlockX(), centerChunk.getMiddleBlockZ()), true);
+                return total;
+            }
+            case ALREADY_RUNNING -> {
+                source.sendFailure(Component.translatable("commands.chronodawn.pregen.already_running"));
+                return 0;
+            }
+            default -> {
+                source.sendFailure(Component.translatable("commands.chronodawn.pregen.no_dimension"));
+                return 0;
+            }
+        }
+    }
+
+    private static int pregenStatus(CommandContext<CommandSourceStack> context) {
+        CommandSourceStack source = context.getSource();
+        Component status = ChronoDawnPregenerator.status(source.getServer());
+        source.sendSuccess(() -> status, false);
+        return 1;
+    }
+
+    private static int pregenCancel(CommandContext<CommandSourceStack> context) {
+        CommandSourceStack source = context.getSource();
+        if (!ChronoDawnPregenerator.cancel(source.getServer())) {
+            source.sendFailure(Component.translatable("commands.chronodawn.pregen.idle"));
+            return 0;
+        }
+        source.sendSuccess(() -> Component.translatable("commands.chronodawn.pregen.cancelled"), true);
+        return 1;
+    }
+
+    private static int degradationStatus(CommandContext<CommandSourceStack> context) {
+        CommandSourceStack source = context.getSource();
+        String mspt = String.format(Locale.ROOT, "%.1f", DegradationGovernor.averageMspt());
+        String key = ChronoDawnConfig.get().performance().degradation().enabled()
+            ? "commands.chronodawn.degradation.status"
+            : "commands.chronodawn.degradation.disabled";
+        source.sendSuccess(() -> Component.translatable(key, DegradationGovernor.level().id(), mspt), false);
+        return DegradationGovernor.level().ordinal();
+    }
+}
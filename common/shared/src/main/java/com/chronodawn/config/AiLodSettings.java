@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) 2025 ksoichiro
+ *
+ * This file is part of Chrono Dawn.
+ *
+ * Chrono Dawn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, version 3 of the License.
+ *
+ * Chrono Dawn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Chrono Dawn. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.chronodawn.config;
+
+/**
+ * Distance-based AI level-of-detail for Chrono Dawn mobs, applied by
+ * {@code com.chronodawn.entities.ai.MobAiLod}.
+ *
+ * <p>Disabled by default. When enabled, a mob within {@code nearDistance}
+ * blocks of the nearest player runs its AI (goals, navigation, move and look
+ * control) every tick, up to {@code farDistance} every {@code midInterval}
+ * ticks, and beyond that every {@code farInterval} ticks. Mobs with a target
+ * or that were just hurt always run at full rate. {@code debugOverlay} marks
+ * each mob with a particle coloured by its current band.
+ */
+public record AiLodSettings(
+    boolean enabled,
+    double nearDistance,
+    double farDistance,
+    int midInterval,
+    int farInterval,
+    boolean debugOverlay
+) {}
@@ -31,7 +31,8 @@ package com.chronodawn.config;
 public record ChronoDawnConfig(
     int schemaVersion,
     World world,
-    Gameplay gameplay
+    Gameplay gameplay,
+    Performance performance
 ) {
     /** Latest known schema version this build understands. */
     public static final int CURRENT_SCHEMA_VERSION = 1;
@@ -59,4 +60,12 @@ public record ChronoDawnConfig(
     public record AncientRuins(boolean enabled, int spacing, int separation, int salt) {}
 
     public record Gameplay(BossesConfig bosses) {}
+
+    public record Performance(
+        ParticleSettings particles,
+        AiLodSettings mobAiLod,
+        DegradationSettings degradation,
+        TemplatePlacementSettings templatePlacement,
+        MetricsSettings metrics
+    ) {}
 }
@@ -43,6 +43,28 @@ public final class ConfigDefaults {
     // keeps "the default is a no-op" impossible to break for one boss only.
     public static final BossSettings BOSS_DEFAULTS = new BossSettings(1.0, 1.0);
 
+    // Near/far bands bracket vanilla's 32-block particle cutoff: full detail up
+    // close, half detail at the edge of the vanilla range, and only gameplay
+    // effects (at a quarter) beyond it.
+    public static final ParticleSettings PARTICLE_DEFAULTS = new ParticleSettings(1024, 16.0, 32.0, 0.5, 0.25);
+
+    // Opt-in, so mob behaviour is unchanged unless a server enables it. The near
+    // band covers the range in which players watch mobs move; far mobs still
+    // re-think once a second.
+    public static final AiLodSettings AI_LOD_DEFAULTS = new AiLodSettings(false, 32.0, 64.0, 4, 20, false);
+
+    // A healthy server stays well under the 50 ms tick budget, so the governor
+    // never engages there. Placement is only deferred once ticks overrun.
+    public static final DegradationSettings DEGRADATION_DEFAULTS = new DegradationSettings(true, 40.0, 45.0, 50.0, 5.0);
+
+    // 4096 blocks is one 16x16x16 section per tick: the Master Clock boss room
+    // (35x20x35) takes about six ticks, the Phantom Catacombs one about one.
+    public static final TemplatePlacementSettings TEMPLATE_PLACEMENT_DEFAULTS = new TemplatePlacementSettings(true, 4096);
+
+    // Opt-in: operators enable JMX or the CSV file when they want to watch the
+    // counters. The file goes next to the game logs.
+    public static final MetricsSettings METRICS_DEFAULTS = new MetricsSettings(false, 0, "logs/chronodawn-metrics.csv");
+
     public static ChronoDawnConfig defaults() {
         return new ChronoDawnConfig(
             ChronoDawnConfig.CURRENT_SCHEMA_VERSION,
@@ -71,6 +93,13 @@ public final class ConfigDefaults {
                     BOSS_DEFAULTS,
                     BOSS_DEFAULTS
                 )
+            ),
+            new ChronoDawnConfig.Performance(
+                PARTICLE_DEFAULTS,
+                AI_LOD_DEFAULTS,
+                DEGRADATION_DEFAULTS,
+                TEMPLATE_PLACEMENT_DEFAULTS,
+                METRICS_DEFAULTS
             )
         );
     }
@@ -84,6 +84,52 @@ public final class ConfigLoader {
     private static final double MIN_DAMAGE_MULTIPLIER = 0.0;
     private static final double MAX_MULTIPLIER = 10.0;
 
+    private static final String K_PERFORMANCE = "performance";
+    private static final String K_PARTICLES = "particles";
+    private static final String K_PER_PLAYER_BUDGET = "per_player_budget";
+    private static final String K_NEAR_DISTANCE = "near_distance";
+    private static final String K_FAR_DISTANCE = "far_distance";
+    private static final String K_MID_DETAIL = "mid_detail";
+    private static final String K_FAR_DETAIL = "far_detail";
+
+    private static final int MAX_PARTICLE_BUDGET = 100_000;
+    // Beyond 128 blocks the client culls particles anyway
+    private static final double MAX_PARTICLE_DISTANCE = 128.0;
+
+    private static final String K_MOB_AI_LOD = "mob_ai_lod";
+    private static final String K_LOD_ENABLED = "enabled";
+    private static final String K_MID_INTERVAL = "mid_interval";
+    private static final String K_FAR_INTERVAL = "far_interval";
+    private static final String K_DEBUG_OVERLAY = "debug_overlay";
+
+    // Mobs beyond 128 blocks of every player are outside vanilla's despawn range anyway
+    private static final double MAX_AI_LOD_DISTANCE = 128.0;
+    private static final int MAX_AI_LOD_INTERVAL = 100;
+
+    private static final String K_DEGRADATION = "degradation";
+    private static final String K_DEGRADATION_ENABLED = "enabled";
+    private static final String K_REDUCE_PARTICLES_MSPT = "reduce_particles_mspt";
+    private static final String K_SLOW_SCANS_MSPT = "slow_scans_mspt";
+    private static final String K_DEFER_PLACEMENT_MSPT = "defer_placement_mspt";
+    private static final String K_RECOVERY_MARGIN_MSPT = "recovery_margin_mspt";
+
+    // Ten seconds per tick is a hung server, not an overloaded one
+    private static final double MAX_DEGRADATION_MSPT = 10_000.0;
+
+    private static final String K_TEMPLATE_PLACEMENT = "template_placement";
+    private static final String K_TEMPLATE_PLACEMENT_ENABLED = "enabled";
+    private static final String K_BLOCKS_PER_TICK = "blocks_per_tick";
+
+    // A million blocks per tick is every template at once; larger values only hide typos
+    private static final int MAX_BLOCKS_PER_TICK = 1_000_000;
+
+    private static final String K_METRICS = "metrics";
+    private static final String K_JMX = "jmx";
+    private static final String K_CSV_INTERVAL_SECONDS = "csv_interval_seconds";
+    private static final String K_CSV_FILE = "csv_file";
+
+    private static final int MAX_CSV_INTERVAL_SECONDS = 86_400;
+
     private ConfigLoader() {}
 
     /**
@@ -146,12 +192,14 @@ public final class ConfigLoader {
         ChronoDawnConfig.AncientRuins ancientRuins = parseAncientRuins(parsed);
         com.chronodawn.config.OresConfig ores = parseOres(parsed);
         ChronoDawnConfig.Gameplay gameplay = parseGameplay(parsed);
+        ChronoDawnConfig.Performance performance = parsePerformance(parsed);
 
         // Surface unknown top-level keys at WARN. Nested-table walking would be nice but
         // would balloon this method; the most common mistake is misspelling at top level.
         for (CommentedConfig.Entry entry : parsed.entrySet()) {
             String key = entry.getKey();
-            if (!key.equals(K_SCHEMA_VERSION) && !key.equals(K_WORLD) && !key.equals(K_GAMEPLAY)) {
+            if (!key.equals(K_SCHEMA_VERSION) && !key.equals(K_WORLD) && !key.equals(K_GAMEPLAY)
+                    && !key.equals(K_PERFORMANCE)) {
                 LOGGER.warn("Unknown top-level key in {}: {}", CONFIG_FILE_NAME, key);
             }
         }
@@ -162,7 +210,8 @@ public final class ConfigLoader {
                 new ChronoDawnConfig.Structures(ancientRuins),
                 ores
             ),
-            gameplay
+            gameplay,
+            performance
         );
     }
 
@@ -303,4 +352,228 @@ public final class ConfigLoader {
 
         return new BossSettings(health, damage);
     }
+
+    private static ChronoDawnConfig.Performance parsePerformance(CommentedConfig parsed) {
+        return new ChronoDawnConfig.Performance(
+            parseParticles(parsed),
+            parseMobAiLod(parsed),
+            parseDegradation(parsed),
+            parseTemplatePlacement(parsed),
+            parseMetrics(parsed)
+        );
+    }
+
+    private static ParticleSettings parseParticles(CommentedConfig parsed) {
+        String path = K_PERFORMANCE + "." + K_PARTICLES;
+        ParticleSettings defaults = ConfigDefaults.PARTICLE_DEFAULTS;
+
+        int budget = parsed.<Number>getOptional(path + "." + K_PER_PLAYER_BUDGET)
+            .map(Number::intValue)
+            .orElse(defaults.perPlayerBudget());
+
+        double near = parsed.<Number>getOptional(path + "." + K_NEAR_DISTANCE)
+            .map(Number::doubleValue)
+            .orElse(defaults.nearDistance());
+
+        double far = parsed.<Number>getOptional(path + "." + K_FAR_DISTANCE)
+            .map(Number::doubleValue)
+            .orElse(defaults.farDistance());
+
+        double midDetail = parsed.<Number>getOptional(path + "." + K_MID_DETAIL)
+            .map(Number::doubleValue)
+            .orElse(defaults.midDetail());
+
+        double farDetail = parsed.<Number>getOptional(path + "." + K_FAR_DETAIL)
+            .map(Number::doubleValue)
+            .orElse(defaults.farDetail());
+
+        if (budget < 0 || budget > MAX_PARTICLE_BUDGET) {
+            LOGGER.error(
+                "Invalid {}.{} = {} (must be in [0, {}]); using default {}",
+                path, K_PER_PLAYER_BUDGET, budget, MAX_PARTICLE_BUDGET, defaults.perPlayerBudget()
+            );
+            budget = defaults.perPlayerBudget();
+        }
+        // The two distances only make sense together, so they revert as a pair (like ore y_min/y_max).
+        if (!Double.isFinite(near) || !Double.isFinite(far)
+                || near < 0.0 || far > MAX_PARTICLE_DISTANCE || near > far) {
+            LOGGER.error(
+                "Invalid {}.{{near_distance,far_distance}} = ({}, {}) (must satisfy 0 <= near <= far <= {}); using defaults ({}, {})",
+                path, near, far, MAX_PARTICLE_DISTANCE, defaults.nearDistance(), defaults.farDistance()
+            );
+            near = defaults.nearDistance();
+            far = defaults.farDistance();
+        }
+        if (!Double.isFinite(midDetail) || midDetail < 0.0 || midDetail > 1.0) {
+            LOGGER.error(
+                "Invalid {}.{} = {} (must be in [0.0, 1.0]); using default {}",
+                path, K_MID_DETAIL, midDetail, defaults.midDetail()
+            );
+            midDetail = defaults.midDetail();
+        }
+        if (!Double.isFinite(farDetail) || farDetail < 0.0 || farDetail > 1.0) {
+            LOGGER.error(
+                "Invalid {}.{} = {} (must be in [0.0, 1.0]); using default {}",
+                path, K_FAR_DETAIL, farDetail, defaults.farDetail()
+            );
+            farDetail = defaults.farDetail();
+        }
+
+        return new ParticleSettings(budget, near, far, midDetail, farDetail);
+    }
+
+    private static AiLodSettings parseMobAiLod(CommentedConfig parsed) {
+        String path = K_PERFORMANCE + "." + K_MOB_AI_LOD;
+        AiLodSettings defaults = ConfigDefaults.AI_LOD_DEFAULTS;
+
+        boolean enabled = parsed.<Boolean>getOptional(path + "." + K_LOD_ENABLED)
+            .orElse(defaults.enabled());
+
+        double near = parsed.<Number>getOptional(path + "." + K_NEAR_DISTANCE)
+            .map(Number::doubleValue)
+            .orElse(defaults.nearDistance());
+
+        double far = parsed.<Number>getOptional(path + "." + K_FAR_DISTANCE)
+            .map(Number::doubleValue)
+            .orElse(defaults.farDistance());
+
+        int midInterval = parsed.<Number>getOptional(path + "." + K_MID_INTERVAL)
+            .map(Number::intValue)
+            .orElse(defaults.midInterval());
+
+        int farInterval = parsed.<Number>getOptional(path + "." + K_FAR_INTERVAL)
+            .map(Number::intValue)
+            .orElse(defaults.farInterval());
+
+        boolean debugOverlay = parsed.<Boolean>getOptional(path + "." + K_DEBUG_OVERLAY)
+            .orElse(defaults.debugOverlay());
+
+        // Distances revert as a pair, like [performance.particles].
+        if (!Double.isFinite(near) || !Double.isFinite(far)
+                || near < 0.0 || far > MAX_AI_LOD_DISTANCE || near > far) {
+            LOGGER.error(
+                "Invalid {}.{{near_distance,far_distance}} = ({}, {}) (must satisfy 0 <= near <= far <= {}); using defaults ({}, {})",
+                path, near, far, MAX_AI_LOD_DISTANCE, defaults.nearDistance(), defaults.farDistance()
+            );
+            near = defaults.nearDistance();
+            far = defaults.farDistance();
+        }
+        if (midInterval < 1 || midInterval > MAX_AI_LOD_INTERVAL) {
+            LOGGER.error(
+                "Invalid {}.{} = {} (must be in [1, {}]); using default {}",
+                path, K_MID_INTERVAL, midInterval, MAX_AI_LOD_INTERVAL, defaults.midInterval()
+            );
+            midInterval = defaults.midInterval();
+        }
+        if (farInterval < 1 || farInterval > MAX_AI_LOD_INTERVAL) {
+            LOGGER.error(
+                "Invalid {}.{} = {} (must be in [1, {}]); using default {}",
+                path, K_FAR_INTERVAL, farInterval, MAX_AI_LOD_INTERVAL, defaults.farInterval()
+            );
+            farInterval = defaults.farInterval();
+        }
+
+        return new AiLodSettings(enabled, near, far, midInterval, farInterval, debugOverlay);
+    }
+
+    private static DegradationSettings parseDegradation(CommentedConfig parsed) {
+        String path = K_PERFORMANCE + "." + K_DEGRADATION;
+        DegradationSettings defaults = ConfigDefaults.DEGRADATION_DEFAULTS;
+
+        boolean enabled = parsed.<Boolean>getOptional(path + "." + K_DEGRADATION_ENABLED)
+            .orElse(defaults.enabled());
+
+        double reduceParticles = parsed.<Number>getOptional(path + "." + K_REDUCE_PARTICLES_MSPT)
+            .map(Number::doubleValue)
+            .orElse(defaults.reduceParticlesMspt());
+
+        double slowScans = parsed.<Number>getOptional(path + "." + K_SLOW_SCANS_MSPT)
+            .map(Number::doubleValue)
+            .orElse(defaults.slowScansMspt());
+
+        double deferPlacement = parsed.<Number>getOptional(path + "." + K_DEFER_PLACEMENT_MSPT)
+            .map(Number::doubleValue)
+            .orElse(defaults.deferPlacementMspt());
+
+        double margin = parsed.<Number>getOptional(path + "." + K_RECOVERY_MARGIN_MSPT)
+            .map(Number::doubleValue)
+            .orElse(defaults.recoveryMarginMspt());
+
+        // The three thresholds define ordered levels, so they revert together.
+        if (!Double.isFinite(reduceParticles) || !Double.isFinite(slowScans) || !Double.isFinite(deferPlacement)
+                || reduceParticles <= 0.0 || deferPlacement > MAX_DEGRADATION_MSPT
+                || reduceParticles > slowScans || slowScans > deferPlacement) {
+            LOGGER.error(
+                "Invalid {}.{{reduce_particles_mspt,slow_scans_mspt,defer_placement_mspt}} = ({}, {}, {}) "
+                    + "(must satisfy 0 < reduce <= slow <= defer <= {}); using defaults ({}, {}, {})",
+                path, reduceParticles, slowScans, deferPlacement, MAX_DEGRADATION_MSPT,
+                defaults.reduceParticlesMspt(), defaults.slowScansMspt(), defaults.deferPlacementMspt()
+            );
+            reduceParticles = defaults.reduceParticlesMspt();
+            slowScans = defaults.slowScansMspt();
+            deferPlacement = defaults.deferPlacementMspt();
+        }
+        // A margin as large as the lowest threshold would make recovery impossible.
+        if (!Double.isFinite(margin) || margin < 0.0 || margin >= reduceParticles) {
+            double fallback = Math.min(defaults.recoveryMarginMspt(), reduceParticles / 2.0);
+            LOGGER.error(
+                "Invalid {}.{} = {} (must be in [0, {})); using {}",
+                path, K_RECOVERY_MARGIN_MSPT, margin, reduceParticles, fallback
+            );
+            margin = fallback;
+        }
+
+        return new DegradationSettings(enabled, reduceParticles, slowScans, deferPlacement, margin);
+    }
+
+    private static TemplatePlacementSettings parseTemplatePlacement(CommentedConfig parsed) {
+        String path = K_PERFORMANCE + "." + K_TEMPLATE_PLACEMENT;
+        TemplatePlacementSettings defaults = ConfigDefaults.TEMPLATE_PLACEMENT_DEFAULTS;
+
+        boolean enabled = parsed.<Boolean>getOptional(path + "." + K_TEMPLATE_PLACEMENT_ENABLED)
+            .orElse(defaults.enabled());
+
+        int blocksPerTick = parsed.<Number>getOptional(path + "." + K_BLOCKS_PER_TICK)
+            .map(Number::intValue)
+            .orElse(defaults.blocksPerTick());
+
+        if (blocksPerTick < 1 || blocksPerTick > MAX_BLOCKS_PER_TICK) {
+            LOGGER.error(
+                "Invalid {}.{} = {} (must be in [1, {}]); using default {}",
+                path, K_BLOCKS_PER_TICK, blocksPerTick, MAX_BLOCKS_PER_TICK, defaults.blocksPerTick()
+            );
+            blocksPerTick = defaults.blocksPerTick();
+        }
+
+        return new TemplatePlacementSettings(enabled, blocksPerTick);
+    }
+
+    private static MetricsSettings parseMetrics(CommentedConfig parsed) {
+        String path = K_PERFORMANCE + "." + K_METRICS;
+        MetricsSettings defaults = ConfigDefaults.METRICS_DEFAULTS;
+
+        boolean jmx = parsed.<Boolean>getOptional(path + "." + K_JMX)
+            .orElse(defaults.jmx());
+
+        int csvInterval = parsed.<Number>getOptional(path + "." + K_CSV_INTERVAL_SECONDS)
+            .map(Number::intValue)
+            .orElse(defaults.csvIntervalSeconds());
+
+        String csvFile = parsed.<String>getOptional(path + "." + K_CSV_FILE)
+            .orElse(defaults.csvFile());
+
+        if (csvInterval < 0 || csvInterval > MAX_CSV_INTERVAL_SECONDS) {
+            LOGGER.error(
+                "Invalid {}.{} = {} (must be in [0, {}]); using default {}",
+                path, K_CSV_INTERVAL_SECONDS, csvInterval, MAX_CSV_INTERVAL_SECONDS, defaults.csvIntervalSeconds()
+            );
+            csvInterval = defaults.csvIntervalSeconds();
+        }
+        if (csvFile.isBlank()) {
+            LOGGER.error("Invalid {}.{} (must not be empty); using default {}", path, K_CSV_FILE, defaults.csvFile());
+            csvFile = defaults.csvFile();
+        }
+
+        return new MetricsSettings(jmx, csvInterval, csvFile);
+    }
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) 2025 ksoichiro
+ *
+ * This file is part of Chrono Dawn.
+ *
+ * Chrono Dawn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, version 3 of the License.
+ *
+ * Chrono Dawn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Chrono Dawn. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.chronodawn.config;
+
+/**
+ * Load-based degradation of Chrono Dawn's non-essential work, applied by
+ * {@code com.chronodawn.core.performance.DegradationGovernor}.
+ *
+ * <p>When the server's average tick time rises above a threshold (in
+ * milliseconds), the governor steps up one or more levels: above
+ * {@code reduceParticlesMspt} cosmetic particles are thinned, above
+ * {@code slowScansMspt} spawner and boss-room placer scans also run less often,
+ * and above {@code deferPlacementMspt} new structure placement is postponed.
+ * A level is only left once the average drops {@code recoveryMarginMspt} below
+ * its threshold, so the governor does not flap around a single value.
+ */
+public record DegradationSettings(
+    boolean enabled,
+    double reduceParticlesMspt,
+    double slowScansMspt,
+    double deferPlacementMspt,
+    double recoveryMarginMspt
+) {}
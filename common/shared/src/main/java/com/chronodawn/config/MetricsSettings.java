@@ -0,0 +1,33 @@
+/*
+ * Copyright (C) 2025 ksoichiro
+ *
+ * This file is part of Chrono Dawn.
+ *
+ * Chrono Dawn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, version 3 of the License.
+ *
+ * Chrono Dawn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Chrono Dawn. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.chronodawn.config;
+
+/**
+ * Export of Chrono Dawn's internal counters, collected by
+ * {@code com.chronodawn.core.performance.ChronoDawnMetrics}.
+ *
+ * <p>With {@code jmx}, the counters are published as the MBean
+ * {@code com.chronodawn:type=Metrics}. With a positive {@code csvIntervalSeconds},
+ * they are appended to {@code csvFile} (relative to the game directory) that
+ * often. Both are off by default, in which case nothing is collected.
+ */
+public record MetricsSettings(
+    boolean jmx,
+    int csvIntervalSeconds,
+    String csvFile
+) {}
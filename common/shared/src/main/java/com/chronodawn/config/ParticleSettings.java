@@ -0,0 +1,37 @@
+/*
+ * Copyright (C) 2025 ksoichiro
+ *
+ * This file is part of Chrono Dawn.
+ *
+ * Chrono Dawn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, version 3 of the License.
+ *
+ * Chrono Dawn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Chrono Dawn. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.chronodawn.config;
+
+/**
+ * Server-side particle dispatch limits applied by
+ * {@code com.chronodawn.core.particle.ParticleDispatcher}.
+ *
+ * <p>{@code perPlayerBudget} caps the number of cosmetic particles sent to one
+ * player per server tick ({@code 0} = unlimited); gameplay-relevant effects
+ * (attack telegraphs) count against it but are never dropped. Within
+ * {@code nearDistance} blocks effects are sent at full detail, up to
+ * {@code farDistance} at {@code midDetail}, and beyond that (up to twice
+ * {@code farDistance}) only gameplay effects are sent, at {@code farDetail}.
+ */
+public record ParticleSettings(
+    int perPlayerBudget,
+    double nearDistance,
+    double farDistance,
+    double midDetail,
+    double farDetail
+) {}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (C) 2025 ksoichiro
+ *
+ * This file is part of Chrono Dawn.
+ *
+ * Chrono Dawn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, version 3 of the License.
+ *
+ * Chrono Dawn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Chrono Dawn. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.chronodawn.config;
+
+/**
+ * Time-sliced placement of large structure templates, applied by
+ * {@code com.chronodawn.worldgen.templates.SlicedTemplatePlacement}.
+ *
+ * <p>When enabled, boss rooms placed at runtime are written at most
+ * {@code blocksPerTick} blocks per server tick instead of all at once.
+ * Disabled, templates are placed in a single call as before.
+ */
+public record TemplatePlacementSettings(
+    boolean enabled,
+    int blocksPerTick
+) {}
@@ -4,6 +4,8 @@ import com.chronodawn.ChronoDawn;
 import com.chronodawn.compat.CompatAdvancementHelper;
 import com.chronodawn.compat.CompatResourceLocation;
 import com.chronodawn.data.ChronoDawnGlobalState;
+import com.chronodawn.network.ModNetworking;
+import com.chronodawn.network.S2CEnvironmentStatePayload;
 import net.minecraft.ChatFormatting;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
@@ -31,7 +33,8 @@ public class DimensionStabilizer {
      * This method:
      * 1. Updates global state to mark Time Tyrant as defeated
      * 2. Broadcasts a message to all players
-     * 3. Logs the stabilization event
+     * 3. Tells every client to fade the Chrono Dawn sky to its cleared color
+     * 4. Logs the stabilization event
      *
      * @param level The ServerLevel where Time Tyrant was defeated
      */
@@ -58,8 +61,10 @@ public class DimensionStabilizer {
         Component message = Component.translatable("message.chronodawn.tyrant_defeated")
             .withStyle(ChatFormatting.GOLD, ChatFormatting.BOLD);
 
+        S2CEnvironmentStatePayload environment = new S2CEnvironmentStatePayload(true, true);
         for (ServerPlayer player : server.getPlayerList().getPlayers()) {
             player.displayClientMessage(message, false);
+            ModNetworking.sendEnvironmentState(player, environment);
 
             // Send title overlay
             Component title = Component.translatable("message.chronodawn.tyrant_defeated_title")
@@ -85,6 +90,18 @@ public class DimensionStabilizer {
         }
     }
 
+    /**
+     * Send the current world state to a player's client environment (sky color).
+     * Called on login; the defeat itself is broadcast by {@link #stabilizeDimension}.
+     *
+     * @param player Player who joined
+     */
+    public static void syncEnvironmentState(ServerPlayer player) {
+        MinecraftServer server = ((ServerLevel) player.level()).getServer();
+        ModNetworking.sendEnvironmentState(player,
+            new S2CEnvironmentStatePayload(isTyrantDefeated(server), false));
+    }
+
     /**
      * Check if Time Tyrant has been defeated.
      *
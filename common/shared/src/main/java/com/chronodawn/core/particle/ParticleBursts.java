@@ -0,0 +1,57 @@
+package com.chronodawn.core.particle;
+
+import com.chronodawn.network.S2CParticleBurstPayload;
+import net.minecraft.core.particles.SimpleParticleType;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.server.level.ServerLevel;
+
+/**
+ * Server-side helpers that send a whole particle effect as one {@link S2CParticleBurstPayload}.
+ *
+ * Replaces loops of {@code ServerLevel.sendParticles} (one {@code ClientboundLevelParticlesPacket}
+ * per iteration) for boss and projectile effects: a burst costs one packet per nearby player
+ * regardless of how many particle groups it contains. The client expands the shape with
+ * {@link com.chronodawn.client.particle.ParticleBurstEffects}.
+ *
+ * Delivery goes through {@link ParticleDispatcher}, so bursts share the per-player budget and
+ * distance level-of-detail with plain particle sends.
+ */
+public final class ParticleBursts {
+    private ParticleBursts() {}
+
+    /**
+     * {@code count} motionless particles evenly spaced on a horizontal circle.
+     */
+    public static void ring(ServerLevel level, ParticlePriority priority, SimpleParticleType particle,
+                            double x, double y, double z, int count, double radius) {
+        ParticleDispatcher.sendBurst(level, priority, new S2CParticleBurstPayload(
+            S2CParticleBurstPayload.SHAPE_RING, BuiltInRegistries.PARTICLE_TYPE.getId(particle),
+            x, y, z, count, (float) radius, 0.0f, 0.0f, 0.0f, level.getRandom().nextLong(), false));
+    }
+
+    /**
+     * {@code count} particles uniformly distributed in a box centered on (x, z) that extends
+     * {@code halfWidth} horizontally and {@code height} upward from {@code y}.
+     */
+    public static void volume(ServerLevel level, ParticlePriority priority, SimpleParticleType particle,
+                              double x, double y, double z, int count,
+                              double halfWidth, double height, double speed) {
+        ParticleDispatcher.sendBurst(level, priority, new S2CParticleBurstPayload(
+            S2CParticleBurstPayload.SHAPE_VOLUME, BuiltInRegistries.PARTICLE_TYPE.getId(particle),
+            x, y, z, count, (float) halfWidth, (float) height, (float) halfWidth, (float) speed,
+            level.getRandom().nextLong(), false));
+    }
+
+    /**
+     * {@code count} particles along the horizontal segment from (x, y, z) to
+     * (x + dx, y, z + dz), spread {@code halfWidth} to either side.
+     */
+    public static void line(ServerLevel level, ParticlePriority priority, SimpleParticleType particle,
+                            double x, double y, double z, double dx, double dz,
+                            double halfWidth, int count, double speed) {
+        ParticleDispatcher.sendBurst(level, priority, new S2CParticleBurstPayload(
+            S2CParticleBurstPayload.SHAPE_LINE, BuiltInRegistries.PARTICLE_TYPE.getId(particle),
+            x, y, z, count, (float) dx, (float) halfWidth, (float) dz, (float) speed,
+            level.getRandom().nextLong(), false));
+    }
+}
@@ -0,0 +1,129 @@
+package com.chronodawn.core.particle;
+
+import com.chronodawn.compat.CompatParticles;
+import com.chronodawn.config.ChronoDawnConfig;
+import com.chronodawn.config.ParticleSettings;
+import com.chronodawn.core.performance.DegradationGovernor;
+import com.chronodawn.network.ModNetworking;
+import com.chronodawn.network.S2CParticleBurstPayload;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.RandomSource;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Single server-side entry point for every ChronoDawn particle emission.
+ *
+ * Instead of {@code ServerLevel.sendParticles} broadcasting the full count to everyone in
+ * vanilla range, each receiving player gets a count scaled by distance band and trimmed to
+ * a per-player, per-tick budget (see {@link ParticleSettings}):
+ * <ul>
+ *   <li>within {@code nearDistance}: full count</li>
+ *   <li>up to {@code farDistance}: {@code midDetail} of the count</li>
+ *   <li>up to twice {@code farDistance}: {@code farDetail}, {@link ParticlePriority#GAMEPLAY} only</li>
+ * </ul>
+ * Fractional counts are rounded stochastically, so a 1-particle trail at half detail is
+ * sent every other time on average rather than always or never.
+ *
+ * {@link ParticlePriority#GAMEPLAY} effects are charged to the budget but never dropped by it,
+ * which leaves less room for cosmetic effects sent later in the same tick. While the server
+ * is overloaded, cosmetic effects are further scaled by {@link DegradationGovernor#particleDetail()}.
+ *
+ * All calls happen on the server thread; the budget map needs no synchronization.
+ */
+public final class ParticleDispatcher {
+    private ParticleDispatcher() {}
+
+    // Vanilla sendParticles cutoff without the long-distance flag
+    private static final double VANILLA_RANGE_SQR = 32.0 * 32.0;
+
+    private static final Map<UUID, Integer> spentThisTick = new HashMap<>();
+    private static int budgetTick = -1;
+
+    /**
+     * Drop-in replacement for {@code ServerLevel.sendParticles(particle, x, y, z, count, dx, dy, dz, speed)}.
+     */
+    public static <T extends ParticleOptions> void send(ServerLevel level, ParticlePriority priority, T particle,
+                                                        double x, double y, double z, int count,
+                                                        double dx, double dy, double dz, double speed) {
+        ParticleSettings settings = ChronoDawnConfig.get().performance().particles();
+        resetBudgetIfNewTick(level);
+        for (ServerPlayer player : level.players()) {
+            double distSqr = player.distanceToSqr(x, y, z);
+            // count == 0 is vanilla's "one directional particle"; it cannot be scaled, only kept or dropped
+            int requested = Math.max(count, 1);
+            int allowed = allowance(player.getUUID(), settings, priority, requested, distSqr, level.getRandom());
+            if (allowed <= 0) continue;
+            CompatParticles.sendToPlayer(level, player, particle, distSqr > VANILLA_RANGE_SQR,
+                x, y, z, count == 0 ? 0 : allowed, dx, dy, dz, speed);
+        }
+    }
+
+    /**
+     * Send a {@link S2CParticleBurstPayload} under the same distance and budget rules.
+     */
+    public static void sendBurst(ServerLevel level, ParticlePriority priority, S2CParticleBurstPayload payload) {
+        ParticleSettings settings = ChronoDawnConfig.get().performance().particles();
+        resetBudgetIfNewTick(level);
+        for (ServerPlayer player : level.players()) {
+            double distSqr = player.distanceToSqr(payload.x(), payload.y(), payload.z());
+            int allowed = allowance(player.getUUID(), settings, priority, payload.count(), distSqr, level.getRandom());
+            if (allowed <= 0) continue;
+            // Gameplay bursts reach past the client's 32-block cutoff, so they must lift it like send() does
+            ModNetworking.sendParticleBurst(player, payload.forPlayer(allowed, distSqr > VANILLA_RANGE_SQR));
+        }
+    }
+
+    /**
+     * Particles the player {@code id} should receive for one effect, after distance LOD and budget.
+     * Charges the player's budget for whatever is returned.
+     */
+    static int allowance(UUID id, ParticleSettings settings, ParticlePriority priority,
+                         int count, double distSqr, RandomSource random) {
+        double near = settings.nearDistance();
+        double far = settings.farDistance();
+        double detail;
+        if (distSqr <= near * near) {
+            detail = 1.0;
+        } else if (distSqr <= far * far) {
+            detail = settings.midDetail();
+        } else if (priority == ParticlePriority.GAMEPLAY && distSqr <= 4.0 * far * far) {
+            detail = settings.farDetail();
+        } else {
+            return 0;
+        }
+        if (priority == ParticlePriority.COSMETIC) {
+            detail *= DegradationGovernor.particleDetail();
+        }
+
+        double expected = count * detail;
+        int scaled = (int) expected;
+        if (random.nextDouble() < expected - scaled) {
+            scaled++;
+        }
+        if (scaled <= 0) return 0;
+
+        int budget = settings.perPlayerBudget();
+        if (budget <= 0) return scaled;
+
+        int spent = spentThisTick.getOrDefault(id, 0);
+        if (priority == ParticlePriority.COSMETIC) {
+            scaled = Math.min(scaled, budget - spent);
+            if (scaled <= 0) return 0;
+        }
+        spentThisTick.put(id, spent + scaled);
+        return scaled;
+    }
+
+    private static void resetBudgetIfNewTick(ServerLevel level) {
+        int tick = level.getServer().getTickCount();
+        if (tick != budgetTick) {
+            budgetTick = tick;
+            spentThisTick.clear();
+        }
+    }
+}
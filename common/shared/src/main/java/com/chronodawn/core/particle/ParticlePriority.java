@@ -0,0 +1,22 @@
+package com.chronodawn.core.particle;
+
+/**
+ * How much a server-side particle effect matters to the player receiving it.
+ *
+ * {@link ParticleDispatcher} uses this to decide what to drop when a player's per-tick
+ * particle budget runs out or the player is far from the effect.
+ */
+public enum ParticlePriority {
+    /**
+     * Carries gameplay information: attack telegraphs, area-of-effect outlines, boss
+     * teleport departure/arrival. Counted against the budget but never dropped by it,
+     * and still sent (at reduced detail) beyond the vanilla 32-block particle range.
+     */
+    GAMEPLAY,
+
+    /**
+     * Pure decoration: ambient auras, trails, impact puffs. Trimmed first when the budget
+     * is exhausted and not sent beyond the far LOD distance.
+     */
+    COSMETIC
+}
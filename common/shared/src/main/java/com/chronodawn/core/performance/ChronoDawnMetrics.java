@@ -0,0 +1,267 @@
+package com.chronodawn.core.performance;
+
+import com.chronodawn.ChronoDawn;
+import com.chronodawn.config.ChronoDawnConfig;
+import com.chronodawn.config.MetricsSettings;
+import com.chronodawn.core.portal.PortalRegistry;
+import com.chronodawn.entities.bosses.BossKind;
+import com.chronodawn.registry.ModDimensions;
+import com.chronodawn.registry.ModEntities;
+import com.chronodawn.worldgen.protection.BlockProtectionHandler;
+import com.chronodawn.worldgen.protection.PermanentProtectionHandler;
+import com.chronodawn.worldgen.runtime.OverlayPackPlatform;
+import dev.architectury.event.events.common.LifecycleEvent;
+import dev.architectury.event.events.common.TickEvent;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Chrono Dawn's internal counters for operators ({@code [performance.metrics]}).
+ *
+ * Once a second the server thread takes a {@link MetricsRegistry} snapshot of:
+ * - {@code portals.<dimension>}: registered portals per dimension
+ * - {@code portal_teleports.pending}: entities waiting to be teleported by a portal
+ * - {@code sandstone.pending_restorations}: broken Reversing Time Sandstone waiting to restore
+ * - {@code bosses.<boss>} and {@code bosses.active}: living bosses in the Chrono Dawn dimension
+ * - {@code protection.boss_rooms} and {@code protection.permanent}: protected areas
+ * - {@code placers.<placer>.*}: structures each boss room placer has finished or is working on
+ * - {@code time_distortion.slowed_mobs}: mobs slowed by the last time distortion pass
+ * - {@code tick_nanos.<handler>}: mean nanoseconds per tick in each Chrono Dawn tick handler
+ * The snapshot is published through JMX as {@code com.chronodawn:type=Metrics} and/or
+ * appended to a CSV file every {@code csv_interval_seconds}, written on a background thread.
+ *
+ * Disabled (the default), nothing is registered: {@link #gauge} and {@link #gaugeGroup} do
+ * nothing and the {@code time*Tick} wrappers return the handler unchanged. {@link #register}
+ * runs right after the config is loaded, before any subsystem registers its gauges or handlers.
+ */
+public final class ChronoDawnMetrics {
+    private ChronoDawnMetrics() {}
+
+    public static final String OBJECT_NAME = "com.chronodawn:type=Metrics";
+    /** Once a second at 20 TPS. */
+    public static final int SNAPSHOT_INTERVAL = 20;
+
+    private static final MetricsRegistry<MinecraftServer> registry = new MetricsRegistry<>();
+    private static final MetricsMBean mbean = new MetricsMBean();
+
+    private static final ExecutorService CSV_WRITER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ChronoDawn-Metrics");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static boolean enabled = false;
+    private static Path csvFile = null;
+    private static int csvIntervalTicks = 0;
+    private static int ticksSinceSnapshot = 0;
+    private static int ticksSinceCsv = 0;
+    private static SortedMap<String, Long> latest = new TreeMap<>();
+    private static volatile boolean csvFailureLogged = false;
+    private static Map<EntityType<?>, BossKind> bossTypes = null;
+
+    public static void register() {
+        MetricsSettings settings = ChronoDawnConfig.get().performance().metrics();
+        if (!settings.jmx() && settings.csvIntervalSeconds() <= 0) {
+            ChronoDawn.LOGGER.debug("ChronoDawnMetrics disabled");
+            return;
+        }
+        enabled = true;
+
+        if (settings.jmx()) {
+            registerMBean();
+        }
+        if (settings.csvIntervalSeconds() > 0) {
+            // The config directory is <game directory>/config
+            Path gameDirectory = OverlayPackPlatform.getConfigDirectory().toAbsolutePath().getParent();
+            csvFile = gameDirectory.resolve(settings.csvFile());
+            csvIntervalTicks = settings.csvIntervalSeconds() * SNAPSHOT_INTERVAL;
+            ChronoDawn.LOGGER.info("Writing Chrono Dawn metrics to {} every {} s", csvFile, settings.csvIntervalSeconds());
+        }
+
+        gaugeGroup("portals", server -> PortalRegistry.getInstance().countByDimension());
+        gauge("protection.boss_rooms", BlockProtectionHandler::getProtectedAreaCount);
+        gauge("protection.permanent", PermanentProtectionHandler::getProtectedAreaCount);
+        gaugeGroup("bosses", ChronoDawnMetrics::countBosses);
+
+        TickEvent.SERVER_POST.register(ChronoDawnMetrics::onServerTick);
+        LifecycleEvent.SERVER_STOPPING.register(server -> reset());
+
+        ChronoDawn.LOGGER.debug("Registered ChronoDawnMetrics");
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Report {@code value} as metric {@code name}. Read on the server thread.
+     */
+    public static void gauge(String name, LongSupplier value) {
+        if (enabled) {
+            registry.gauge(name, server -> value.getAsLong());
+        }
+    }
+
+    /**
+     * Report every entry of {@code values} as {@code <prefix>.<key>}. Read on the server thread.
+     */
+    public static void gaugeGroup(String prefix, Function<MinecraftServer, Map<String, ? extends Number>> values) {
+        if (enabled) {
+            registry.gaugeGroup(prefix, values);
+        }
+    }
+
+    /**
+     * {@code handler} timed as {@code tick_nanos.<name>}.
+     */
+    public static TickEvent.Server timeServerTick(String name, TickEvent.Server handler) {
+        if (!enabled) {
+            return handler;
+        }
+        return server -> {
+            long start = System.nanoTime();
+            try {
+                handler.tick(server);
+            } finally {
+                registry.recordTick(name, System.nanoTime() - start);
+            }
+        };
+    }
+
+    /**
+     * {@code handler} timed as {@code tick_nanos.<name>}, summed over all levels.
+     */
+    public static TickEvent.ServerLevelTick timeLevelTick(String name, TickEvent.ServerLevelTick handler) {
+        if (!enabled) {
+            return handler;
+        }
+        return level -> {
+            long start = System.nanoTime();
+            try {
+                handler.tick(level);
+            } finally {
+                registry.recordTick(name, System.nanoTime() - start);
+            }
+        };
+    }
+
+    /**
+     * {@code handler} timed as {@code tick_nanos.<name>}, summed over all players.
+     */
+    public static TickEvent.Player timePlayerTick(String name, TickEvent.Player handler) {
+        if (!enabled) {
+            return handler;
+        }
+        return player -> {
+            long start = System.nanoTime();
+            try {
+                handler.tick(player);
+            } finally {
+                registry.recordTick(name, System.nanoTime() - start);
+            }
+        };
+    }
+
+    private static void onServerTick(MinecraftServer server) {
+        if (++ticksSinceSnapshot >= SNAPSHOT_INTERVAL) {
+            latest = registry.snapshot(server, ticksSinceSnapshot);
+            ticksSinceSnapshot = 0;
+            mbean.update(latest);
+        }
+        if (csvFile != null && ++ticksSinceCsv >= csvIntervalTicks) {
+            ticksSinceCsv = 0;
+            writeCsv(csvFile, MetricsRegistry.csvRows(Instant.now().toString(), latest));
+        }
+    }
+
+    private static Map<String, Integer> countBosses(MinecraftServer server) {
+        Map<String, Integer> counts = new TreeMap<>();
+        int active = 0;
+        ServerLevel level = server.getLevel(ModDimensions.CHRONO_DAWN_DIMENSION);
+        if (level != null) {
+            Map<EntityType<?>, BossKind> kinds = bossTypes();
+            for (Entity entity : level.getAllEntities()) {
+                BossKind kind = kinds.get(entity.getType());
+                if (kind != null && entity.isAlive()) {
+                    counts.merge(kind.configKey(), 1, Integer::sum);
+                    active++;
+                }
+            }
+        }
+        counts.put("active", active);
+        return counts;
+    }
+
+    private static Map<EntityType<?>, BossKind> bossTypes() {
+        if (bossTypes == null) {
+            bossTypes = Map.of(
+                ModEntities.TIME_GUARDIAN.get(), BossKind.TIME_GUARDIAN,
+                ModEntities.CHRONOS_WARDEN.get(), BossKind.CHRONOS_WARDEN,
+                ModEntities.CLOCKWORK_COLOSSUS.get(), BossKind.CLOCKWORK_COLOSSUS,
+                ModEntities.ENTROPY_KEEPER.get(), BossKind.ENTROPY_KEEPER,
+                ModEntities.TEMPORAL_PHANTOM.get(), BossKind.TEMPORAL_PHANTOM,
+                ModEntities.TIME_TYRANT.get(), BossKind.TIME_TYRANT
+            );
+        }
+        return bossTypes;
+    }
+
+    private static void registerMBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(mbean, new ObjectName(OBJECT_NAME));
+            ChronoDawn.LOGGER.info("Registered JMX MBean {}", OBJECT_NAME);
+        } catch (JMException e) {
+            ChronoDawn.LOGGER.warn("Could not register JMX MBean {}", OBJECT_NAME, e);
+        }
+    }
+
+    private static void writeCsv(Path file, String rows) {
+        CSV_WRITER.execute(() -> {
+            try {
+                boolean newFile = !Files.exists(file) || Files.size(file) == 0L;
+                Path parent = file.getParent();
+                if (parent != null) {
+                    Files.createDirectories(parent);
+                }
+                String text = newFile ? MetricsRegistry.CSV_HEADER + "\n" + rows : rows;
+                Files.writeString(file, text, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                csvFailureLogged = false;
+            } catch (IOException e) {
+                // Logged once until a write succeeds again, so a full disk does not flood the log
+                if (!csvFailureLogged) {
+                    csvFailureLogged = true;
+                    ChronoDawn.LOGGER.warn("Could not write Chrono Dawn metrics to {}", file, e);
+                }
+            }
+        });
+    }
+
+    private static void reset() {
+        ticksSinceSnapshot = 0;
+        ticksSinceCsv = 0;
+        registry.resetTicks();
+        latest = new TreeMap<>();
+        mbean.update(latest);
+        // Entity types are rebuilt if registries are reloaded with the next world
+        bossTypes = null;
+    }
+}
@@ -0,0 +1,140 @@
+package com.chronodawn.core.performance;
+
+import com.chronodawn.ChronoDawn;
+import com.chronodawn.config.ChronoDawnConfig;
+import com.chronodawn.config.DegradationSettings;
+import com.chronodawn.network.ModNetworking;
+import com.chronodawn.network.S2CServerLoadPayload;
+import dev.architectury.event.events.common.LifecycleEvent;
+import dev.architectury.event.events.common.PlayerEvent;
+import dev.architectury.event.events.common.TickEvent;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Steps Chrono Dawn's non-essential work down while the server is overloaded
+ * ({@code [performance.degradation]}, {@code /chronodawn degradation}).
+ *
+ * Times every server tick from {@code SERVER_PRE} to {@code SERVER_POST}, averages the last
+ * {@link #WINDOW_TICKS} ticks and, once a second, asks {@link DegradationPolicy} for the
+ * {@link DegradationLevel}. Consumers read the level through the static helpers:
+ * - {@code ParticleDispatcher} scales cosmetic particles by {@link #particleDetail()}
+ * - Spawners, boss room placers and the time-distortion refresh stretch their check
+ *   intervals with {@link #scaleInterval(int)}
+ * - Boss room placers stop starting new rooms and {@code /chronodawn pregen} pauses while
+ *   {@link #defersPlacement()}; rooms already being placed still finish
+ * Clients get the level through {@link S2CServerLoadPayload} so block particles that are
+ * spawned client-side thin out as well. Every change is logged.
+ *
+ * Ticks are written on the server thread; the level is volatile because worldgen threads
+ * may read it.
+ */
+public final class DegradationGovernor {
+    private DegradationGovernor() {}
+
+    /** Five seconds at 20 TPS. */
+    public static final int WINDOW_TICKS = 100;
+    private static final int EVALUATE_INTERVAL = 20;
+
+    private static final long[] tickNanos = new long[WINDOW_TICKS];
+    private static int sampleCount = 0;
+    private static int nextSample = 0;
+    private static long windowNanos = 0L;
+    private static long tickStartNanos = 0L;
+    private static int ticksSinceChange = 0;
+    private static int ticksSinceEvaluation = 0;
+    private static volatile DegradationLevel level = DegradationLevel.NORMAL;
+
+    public static void register() {
+        TickEvent.SERVER_PRE.register(server -> tickStartNanos = System.nanoTime());
+        TickEvent.SERVER_POST.register(DegradationGovernor::onServerTick);
+        LifecycleEvent.SERVER_STOPPING.register(server -> reset());
+        PlayerEvent.PLAYER_JOIN.register(DegradationGovernor::syncTo);
+
+        ChronoDawn.LOGGER.debug("Registered DegradationGovernor");
+    }
+
+    public static DegradationLevel level() {
+        return level;
+    }
+
+    /**
+     * Mean tick time over the last {@link #WINDOW_TICKS} ticks, in milliseconds.
+     */
+    public static double averageMspt() {
+        return sampleCount == 0 ? 0.0 : windowNanos / (double) sampleCount / 1_000_000.0;
+    }
+
+    /**
+     * {@code ticks} stretched for the current level.
+     */
+    public static int scaleInterval(int ticks) {
+        return ticks * level.scanIntervalMultiplier();
+    }
+
+    public static double particleDetail() {
+        return level.particleDetail();
+    }
+
+    public static boolean defersPlacement() {
+        return level.defersPlacement();
+    }
+
+    private static void onServerTick(MinecraftServer server) {
+        record(System.nanoTime() - tickStartNanos);
+        if (ticksSinceChange < Integer.MAX_VALUE) {
+            ticksSinceChange++;
+        }
+        if (++ticksSinceEvaluation < EVALUATE_INTERVAL || sampleCount < WINDOW_TICKS) {
+            return;
+        }
+        ticksSinceEvaluation = 0;
+
+        DegradationSettings settings = ChronoDawnConfig.get().performance().degradation();
+        double averageMspt = averageMspt();
+        DegradationLevel previous = level;
+        DegradationLevel next = DegradationPolicy.next(previous, averageMspt, ticksSinceChange, settings);
+        if (next == previous) {
+            return;
+        }
+
+        level = next;
+        ticksSinceChange = 0;
+        String mspt = String.format(Locale.ROOT, "%.1f", averageMspt);
+        if (next.ordinal() > previous.ordinal()) {
+            ChronoDawn.LOGGER.warn("[Degradation] Average tick {} ms: {} -> {}", mspt, previous.id(), next.id());
+        } else {
+            ChronoDawn.LOGGER.info("[Degradation] Average tick {} ms: {} -> {}", mspt, previous.id(), next.id());
+        }
+        for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+            syncTo(player);
+        }
+    }
+
+    private static void record(long nanos) {
+        long clamped = Math.max(0L, nanos);
+        windowNanos += clamped - tickNanos[nextSample];
+        tickNanos[nextSample] = clamped;
+        nextSample = (nextSample + 1) % WINDOW_TICKS;
+        if (sampleCount < WINDOW_TICKS) {
+            sampleCount++;
+        }
+    }
+
+    private static void syncTo(ServerPlayer player) {
+        ModNetworking.sendServerLoad(player, new S2CServerLoadPayload(level.ordinal()));
+    }
+
+    private static void reset() {
+        Arrays.fill(tickNanos, 0L);
+        sampleCount = 0;
+        nextSample = 0;
+        windowNanos = 0L;
+        ticksSinceChange = 0;
+        ticksSinceEvaluation = 0;
+        level = DegradationLevel.NORMAL;
+    }
+}
@@ -0,0 +1,75 @@
+package com.chronodawn.core.performance;
+
+import com.chronodawn.config.DegradationSettings;
+
+import java.util.Locale;
+
+/**
+ * How far Chrono Dawn scales back non-essential work under server load, see
+ * {@link DegradationGovernor}. Each level includes the effects of the ones below it.
+ */
+public enum DegradationLevel {
+    /** Everything at full rate. */
+    NORMAL(1.0, 1, false),
+    /** Cosmetic particles at half detail. */
+    REDUCED_PARTICLES(0.5, 1, false),
+    /** Cosmetic particles at a quarter; spawner, placer and time-distortion checks 4x less often. */
+    SLOW_SCANS(0.25, 4, false),
+    /** As {@link #SLOW_SCANS}, and no new boss room placement or pregeneration. */
+    DEFER_PLACEMENT(0.25, 4, true);
+
+    private static final DegradationLevel[] VALUES = values();
+
+    private final double particleDetail;
+    private final int scanIntervalMultiplier;
+    private final boolean defersPlacement;
+
+    DegradationLevel(double particleDetail, int scanIntervalMultiplier, boolean defersPlacement) {
+        this.particleDetail = particleDetail;
+        this.scanIntervalMultiplier = scanIntervalMultiplier;
+        this.defersPlacement = defersPlacement;
+    }
+
+    /** Fraction of cosmetic particles still emitted. */
+    public double particleDetail() {
+        return particleDetail;
+    }
+
+    /** Factor applied to the check intervals of spawners, placers and periodic handlers. */
+    public int scanIntervalMultiplier() {
+        return scanIntervalMultiplier;
+    }
+
+    /** Whether structure placement that can wait should be postponed. */
+    public boolean defersPlacement() {
+        return defersPlacement;
+    }
+
+    /** Lower-case name for logs and commands. */
+    public String id() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Highest level whose threshold {@code mspt} reaches.
+     */
+    public static DegradationLevel forMspt(double mspt, DegradationSettings settings) {
+        if (mspt >= settings.deferPlacementMspt()) {
+            return DEFER_PLACEMENT;
+        }
+        if (mspt >= settings.slowScansMspt()) {
+            return SLOW_SCANS;
+        }
+        if (mspt >= settings.reduceParticlesMspt()) {
+            return REDUCED_PARTICLES;
+        }
+        return NORMAL;
+    }
+
+    /**
+     * Level for a network ordinal; unknown values fall back to {@link #NORMAL}.
+     */
+    public static DegradationLevel byOrdinal(int ordinal) {
+        return ordinal >= 0 && ordinal < VALUES.length ? VALUES[ordinal] : NORMAL;
+    }
+}
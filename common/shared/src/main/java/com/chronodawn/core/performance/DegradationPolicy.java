@@ -0,0 +1,40 @@
+package com.chronodawn.core.performance;
+
+import com.chronodawn.config.DegradationSettings;
+
+/**
+ * Level transitions for {@link DegradationGovernor}, kept free of server state so they can
+ * be unit tested.
+ *
+ * Escalation is immediate: as soon as the average tick time reaches a threshold, the
+ * governor jumps to that level. Recovery has two kinds of hysteresis:
+ * - The average must be {@code recoveryMarginMspt} below a level's threshold to leave it
+ * - At least {@link #MIN_TICKS_BEFORE_RECOVERY} ticks must have passed since the last change
+ * Recovery may skip levels when the load drops sharply.
+ */
+public final class DegradationPolicy {
+    private DegradationPolicy() {}
+
+    /** Ten seconds at 20 TPS; keeps the governor from flapping on a bursty server. */
+    public static final int MIN_TICKS_BEFORE_RECOVERY = 200;
+
+    /**
+     * Next level given the current one, the average tick time and the ticks spent at the
+     * current level.
+     */
+    public static DegradationLevel next(DegradationLevel current, double averageMspt,
+                                        int ticksSinceChange, DegradationSettings settings) {
+        if (!settings.enabled()) {
+            return DegradationLevel.NORMAL;
+        }
+        DegradationLevel loaded = DegradationLevel.forMspt(averageMspt, settings);
+        if (loaded.ordinal() > current.ordinal()) {
+            return loaded;
+        }
+        if (ticksSinceChange < MIN_TICKS_BEFORE_RECOVERY) {
+            return current;
+        }
+        DegradationLevel relaxed = DegradationLevel.forMspt(averageMspt + settings.recoveryMarginMspt(), settings);
+        return relaxed.ordinal() < current.ordinal() ? relaxed : current;
+    }
+}
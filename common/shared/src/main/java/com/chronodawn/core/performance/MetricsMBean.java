@@ -0,0 +1,80 @@
+package com.chronodawn.core.performance;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.ReflectionException;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * The {@code com.chronodawn:type=Metrics} MBean: one read-only {@code long} attribute per
+ * metric of the latest {@link MetricsRegistry} snapshot.
+ *
+ * The attribute set follows the snapshot, so dimensions and tick handlers appear once they
+ * have something to report. JMX clients read on their own threads and only ever see the
+ * snapshot, never live server state.
+ */
+public final class MetricsMBean implements DynamicMBean {
+    private volatile SortedMap<String, Long> snapshot = new TreeMap<>();
+
+    /**
+     * Publish {@code snapshot}; it must not be modified afterwards.
+     */
+    public void update(SortedMap<String, Long> snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    @Override
+    public Object getAttribute(String attribute) throws AttributeNotFoundException {
+        Long value = snapshot.get(attribute);
+        if (value == null) {
+            throw new AttributeNotFoundException(attribute);
+        }
+        return value;
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] attributes) {
+        Map<String, Long> current = snapshot;
+        AttributeList list = new AttributeList();
+        for (String attribute : attributes) {
+            Long value = current.get(attribute);
+            if (value != null) {
+                list.add(new Attribute(attribute, value));
+            }
+        }
+        return list;
+    }
+
+    @Override
+    public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+        throw new AttributeNotFoundException(attribute.getName() + " is read-only");
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList attributes) {
+        // Nothing is writable; JMX reports the attributes missing from the result as not set
+        return new AttributeList();
+    }
+
+    @Override
+    public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+        throw new ReflectionException(new NoSuchMethodException(actionName));
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        SortedMap<String, Long> current = snapshot;
+        MBeanAttributeInfo[] attributes = new MBeanAttributeInfo[current.size()];
+        int i = 0;
+        for (String name : current.keySet()) {
+            attributes[i++] = new MBeanAttributeInfo(name, "long", name, true, false, false);
+        }
+        return new MBeanInfo(MetricsMBean.class.getName(), "Chrono Dawn metrics", attributes, null, null, null);
+    }
+}
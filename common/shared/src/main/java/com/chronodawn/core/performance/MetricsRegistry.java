@@ -0,0 +1,107 @@
+package com.chronodawn.core.performance;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Named counters for {@link ChronoDawnMetrics}, kept free of server state so they can be unit
+ * tested. {@code C} is what gauges are evaluated against (the server).
+ *
+ * A snapshot holds, sorted by name:
+ * - every gauge, read when the snapshot is taken
+ * - every gauge group, one entry per key as {@code <prefix>.<key>}
+ * - {@code tick_nanos.<handler>}: mean nanoseconds per tick spent in each tick handler since
+ *   the previous snapshot
+ * A gauge that throws is left out of that snapshot and logged once.
+ */
+public final class MetricsRegistry<C> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MetricsRegistry.class);
+
+    public static final String TICK_NANOS_PREFIX = "tick_nanos";
+    public static final String CSV_HEADER = "timestamp,metric,value";
+
+    private final Map<String, ToLongFunction<C>> gauges = new ConcurrentHashMap<>();
+    private final Map<String, Function<C, Map<String, ? extends Number>>> gaugeGroups = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> tickNanos = new ConcurrentHashMap<>();
+    private final Set<String> failedGauges = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Report {@code value} as {@code name}. Replaces an earlier gauge of the same name.
+     */
+    public void gauge(String name, ToLongFunction<C> value) {
+        gauges.put(name, value);
+    }
+
+    /**
+     * Report every entry of {@code values} as {@code <prefix>.<key>}, for counts whose keys are
+     * only known at runtime (dimensions, structure types).
+     */
+    public void gaugeGroup(String prefix, Function<C, Map<String, ? extends Number>> values) {
+        gaugeGroups.put(prefix, values);
+    }
+
+    /**
+     * Add {@code nanos} to the time spent in tick handler {@code handler}.
+     */
+    public void recordTick(String handler, long nanos) {
+        tickNanos.computeIfAbsent(handler, key -> new LongAdder()).add(Math.max(0L, nanos));
+    }
+
+    /**
+     * Read every gauge against {@code context} and the tick handler times of the last
+     * {@code ticks} ticks, which are reset.
+     */
+    public SortedMap<String, Long> snapshot(C context, int ticks) {
+        SortedMap<String, Long> snapshot = new TreeMap<>();
+        gauges.forEach((name, gauge) -> {
+            try {
+                snapshot.put(name, gauge.applyAsLong(context));
+            } catch (RuntimeException e) {
+                reportFailure(name, e);
+            }
+        });
+        gaugeGroups.forEach((prefix, group) -> {
+            try {
+                group.apply(context).forEach((key, value) -> snapshot.put(prefix + "." + key, value.longValue()));
+            } catch (RuntimeException e) {
+                reportFailure(prefix, e);
+            }
+        });
+        int divisor = Math.max(1, ticks);
+        tickNanos.forEach((handler, nanos) -> snapshot.put(TICK_NANOS_PREFIX + "." + handler, nanos.sumThenReset() / divisor));
+        return Collections.unmodifiableSortedMap(snapshot);
+    }
+
+    /**
+     * Drop the tick handler times collected so far (the server stopped).
+     */
+    public void resetTicks() {
+        tickNanos.values().forEach(LongAdder::reset);
+    }
+
+    /**
+     * {@code snapshot} as CSV rows under {@link #CSV_HEADER}, one per metric, each ending in a
+     * line break. Metric names never contain commas or quotes, so no field is quoted.
+     */
+    public static String csvRows(String timestamp, Map<String, Long> snapshot) {
+        StringBuilder rows = new StringBuilder();
+        snapshot.forEach((name, value) -> rows.append(timestamp).append(',').append(name).append(',').append(value).append('\n'));
+        return rows.toString();
+    }
+
+    private void reportFailure(String name, RuntimeException e) {
+        if (failedGauges.add(name)) {
+            LOGGER.warn("Metric {} could not be read; leaving it out", name, e);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.chronodawn.core.performance;
+
+import com.chronodawn.ChronoDawn;
+import com.chronodawn.platform.ChronoDawnPlatform;
+import dev.architectury.event.events.common.LifecycleEvent;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Block reads that never load or generate a chunk.
+ *
+ * {@code Level.getBlockState} on a chunk that is not loaded loads it from disk, or generates it,
+ * on the calling thread. A scan over a large volume can do that for dozens of chunks in one
+ * tick. The reads here only look at {@link LevelChunk}s that are already loaded and report an
+ * unloaded position explicitly: {@link #getBlockState} returns an empty {@link Optional} and
+ * {@link Reader#get} returns {@code null}.
+ *
+ * Code that really needs the block (typically because it is about to write there) uses
+ * {@link #getBlockStateOrLoad} with a caller name. In a development environment every chunk
+ * load it causes is counted per caller, and the totals are logged when the server stops.
+ *
+ * Chunk lookups go through the chunk source's cache, which only answers on the server thread
+ * for server levels; off that thread every chunk reads as unloaded.
+ */
+public final class SafeBlockAccess {
+    private SafeBlockAccess() {}
+
+    private static final boolean COUNT_FORCED_LOADS = ChronoDawnPlatform.isDevelopmentEnvironment();
+    private static final Map<String, LongAdder> forcedLoads = new ConcurrentHashMap<>();
+
+    public static void register() {
+        if (COUNT_FORCED_LOADS) {
+            LifecycleEvent.SERVER_STOPPING.register(server -> logForcedLoads());
+        }
+
+        ChronoDawn.LOGGER.debug("Registered SafeBlockAccess");
+    }
+
+    /**
+     * Whether the chunk containing {@code pos} is loaded.
+     */
+    public static boolean isLoaded(Level level, BlockPos pos) {
+        return loadedChunk(level, pos) != null;
+    }
+
+    /**
+     * The block at {@code pos}, or empty if its chunk is not loaded.
+     */
+    public static Optional<BlockState> getBlockState(Level level, BlockPos pos) {
+        LevelChunk chunk = loadedChunk(level, pos);
+        return chunk == null ? Optional.empty() : Optional.of(chunk.getBlockState(pos));
+    }
+
+    /**
+     * Whether the block at {@code pos} is loaded and matches {@code test}.
+     */
+    public static boolean test(Level level, BlockPos pos, Predicate<BlockState> test) {
+        LevelChunk chunk = loadedChunk(level, pos);
+        return chunk != null && test.test(chunk.getBlockState(pos));
+    }
+
+    /**
+     * The block at {@code pos}, loading its chunk if needed. Loads are counted under
+     * {@code caller} in a development environment.
+     */
+    public static BlockState getBlockStateOrLoad(Level level, BlockPos pos, String caller) {
+        if (COUNT_FORCED_LOADS && loadedChunk(level, pos) == null) {
+            forcedLoads.computeIfAbsent(caller, key -> new LongAdder()).increment();
+        }
+        return level.getBlockState(pos);
+    }
+
+    /**
+     * Chunk loads counted per caller so far; empty outside a development environment.
+     */
+    public static Map<String, Long> forcedLoads() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        forcedLoads.forEach((caller, count) -> snapshot.put(caller, count.sum()));
+        return snapshot;
+    }
+
+    /**
+     * A reader for scanning a volume. It keeps the last chunk it looked at, so a scan that
+     * walks a chunk column by column only looks each chunk up once per column.
+     */
+    public static Reader reader(Level level) {
+        return new Reader(level);
+    }
+
+    public static final class Reader {
+        private final Level level;
+        private final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        private LevelChunk chunk;
+        private int chunkX = Integer.MIN_VALUE;
+        private int chunkZ = Integer.MIN_VALUE;
+        private int unloadedReads = 0;
+
+        private Reader(Level level) {
+            this.level = level;
+        }
+
+        /**
+         * The block at ({@code x}, {@code y}, {@code z}), or {@code null} if its chunk is not loaded.
+         */
+        public BlockState get(int x, int y, int z) {
+            int cx = SectionPos.blockToSectionCoord(x);
+            int cz = SectionPos.blockToSectionCoord(z);
+            if (cx != chunkX || cz != chunkZ) {
+                chunk = level.getChunkSource().getChunkNow(cx, cz);
+                chunkX = cx;
+                chunkZ = cz;
+            }
+            if (chunk == null) {
+                unloadedReads++;
+                return null;
+            }
+            return chunk.getBlockState(cursor.set(x, y, z));
+        }
+
+        /**
+         * The block at {@code pos}, or {@code null} if its chunk is not loaded.
+         */
+        public BlockState get(BlockPos pos) {
+            return get(pos.getX(), pos.getY(), pos.getZ());
+        }
+
+        /**
+         * Number of reads that hit an unloaded chunk.
+         */
+        public int unloadedReads() {
+            return unloadedReads;
+        }
+    }
+
+    private static LevelChunk loadedChunk(Level level, BlockPos pos) {
+        return level.getChunkSource().getChunkNow(
+            SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+    }
+
+    private static void logForcedLoads() {
+        Map<String, Long> snapshot = forcedLoads();
+        if (!snapshot.isEmpty()) {
+            ChronoDawn.LOGGER.info("Chunk loads forced by block reads: {}", snapshot);
+        }
+        forcedLoads.clear();
+    }
+}
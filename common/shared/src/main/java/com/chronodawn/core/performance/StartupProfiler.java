@@ -0,0 +1,109 @@
+package com.chronodawn.core.performance;
+
+import com.chronodawn.ChronoDawn;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Wall time of the phases of Chrono Dawn's startup: each registry, the loader-specific
+ * registrations (attributes, spawn placements, spawn eggs) and the client setup (renderers,
+ * model layers, color providers).
+ *
+ * Phases are recorded as they finish and logged as one line per stage by
+ * {@link #logSummary}, which the loader entry points call once their stage is done:
+ * <pre>
+ * Startup profile (common): registry/blocks 41.2 ms, registry/items 63.0 ms, ... (total 131.7 ms)
+ * </pre>
+ * On NeoForge the registry contents are built in {@code RegisterEvent}, after
+ * {@code ChronoDawn.init()} has only queued them, so that loader also times each registry
+ * event ({@code registry_event/<registry>}).
+ *
+ * This only measures startup. On Fabric the {@code registry/*} phases are where Architectury's
+ * {@code DeferredRegister} builds every block, item and entity type, because Fabric needs them
+ * registered before its registries freeze; that work is still eager and is what the profile
+ * is for finding.
+ */
+public final class StartupProfiler {
+    private StartupProfiler() {}
+
+    // Phases shorter than this are not listed (NeoForge fires a registry event for every registry)
+    public static final long MIN_LISTED_NANOS = 100_000L;
+
+    public record Phase(String name, long nanos) {}
+
+    private static final List<Phase> pending = new ArrayList<>();
+
+    /**
+     * Run {@code work} and record its wall time as {@code name}.
+     */
+    public static void time(String name, Runnable work) {
+        long start = System.nanoTime();
+        try {
+            work.run();
+        } finally {
+            record(name, start);
+        }
+    }
+
+    /**
+     * Record the time from {@code startNanos} ({@link System#nanoTime()}) until now as {@code name}.
+     */
+    public static void record(String name, long startNanos) {
+        long nanos = System.nanoTime() - startNanos;
+        synchronized (pending) {
+            pending.add(new Phase(name, nanos));
+        }
+    }
+
+    /**
+     * Phases recorded since the last call, in the order they finished.
+     */
+    public static List<Phase> drain() {
+        synchronized (pending) {
+            List<Phase> phases = List.copyOf(pending);
+            pending.clear();
+            return phases;
+        }
+    }
+
+    /**
+     * Log the phases recorded since the last summary as stage {@code stage}; does nothing if
+     * there are none.
+     */
+    public static void logSummary(String stage) {
+        List<Phase> phases = drain();
+        if (!phases.isEmpty()) {
+            ChronoDawn.LOGGER.info(format(stage, phases));
+        }
+    }
+
+    /**
+     * One-line summary of {@code phases}. Phases under {@link #MIN_LISTED_NANOS} are counted in
+     * the total but not listed.
+     */
+    public static String format(String stage, List<Phase> phases) {
+        StringBuilder line = new StringBuilder("Startup profile (").append(stage).append("): ");
+        long total = 0L;
+        int listed = 0;
+        for (Phase phase : phases) {
+            total += phase.nanos();
+            if (phase.nanos() < MIN_LISTED_NANOS) {
+                continue;
+            }
+            if (listed++ > 0) {
+                line.append(", ");
+            }
+            line.append(phase.name()).append(' ').append(millis(phase.nanos())).append(" ms");
+        }
+        if (listed == 0) {
+            line.append("no phase over ").append(millis(MIN_LISTED_NANOS)).append(" ms");
+        }
+        return line.append(" (total ").append(millis(total)).append(" ms)").toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+}
@@ -3,7 +3,9 @@ package com.chronodawn.core.portal;
 import com.chronodawn.registry.ModBlocks;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
 
 import java.util.HashSet;
@@ -63,8 +65,17 @@ public class PortalFrameValidator {
      * @return PortalFrameData if valid, null if invalid
      */
     public static PortalFrameData validateFrame(Level level, BlockPos pos, Direction.Axis axis) {
+        return validateFrame(level, pos, axis, ModBlocks.CLOCKSTONE_BLOCK.get());
+    }
+
+    /**
+     * Validate a portal frame built from {@code frameBlock}.
+     * Takes a plain {@link BlockGetter} and the frame block so the benchmarks can run it
+     * on synthetic block data with a vanilla stand-in block, without a registered mod.
+     */
+    static PortalFrameData validateFrame(BlockGetter level, BlockPos pos, Direction.Axis axis, Block frameBlock) {
         // First check if starting position is a frame block
-        if (!isFrameBlock(level, pos)) {
+        if (!isFrameBlock(level, pos, frameBlock)) {
             return null;
         }
 
@@ -73,7 +84,7 @@ public class PortalFrameValidator {
         Direction vertical = Direction.UP;
 
         // Find portal bounds by searching in all 4 directions
-        PortalBounds bounds = findPortalBounds(level, pos, horizontal, vertical);
+        PortalBounds bounds = findPortalBounds(level, pos, horizontal, vertical, frameBlock);
 
         // Calculate dimensions from bounds
         int width = bounds.maxHorizontal - bounds.minHorizontal + 1;
@@ -93,7 +104,7 @@ public class PortalFrameValidator {
         }
 
         // Validate frame structure
-        if (!validateFrameStructure(level, bottomLeft, horizontal, vertical, width, height)) {
+        if (!validateFrameStructure(level, bottomLeft, horizontal, vertical, width, height, frameBlock)) {
             return null;
         }
 
@@ -114,7 +125,7 @@ public class PortalFrameValidator {
     /**
      * Portal bounds data containing min/max coordinates.
      */
-    private static class PortalBounds {
+    static class PortalBounds {
         final int minHorizontal;
         final int maxHorizontal;
         final int minVertical;
@@ -132,7 +143,8 @@ public class PortalFrameValidator {
      * Find the bounding box of all frame blocks by searching in a 2D grid around the clicked position.
      * This handles corner-optional portals by finding all frame blocks regardless of which block was clicked.
      */
-    private static PortalBounds findPortalBounds(Level level, BlockPos pos, Direction horizontal, Direction vertical) {
+    static PortalBounds findPortalBounds(BlockGetter level, BlockPos pos, Direction horizontal, Direction vertical,
+                                         Block frameBlock) {
         int minHorizontal = getHorizontalCoord(pos, horizontal.getAxis());
         int maxHorizontal = minHorizontal;
         int minVertical = pos.getY();
@@ -143,7 +155,7 @@ public class PortalFrameValidator {
         for (int h = -MAX_WIDTH; h <= MAX_WIDTH; h++) {
             for (int v = -MAX_HEIGHT; v <= MAX_HEIGHT; v++) {
                 BlockPos checkPos = pos.relative(horizontal, h).relative(vertical, v);
-                if (isFrameBlock(level, checkPos)) {
+                if (isFrameBlock(level, checkPos, frameBlock)) {
                     int coord = getHorizontalCoord(checkPos, horizontal.getAxis());
                     minHorizontal = Math.min(minHorizontal, coord);
                     maxHorizontal = Math.max(maxHorizontal, coord);
@@ -173,18 +185,19 @@ public class PortalFrameValidator {
      * @param maxSize Maximum size to search
      * @return Frame dimension, or 0 if invalid
      */
-    private static int findFrameDimension(Level level, BlockPos start, Direction direction, int maxSize) {
+    private static int findFrameDimension(BlockGetter level, BlockPos start, Direction direction, int maxSize,
+                                          Block frameBlock) {
         int dimension = 0;
         for (int i = 1; i <= maxSize; i++) {
             BlockPos checkPos = start.relative(direction, i);
-            if (isFrameBlock(level, checkPos)) {
+            if (isFrameBlock(level, checkPos, frameBlock)) {
                 dimension = i;
             } else {
                 // Not a frame block - might be a corner (air) or end of frame
                 // Check if the next block is a frame block (indicating this is a missing corner)
                 if (i + 1 <= maxSize) {
                     BlockPos nextPos = start.relative(direction, i + 1);
-                    if (isFrameBlock(level, nextPos)) {
+                    if (isFrameBlock(level, nextPos, frameBlock)) {
                         // This is a missing corner, continue searching
                         continue;
                     }
@@ -210,8 +223,8 @@ public class PortalFrameValidator {
      * @param height Frame height
      * @return true if frame structure is valid
      */
-    private static boolean validateFrameStructure(Level level, BlockPos bottomLeft, Direction horizontal,
-                                                    Direction vertical, int width, int height) {
+    private static boolean validateFrameStructure(BlockGetter level, BlockPos bottomLeft, Direction horizontal,
+                                                    Direction vertical, int width, int height, Block frameBlock) {
         Set<BlockPos> framePositions = new HashSet<>();
         Set<BlockPos> cornerPositions = new HashSet<>();
 
@@ -249,7 +262,7 @@ public class PortalFrameValidator {
 
         // Validate all frame positions are Clockstone Blocks
         for (BlockPos framePos : framePositions) {
-            if (!isFrameBlock(level, framePos)) {
+            if (!isFrameBlock(level, framePos, frameBlock)) {
                 return false;
             }
         }
@@ -272,11 +285,12 @@ public class PortalFrameValidator {
      *
      * @param level The level
      * @param pos Position to check
+     * @param frameBlock Frame block (Clockstone Block)
      * @return true if block is Clockstone Block
      */
-    private static boolean isFrameBlock(Level level, BlockPos pos) {
+    private static boolean isFrameBlock(BlockGetter level, BlockPos pos, Block frameBlock) {
         BlockState state = level.getBlockState(pos);
-        return state.is(ModBlocks.CLOCKSTONE_BLOCK.get());
+        return state.is(frameBlock);
     }
 
     /**
@@ -286,7 +300,7 @@ public class PortalFrameValidator {
      * @param pos Position to check
      * @return true if block is air or portal block
      */
-    private static boolean isValidInteriorBlock(Level level, BlockPos pos) {
+    private static boolean isValidInteriorBlock(BlockGetter level, BlockPos pos) {
         BlockState state = level.getBlockState(pos);
         // For now, only accept air blocks
         // Portal blocks will be added when portal activation is implemented
@@ -0,0 +1,62 @@
+package com.chronodawn.core.spread;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+
+import java.util.function.Supplier;
+
+/**
+ * One "block X turns into Y" rule for a spreading block, driven by a block tag.
+ *
+ * The tag is resolved into a block-to-state table the first time the rule is used after
+ * server start or a datapack reload. After that, {@link #convert} is a single identity-map
+ * lookup, with no allocation and no tag walk, which keeps random ticks in dense patches cheap.
+ *
+ * Staleness is detected by the server's resource manager: {@code /reload} installs a new
+ * one in the same main-thread step that binds the new tags, so seeing a different
+ * manager means the tags it was built from are gone. This avoids reload listeners,
+ * which run before tags are bound.
+ */
+public final class SpreadRule {
+    private final TagKey<Block> sources;
+    private final Supplier<BlockState> result;
+
+    // Built from the tags bound while builtFor was the server's resource manager
+    private Reference2ObjectOpenHashMap<Block, BlockState> table;
+    private ResourceManager builtFor;
+
+    public SpreadRule(TagKey<Block> sources, Supplier<BlockState> result) {
+        this.sources = sources;
+        this.result = result;
+    }
+
+    /**
+     * The state {@code source} converts into, or {@code null} if it is not in the tag.
+     */
+    public BlockState convert(ServerLevel level, BlockState source) {
+        ResourceManager resources = level.getServer().getResourceManager();
+        if (resources != builtFor) {
+            table = build();
+            builtFor = resources;
+        }
+        return table.get(source.getBlock());
+    }
+
+    private Reference2ObjectOpenHashMap<Block, BlockState> build() {
+        BlockState converted = result.get();
+        Reference2ObjectOpenHashMap<Block, BlockState> built = new Reference2ObjectOpenHashMap<>();
+        for (Block block : BuiltInRegistries.BLOCK) {
+            // A block never converts into itself, even if a pack tags it
+            if (block != converted.getBlock() && block.defaultBlockState().is(sources)) {
+                built.put(block, converted);
+            }
+        }
+        built.trim();
+        return built;
+    }
+}
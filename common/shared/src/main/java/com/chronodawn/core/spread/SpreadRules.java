@@ -0,0 +1,36 @@
+package com.chronodawn.core.spread;
+
+import com.chronodawn.ChronoDawn;
+import com.chronodawn.compat.CompatResourceLocation;
+import com.chronodawn.registry.ModBlocks;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.level.block.Block;
+
+/**
+ * Spread rules for ChronoDawn's spreading blocks.
+ *
+ * Each rule reads a block tag, so modpacks can extend or restrict what a block spreads
+ * onto with a datapack instead of a code change:
+ * <ul>
+ *   <li>{@code #chronodawn:temporal_moss_spreadable} → Temporal Moss</li>
+ *   <li>{@code #chronodawn:temporal_grass_spreadable} → Temporal Grass Block</li>
+ * </ul>
+ *
+ * Only touched from the server thread (random ticks, bonemeal).
+ */
+public final class SpreadRules {
+    private SpreadRules() {}
+
+    public static final SpreadRule TEMPORAL_MOSS = new SpreadRule(
+        tag("temporal_moss_spreadable"),
+        () -> ModBlocks.TEMPORAL_MOSS.get().defaultBlockState());
+
+    public static final SpreadRule TEMPORAL_GRASS = new SpreadRule(
+        tag("temporal_grass_spreadable"),
+        () -> ModBlocks.TEMPORAL_GRASS_BLOCK.get().defaultBlockState());
+
+    private static TagKey<Block> tag(String path) {
+        return TagKey.create(Registries.BLOCK, CompatResourceLocation.create(ChronoDawn.MOD_ID, path));
+    }
+}
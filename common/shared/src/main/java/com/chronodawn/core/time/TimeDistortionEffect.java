@@ -75,16 +75,17 @@ public class TimeDistortionEffect {
      * This method should be called every tick for entities in the ChronoDawn dimension.
      *
      * @param entity The living entity to potentially apply the effect to
+     * @return true if the entity was slowed
      */
-    public static void applyTimeDistortion(LivingEntity entity) {
+    public static boolean applyTimeDistortion(LivingEntity entity) {
         // Check if entity is in ChronoDawn dimension
         if (!isInChronoDawnDimension(entity)) {
-            return;
+            return false;
         }
 
         // Check if entity is a hostile mob (not a player)
         if (!isHostileMob(entity)) {
-            return;
+            return false;
         }
 
         // Check dimension state for Eye of Chronos enhancement (permanent, world-wide)
@@ -99,6 +100,7 @@ public class TimeDistortionEffect {
                 false,                         // Ambient (particle visibility)
                 false                          // Show particles
         ));
+        return true;
     }
 
     /**
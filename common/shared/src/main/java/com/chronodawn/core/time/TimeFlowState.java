@@ -0,0 +1,41 @@
+package com.chronodawn.core.time;
+
+/**
+ * Snapshot of the Chrono Dawn day/night flow that both sides can extrapolate from.
+ *
+ * The server advances day time by a varying speed (see
+ * {@link com.chronodawn.events.TimeDistortionEventHandler}); vanilla clients only tick
+ * day time at 1x and get corrected by a time packet every second, so the sky snaps.
+ * Instead the server sends this state whenever the speed or sleep-skip state changes
+ * and the client computes {@link #dayTimeAt} from its own game time every frame.
+ *
+ * @param anchorGameTime  game time when the state was captured
+ * @param anchorDayTime   day time when the state was captured
+ * @param speed           day-time ticks per game tick during normal flow
+ * @param sleepSkipTarget day time a sleep skip is advancing to, or {@link #NO_SLEEP_SKIP}
+ */
+public record TimeFlowState(long anchorGameTime, long anchorDayTime, float speed, long sleepSkipTarget) {
+    public static final long NO_SLEEP_SKIP = -1L;
+
+    /** Day-time ticks added per game tick while a sleep skip is in progress. */
+    public static final long SLEEP_SKIP_TICKS_PER_TICK = 500;
+
+    public boolean isSleepSkipping() {
+        return sleepSkipTarget != NO_SLEEP_SKIP;
+    }
+
+    /**
+     * Predicted day time at {@code gameTime}. Never runs backwards: a game time before the
+     * anchor (client clock corrected backwards) yields the anchor day time.
+     */
+    public long dayTimeAt(long gameTime) {
+        long elapsed = Math.max(0L, gameTime - anchorGameTime);
+        if (isSleepSkipping()) {
+            if (anchorDayTime >= sleepSkipTarget) {
+                return anchorDayTime;
+            }
+            return Math.min(sleepSkipTarget, anchorDayTime + elapsed * SLEEP_SKIP_TICKS_PER_TICK);
+        }
+        return anchorDayTime + (long) (elapsed * (double) speed);
+    }
+}
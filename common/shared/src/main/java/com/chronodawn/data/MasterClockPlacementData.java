@@ -0,0 +1,269 @@
+package com.chronodawn.data;
+
+import com.chronodawn.compat.CompatSavedData;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.core.Vec3i;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.Rotation;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import net.minecraft.world.level.storage.DimensionDataStorage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Saved data for Master Clock boss room placement in the ChronoDawn dimension.
+ *
+ * Tracks, per Master Clock (keyed by structure start position):
+ * - Structures whose boss room placement has finished (or was given up)
+ * - The placement progress of structures still being processed: current phase,
+ *   surface marker search position, found marker, and the stairs/corridor results
+ *   the boss room phase needs
+ *
+ * MasterClockBossRoomPlacer resumes from this state after a restart instead of
+ * searching every Master Clock again.
+ */
+public class MasterClockPlacementData extends CompatSavedData {
+    private static final String DATA_NAME = "chronodawn_master_clock_boss_rooms";
+
+    /**
+     * Phases of the placer's multi-tick state machine.
+     */
+    public enum Phase {
+        SEARCHING_SURFACE_MARKER,  // Searching for Dropper marker at surface (chunk by chunk)
+        SEARCHING_JIGSAW,          // Searching for Jigsaw block (chunk by chunk)
+        PLACING_CORRIDOR,          // Placing corridor at Y=-30
+        PLACING_STAIRS,            // Placing stairs segments (segment by segment)
+        PLACING_BOSS_ROOM,         // Placing boss room at Y=-50
+        FINALIZING,                // Final cleanup and waterlogging
+        COMPLETED                  // Processing completed
+    }
+
+    /**
+     * Placement progress of one Master Clock. Updated in place by the placer, which
+     * marks the data dirty after every step.
+     */
+    public static class Progress {
+        public final BlockPos structureOrigin;
+        public Phase phase = Phase.SEARCHING_SURFACE_MARKER;
+
+        // Marker search state
+        public int currentChunkIndex = 0;
+        public int searchRetryCount = 0;
+        public BlockPos surfaceMarkerPos = null;
+        public Direction surfaceMarkerDirection = null; // Direction from dropper
+
+        // Stairs placement results
+        public List<BlockPos> stairsPositions = new ArrayList<>();
+        public List<BoundingBox> protectedAreas = new ArrayList<>();
+        public Vec3i stairsTemplateSize = null;
+        public Rotation stairsRotation = null;
+
+        // Boss room position
+        public BlockPos bossRoomPos = null;
+        public Rotation bossRoomRotation = null;
+
+        // Not saved: the boss room is being written by SlicedTemplatePlacement, which only
+        // lives in memory. After a restart the phase is still PLACING_BOSS_ROOM and it is placed again.
+        public boolean bossRoomPlacementQueued = false;
+
+        public Progress(BlockPos structureOrigin) {
+            this.structureOrigin = structureOrigin.immutable();
+        }
+    }
+
+    private final Set<BlockPos> completed = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private final Map<BlockPos, Progress> inProgress = new ConcurrentHashMap<>();
+
+    public MasterClockPlacementData() {
+        super();
+    }
+
+    /**
+     * Get or create the Master Clock placement data for a ChronoDawn level.
+     *
+     * @param level ServerLevel (should be ChronoDawn dimension)
+     * @return Master Clock placement data instance
+     */
+    public static MasterClockPlacementData get(ServerLevel level) {
+        DimensionDataStorage storage = level.getDataStorage();
+        return CompatSavedData.computeIfAbsent(
+            storage,
+            MasterClockPlacementData::new,
+            MasterClockPlacementData::load,
+            DATA_NAME
+        );
+    }
+
+    /**
+     * Load data from NBT.
+     *
+     * @param tag NBT tag
+     * @param provider Holder lookup provider
+     * @return Loaded data
+     */
+    public static MasterClockPlacementData load(CompoundTag tag, HolderLookup.Provider provider) {
+        MasterClockPlacementData data = new MasterClockPlacementData();
+        data.loadData(tag);
+        return data;
+    }
+
+    @Override
+    public CompoundTag saveData(CompoundTag tag) {
+        ListTag completedList = new ListTag();
+        for (BlockPos pos : completed) {
+            completedList.add(writePos(pos));
+        }
+        tag.put("Completed", completedList);
+
+        ListTag progressList = new ListTag();
+        for (Progress progress : inProgress.values()) {
+            CompoundTag progressTag = new CompoundTag();
+            progressTag.putLong("Origin", progress.structureOrigin.asLong());
+            progressTag.putString("Phase", progress.phase.name());
+            progressTag.putInt("ChunkIndex", progress.currentChunkIndex);
+            progressTag.putInt("Retries", progress.searchRetryCount);
+            if (progress.surfaceMarkerPos != null && progress.surfaceMarkerDirection != null) {
+                progressTag.putLong("SurfaceMarker", progress.surfaceMarkerPos.asLong());
+                progressTag.putString("SurfaceMarkerFacing", progress.surfaceMarkerDirection.name());
+            }
+
+            ListTag stairsList = new ListTag();
+            for (BlockPos pos : progress.stairsPositions) {
+                stairsList.add(writePos(pos));
+            }
+            progressTag.put("StairsPositions", stairsList);
+
+            ListTag areasList = new ListTag();
+            for (BoundingBox area : progress.protectedAreas) {
+                CompoundTag areaTag = new CompoundTag();
+                areaTag.putLong("Min", new BlockPos(area.minX(), area.minY(), area.minZ()).asLong());
+                areaTag.putLong("Max", new BlockPos(area.maxX(), area.maxY(), area.maxZ()).asLong());
+                areasList.add(areaTag);
+            }
+            progressTag.put("ProtectedAreas", areasList);
+
+            if (progress.stairsTemplateSize != null && progress.stairsRotation != null) {
+                progressTag.putLong("StairsSize", new BlockPos(progress.stairsTemplateSize).asLong());
+                progressTag.putString("StairsRotation", progress.stairsRotation.name());
+            }
+            if (progress.bossRoomPos != null && progress.bossRoomRotation != null) {
+                progressTag.putLong("BossRoomPos", progress.bossRoomPos.asLong());
+                progressTag.putString("BossRoomRotation", progress.bossRoomRotation.name());
+            }
+            progressList.add(progressTag);
+        }
+        tag.put("InProgress", progressList);
+        return tag;
+    }
+
+    @Override
+    public void loadData(CompoundTag tag) {
+        ListTag completedList = tag.getList("Completed", Tag.TAG_COMPOUND);
+        for (int i = 0; i < completedList.size(); i++) {
+            completed.add(BlockPos.of(completedList.getCompound(i).getLong("Pos")));
+        }
+
+        ListTag progressList = tag.getList("InProgress", Tag.TAG_COMPOUND);
+        for (int i = 0; i < progressList.size(); i++) {
+            CompoundTag progressTag = progressList.getCompound(i);
+            Progress progress = new Progress(BlockPos.of(progressTag.getLong("Origin")));
+            progress.phase = Phase.valueOf(progressTag.getString("Phase"));
+            progress.currentChunkIndex = progressTag.getInt("ChunkIndex");
+            progress.searchRetryCount = progressTag.getInt("Retries");
+            if (progressTag.contains("SurfaceMarker")) {
+                progress.surfaceMarkerPos = BlockPos.of(progressTag.getLong("SurfaceMarker"));
+                progress.surfaceMarkerDirection = Direction.valueOf(progressTag.getString("SurfaceMarkerFacing"));
+            }
+
+            ListTag stairsList = progressTag.getList("StairsPositions", Tag.TAG_COMPOUND);
+            for (int j = 0; j < stairsList.size(); j++) {
+                progress.stairsPositions.add(BlockPos.of(stairsList.getCompound(j).getLong("Pos")));
+            }
+
+            ListTag areasList = progressTag.getList("ProtectedAreas", Tag.TAG_COMPOUND);
+            for (int j = 0; j < areasList.size(); j++) {
+                CompoundTag areaTag = areasList.getCompound(j);
+                progress.protectedAreas.add(BoundingBox.fromCorners(
+                    BlockPos.of(areaTag.getLong("Min")),
+                    BlockPos.of(areaTag.getLong("Max"))
+                ));
+            }
+
+            if (progressTag.contains("StairsSize")) {
+                progress.stairsTemplateSize = BlockPos.of(progressTag.getLong("StairsSize"));
+                progress.stairsRotation = Rotation.valueOf(progressTag.getString("StairsRotation"));
+            }
+            if (progressTag.contains("BossRoomPos")) {
+                progress.bossRoomPos = BlockPos.of(progressTag.getLong("BossRoomPos"));
+                progress.bossRoomRotation = Rotation.valueOf(progressTag.getString("BossRoomRotation"));
+            }
+            inProgress.put(progress.structureOrigin, progress);
+        }
+    }
+
+    private static CompoundTag writePos(BlockPos pos) {
+        CompoundTag posTag = new CompoundTag();
+        posTag.putLong("Pos", pos.asLong());
+        return posTag;
+    }
+
+    /**
+     * Whether boss room placement for the Master Clock at {@code origin} has finished.
+     */
+    public boolean isCompleted(BlockPos origin) {
+        return completed.contains(origin);
+    }
+
+    /**
+     * Whether the Master Clock at {@code origin} is being processed.
+     */
+    public boolean isInProgress(BlockPos origin) {
+        return inProgress.containsKey(origin);
+    }
+
+    /**
+     * Start tracking placement for the Master Clock at {@code origin}.
+     *
+     * @return The new progress entry
+     */
+    public Progress start(BlockPos origin) {
+        Progress progress = new Progress(origin);
+        inProgress.put(progress.structureOrigin, progress);
+        setDirty();
+        return progress;
+    }
+
+    /**
+     * Number of Master Clocks whose placement has finished.
+     */
+    public int getCompletedCount() {
+        return completed.size();
+    }
+
+    /**
+     * Master Clocks still being processed.
+     */
+    public Collection<Progress> getInProgress() {
+        return Collections.unmodifiableCollection(inProgress.values());
+    }
+
+    /**
+     * Mark placement for the Master Clock at {@code origin} as finished.
+     */
+    public void complete(BlockPos origin) {
+        inProgress.remove(origin);
+        completed.add(origin.immutable());
+        setDirty();
+    }
+}
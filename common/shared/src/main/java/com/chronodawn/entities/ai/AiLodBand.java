@@ -0,0 +1,47 @@
+package com.chronodawn.entities.ai;
+
+import com.chronodawn.config.AiLodSettings;
+
+/**
+ * Distance band of a mob for AI level-of-detail, see {@link MobAiLod}.
+ */
+public enum AiLodBand {
+    /** Within {@code nearDistance} of a player: every tick. */
+    NEAR,
+    /** Up to {@code farDistance}: every {@code midInterval} ticks. */
+    MID,
+    /** Beyond {@code farDistance}: every {@code farInterval} ticks. */
+    FAR;
+
+    /**
+     * Band for a mob whose nearest player is {@code distanceSqr} away (squared blocks).
+     */
+    public static AiLodBand of(double distanceSqr, AiLodSettings settings) {
+        if (distanceSqr <= settings.nearDistance() * settings.nearDistance()) {
+            return NEAR;
+        }
+        if (distanceSqr <= settings.farDistance() * settings.farDistance()) {
+            return MID;
+        }
+        return FAR;
+    }
+
+    /**
+     * Ticks between AI updates in this band.
+     */
+    public int interval(AiLodSettings settings) {
+        return switch (this) {
+            case NEAR -> 1;
+            case MID -> settings.midInterval();
+            case FAR -> settings.farInterval();
+        };
+    }
+
+    /**
+     * Whether a mob in this band updates on {@code tick}. Staggered by entity ID so
+     * throttled mobs spread their updates across ticks.
+     */
+    public boolean runsOn(int tick, int entityId, AiLodSettings settings) {
+        return Math.floorMod(tick + entityId, interval(settings)) == 0;
+    }
+}
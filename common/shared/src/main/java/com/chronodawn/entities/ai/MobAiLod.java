@@ -0,0 +1,85 @@
+package com.chronodawn.entities.ai;
+
+import com.chronodawn.compat.CompatParticles;
+import com.chronodawn.config.AiLodSettings;
+import com.chronodawn.config.ChronoDawnConfig;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.core.particles.SimpleParticleType;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.player.Player;
+
+/**
+ * Distance-based AI level-of-detail for Chrono Dawn mobs ({@code [performance.mob_ai_lod]}).
+ *
+ * {@code MobAiLodMixin} asks {@link #skipAiStep} at the start of {@code Mob.serverAiStep},
+ * which runs sensing, target and goal selectors, navigation, move, look and jump control.
+ * Mobs in the {@link AiLodBand#MID} and {@link AiLodBand#FAR} bands skip it on all but
+ * every Nth tick. Only classes in {@code com.chronodawn.entities.mobs} are throttled, so
+ * bosses and vanilla mobs are untouched. Combat always runs at full rate: a mob with a
+ * target or that was just hurt never skips. Physics, damage and the rest of the entity
+ * tick are outside {@code serverAiStep} and are not affected.
+ */
+public final class MobAiLod {
+    private MobAiLod() {}
+
+    private static final String MOB_PACKAGE = "com.chronodawn.entities.mobs.";
+    private static final int DEBUG_INTERVAL = 20;
+
+    private static final ClassValue<Boolean> THROTTLED_CLASSES = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return type.getName().startsWith(MOB_PACKAGE);
+        }
+    };
+
+    /**
+     * Whether {@code mob} should skip its AI update this tick.
+     */
+    public static boolean skipAiStep(Mob mob) {
+        AiLodSettings settings = ChronoDawnConfig.get().performance().mobAiLod();
+        if (!settings.enabled() && !settings.debugOverlay()) {
+            return false;
+        }
+        if (!THROTTLED_CLASSES.get(mob.getClass()) || !(mob.level() instanceof ServerLevel level)) {
+            return false;
+        }
+
+        AiLodBand band = AiLodBand.of(nearestPlayerDistanceSqr(mob, level), settings);
+        if (settings.debugOverlay() && Math.floorMod(mob.tickCount + mob.getId(), DEBUG_INTERVAL) == 0) {
+            showBand(level, mob, band);
+        }
+        if (!settings.enabled() || band == AiLodBand.NEAR) {
+            return false;
+        }
+        if (mob.getTarget() != null || mob.hurtTime > 0) {
+            return false;
+        }
+        return !band.runsOn(mob.tickCount, mob.getId(), settings);
+    }
+
+    private static double nearestPlayerDistanceSqr(Mob mob, ServerLevel level) {
+        double nearest = Double.POSITIVE_INFINITY;
+        for (Player player : level.players()) {
+            if (player.isSpectator()) {
+                continue;
+            }
+            nearest = Math.min(nearest, player.distanceToSqr(mob));
+        }
+        return nearest;
+    }
+
+    private static void showBand(ServerLevel level, Mob mob, AiLodBand band) {
+        SimpleParticleType particle = switch (band) {
+            case NEAR -> ParticleTypes.HAPPY_VILLAGER;
+            case MID -> ParticleTypes.WAX_ON;
+            case FAR -> ParticleTypes.ANGRY_VILLAGER;
+        };
+        double y = mob.getY() + mob.getBbHeight() + 0.5;
+        for (ServerPlayer player : level.players()) {
+            CompatParticles.sendToPlayer(level, player, particle, true,
+                mob.getX(), y, mob.getZ(), 1, 0.0, 0.0, 0.0, 0.0);
+        }
+    }
+}
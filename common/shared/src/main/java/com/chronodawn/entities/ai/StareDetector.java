@@ -0,0 +1,108 @@
+package com.chronodawn.entities.ai;
+
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Enderman-like stare detection shared by Hourglass Golems and Timeline Striders.
+ *
+ * Each mob used to look up its nearest player, build several {@link Vec3}s and raycast
+ * with {@code hasLineOfSight} every tick. Now:
+ * - Player eye positions and view vectors are captured once per level per game tick
+ * - A mob only checks every {@link #CHECK_INTERVAL} ticks, staggered by entity ID
+ * - Mobs that already have a target skip the check entirely
+ * - The line-of-sight raycast only runs when the cheap angle check passes
+ *
+ * Server thread only.
+ */
+public final class StareDetector {
+    private StareDetector() {}
+
+    public static final double RANGE = 64.0;
+    public static final int CHECK_INTERVAL = 4;
+
+    private static final double RANGE_SQR = RANGE * RANGE;
+    // Same cone as the Enderman: wider when closer
+    private static final double CONE_TOLERANCE = 0.025;
+    // Below this length Vec3.normalize() returns zero, which always passed the old check
+    private static final double MIN_DISTANCE = 1.0E-4;
+
+    /**
+     * Player position, eye height and normalized view direction, as of one game tick.
+     */
+    private record PlayerView(Player player, double x, double eyeY, double z,
+                              double viewX, double viewY, double viewZ) {}
+
+    private static final class LevelViews {
+        long capturedAt = Long.MIN_VALUE;
+        final List<PlayerView> views = new ArrayList<>();
+    }
+
+    private static final Map<Level, LevelViews> VIEWS = new WeakHashMap<>();
+
+    /**
+     * Returns the player staring at {@code mob}, or null. Only the nearest non-spectator
+     * player within {@link #RANGE} counts, as with {@code getNearestPlayer(mob, 64.0)}.
+     */
+    public static Player findStaringPlayer(Mob mob) {
+        if (mob.getTarget() != null) {
+            return null;
+        }
+        Level level = mob.level();
+        long gameTime = level.getGameTime();
+        if (Math.floorMod(gameTime + mob.getId(), CHECK_INTERVAL) != 0) {
+            return null;
+        }
+
+        PlayerView nearest = null;
+        double nearestDistanceSqr = RANGE_SQR;
+        for (PlayerView view : views(level, gameTime)) {
+            double distanceSqr = view.player().distanceToSqr(mob.getX(), mob.getY(), mob.getZ());
+            if (distanceSqr < nearestDistanceSqr) {
+                nearestDistanceSqr = distanceSqr;
+                nearest = view;
+            }
+        }
+        if (nearest == null || !isInStareCone(nearest, mob)) {
+            return null;
+        }
+        return nearest.player().hasLineOfSight(mob) ? nearest.player() : null;
+    }
+
+    private static boolean isInStareCone(PlayerView view, Mob mob) {
+        // Horizontal offset is measured from the player's feet, matching the original check
+        double dx = mob.getX() - view.x();
+        double dy = mob.getEyeY() - view.eyeY();
+        double dz = mob.getZ() - view.z();
+        double distance = Math.sqrt(dx * dx + dy * dy + dz * dz);
+        if (distance < MIN_DISTANCE) {
+            return true;
+        }
+        double dot = (view.viewX() * dx + view.viewY() * dy + view.viewZ() * dz) / distance;
+        return dot > 1.0 - CONE_TOLERANCE / distance;
+    }
+
+    private static List<PlayerView> views(Level level, long gameTime) {
+        LevelViews cached = VIEWS.computeIfAbsent(level, k -> new LevelViews());
+        if (cached.capturedAt != gameTime) {
+            cached.capturedAt = gameTime;
+            cached.views.clear();
+            for (Player player : level.players()) {
+                if (player.isSpectator()) {
+                    continue;
+                }
+                Vec3 view = player.getViewVector(1.0F).normalize();
+                cached.views.add(new PlayerView(player, player.getX(), player.getEyeY(), player.getZ(),
+                    view.x, view.y, view.z));
+            }
+        }
+        return cached.views;
+    }
+}
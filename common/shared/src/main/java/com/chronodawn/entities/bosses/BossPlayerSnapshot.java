@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2025 ksoichiro
+ *
+ * This file is part of Chrono Dawn.
+ *
+ * Chrono Dawn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, version 3 of the License.
+ *
+ * Chrono Dawn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Chrono Dawn. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.chronodawn.entities.bosses;
+
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.phys.AABB;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * The players around one boss, rebuilt at most once per game tick.
+ *
+ * <p>Boss abilities, auras and Chrono Aegis checks each used to call
+ * {@code getEntitiesOfClass(Player.class, box)}, an entity-section scan, several times
+ * per tick. The level's player list is short, so the snapshot walks it once on first
+ * use in a tick, keeps the players within {@code captureRadius} of the boss together
+ * with their squared distance and effect flag, and every query after that filters
+ * the kept list.
+ *
+ * <p>{@link #playersIn} tests bounding-box intersection and skips spectators, the same
+ * rules as {@code Level.getEntitiesOfClass(Player.class, box)}, so replacing a query
+ * with the snapshot does not change who an ability reaches. Query boxes must lie within
+ * {@code captureRadius} of the boss.
+ *
+ * <p>The flag is evaluated once per refresh; callers that need an effect applied
+ * earlier in the same tick should check the player directly.
+ */
+public final class BossPlayerSnapshot {
+
+    /** One nearby player, as of the last refresh. */
+    public record Entry(Player player, double distanceSqr, boolean flagged) {}
+
+    private final Entity boss;
+    private final double captureRadiusSqr;
+    private final Predicate<Player> flag;
+    private final List<Entry> entries = new ArrayList<>();
+    private long refreshedAt = Long.MIN_VALUE;
+
+    public BossPlayerSnapshot(Entity boss, double captureRadius) {
+        this(boss, captureRadius, player -> false);
+    }
+
+    /**
+     * @param flag evaluated for each captured player on refresh, e.g. "has Chrono Aegis"
+     */
+    public BossPlayerSnapshot(Entity boss, double captureRadius, Predicate<Player> flag) {
+        this.boss = boss;
+        this.captureRadiusSqr = captureRadius * captureRadius;
+        this.flag = flag;
+    }
+
+    /** Captured players, nearest first. */
+    public List<Entry> entries() {
+        refreshIfStale();
+        return entries;
+    }
+
+    /** Captured players whose bounding box intersects {@code box}. */
+    public List<Player> playersIn(AABB box) {
+        refreshIfStale();
+        List<Player> result = new ArrayList<>();
+        for (Entry entry : entries) {
+            if (entry.player().getBoundingBox().intersects(box)) {
+                result.add(entry.player());
+            }
+        }
+        return result;
+    }
+
+    /** Whether any flagged player's bounding box intersects {@code box}. */
+    public boolean anyFlaggedIn(AABB box) {
+        refreshIfStale();
+        for (Entry entry : entries) {
+            if (entry.flagged() && entry.player().getBoundingBox().intersects(box)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void refreshIfStale() {
+        long now = boss.level().getGameTime();
+        if (now == refreshedAt) {
+            return;
+        }
+        refreshedAt = now;
+        entries.clear();
+        for (Player player : boss.level().players()) {
+            if (player.isSpectator()) {
+                continue;
+            }
+            double distanceSqr = boss.distanceToSqr(player);
+            if (distanceSqr <= captureRadiusSqr) {
+                entries.add(new Entry(player, distanceSqr, flag.test(player)));
+            }
+        }
+        entries.sort((a, b) -> Double.compare(a.distanceSqr(), b.distanceSqr()));
+    }
+}
@@ -1,6 +1,7 @@
 package com.chronodawn.events;
 
 import com.chronodawn.ChronoDawn;
+import com.chronodawn.core.performance.ChronoDawnMetrics;
 import com.chronodawn.data.PlayerProgressData;
 import com.chronodawn.items.shield.ChronoShieldEffectHandler;
 import com.chronodawn.registry.ModSounds;
@@ -39,7 +40,7 @@ public final class ChronoShieldTickHandler {
      * {@link ChronoDawnEvents#register()} during mod init.
      */
     public static void register() {
-        TickEvent.SERVER_LEVEL_POST.register(ChronoShieldTickHandler::onServerLevelTick);
+        TickEvent.SERVER_LEVEL_POST.register(ChronoDawnMetrics.timeLevelTick("chrono_shield", ChronoShieldTickHandler::onServerLevelTick));
         ChronoDawn.LOGGER.debug("Registered ChronoShieldTickHandler");
     }
 
@@ -1,9 +1,14 @@
 package com.chronodawn.events;
 
 import com.chronodawn.ChronoDawn;
+import com.chronodawn.core.performance.ChronoDawnMetrics;
+import com.chronodawn.core.time.TimeFlowState;
+import com.chronodawn.network.ModNetworking;
+import com.chronodawn.network.S2CTimeFlowPayload;
 import com.chronodawn.registry.ModDimensions;
+import dev.architectury.event.events.common.LifecycleEvent;
+import dev.architectury.event.events.common.PlayerEvent;
 import dev.architectury.event.events.common.TickEvent;
-import net.minecraft.network.protocol.game.ClientboundSetTimePacket;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.util.RandomSource;
@@ -24,6 +29,12 @@ import net.minecraft.resources.ResourceKey;
  * - Creates unpredictable time flow matching "time manipulation" theme
  * - Players experience time speeding up, slowing down, or moving normally
  *
+ * Client sync: instead of a time packet every second (which made the sky snap whenever
+ * the speed differed from vanilla's 1x client tick), the current {@link TimeFlowState}
+ * is sent only when the speed or sleep-skip state changes, when the server's day time
+ * drifts from the prediction, or when players enter the dimension. Clients extrapolate
+ * day time from it locally.
+ *
  * Reference: research.md (Decision 14: Variable Time Cycle)
  * Task: T200 [US1] Implement variable time cycle for ChronoDawn
  */
@@ -45,11 +56,14 @@ public class TimeDistortionEventHandler {
     // Thread-safe: ConcurrentHashMap prevents lost time advancement in multiplayer
     private static final Map<ResourceKey<net.minecraft.world.level.Level>, Float> accumulatedTicksMap = new ConcurrentHashMap<>();
 
-    // How many ticks to add per game tick during sleep skip (gradual advancement)
-    private static final long SLEEP_SKIP_TICKS_PER_TICK = 500;
+    // Time flow state last sent to clients per dimension
+    private static final Map<ResourceKey<net.minecraft.world.level.Level>, TimeFlowState> sentFlowStateMap = new ConcurrentHashMap<>();
+
+    // Player count seen at the last sync; an increase means someone arrived (e.g. respawned here)
+    private static final Map<ResourceKey<net.minecraft.world.level.Level>, Integer> syncedPlayerCountMap = new ConcurrentHashMap<>();
 
-    // Interval for sending time sync packets to clients (in ticks)
-    private static final int TIME_SYNC_INTERVAL = 20;
+    // How far (in day-time ticks) the server may drift from the sent prediction before resending
+    private static final long TIME_FLOW_DRIFT_TOLERANCE = 20;
 
     // Configuration
     private static final float MIN_SPEED = 0.67f; // Slowest: 67% speed (day lasts ~15 minutes)
@@ -62,7 +76,14 @@ public class TimeDistortionEventHandler {
      * Called from mod initialization
      */
     public static void register() {
-        TickEvent.SERVER_LEVEL_POST.register(TimeDistortionEventHandler::onServerLevelTick);
+        TickEvent.SERVER_LEVEL_POST.register(ChronoDawnMetrics.timeLevelTick("time_flow", TimeDistortionEventHandler::onServerLevelTick));
+        PlayerEvent.PLAYER_JOIN.register(player -> sendTimeFlow(player, player.level().dimension()));
+        PlayerEvent.CHANGE_DIMENSION.register((player, oldLevel, newLevel) -> sendTimeFlow(player, newLevel));
+        // The next world opened in this JVM must not be sent this world's time flow
+        LifecycleEvent.SERVER_STOPPING.register(server -> {
+            sentFlowStateMap.clear();
+            syncedPlayerCountMap.clear();
+        });
         ChronoDawn.LOGGER.debug("Registered TimeDistortionEventHandler");
     }
 
@@ -98,7 +119,7 @@ public class TimeDistortionEventHandler {
 
             if (remainingTicks > 0) {
                 // Advance time by a small increment
-                long ticksThisTick = Math.min(remainingTicks, SLEEP_SKIP_TICKS_PER_TICK);
+                long ticksThisTick = Math.min(remainingTicks, TimeFlowState.SLEEP_SKIP_TICKS_PER_TICK);
                 long newDayTime = currentTime + ticksThisTick;
                 level.setDayTime(newDayTime);
 
@@ -110,6 +131,7 @@ public class TimeDistortionEventHandler {
                 ChronoDawn.LOGGER.debug("TimeDistortionEventHandler: Sleep skip complete! Final time: {}", currentTime);
             }
 
+            syncTimeFlow(level, currentSpeed, sleepSkipTargetTimeMap.get(dimensionKey));
             return; // Skip normal time adjustment this tick
         }
 
@@ -139,10 +161,8 @@ public class TimeDistortionEventHandler {
         }
         // If ticksToAdvance == 0, accumulate the fractional part for next tick
 
-        // Sync time to clients periodically
-        // Vanilla may not send per-dimension time packets for custom dimensions,
-        // so we explicitly send the independent time to players in ChronoDawn.
-        syncTimeToClients(level);
+        // Tell clients if the flow changed; they extrapolate day time between updates
+        syncTimeFlow(level, currentSpeed, null);
 
         // Countdown to next speed change
         timeUntilChange--;
@@ -180,24 +200,50 @@ public class TimeDistortionEventHandler {
     }
 
     /**
-     * Send time sync packet to all players in ChronoDawn dimension.
-     * Vanilla time sync may not send the correct independent time for custom dimensions,
-     * so we explicitly broadcast it here.
+     * Send the current time flow to players in ChronoDawn if clients can no longer
+     * predict the server's day time from the last one sent, or if players arrived.
+     * Costs one map lookup per tick in the steady state.
      */
-    private static void syncTimeToClients(ServerLevel level) {
-        if (level.getServer().getTickCount() % TIME_SYNC_INTERVAL != 0) {
+    private static void syncTimeFlow(ServerLevel level, float speed, Long sleepSkipTarget) {
+        ResourceKey<net.minecraft.world.level.Level> dimensionKey = level.dimension();
+        long gameTime = level.getGameTime();
+        long dayTime = level.getDayTime();
+        long target = sleepSkipTarget != null ? sleepSkipTarget : TimeFlowState.NO_SLEEP_SKIP;
+
+        TimeFlowState sent = sentFlowStateMap.get(dimensionKey);
+        boolean stale = sent == null
+            || sent.speed() != speed
+            || sent.sleepSkipTarget() != target
+            || Math.abs(sent.dayTimeAt(gameTime) - dayTime) > TIME_FLOW_DRIFT_TOLERANCE;
+
+        int playerCount = level.players().size();
+        boolean playersArrived = playerCount > syncedPlayerCountMap.getOrDefault(dimensionKey, 0);
+        syncedPlayerCountMap.put(dimensionKey, playerCount);
+
+        if (!stale && !playersArrived) {
             return;
         }
 
-        // Always pass true for doDaylightCycle: ChronoDawn manages its own time cycle
-        // via TimeDistortionEventHandler, independent of the vanilla gamerule.
-        ClientboundSetTimePacket packet = new ClientboundSetTimePacket(
-            level.getGameTime(),
-            level.getDayTime(),
-            true
-        );
+        TimeFlowState state = stale ? new TimeFlowState(gameTime, dayTime, speed, target) : sent;
+        sentFlowStateMap.put(dimensionKey, state);
+
+        S2CTimeFlowPayload payload = S2CTimeFlowPayload.of(state);
         for (ServerPlayer player : level.players()) {
-            player.connection.send(packet);
+            ModNetworking.sendTimeFlow(player, payload);
+        }
+    }
+
+    /**
+     * Send the last time flow state to a player entering ChronoDawn.
+     * Nothing is sent before the dimension's first tick; that tick broadcasts anyway.
+     */
+    private static void sendTimeFlow(ServerPlayer player, ResourceKey<net.minecraft.world.level.Level> dimension) {
+        if (!dimension.equals(ModDimensions.CHRONO_DAWN_DIMENSION)) {
+            return;
+        }
+        TimeFlowState state = sentFlowStateMap.get(dimension);
+        if (state != null) {
+            ModNetworking.sendTimeFlow(player, S2CTimeFlowPayload.of(state));
         }
     }
 
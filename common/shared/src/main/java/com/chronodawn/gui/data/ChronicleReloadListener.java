@@ -0,0 +1,27 @@
+package com.chronodawn.gui.data;
+
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.SimplePreparableReloadListener;
+import net.minecraft.util.profiling.ProfilerFiller;
+
+/**
+ * Client resource reload listener for the Chronicle guidebook.
+ *
+ * {@link #prepare} runs on the reload worker pool and parses every Chronicle file;
+ * {@link #apply} runs on the main thread and only swaps the result in, so neither the
+ * reload nor opening the book blocks the render thread on JSON parsing.
+ *
+ * Registered by each loader (Fabric: {@code ResourceManagerHelper}, NeoForge: the client
+ * reload listener event).
+ */
+public class ChronicleReloadListener extends SimplePreparableReloadListener<ChronicleData.Contents> {
+    @Override
+    protected ChronicleData.Contents prepare(ResourceManager resourceManager, ProfilerFiller profiler) {
+        return ChronicleData.prepare(resourceManager);
+    }
+
+    @Override
+    protected void apply(ChronicleData.Contents contents, ResourceManager resourceManager, ProfilerFiller profiler) {
+        ChronicleData.getInstance().apply(contents);
+    }
+}
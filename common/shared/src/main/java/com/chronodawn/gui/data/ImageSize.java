@@ -0,0 +1,47 @@
+package com.chronodawn.gui.data;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Pixel size of a Chronicle image page.
+ *
+ * Read from the PNG header alone (the first 24 bytes), so resolving the size of every
+ * image on resource reload costs no image decode and no texture upload.
+ */
+public record ImageSize(int width, int height) {
+    private static final byte[] PNG_SIGNATURE = {
+        (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'
+    };
+    private static final int IHDR = 0x49484452;
+
+    /**
+     * Read the width and height from a PNG stream's IHDR chunk.
+     *
+     * @param stream Stream positioned at the start of the PNG file (not closed)
+     * @return Image size
+     * @throws IOException If the stream is not a PNG or is truncated
+     */
+    public static ImageSize read(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(stream);
+        byte[] signature = new byte[PNG_SIGNATURE.length];
+        in.readFully(signature);
+        if (!Arrays.equals(signature, PNG_SIGNATURE)) {
+            throw new IOException("Not a PNG file");
+        }
+
+        // IHDR is always the first chunk: length, type, then width and height
+        in.readInt();
+        if (in.readInt() != IHDR) {
+            throw new IOException("PNG is missing its IHDR chunk");
+        }
+        int width = in.readInt();
+        int height = in.readInt();
+        if (width <= 0 || height <= 0) {
+            throw new IOException("Invalid PNG size " + width + "x" + height);
+        }
+        return new ImageSize(width, height);
+    }
+}
@@ -0,0 +1,28 @@
+package com.chronodawn.mixin;
+
+import com.chronodawn.entities.ai.MobAiLod;
+import net.minecraft.world.entity.Mob;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Skips {@code Mob.serverAiStep} on ticks where {@link MobAiLod} throttles a
+ * Chrono Dawn mob far from players.
+ *
+ * A single config read for every other mob, or when the feature is off.
+ */
+@Mixin(Mob.class)
+public abstract class MobAiLodMixin {
+
+    @Inject(method = "serverAiStep", at = @At("HEAD"), cancellable = true)
+    private void chronodawn$throttleAi(CallbackInfo ci) {
+        Mob mob = (Mob) (Object) this;
+        if (MobAiLod.skipAiStep(mob)) {
+            // serverAiStep counts idle ticks for random despawning; keep that rate unchanged
+            mob.setNoActionTime(mob.getNoActionTime() + 1);
+            ci.cancel();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.chronodawn.mixin;
+
+import net.minecraft.core.Vec3i;
+import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplate;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+import java.util.List;
+
+/**
+ * Accessor Mixin for StructureTemplate, so SlicedTemplatePlacement can read the
+ * palettes and entities that placeInWorld() uses, and build the small templates it
+ * places blocks with data and entities through.
+ */
+@Mixin(StructureTemplate.class)
+public interface StructureTemplateAccessor {
+    @Accessor("palettes")
+    List<StructureTemplate.Palette> getPalettes();
+
+    @Accessor("entityInfoList")
+    List<StructureTemplate.StructureEntityInfo> getEntityInfoList();
+
+    @Accessor("size")
+    void setSize(Vec3i size);
+}
@@ -0,0 +1,19 @@
+package com.chronodawn.mixin;
+
+import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplate;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Invoker;
+
+import java.util.List;
+
+/**
+ * Invoker Mixin for the StructureTemplate.Palette constructor, so SlicedTemplatePlacement can
+ * give its small templates a palette of already processed blocks.
+ */
+@Mixin(StructureTemplate.Palette.class)
+public interface StructureTemplatePaletteInvoker {
+    @Invoker("<init>")
+    static StructureTemplate.Palette create(List<StructureTemplate.StructureBlockInfo> blocks) {
+        throw new AssertionError();
+    }
+}
@@ -0,0 +1,32 @@
+package com.chronodawn.mixin;
+
+import com.chronodawn.registry.ModDimensions;
+import com.chronodawn.worldgen.profiling.WorldgenProfiler;
+import net.minecraft.server.level.WorldGenRegion;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+import java.util.function.Supplier;
+
+/**
+ * Feeds vanilla's per-feature and per-structure decoration labels into
+ * {@link WorldgenProfiler} for Chrono Dawn chunks.
+ *
+ * A single volatile read when profiling is off.
+ */
+@Mixin(WorldGenRegion.class)
+public abstract class WorldGenRegionProfilerMixin {
+
+    @Inject(method = "setCurrentlyGenerating", at = @At("HEAD"))
+    private void chronodawn$profileSection(Supplier<String> currentlyGenerating, CallbackInfo ci) {
+        if (!WorldgenProfiler.isActive()) {
+            return;
+        }
+        WorldGenRegion region = (WorldGenRegion) (Object) this;
+        if (region.getLevel().dimension().equals(ModDimensions.CHRONO_DAWN_DIMENSION)) {
+            WorldgenProfiler.switchSection(currentlyGenerating);
+        }
+    }
+}
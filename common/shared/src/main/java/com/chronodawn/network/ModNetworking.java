@@ -1,14 +1,19 @@
 package com.chronodawn.network;
 
 import com.chronodawn.ChronoDawn;
+import com.chronodawn.client.environment.ChronoDawnEnvironmentState;
+import com.chronodawn.client.particle.ParticleBurstEffects;
+import com.chronodawn.client.performance.ClientServerLoad;
 import com.chronodawn.client.shield.ClientShieldCooldowns;
+import com.chronodawn.client.time.ClientTimeFlow;
 import dev.architectury.networking.NetworkManager;
 import dev.architectury.platform.Platform;
 import dev.architectury.utils.Env;
 import net.minecraft.server.level.ServerPlayer;
 
 /**
- * Env-gated S2C network registration + send helpers for ChronoDawn shields.
+ * Env-gated S2C network registration + send helpers for ChronoDawn shields, particle bursts,
+ * the dimension time flow, the client environment state and the server load level.
  *
  * <p>Architectury's adaptor methods change their {@code @Environment} annotations across
  * versions. In architectury 13.x–18.x (MC 1.21.1–1.21.10) the Fabric adaptor's
@@ -28,8 +33,8 @@ import net.minecraft.server.level.ServerPlayer;
  * {@code PayloadTypeRegistry.playS2C()} and throw "already registered", so the branches must
  * be mutually exclusive.
  *
- * <p>Class-loading note: the receiver lambda references {@link ClientShieldCooldowns} (which
- * imports {@code net.minecraft.client.Minecraft}). {@link Platform#getEnvironment()} gates the
+ * <p>Class-loading note: the receiver lambdas reference {@link ClientShieldCooldowns} and
+ * {@link ParticleBurstEffects} (which import {@code net.minecraft.client.Minecraft}). {@link Platform#getEnvironment()} gates the
  * lambda construction to CLIENT envs, and {@code LambdaMetafactory} resolves lambda body types
  * lazily, so dedicated servers never load the client class.
  */
@@ -44,13 +49,54 @@ public final class ModNetworking {
                 S2CShieldCooldownPayload.STREAM_CODEC,
                 (payload, context) -> context.queue(() -> ClientShieldCooldowns.applyFromPayload(payload))
             );
+            NetworkManager.registerReceiver(
+                NetworkManager.Side.S2C,
+                S2CParticleBurstPayload.TYPE,
+                S2CParticleBurstPayload.STREAM_CODEC,
+                (payload, context) -> context.queue(() -> ParticleBurstEffects.applyFromPayload(payload))
+            );
+            NetworkManager.registerReceiver(
+                NetworkManager.Side.S2C,
+                S2CTimeFlowPayload.TYPE,
+                S2CTimeFlowPayload.STREAM_CODEC,
+                (payload, context) -> context.queue(
+                    () -> ClientTimeFlow.applyFromPayload(payload, context.getPlayer().level()))
+            );
+            NetworkManager.registerReceiver(
+                NetworkManager.Side.S2C,
+                S2CEnvironmentStatePayload.TYPE,
+                S2CEnvironmentStatePayload.STREAM_CODEC,
+                (payload, context) -> context.queue(() -> ChronoDawnEnvironmentState.applyFromPayload(payload))
+            );
+            NetworkManager.registerReceiver(
+                NetworkManager.Side.S2C,
+                S2CServerLoadPayload.TYPE,
+                S2CServerLoadPayload.STREAM_CODEC,
+                (payload, context) -> context.queue(() -> ClientServerLoad.applyFromPayload(payload))
+            );
         } else {
             NetworkManager.registerS2CPayloadType(
                 S2CShieldCooldownPayload.TYPE,
                 S2CShieldCooldownPayload.STREAM_CODEC
             );
+            NetworkManager.registerS2CPayloadType(
+                S2CParticleBurstPayload.TYPE,
+                S2CParticleBurstPayload.STREAM_CODEC
+            );
+            NetworkManager.registerS2CPayloadType(
+                S2CTimeFlowPayload.TYPE,
+                S2CTimeFlowPayload.STREAM_CODEC
+            );
+            NetworkManager.registerS2CPayloadType(
+                S2CEnvironmentStatePayload.TYPE,
+                S2CEnvironmentStatePayload.STREAM_CODEC
+            );
+            NetworkManager.registerS2CPayloadType(
+                S2CServerLoadPayload.TYPE,
+                S2CServerLoadPayload.STREAM_CODEC
+            );
         }
-        ChronoDawn.LOGGER.debug("Registered S2C shield-cooldown payload (env={})", Platform.getEnvironment());
+        ChronoDawn.LOGGER.debug("Registered S2C shield-cooldown, particle-burst, time-flow, environment-state and server-load payloads (env={})", Platform.getEnvironment());
     }
 
     public static void sendShieldSpeedCooldown(ServerPlayer player, int durationTicks) {
@@ -71,4 +117,34 @@ public final class ModNetworking {
         } catch (Throwable ignored) {
         }
     }
+
+    public static void sendParticleBurst(ServerPlayer player, S2CParticleBurstPayload payload) {
+        // Cosmetic only; same best-effort guard as the shield hints above.
+        try {
+            NetworkManager.sendToPlayer(player, payload);
+        } catch (Throwable ignored) {
+        }
+    }
+
+    public static void sendTimeFlow(ServerPlayer player, S2CTimeFlowPayload payload) {
+        // Same best-effort guard; a client that misses it keeps vanilla 1x time plus periodic correction.
+        try {
+            NetworkManager.sendToPlayer(player, payload);
+        } catch (Throwable ignored) {
+        }
+    }
+
+    public static void sendEnvironmentState(ServerPlayer player, S2CEnvironmentStatePayload payload) {
+        try {
+            NetworkManager.sendToPlayer(player, payload);
+        } catch (Throwable ignored) {
+        }
+    }
+
+    public static void sendServerLoad(ServerPlayer player, S2CServerLoadPayload payload) {
+        try {
+            NetworkManager.sendToPlayer(player, payload);
+        } catch (Throwable ignored) {
+        }
+    }
 }
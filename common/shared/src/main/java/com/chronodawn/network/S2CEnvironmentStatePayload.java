@@ -0,0 +1,35 @@
+package com.chronodawn.network;
+
+import com.chronodawn.ChronoDawn;
+import com.chronodawn.compat.CompatResourceLocation;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+
+/**
+ * S2C payload carrying the world state that drives Chrono Dawn's client environment
+ * (currently only whether the Time Tyrant has been defeated).
+ *
+ * Sent to each player on login, and broadcast with {@code fade = true} at the moment of
+ * defeat so {@link com.chronodawn.client.environment.ChronoDawnEnvironmentState} blends
+ * the sky instead of snapping it. The login copy snaps.
+ */
+public record S2CEnvironmentStatePayload(boolean tyrantDefeated, boolean fade) implements CustomPacketPayload {
+
+    public static final CustomPacketPayload.Type<S2CEnvironmentStatePayload> TYPE =
+        new CustomPacketPayload.Type<>(
+            CompatResourceLocation.create(ChronoDawn.MOD_ID, "s2c_environment_state"));
+
+    public static final StreamCodec<RegistryFriendlyByteBuf, S2CEnvironmentStatePayload> STREAM_CODEC =
+        StreamCodec.composite(
+            ByteBufCodecs.BOOL, S2CEnvironmentStatePayload::tyrantDefeated,
+            ByteBufCodecs.BOOL, S2CEnvironmentStatePayload::fade,
+            S2CEnvironmentStatePayload::new
+        );
+
+    @Override
+    public CustomPacketPayload.Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,97 @@
+package com.chronodawn.network;
+
+import com.chronodawn.ChronoDawn;
+import com.chronodawn.compat.CompatResourceLocation;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+
+/**
+ * S2C payload describing a whole particle effect (ring, volume, line) instead of one
+ * {@code ClientboundLevelParticlesPacket} per particle group.
+ *
+ * The client expands the shape deterministically from {@code seed} via
+ * {@link com.chronodawn.client.particle.ParticleBurstEffects}, so every tracking player
+ * sees the same layout. {@code particleId} is the raw {@code BuiltInRegistries.PARTICLE_TYPE}
+ * id (registry-synced on both loaders); only {@code SimpleParticleType}s are supported.
+ *
+ * Meaning of {@code sizeX}/{@code sizeY}/{@code sizeZ} depends on {@code shape}:
+ * <ul>
+ *   <li>{@link #SHAPE_RING}: {@code sizeX} = radius; {@code count} points evenly spaced.</li>
+ *   <li>{@link #SHAPE_VOLUME}: uniform box {@code [-sizeX, sizeX] x [0, sizeY] x [-sizeZ, sizeZ]}.</li>
+ *   <li>{@link #SHAPE_LINE}: segment from the origin to origin + ({@code sizeX}, 0, {@code sizeZ}),
+ *       {@code sizeY} = perpendicular half-width.</li>
+ * </ul>
+ * Each particle gets a gaussian velocity scaled by {@code speed}, matching vanilla
+ * {@code sendParticles} semantics for {@code count > 0}. {@code longDistance} lifts the
+ * client's 32-block cutoff, like the flag of the same name on vanilla particle packets.
+ */
+public record S2CParticleBurstPayload(
+    byte shape,
+    int particleId,
+    double x,
+    double y,
+    double z,
+    int count,
+    float sizeX,
+    float sizeY,
+    float sizeZ,
+    float speed,
+    long seed,
+    boolean longDistance
+) implements CustomPacketPayload {
+    public static final byte SHAPE_RING = 0;
+    public static final byte SHAPE_VOLUME = 1;
+    public static final byte SHAPE_LINE = 2;
+
+    public static final CustomPacketPayload.Type<S2CParticleBurstPayload> TYPE =
+        new CustomPacketPayload.Type<>(
+            CompatResourceLocation.create(ChronoDawn.MOD_ID, "s2c_particle_burst"));
+
+    // StreamCodec.composite tops out below 12 fields, so encode/decode explicitly.
+    public static final StreamCodec<RegistryFriendlyByteBuf, S2CParticleBurstPayload> STREAM_CODEC =
+        StreamCodec.ofMember(S2CParticleBurstPayload::write, S2CParticleBurstPayload::read);
+
+    /** Copy for one receiving player (distance level-of-detail, budget trimming, long distance). */
+    public S2CParticleBurstPayload forPlayer(int newCount, boolean newLongDistance) {
+        return new S2CParticleBurstPayload(shape, particleId, x, y, z, newCount, sizeX, sizeY, sizeZ, speed, seed,
+            newLongDistance);
+    }
+
+    private void write(RegistryFriendlyByteBuf buf) {
+        buf.writeByte(shape);
+        buf.writeVarInt(particleId);
+        buf.writeDouble(x);
+        buf.writeDouble(y);
+        buf.writeDouble(z);
+        buf.writeVarInt(count);
+        buf.writeFloat(sizeX);
+        buf.writeFloat(sizeY);
+        buf.writeFloat(sizeZ);
+        buf.writeFloat(speed);
+        buf.writeLong(seed);
+        buf.writeBoolean(longDistance);
+    }
+
+    private static S2CParticleBurstPayload read(RegistryFriendlyByteBuf buf) {
+        return new S2CParticleBurstPayload(
+            buf.readByte(),
+            buf.readVarInt(),
+            buf.readDouble(),
+            buf.readDouble(),
+            buf.readDouble(),
+            buf.readVarInt(),
+            buf.readFloat(),
+            buf.readFloat(),
+            buf.readFloat(),
+            buf.readFloat(),
+            buf.readLong(),
+            buf.readBoolean()
+        );
+    }
+
+    @Override
+    public CustomPacketPayload.Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
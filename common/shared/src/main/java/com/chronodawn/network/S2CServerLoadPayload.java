@@ -0,0 +1,32 @@
+package com.chronodawn.network;
+
+import com.chronodawn.ChronoDawn;
+import com.chronodawn.compat.CompatResourceLocation;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+
+/**
+ * S2C payload carrying the server's {@link com.chronodawn.core.performance.DegradationLevel}
+ * (as its ordinal), so client-side block particles follow the server's degradation.
+ *
+ * Sent to each player on login and broadcast whenever the level changes.
+ */
+public record S2CServerLoadPayload(int level) implements CustomPacketPayload {
+
+    public static final CustomPacketPayload.Type<S2CServerLoadPayload> TYPE =
+        new CustomPacketPayload.Type<>(
+            CompatResourceLocation.create(ChronoDawn.MOD_ID, "s2c_server_load"));
+
+    public static final StreamCodec<RegistryFriendlyByteBuf, S2CServerLoadPayload> STREAM_CODEC =
+        StreamCodec.composite(
+            ByteBufCodecs.VAR_INT, S2CServerLoadPayload::level,
+            S2CServerLoadPayload::new
+        );
+
+    @Override
+    public CustomPacketPayload.Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,48 @@
+package com.chronodawn.network;
+
+import com.chronodawn.ChronoDawn;
+import com.chronodawn.compat.CompatResourceLocation;
+import com.chronodawn.core.time.TimeFlowState;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+
+/**
+ * S2C payload carrying the Chrono Dawn {@link TimeFlowState}.
+ *
+ * Sent only when the time speed or sleep-skip state changes (or the server's day time
+ * drifts away from the prediction, e.g. after {@code /time set}), plus once to each
+ * player entering the dimension. Between payloads the client extrapolates day time
+ * locally via {@link com.chronodawn.client.time.ClientTimeFlow}.
+ */
+public record S2CTimeFlowPayload(long anchorGameTime, long anchorDayTime, float speed, long sleepSkipTarget)
+        implements CustomPacketPayload {
+
+    public static final CustomPacketPayload.Type<S2CTimeFlowPayload> TYPE =
+        new CustomPacketPayload.Type<>(
+            CompatResourceLocation.create(ChronoDawn.MOD_ID, "s2c_time_flow"));
+
+    public static final StreamCodec<RegistryFriendlyByteBuf, S2CTimeFlowPayload> STREAM_CODEC =
+        StreamCodec.composite(
+            ByteBufCodecs.VAR_LONG, S2CTimeFlowPayload::anchorGameTime,
+            ByteBufCodecs.VAR_LONG, S2CTimeFlowPayload::anchorDayTime,
+            ByteBufCodecs.FLOAT, S2CTimeFlowPayload::speed,
+            ByteBufCodecs.VAR_LONG, S2CTimeFlowPayload::sleepSkipTarget,
+            S2CTimeFlowPayload::new
+        );
+
+    public static S2CTimeFlowPayload of(TimeFlowState state) {
+        return new S2CTimeFlowPayload(state.anchorGameTime(), state.anchorDayTime(), state.speed(),
+            state.sleepSkipTarget());
+    }
+
+    public TimeFlowState toState() {
+        return new TimeFlowState(anchorGameTime, anchorDayTime, speed, sleepSkipTarget);
+    }
+
+    @Override
+    public CustomPacketPayload.Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
@@ -1,6 +1,7 @@
 package com.chronodawn.worldgen.features;
 
 import com.chronodawn.ChronoDawn;
+import com.chronodawn.worldgen.templates.ChronoDawnTemplateCache;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.Vec3i;
@@ -16,7 +17,6 @@ import net.minecraft.world.level.levelgen.feature.Feature;
 import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
 import net.minecraft.world.level.levelgen.structure.templatesystem.StructurePlaceSettings;
 import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplate;
-import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplateManager;
 
 /**
  * Generic feature that loads an NBT structure template and places it at the
@@ -45,8 +45,7 @@ public class NbtTemplateFeature extends Feature<NbtTemplateConfiguration> {
         BlockPos origin = context.origin();
 
         ServerLevel serverLevel = level.getLevel();
-        StructureTemplateManager manager = serverLevel.getStructureManager();
-        StructureTemplate template = manager.get(config.template()).orElse(null);
+        StructureTemplate template = ChronoDawnTemplateCache.get(serverLevel, config.template()).orElse(null);
         if (template == null) {
             ChronoDawn.LOGGER.warn("NbtTemplateFeature: template not found: {}", config.template());
             return false;
@@ -0,0 +1,287 @@
+package com.chronodawn.worldgen.pregen;
+
+import com.chronodawn.ChronoDawn;
+import com.chronodawn.core.performance.ChronoDawnMetrics;
+import com.chronodawn.core.performance.DegradationGovernor;
+import com.chronodawn.data.PregenData;
+import com.chronodawn.registry.ModDimensions;
+import com.chronodawn.worldgen.spawning.MasterClockBossRoomPlacer;
+import com.chronodawn.worldgen.spawning.PhantomCatacombsBossRoomPlacer;
+import com.chronodawn.worldgen.spawning.TimeKeeperVillagePlacer;
+import dev.architectury.event.events.common.LifecycleEvent;
+import dev.architectury.event.events.common.TickEvent;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Background chunk pregeneration for the ChronoDawn dimension ({@code /chronodawn pregen}).
+ *
+ * Without pregeneration, chunks are generated when the first players walk through a portal,
+ * so terrain generation, the Time Keeper Village placement and the boss room placers all hit
+ * the server in front of them. A job walks a {@link PregenSpiral} around its centre and:
+ * 1. Places the Time Keeper Village near the centre (once per job)
+ * 2. Generates chunks on the server thread while the tick has {@link PregenBudget} time left
+ *    and {@link DegradationGovernor} is not deferring placement
+ * 3. Queues each chunk with the Master Clock and Phantom Catacombs boss room placers, which
+ *    finish their multi-tick state machines on their own tick handlers
+ *
+ * The next spiral index is stored in {@link PregenData} after every tick, so a job resumes
+ * where it stopped after a server restart. Progress is logged and sent to the player who
+ * started the job every 5%.
+ */
+public final class ChronoDawnPregenerator {
+    private ChronoDawnPregenerator() {}
+
+    private static final int REPORT_STEP_PERCENT = 5;
+
+    private static final PregenBudget budget = new PregenBudget();
+    private static long tickStartNanos = 0L;
+    private static boolean resumeChecked = false;
+    private static Job job = null;
+
+    /**
+     * In-memory state of the running job. Rate and ETA only cover the current session.
+     */
+    private static final class Job {
+        final ServerLevel level;
+        final PregenData data;
+        final int total;
+        final int sessionStartIndex;
+        final long sessionStartNanos = System.nanoTime();
+        UUID initiator;
+        int lastReportedStep;
+        boolean paused = false;
+
+        Job(ServerLevel level, PregenData data, UUID initiator) {
+            this.level = level;
+            this.data = data;
+            this.total = PregenSpiral.count(data.getRadiusChunks());
+            this.sessionStartIndex = data.getNextIndex();
+            this.initiator = initiator;
+            this.lastReportedStep = percent(data.getNextIndex(), total) / REPORT_STEP_PERCENT;
+        }
+
+        double chunksPerSecond() {
+            double seconds = (System.nanoTime() - sessionStartNanos) / 1_000_000_000.0;
+            int done = data.getNextIndex() - sessionStartIndex;
+            return seconds > 0 && done > 0 ? done / seconds : 0.0;
+        }
+
+        long etaSeconds() {
+            double rate = chunksPerSecond();
+            return rate > 0 ? (long) Math.ceil((total - data.getNextIndex()) / rate) : -1L;
+        }
+    }
+
+    /**
+     * Outcome of {@link #start}.
+     */
+    public enum StartResult {
+        STARTED,
+        ALREADY_RUNNING,
+        NO_DIMENSION
+    }
+
+    /**
+     * Register tick and lifecycle handlers.
+     */
+    public static void register() {
+        TickEvent.SERVER_PRE.register(server -> tickStartNanos = System.nanoTime());
+        TickEvent.SERVER_POST.register(ChronoDawnMetrics.timeServerTick("pregen", ChronoDawnPregenerator::onServerTick));
+        LifecycleEvent.SERVER_STOPPING.register(server -> {
+            job = null;
+            resumeChecked = false;
+            budget.reset();
+        });
+
+        ChronoDawn.LOGGER.debug("Registered ChronoDawnPregenerator");
+    }
+
+    /**
+     * Start a job around {@code centerChunk}.
+     *
+     * @param radiusChunks Radius in chunks (Chebyshev distance)
+     * @param initiator Player to send progress to, or null for console
+     */
+    public static StartResult start(MinecraftServer server, ChunkPos centerChunk, int radiusChunks, UUID initiator) {
+        ServerLevel level = server.getLevel(ModDimensions.CHRONO_DAWN_DIMENSION);
+        if (level == null) {
+            return StartResult.NO_DIMENSION;
+        }
+        resumeIfNeeded(server);
+        if (job != null) {
+            return StartResult.ALREADY_RUNNING;
+        }
+
+        PregenData data = PregenData.get(level);
+        data.start(centerChunk.x, centerChunk.z, radiusChunks);
+        job = new Job(level, data, initiator);
+        ChronoDawn.LOGGER.info("[Pregen] Started: {} chunks around chunk ({}, {})",
+            job.total, centerChunk.x, centerChunk.z);
+        return StartResult.STARTED;
+    }
+
+    /**
+     * Cancel the running job.
+     *
+     * @return false if no job was running
+     */
+    public static boolean cancel(MinecraftServer server) {
+        resumeIfNeeded(server);
+        if (job == null) {
+            return false;
+        }
+        job.data.stop();
+        ChronoDawn.LOGGER.info("[Pregen] Cancelled at {}/{} chunks", job.data.getNextIndex(), job.total);
+        job = null;
+        return true;
+    }
+
+    /**
+     * Status line for {@code /chronodawn pregen status}.
+     */
+    public static Component status(MinecraftServer server) {
+        resumeIfNeeded(server);
+        if (job == null) {
+            return Component.translatable("commands.chronodawn.pregen.idle");
+        }
+        if (job.paused) {
+            return Component.translatable("commands.chronodawn.pregen.paused",
+                job.data.getNextIndex(), job.total, formatMillis(budget.averageWorkMillis()));
+        }
+        return progressMessage(job);
+    }
+
+    private static void resumeIfNeeded(MinecraftServer server) {
+        if (resumeChecked) {
+            return;
+        }
+        resumeChecked = true;
+        ServerLevel level = server.getLevel(ModDimensions.CHRONO_DAWN_DIMENSION);
+        if (level == null) {
+            return;
+        }
+        PregenData data = PregenData.get(level);
+        if (data.isActive()) {
+            job = new Job(level, data, null);
+            ChronoDawn.LOGGER.info("[Pregen] Resuming at {}/{} chunks", data.getNextIndex(), job.total);
+        }
+    }
+
+    private static void onServerTick(MinecraftServer server) {
+        long now = System.nanoTime();
+        resumeIfNeeded(server);
+        if (job == null) {
+            return;
+        }
+
+        budget.recordTickWork(now - tickStartNanos);
+        long slice = budget.sliceNanos();
+        job.paused = slice == 0L || DegradationGovernor.defersPlacement();
+        if (job.paused) {
+            return;
+        }
+
+        PregenData data = job.data;
+        int centerX = data.getCenterChunkX();
+        int centerZ = data.getCenterChunkZ();
+
+        if (!data.isVillagePassDone()) {
+            // Searching for a village site loads chunks itself; let it have this tick's slice
+            BlockPos center = new BlockPos(centerX * 16 + 8, 64, centerZ * 16 + 8);
+            boolean placed = TimeKeeperVillagePlacer.placeNear(job.level, center);
+            data.markVillagePassDone();
+            ChronoDawn.LOGGER.info("[Pregen] Time Keeper Village pass {}", placed ? "done" : "found no site");
+            return;
+        }
+
+        long deadline = now + slice;
+        int index = data.getNextIndex();
+        while (index < job.total) {
+            PregenSpiral.Offset offset = PregenSpiral.offset(index);
+            ChunkPos chunkPos = new ChunkPos(centerX + offset.dx(), centerZ + offset.dz());
+            job.level.getChunk(chunkPos.x, chunkPos.z);
+            MasterClockBossRoomPlacer.processStructure(job.level, chunkPos);
+            PhantomCatacombsBossRoomPlacer.processStructure(job.level, chunkPos);
+            index++;
+            if (System.nanoTime() >= deadline) {
+                break;
+            }
+        }
+        data.setNextIndex(index);
+
+        if (index >= job.total) {
+            finish(server);
+            return;
+        }
+        int step = percent(index, job.total) / REPORT_STEP_PERCENT;
+        if (step > job.lastReportedStep) {
+            job.lastReportedStep = step;
+            ChronoDawn.LOGGER.info("[Pregen] {}/{} chunks ({}%), {} chunks/s, ETA {}",
+                index, job.total, percent(index, job.total),
+                formatRate(job.chunksPerSecond()), formatDuration(job.etaSeconds()));
+            notifyInitiator(server, progressMessage(job));
+        }
+    }
+
+    private static void finish(MinecraftServer server) {
+        Job finished = job;
+        finished.data.stop();
+        job = null;
+        ChronoDawn.LOGGER.info("[Pregen] Finished: {} chunks", finished.total);
+        notifyInitiator(server, finished.initiator,
+            Component.translatable("commands.chronodawn.pregen.finished", finished.total));
+    }
+
+    private static void notifyInitiator(MinecraftServer server, Component message) {
+        notifyInitiator(server, job.initiator, message);
+    }
+
+    private static void notifyInitiator(MinecraftServer server, UUID initiator, Component message) {
+        if (initiator == null) {
+            return;
+        }
+        ServerPlayer player = server.getPlayerList().getPlayer(initiator);
+        if (player != null) {
+            player.displayClientMessage(message, false);
+        }
+    }
+
+    private static Component progressMessage(Job job) {
+        int done = job.data.getNextIndex();
+        return Component.translatable("commands.chronodawn.pregen.progress",
+            done, job.total, percent(done, job.total),
+            formatRate(job.chunksPerSecond()), formatDuration(job.etaSeconds()));
+    }
+
+    private static int percent(int done, int total) {
+        return total > 0 ? (int) (done * 100L / total) : 100;
+    }
+
+    private static String formatRate(double chunksPerSecond) {
+        return String.format(Locale.ROOT, "%.1f", chunksPerSecond);
+    }
+
+    private static String formatMillis(double millis) {
+        return String.format(Locale.ROOT, "%.1f", millis);
+    }
+
+    static String formatDuration(long seconds) {
+        if (seconds < 0) {
+            return "?";
+        }
+        long hours = seconds / 3600;
+        long minutes = (seconds % 3600) / 60;
+        long secs = seconds % 60;
+        return hours > 0
+            ? String.format(Locale.ROOT, "%d:%02d:%02d", hours, minutes, secs)
+            : String.format(Locale.ROOT, "%d:%02d", minutes, secs);
+    }
+}
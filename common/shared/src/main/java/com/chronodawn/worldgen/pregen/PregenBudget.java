@@ -0,0 +1,51 @@
+package com.chronodawn.worldgen.pregen;
+
+/**
+ * MSPT-aware time budget for chunk pregeneration.
+ *
+ * Tracks an exponential moving average of how long the rest of the server tick takes
+ * (measured from {@code SERVER_PRE} to the pregenerator's {@code SERVER_POST} handler) and
+ * hands out whatever is left of a 40 ms target, capped so a single tick never spends more
+ * than 25 ms generating. When the server is already near the target the slice is zero and
+ * pregeneration pauses until the load drops.
+ */
+public final class PregenBudget {
+    public static final long TARGET_TICK_NANOS = 40_000_000L;
+    public static final long MAX_SLICE_NANOS = 25_000_000L;
+
+    // Weight of the newest sample; ~20 ticks to react to a load change
+    private static final double SMOOTHING = 0.1;
+
+    private double averageWorkNanos = 0.0;
+    private boolean hasSample = false;
+
+    /**
+     * Record how long the tick took before the pregenerator ran.
+     */
+    public void recordTickWork(long nanos) {
+        long clamped = Math.max(0L, nanos);
+        if (!hasSample) {
+            averageWorkNanos = clamped;
+            hasSample = true;
+        } else {
+            averageWorkNanos += (clamped - averageWorkNanos) * SMOOTHING;
+        }
+    }
+
+    /**
+     * Nanoseconds the pregenerator may spend this tick; 0 means pause.
+     */
+    public long sliceNanos() {
+        long remaining = TARGET_TICK_NANOS - (long) averageWorkNanos;
+        return Math.max(0L, Math.min(MAX_SLICE_NANOS, remaining));
+    }
+
+    public double averageWorkMillis() {
+        return averageWorkNanos / 1_000_000.0;
+    }
+
+    public void reset() {
+        averageWorkNanos = 0.0;
+        hasSample = false;
+    }
+}
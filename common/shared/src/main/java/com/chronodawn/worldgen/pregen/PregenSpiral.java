@@ -0,0 +1,62 @@
+package com.chronodawn.worldgen.pregen;
+
+/**
+ * Square spiral over chunk offsets, used as the visiting order for {@code /chronodawn pregen}.
+ *
+ * Index 0 is the centre, and ring {@code r} (all offsets with Chebyshev distance {@code r})
+ * occupies indices {@code (2r-1)^2} to {@code (2r+1)^2 - 1}. The offset is computed from the
+ * index alone, so a job only has to persist the next index to resume after a restart.
+ */
+public final class PregenSpiral {
+    private PregenSpiral() {}
+
+    /**
+     * Largest supported radius; {@code (2r+1)^2} still fits in an int.
+     */
+    public static final int MAX_RADIUS = 16384;
+
+    /**
+     * Chunk offset from the spiral centre.
+     */
+    public record Offset(int dx, int dz) {}
+
+    /**
+     * Number of chunks in a square of the given radius (in chunks).
+     */
+    public static int count(int radius) {
+        if (radius < 0 || radius > MAX_RADIUS) {
+            throw new IllegalArgumentException("Radius out of range: " + radius);
+        }
+        int side = 2 * radius + 1;
+        return side * side;
+    }
+
+    /**
+     * Offset of the chunk visited at {@code index}.
+     */
+    public static Offset offset(int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Negative spiral index: " + index);
+        }
+        if (index == 0) {
+            return new Offset(0, 0);
+        }
+        int ring = (int) Math.ceil((Math.sqrt(index + 1.0) - 1.0) / 2.0);
+        int edge = 2 * ring;
+        // Last index of this ring, then walk the four edges backwards from it
+        int last = (edge + 1) * (edge + 1) - 1;
+
+        if (index >= last - edge) {
+            return new Offset(ring - (last - index), -ring);
+        }
+        last -= edge;
+        if (index >= last - edge) {
+            return new Offset(-ring, -ring + (last - index));
+        }
+        last -= edge;
+        if (index >= last - edge) {
+            return new Offset(-ring + (last - index), ring);
+        }
+        return new Offset(ring, ring - (last - index - edge));
+    }
+}
@@ -0,0 +1,120 @@
+package com.chronodawn.worldgen.profiling;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Per-feature and per-structure timing for Chrono Dawn chunk decoration.
+ *
+ * Vanilla labels every placed feature and structure start it decorates a chunk with by
+ * calling {@code WorldGenRegion.setCurrentlyGenerating} (the label ends up in crash
+ * reports). {@code WorldGenRegionProfilerMixin} forwards those calls here while profiling
+ * is active, and the time between two labels is charged to the first one. Labels are
+ * resource key strings such as
+ * {@code ResourceKey[minecraft:worldgen/placed_feature / chronodawn:fruit_of_time_tree]},
+ * so the section type and ID come straight from vanilla without a per-version lookup.
+ *
+ * Decoration runs on worldgen worker threads, so the open section is thread-local and the
+ * totals are summed CPU time across threads, not wall time.
+ *
+ * Inactive by default; the worldgen benchmark turns it on for the duration of a run.
+ */
+public final class WorldgenProfiler {
+    private WorldgenProfiler() {}
+
+    private static final String KEY_PREFIX = "ResourceKey[";
+    private static final String WORLDGEN_REGISTRY = "minecraft:worldgen/";
+
+    private static volatile boolean active = false;
+    // Bumped on every start() so sections left open by an earlier run are dropped
+    private static volatile int run = 0;
+
+    private static final Map<String, Totals> SECTIONS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Open> OPEN = new ThreadLocal<>();
+
+    private record Open(Supplier<String> label, long startNanos, int run) {}
+
+    private static final class Totals {
+        final LongAdder calls = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+    }
+
+    /**
+     * Aggregated time for one placed feature or structure.
+     *
+     * @param type registry path without the worldgen prefix, e.g. {@code placed_feature} or
+     *             {@code structure}; {@code other} for labels that are not resource keys
+     */
+    public record SectionStats(String type, String id, long calls, long totalNanos) {}
+
+    public static void start() {
+        SECTIONS.clear();
+        run++;
+        active = true;
+    }
+
+    public static void stop() {
+        active = false;
+    }
+
+    public static boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Closes the section open on this thread (if any) and opens {@code next}.
+     * {@code null} ends decoration for the current chunk.
+     */
+    public static void switchSection(Supplier<String> next) {
+        long now = System.nanoTime();
+        Open open = OPEN.get();
+        if (open != null && open.run() == run) {
+            record(open.label().get(), now - open.startNanos());
+        }
+        OPEN.set(next != null ? new Open(next, now, run) : null);
+    }
+
+    static void record(String label, long nanos) {
+        Totals totals = SECTIONS.computeIfAbsent(label, k -> new Totals());
+        totals.calls.increment();
+        totals.nanos.add(nanos);
+    }
+
+    /**
+     * Current totals, slowest first.
+     */
+    public static List<SectionStats> snapshot() {
+        List<SectionStats> stats = new ArrayList<>(SECTIONS.size());
+        for (Map.Entry<String, Totals> entry : SECTIONS.entrySet()) {
+            String[] typeAndId = parseLabel(entry.getKey());
+            stats.add(new SectionStats(typeAndId[0], typeAndId[1],
+                entry.getValue().calls.sum(), entry.getValue().nanos.sum()));
+        }
+        stats.sort(Comparator.comparingLong(SectionStats::totalNanos).reversed());
+        return stats;
+    }
+
+    /**
+     * Splits a {@code ResourceKey[minecraft:worldgen/<type> / <id>]} label into type and ID.
+     */
+    public static String[] parseLabel(String label) {
+        if (label.startsWith(KEY_PREFIX) && label.endsWith("]")) {
+            String body = label.substring(KEY_PREFIX.length(), label.length() - 1);
+            int separator = body.indexOf(" / ");
+            if (separator > 0) {
+                String registry = body.substring(0, separator);
+                String id = body.substring(separator + 3);
+                String type = registry.startsWith(WORLDGEN_REGISTRY)
+                    ? registry.substring(WORLDGEN_REGISTRY.length())
+                    : registry;
+                return new String[] {type, id};
+            }
+        }
+        return new String[] {"other", label};
+    }
+}
@@ -68,6 +68,19 @@ public class BlockProtectionHandler {
         ChronoDawn.LOGGER.debug("Boss defeated, unprotected area: {}", key);
     }
 
+    /**
+     * Remove a protected area registered for a limited time (e.g. while a structure is being placed).
+     *
+     * @param level The ServerLevel containing the protected area
+     * @param uniqueId The unique identifier used when registering the protected area
+     */
+    public static void unregisterProtectedArea(ServerLevel level, Object uniqueId) {
+        String key = makeKey(level, uniqueId);
+        PROTECTED_AREAS.remove(key);
+        DEFEATED_BOSSES.remove(key);
+        ChronoDawn.LOGGER.debug("Unregistered protected area: {}", key);
+    }
+
     /**
      * Check if a block position is protected.
      *
@@ -142,6 +155,13 @@ public class BlockProtectionHandler {
         return level.dimension().location() + ":" + uniqueId.toString();
     }
 
+    /**
+     * Number of protected areas currently registered.
+     */
+    public static int getProtectedAreaCount() {
+        return PROTECTED_AREAS.size();
+    }
+
     /**
      * Reset all protection tracking (for testing or world reset).
      */
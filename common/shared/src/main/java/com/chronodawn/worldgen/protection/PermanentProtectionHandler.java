@@ -88,6 +88,13 @@ public class PermanentProtectionHandler {
         return level.dimension().location() + ":" + uniqueId.toString();
     }
 
+    /**
+     * Number of protected areas currently registered.
+     */
+    public static int getProtectedAreaCount() {
+        return PROTECTED_AREAS.size();
+    }
+
     /**
      * Reset all protection tracking (for testing or world reset).
      */
@@ -22,84 +22,115 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
- * Materialises the runtime overlay datapack on disk, under a directory rooted
- * at the loader-provided config dir. Loader-specific code then registers a
- * {@code PathPackResources} pointing at this directory.
+ * Builds the runtime overlay datapack in memory from the loaded config.
+ * Loader-specific code then registers an {@code InMemoryOverlayPackResources}
+ * serving {@link #getContents()}.
  *
  * <p>Called once at mod startup after {@link com.chronodawn.config.ConfigLoader}
- * has loaded the config. Files are overwritten on every run, so config changes
- * take effect on next server start.
+ * has loaded the config. The JSON is only regenerated when the config hash
+ * changes, and nothing touches the disk, so startup does not depend on the
+ * speed of the config directory's storage. Config changes take effect on the
+ * next server start.
+ *
+ * <p>For debugging, starting the game with
+ * {@code -Dchronodawn.exportRuntimeOverlay=true} also exports the files to
+ * {@code <config>/chronodawn-runtime-overlay/}. The export is rewritten only
+ * when its recorded config hash differs, and the game never reads it back.
  */
 public final class OverlayPackBootstrap {
     private static final Logger LOGGER = LoggerFactory.getLogger(OverlayPackBootstrap.class);
 
     public static final String OVERLAY_DIR_NAME = "chronodawn-runtime-overlay";
     public static final String PACK_ID = "chronodawn-runtime-overlay";
+    public static final String EXPORT_PROPERTY = "chronodawn.exportRuntimeOverlay";
 
-    /** Pack metadata content written at the root of the overlay directory. */
-    private static final byte[] PACK_MCMETA_BYTES = (
-        "{\n" +
-        "  \"pack\": {\n" +
-        "    \"description\": \"ChronoDawn runtime config overlay\",\n" +
-        "    \"pack_format\": 41\n" +
-        "  }\n" +
-        "}\n"
-    ).getBytes(java.nio.charset.StandardCharsets.UTF_8);
+    /** Records which config the exported files were generated from. */
+    static final String HASH_FILE_NAME = ".config-hash";
 
     /**
-     * Set by {@link #writeOverlay(Path, ChronoDawnConfig)} after the overlay is
-     * materialised on disk. Read by loader-specific pack registration code (the
-     * NeoForge {@code AddPackFindersEvent} listener and the Fabric Mixin into
-     * {@code PackRepository}). {@code null} until {@code writeOverlay} succeeds.
+     * Set by {@link #prepare(ChronoDawnConfig)}. Read by loader-specific pack
+     * registration code (the NeoForge {@code AddPackFindersEvent} listener and
+     * the Fabric Mixin into {@code PackRepository}). {@code null} until
+     * {@code prepare} has run.
      */
-    private static volatile Path overlayPath;
+    private static volatile OverlayPackContents contents;
 
     private OverlayPackBootstrap() {}
 
     /**
-     * @return the on-disk overlay root once {@link #writeOverlay} has been called,
-     *         or {@code null} if it has not run / failed. Loader-side registration
-     *         code must check for {@code null} and skip registration when so.
+     * @return the overlay files once {@link #prepare} has been called, or
+     *         {@code null} before that. Loader-side registration code must
+     *         check for {@code null} and skip registration when so.
      */
-    public static Path getOverlayPath() {
-        return overlayPath;
+    public static OverlayPackContents getContents() {
+        return contents;
     }
 
     /**
-     * Write the overlay datapack to disk and return its root path.
+     * Prepare the overlay for {@code config} and, if requested by
+     * {@link #EXPORT_PROPERTY}, export it under {@code configDir}.
      *
      * @param configDir loader-provided config directory
      * @param config    parsed config
-     * @return root path of the overlay datapack (suitable for {@code PathPackResources})
      */
-    public static Path writeOverlay(Path configDir, ChronoDawnConfig config) {
+    public static void init(Path configDir, ChronoDawnConfig config) {
+        OverlayPackContents prepared = prepare(config);
+        if (Boolean.getBoolean(EXPORT_PROPERTY)) {
+            exportOverlay(configDir, prepared);
+        }
+    }
+
+    /**
+     * Generate the overlay for {@code config}, reusing the current one when the
+     * config hash has not changed.
+     */
+    public static OverlayPackContents prepare(ChronoDawnConfig config) {
+        String hash = OverlayPackContents.configHash(config);
+        OverlayPackContents current = contents;
+        if (current != null && current.configHash().equals(hash)) {
+            return current;
+        }
+        OverlayPackContents generated = OverlayPackContents.generate(config);
+        contents = generated;
+        LOGGER.info("Generated runtime config overlay datapack in memory ({} files, config {})",
+            generated.files().size(), hash.substring(0, 12));
+        return generated;
+    }
+
+    /**
+     * Debug export of {@code overlay} to {@code <configDir>/chronodawn-runtime-overlay/}.
+     * Skipped when the directory already holds an export of the same config.
+     *
+     * @return whether the directory now matches {@code overlay}
+     */
+    public static boolean exportOverlay(Path configDir, OverlayPackContents overlay) {
         Path overlayRoot = configDir.resolve(OVERLAY_DIR_NAME);
+        Path hashFile = overlayRoot.resolve(HASH_FILE_NAME);
         try {
+            if (Files.isRegularFile(hashFile)
+                    && Files.readString(hashFile, StandardCharsets.UTF_8).trim().equals(overlay.configHash())) {
+                LOGGER.info("Runtime config overlay export at {} is up to date", overlayRoot);
+                return true;
+            }
             Files.createDirectories(overlayRoot);
-            // pack.mcmeta at the overlay root
-            Files.write(overlayRoot.resolve("pack.mcmeta"), PACK_MCMETA_BYTES);
-            // Generated content — merge every overlay generator into a single map
-            Map<String, byte[]> overlay = new LinkedHashMap<>();
-            overlay.putAll(RuntimeStructureOverlay.generate(config));
-            overlay.putAll(RuntimePlacedFeatureOverlay.generate(config));
-            for (Map.Entry<String, byte[]> entry : overlay.entrySet()) {
+            for (Map.Entry<String, byte[]> entry : overlay.files().entrySet()) {
                 Path target = overlayRoot.resolve(entry.getKey());
                 Files.createDirectories(target.getParent());
                 Files.write(target, entry.getValue());
             }
-            LOGGER.info("Wrote runtime config overlay datapack to {}", overlayRoot);
-            // Only publish the path if write succeeded; loader-side registration
-            // depends on a usable directory.
-            overlayPath = overlayRoot;
+            // Written last, so an interrupted export is redone on the next start
+            Files.writeString(hashFile, overlay.configHash() + "\n", StandardCharsets.UTF_8);
+            LOGGER.info("Exported runtime config overlay datapack to {} (debug copy; not loaded by the game)", overlayRoot);
+            return true;
         } catch (IOException e) {
-            LOGGER.error("Failed to write runtime config overlay to {}; config-driven worldgen will be inactive", overlayRoot, e);
+            LOGGER.warn("Failed to export runtime config overlay to {}", overlayRoot, e);
+            return false;
         }
-        return overlayRoot;
     }
 }
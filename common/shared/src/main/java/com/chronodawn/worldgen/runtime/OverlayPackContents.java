@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2025 ksoichiro
+ *
+ * This file is part of Chrono Dawn.
+ *
+ * Chrono Dawn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, version 3 of the License.
+ *
+ * Chrono Dawn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Chrono Dawn. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.chronodawn.worldgen.runtime;
+
+import com.chronodawn.config.ChronoDawnConfig;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Immutable file set of the runtime overlay datapack, keyed by pack-relative
+ * path ({@code pack.mcmeta}, {@code data/<namespace>/...}).
+ *
+ * <p>Built once from a {@link ChronoDawnConfig} and served from memory by
+ * {@code InMemoryOverlayPackResources}; nothing is written to disk unless the
+ * debug export is requested (see {@link OverlayPackBootstrap}). The
+ * {@link #configHash()} identifies the effective config the files were
+ * generated from, and also appears in the pack description.
+ *
+ * <p>Kept free of Minecraft types so the lookups can be unit tested.
+ */
+public final class OverlayPackContents {
+    public static final String PACK_MCMETA = "pack.mcmeta";
+
+    // Bump when the generators' output changes for the same config
+    private static final int GENERATOR_VERSION = 1;
+
+    private final Map<String, byte[]> files;
+    private final String configHash;
+
+    private OverlayPackContents(Map<String, byte[]> files, String configHash) {
+        this.files = Collections.unmodifiableMap(files);
+        this.configHash = configHash;
+    }
+
+    /**
+     * Generate every overlay file for {@code config}.
+     */
+    public static OverlayPackContents generate(ChronoDawnConfig config) {
+        String hash = configHash(config);
+        Map<String, byte[]> files = new LinkedHashMap<>();
+        files.put(PACK_MCMETA, packMcmeta(hash));
+        files.putAll(RuntimeStructureOverlay.generate(config));
+        files.putAll(RuntimePlacedFeatureOverlay.generate(config));
+        return new OverlayPackContents(files, hash);
+    }
+
+    /**
+     * SHA-256 of the config's canonical string form. {@link ChronoDawnConfig} is a
+     * tree of records, so equal configs always produce equal strings.
+     */
+    public static String configHash(ChronoDawnConfig config) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(
+                (GENERATOR_VERSION + ":" + config).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java runtime is required to provide SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public String configHash() {
+        return configHash;
+    }
+
+    /**
+     * All files, including {@code pack.mcmeta}, in generation order.
+     */
+    public Map<String, byte[]> files() {
+        return files;
+    }
+
+    /**
+     * @return the file at {@code path}, or {@code null} if the overlay does not provide it
+     */
+    public byte[] get(String path) {
+        return files.get(path);
+    }
+
+    /**
+     * Namespaces with at least one file under {@code <typeDirectory>/}
+     * ({@code "data"} or {@code "assets"}).
+     */
+    public Set<String> namespaces(String typeDirectory) {
+        String prefix = typeDirectory + "/";
+        Set<String> namespaces = new TreeSet<>();
+        for (String path : files.keySet()) {
+            if (path.startsWith(prefix)) {
+                int end = path.indexOf('/', prefix.length());
+                if (end > prefix.length()) {
+                    namespaces.add(path.substring(prefix.length(), end));
+                }
+            }
+        }
+        return namespaces;
+    }
+
+    /**
+     * Files under {@code <typeDirectory>/<namespace>/<directory>/}, keyed by their path
+     * relative to the namespace (the resource location path).
+     */
+    public Map<String, byte[]> list(String typeDirectory, String namespace, String directory) {
+        String namespacePrefix = typeDirectory + "/" + namespace + "/";
+        String prefix = namespacePrefix + directory + "/";
+        Map<String, byte[]> out = new LinkedHashMap<>();
+        for (Map.Entry<String, byte[]> entry : files.entrySet()) {
+            if (entry.getKey().startsWith(prefix)) {
+                out.put(entry.getKey().substring(namespacePrefix.length()), entry.getValue());
+            }
+        }
+        return out;
+    }
+
+    private static byte[] packMcmeta(String hash) {
+        return (
+            "{\n" +
+            "  \"pack\": {\n" +
+            "    \"description\": \"ChronoDawn runtime config overlay (config " + hash.substring(0, 12) + ")\",\n" +
+            "    \"pack_format\": 41\n" +
+            "  }\n" +
+            "}\n"
+        ).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,143 @@
+package com.chronodawn.worldgen.templates;
+
+import com.chronodawn.ChronoDawn;
+import com.chronodawn.compat.CompatResourceLocation;
+import com.chronodawn.core.performance.ChronoDawnMetrics;
+import dev.architectury.event.events.common.LifecycleEvent;
+import dev.architectury.event.events.common.TickEvent;
+import net.minecraft.core.Vec3i;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplate;
+import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplateManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Preloaded structure templates for the boss room placers, the Time Keeper Village and
+ * {@code NbtTemplateFeature}.
+ *
+ * {@code StructureTemplateManager.get} decompresses the NBT and builds the palette the first
+ * time a template is asked for, which used to happen on the server thread just as a player
+ * reached a boss room. At server start the templates in {@link #PRELOADED} are loaded on a
+ * background thread and pinned here, so the placers get them with a map lookup. Templates
+ * outside that list are pinned on first use.
+ *
+ * A datapack reload swaps the server's resource manager and clears the vanilla template
+ * cache; the next server tick notices the new resource manager, drops every pinned template
+ * and preloads again.
+ */
+public final class ChronoDawnTemplateCache {
+    private ChronoDawnTemplateCache() {}
+
+    /** Templates loaded at server start. */
+    private static final List<ResourceLocation> PRELOADED = List.of(
+        CompatResourceLocation.create(ChronoDawn.MOD_ID, "master_clock_boss_room"),
+        CompatResourceLocation.create(ChronoDawn.MOD_ID, "master_clock_stairs"),
+        CompatResourceLocation.create(ChronoDawn.MOD_ID, "master_clock_stairs_bottom"),
+        CompatResourceLocation.create(ChronoDawn.MOD_ID, "master_clock_corridor"),
+        CompatResourceLocation.create(ChronoDawn.MOD_ID, "phantom_catacombs_room_7"),
+        CompatResourceLocation.create(ChronoDawn.MOD_ID, "phantom_catacombs_boss_room"),
+        CompatResourceLocation.create(ChronoDawn.MOD_ID, "time_keeper_village")
+    );
+
+    private static final ExecutorService PRELOAD_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ChronoDawn-TemplatePreload");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final Map<ResourceLocation, StructureTemplate> templates = new ConcurrentHashMap<>();
+    // Bumped on every clear so a preload started before a reload does not pin stale templates
+    private static volatile int generation = 0;
+    private static ResourceManager loadedFrom = null;
+
+    public static void register() {
+        LifecycleEvent.SERVER_STARTED.register(ChronoDawnTemplateCache::preload);
+        TickEvent.SERVER_POST.register(ChronoDawnMetrics.timeServerTick("template_cache", ChronoDawnTemplateCache::onServerTick));
+        LifecycleEvent.SERVER_STOPPING.register(server -> clear());
+
+        ChronoDawn.LOGGER.debug("Registered ChronoDawnTemplateCache");
+    }
+
+    /**
+     * The template {@code id}, from the cache when it is pinned and from the level's
+     * {@link StructureTemplateManager} (then pinned) otherwise. Safe to call from worldgen threads.
+     */
+    public static Optional<StructureTemplate> get(ServerLevel level, ResourceLocation id) {
+        StructureTemplate cached = templates.get(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        int expected = generation;
+        Optional<StructureTemplate> loaded = level.getStructureManager().get(id);
+        loaded.ifPresent(template -> pin(id, template, expected));
+        return loaded;
+    }
+
+    /**
+     * Number of pinned templates.
+     */
+    public static int size() {
+        return templates.size();
+    }
+
+    private static void onServerTick(MinecraftServer server) {
+        if (loadedFrom != null && server.getResourceManager() != loadedFrom) {
+            ChronoDawn.LOGGER.debug("Datapacks reloaded, clearing structure template cache");
+            preload(server);
+        }
+    }
+
+    private static void preload(MinecraftServer server) {
+        clear();
+        loadedFrom = server.getResourceManager();
+        StructureTemplateManager manager = server.getStructureManager();
+        int expected = generation;
+
+        PRELOAD_EXECUTOR.execute(() -> {
+            long start = System.nanoTime();
+            int loaded = 0;
+            for (ResourceLocation id : PRELOADED) {
+                if (generation != expected) {
+                    return;
+                }
+                try {
+                    Optional<StructureTemplate> template = manager.get(id);
+                    if (template.isEmpty()) {
+                        ChronoDawn.LOGGER.warn("Structure template {} not found, it will not be preloaded", id);
+                        continue;
+                    }
+                    pin(id, template.get(), expected);
+                    loaded++;
+                    Vec3i size = template.get().getSize();
+                    ChronoDawn.LOGGER.debug("Preloaded structure template {} ({}x{}x{})",
+                        id, size.getX(), size.getY(), size.getZ());
+                } catch (RuntimeException e) {
+                    ChronoDawn.LOGGER.error("Failed to preload structure template {}", id, e);
+                }
+            }
+            ChronoDawn.LOGGER.info("Preloaded {}/{} structure templates in {} ms",
+                loaded, PRELOADED.size(), (System.nanoTime() - start) / 1_000_000L);
+        });
+    }
+
+    private static void clear() {
+        generation++;
+        templates.clear();
+        loadedFrom = null;
+    }
+
+    private static void pin(ResourceLocation id, StructureTemplate template, int expected) {
+        if (generation == expected) {
+            templates.putIfAbsent(id, template);
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package com.chronodawn.worldgen.templates;
+
+import com.chronodawn.ChronoDawn;
+import com.chronodawn.config.ChronoDawnConfig;
+import com.chronodawn.config.TemplatePlacementSettings;
+import com.chronodawn.core.performance.ChronoDawnMetrics;
+import com.chronodawn.mixin.StructureTemplateAccessor;
+import com.chronodawn.mixin.StructureTemplatePaletteInvoker;
+import com.chronodawn.worldgen.protection.BlockProtectionHandler;
+import dev.architectury.event.events.common.LifecycleEvent;
+import dev.architectury.event.events.common.TickEvent;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.Vec3i;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.EmptyBlockGetter;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import net.minecraft.world.level.levelgen.structure.templatesystem.StructurePlaceSettings;
+import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Places large structure templates over several server ticks ({@code [performance.template_placement]}).
+ *
+ * {@code StructureTemplate.placeInWorld} writes every block of a template in one call; for the
+ * Master Clock boss room that is 24,500 blocks in the tick a player reaches the room. Here the
+ * template's blocks are processed once up front (palette, processors, mirror and rotation, as
+ * {@code placeInWorld} does), sorted by chunk and section, and written at most
+ * {@code blocksPerTick} per tick across all placements in progress, so each slice stays within a
+ * few sections. Within a section full blocks still go first, as in {@code placeInWorld}. Slices
+ * are written without neighbour or shape updates; once the whole template is in, a second pass
+ * under the same budget gives each block the shape and neighbour updates {@code placeInWorld}
+ * gives it, reaching the blocks just outside the area too. Blocks that still carry block entity
+ * data after processing are placed last, through a template holding only those blocks, and the
+ * template's entities through one holding only the entities. Vanilla then loads chests, doors,
+ * markers and jigsaws exactly as it does in {@code placeInWorld}, and no processor runs twice.
+ * Then {@code onComplete} runs.
+ *
+ * While a template is being placed its area is protected through {@link BlockProtectionHandler},
+ * so players cannot break or build into a half-written room. Lighting is left to the light
+ * engine, which already queues and batches the changes off the server thread. Liquids already
+ * at a position are not kept, unlike {@code placeInWorld}; the boss room placers drain them
+ * beforehand anyway.
+ *
+ * Placements live on the server thread only. When the server stops, unfinished ones are
+ * completed synchronously so no half-written room is saved.
+ */
+public final class SlicedTemplatePlacement {
+    private SlicedTemplatePlacement() {}
+
+    private static final Deque<Placement> active = new ArrayDeque<>();
+
+    public static void register() {
+        TickEvent.SERVER_POST.register(ChronoDawnMetrics.timeServerTick("sliced_template_placement", SlicedTemplatePlacement::onServerTick));
+        LifecycleEvent.SERVER_STOPPING.register(server -> completeAll());
+
+        ChronoDawn.LOGGER.debug("Registered SlicedTemplatePlacement");
+    }
+
+    /**
+     * Place {@code template} like {@link StructureTemplate#placeInWorld}, spread over the
+     * following server ticks, and run {@code onComplete} once every block is in the world.
+     * Falls back to a single {@code placeInWorld} call (with {@code onComplete} right after it)
+     * when time-sliced placement is disabled or {@code settings} already has a bounding box.
+     * If the placement fails partway, {@code onFailed} runs instead; the blocks already written
+     * stay in the world.
+     */
+    public static void place(ServerLevel level, StructureTemplate template, BlockPos pos, BlockPos pivot,
+                             StructurePlaceSettings settings, RandomSource random, int flags,
+                             Runnable onComplete, Runnable onFailed) {
+        TemplatePlacementSettings config = ChronoDawnConfig.get().performance().templatePlacement();
+        List<StructureTemplate.Palette> palettes = ((StructureTemplateAccessor) template).getPalettes();
+        if (!config.enabled() || palettes.isEmpty() || settings.getBoundingBox() != null) {
+            template.placeInWorld(level, pos, pivot, settings, random, flags);
+            runCompletion(onComplete, pos);
+            return;
+        }
+
+        Placement placement = Placement.prepare(level, template, palettes, pos, pivot, settings, random, flags,
+            onComplete, onFailed);
+        BlockProtectionHandler.registerProtectedArea(level, placement.area, placement.protectionId);
+        active.addLast(placement);
+        ChronoDawn.LOGGER.debug("Queued template placement at {}: {} blocks, {} with block entity data",
+            pos, placement.states.length, placement.withData.size());
+    }
+
+    /**
+     * Number of placements still in progress.
+     */
+    public static int pending() {
+        return active.size();
+    }
+
+    private static void onServerTick(MinecraftServer server) {
+        if (active.isEmpty()) {
+            return;
+        }
+        int budget = ChronoDawnConfig.get().performance().templatePlacement().blocksPerTick();
+        while (budget > 0 && !active.isEmpty()) {
+            Placement placement = active.peekFirst();
+            try {
+                placement.ticks++;
+                budget -= placement.advance(budget);
+                if (placement.isDone()) {
+                    active.pollFirst();
+                    placement.finish();
+                }
+            } catch (RuntimeException e) {
+                active.pollFirst();
+                placement.abort(e);
+            }
+        }
+    }
+
+    private static void completeAll() {
+        while (!active.isEmpty()) {
+            Placement placement = active.pollFirst();
+            try {
+                placement.advance(Integer.MAX_VALUE);
+                placement.finish();
+            } catch (RuntimeException e) {
+                placement.abort(e);
+            }
+        }
+    }
+
+    private static void runCompletion(Runnable onComplete, BlockPos pos) {
+        try {
+            onComplete.run();
+        } catch (RuntimeException e) {
+            ChronoDawn.LOGGER.error("Callback of template placement at {} failed", pos, e);
+        }
+    }
+
+    private static final class Placement {
+        private final ServerLevel level;
+        private final StructureTemplate template;
+        private final BlockPos pos;
+        private final BlockPos pivot;
+        private final StructurePlaceSettings settings;
+        private final RandomSource random;
+        private final int flags;
+        private final Runnable onComplete;
+        private final Runnable onFailed;
+        private final BoundingBox area;
+        // Processed blocks with block entity data (world positions, final states), placed at the end
+        private final List<StructureTemplate.StructureBlockInfo> withData;
+        private final boolean placeEntities;
+        private final String protectionId;
+        private final long[] positions;
+        private final BlockState[] states;
+        private final long startNanos = System.nanoTime();
+        private int next = 0;
+        private int updated = 0;
+        private int ticks = 0;
+
+        private Placement(ServerLevel level, StructureTemplate template, BlockPos pos, BlockPos pivot,
+                          StructurePlaceSettings settings, RandomSource random, int flags,
+                          Runnable onComplete, Runnable onFailed, List<StructureTemplate.StructureBlockInfo> withData, long[] positions, BlockState[] states) {
+            this.level = level;
+            this.template = template;
+            this.pos = pos;
+            this.pivot = pivot;
+            this.settings = settings;
+            this.random = random;
+            this.flags = flags;
+            this.onComplete = onComplete;
+            this.onFailed = onFailed;
+            this.area = template.getBoundingBox(settings, pos);
+            this.withData = withData;
+            this.placeEntities = !settings.isIgnoreEntities()
+                && !((StructureTemplateAccessor) template).getEntityInfoList().isEmpty();
+            this.protectionId = "placing:" + pos.toShortString();
+            this.positions = positions;
+            this.states = states;
+        }
+
+        static Placement prepare(ServerLevel level, StructureTemplate template, List<StructureTemplate.Palette> palettes,
+                                 BlockPos pos, BlockPos pivot, StructurePlaceSettings settings, RandomSource random,
+                                 int flags, Runnable onComplete, Runnable onFailed) {
+            // Processors run once, over every block; blocks they leave with data are placed at the end
+            List<StructureTemplate.StructureBlockInfo> plain = new ArrayList<>();
+            List<StructureTemplate.StructureBlockInfo> withData = new ArrayList<>();
+            for (StructureTemplate.StructureBlockInfo info : StructureTemplate.processBlockInfos(
+                    level, pos, pivot, settings, settings.getRandomPalette(palettes, pos).blocks())) {
+                if (info.nbt() == null) {
+                    plain.add(info);
+                } else {
+                    BlockState state = info.state().mirror(settings.getMirror()).rotate(settings.getRotation());
+                    withData.add(new StructureTemplate.StructureBlockInfo(info.pos(), state, info.nbt()));
+                }
+            }
+            // Stable, so blocks keep the palette's order within a section and bucket
+            plain.sort(Comparator
+                .comparingInt((StructureTemplate.StructureBlockInfo info) -> info.pos().getX() >> 4)
+                .thenComparingInt(info -> info.pos().getZ() >> 4)
+                .thenComparingInt(info -> info.pos().getY() >> 4)
+                .thenComparingInt(info -> isFullBlock(info.state()) ? 0 : 1));
+
+            long[] positions = new long[plain.size()];
+            BlockState[] states = new BlockState[plain.size()];
+            for (int i = 0; i < positions.length; i++) {
+                StructureTemplate.StructureBlockInfo info = plain.get(i);
+                positions[i] = info.pos().asLong();
+                states[i] = info.state().mirror(settings.getMirror()).rotate(settings.getRotation());
+            }
+            return new Placement(level, template, pos, pivot, settings, random, flags, onComplete, onFailed,
+                withData, positions, states);
+        }
+
+        /**
+         * The full blocks {@code placeInWorld} places before the rest, so that what hangs on
+         * them (torches, ladders, buttons) is placed after its support.
+         */
+        private static boolean isFullBlock(BlockState state) {
+            return !state.getBlock().hasDynamicShape()
+                && state.isCollisionShapeFullBlock(EmptyBlockGetter.INSTANCE, BlockPos.ZERO);
+        }
+
+        private static BoundingBox include(BoundingBox box, BlockPos blockPos) {
+            return box == null ? new BoundingBox(blockPos) : box.encapsulate(blockPos);
+        }
+
+        /**
+         * Write, then update, up to {@code budget} blocks; returns how many were handled.
+         */
+        int advance(int budget) {
+            BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+            int used = 0;
+            int writeFlags = (flags & ~Block.UPDATE_NEIGHBORS) | Block.UPDATE_KNOWN_SHAPE;
+            for (; next < states.length && used < budget; next++, used++) {
+                level.setBlock(cursor.set(positions[next]), states[next], writeFlags);
+            }
+            for (; updated < positions.length && used < budget; updated++, used++) {
+                updateBlock(cursor.set(positions[updated]));
+            }
+            return used;
+        }
+
+        boolean isDone() {
+            return updated >= positions.length;
+        }
+
+        /**
+         * The updates {@code placeInWorld} gives a block once the whole template is written: its
+         * shape from its neighbours (fences, walls, panes) unless the shape is known, the shape
+         * of its neighbours outside the area, and a neighbour update if {@code flags} asks for one.
+         */
+        private void updateBlock(BlockPos.MutableBlockPos cursor) {
+            if (!settings.getKnownShape()) {
+                updateShape(cursor);
+                for (Direction direction : Direction.values()) {
+                    BlockPos outside = cursor.relative(direction);
+                    if (!area.isInside(outside)) {
+                        updateShape(outside);
+                    }
+                }
+            }
+            if ((flags & Block.UPDATE_NEIGHBORS) != 0) {
+                level.updateNeighborsAt(cursor, level.getBlockState(cursor).getBlock());
+            }
+        }
+
+        private void updateShape(BlockPos blockPos) {
+            BlockState state = level.getBlockState(blockPos);
+            BlockState shaped = Block.updateFromNeighbourShapes(state, level, blockPos);
+            if (shaped != state) {
+                level.setBlock(blockPos, shaped, (flags & ~Block.UPDATE_NEIGHBORS) | Block.UPDATE_KNOWN_SHAPE);
+            }
+        }
+
+        void finish() {
+            if (!withData.isEmpty()) {
+                placeBlocksWithData();
+            }
+            if (placeEntities) {
+                placeEntities();
+            }
+            BlockProtectionHandler.unregisterProtectedArea(level, protectionId);
+            ChronoDawn.LOGGER.debug("Placed template at {}: {} blocks over {} ticks in {} ms",
+                pos, states.length, ticks, (System.nanoTime() - startNanos) / 1_000_000L);
+            runCompletion(onComplete, pos);
+        }
+
+        /**
+         * Place {@link #withData} through a template holding only them, already processed,
+         * mirrored and rotated, so vanilla loads their block entities the way this version does.
+         * Each block is placed once; the rest of the area is not touched again.
+         */
+        private void placeBlocksWithData() {
+            BoundingBox box = null;
+            for (StructureTemplate.StructureBlockInfo info : withData) {
+                box = include(box, info.pos());
+            }
+            BlockPos origin = new BlockPos(box.minX(), box.minY(), box.minZ());
+            List<StructureTemplate.StructureBlockInfo> relative = new ArrayList<>(withData.size());
+            for (StructureTemplate.StructureBlockInfo info : withData) {
+                relative.add(new StructureTemplate.StructureBlockInfo(info.pos().subtract(origin), info.state(), info.nbt()));
+            }
+
+            StructureTemplate dataTemplate = new StructureTemplate();
+            StructureTemplateAccessor accessor = (StructureTemplateAccessor) dataTemplate;
+            accessor.getPalettes().add(StructureTemplatePaletteInvoker.create(relative));
+            accessor.setSize(new Vec3i(box.getXSpan(), box.getYSpan(), box.getZSpan()));
+            StructurePlaceSettings dataSettings = new StructurePlaceSettings().setKnownShape(settings.getKnownShape());
+            dataTemplate.placeInWorld(level, origin, origin, dataSettings, random, flags);
+        }
+
+        /**
+         * Place the template's entities through a template holding only them, with the same
+         * mirror and rotation but no processors, which have already run.
+         */
+        private void placeEntities() {
+            StructureTemplate entityTemplate = new StructureTemplate();
+            StructureTemplateAccessor accessor = (StructureTemplateAccessor) entityTemplate;
+            accessor.getPalettes().add(StructureTemplatePaletteInvoker.create(List.of()));
+            accessor.getEntityInfoList().addAll(((StructureTemplateAccessor) template).getEntityInfoList());
+            accessor.setSize(template.getSize());
+            StructurePlaceSettings entitySettings = new StructurePlaceSettings()
+                .setMirror(settings.getMirror())
+                .setRotation(settings.getRotation())
+                .setRotationPivot(settings.getRotationPivot())
+                .setFinalizeEntities(settings.shouldFinalizeEntities());
+            entityTemplate.placeInWorld(level, pos, pivot, entitySettings, random, flags);
+        }
+
+        void abort(RuntimeException e) {
+            BlockProtectionHandler.unregisterProtectedArea(level, protectionId);
+            ChronoDawn.LOGGER.error("Template placement at {} failed after {}/{} blocks",
+                pos, next, states.length, e);
+            runCompletion(onFailed, pos);
+        }
+    }
+}
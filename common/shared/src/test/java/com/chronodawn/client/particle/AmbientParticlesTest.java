@@ -0,0 +1,213 @@
+package com.chronodawn.client.particle;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link AmbientParticles}: the per-tick budget, distance falloff and view cone of
+ * {@link AmbientParticles#shouldSpawn}, and portal emitter sizing and claiming.
+ *
+ * Lives in the class's package to drive the package-private tick and camera setters that
+ * {@link AmbientParticleView} calls on the client.
+ */
+class AmbientParticlesTest {
+
+    // Particle setting ordinals passed to beginTick
+    private static final int ALL = 0;
+    private static final int DECREASED = 1;
+    private static final int MINIMAL = 2;
+
+    private static final int SAMPLES = 4000;
+
+    private final Object level = new Object();
+    private RandomSource random;
+
+    @BeforeAll
+    static void bootstrap() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    @BeforeEach
+    void setUp() {
+        AmbientParticles.reset();
+        AmbientParticles.beginTick(level, ALL);
+        random = RandomSource.create(42L);
+    }
+
+    @Test
+    void shouldSpawn_stopsWhenTickBudgetRunsOut() {
+        assertEquals(AmbientParticles.TICK_BUDGET, spawnsUntilRefused());
+        assertFalse(AmbientParticles.shouldSpawn(random, 0.0, 0.0, 0.0, 1.0f));
+
+        AmbientParticles.beginTick(level, ALL);
+        assertTrue(AmbientParticles.shouldSpawn(random, 0.0, 0.0, 0.0, 1.0f), "Budget refills each tick");
+    }
+
+    @Test
+    void shouldSpawn_decreasedParticlesHalveTheBudget() {
+        AmbientParticles.beginTick(level, DECREASED);
+        assertEquals(AmbientParticles.TICK_BUDGET / 2, spawnsUntilRefused());
+    }
+
+    @Test
+    void shouldSpawn_minimalParticlesSpawnNothing() {
+        AmbientParticles.beginTick(level, MINIMAL);
+        assertEquals(0, spawnsUntilRefused());
+    }
+
+    @Test
+    void shouldSpawn_keepsFullChanceWithinNearDistance() {
+        AmbientParticles.setCamera(0.0, 0.0, 0.0, 0.0, 0.0, 0.0, Math.PI);
+        assertEquals(1.0, spawnRate(AmbientParticles.NEAR_DISTANCE), 0.0);
+        assertEquals(0.5, spawnRate(8.0, 0.5f), 0.05);
+    }
+
+    @Test
+    void shouldSpawn_fallsOffBetweenNearAndFarDistance() {
+        AmbientParticles.setCamera(0.0, 0.0, 0.0, 0.0, 0.0, 0.0, Math.PI);
+        double midway = (AmbientParticles.NEAR_DISTANCE + AmbientParticles.FAR_DISTANCE) / 2.0;
+        double expectedMidway = 1.0 - (1.0 - AmbientParticles.FAR_DETAIL) / 2.0;
+
+        assertEquals(expectedMidway, spawnRate(midway), 0.05);
+        assertEquals(AmbientParticles.FAR_DETAIL, spawnRate(AmbientParticles.FAR_DISTANCE), 0.05);
+        assertEquals(expectedMidway * 0.5, spawnRate(midway, 0.5f), 0.05);
+    }
+
+    @Test
+    void shouldSpawn_refusesBeyondFarDistance() {
+        AmbientParticles.setCamera(0.0, 0.0, 0.0, 0.0, 0.0, 0.0, Math.PI);
+        assertEquals(0.0, spawnRate(AmbientParticles.FAR_DISTANCE + 0.5), 0.0);
+    }
+
+    @Test
+    void shouldSpawn_refusesPositionsOutsideTheViewCone() {
+        // Looking along +Z with a 45 degree half angle
+        AmbientParticles.setCamera(0.0, 0.0, 0.0, 0.0, 0.0, 1.0, Math.PI / 4.0);
+
+        assertTrue(AmbientParticles.shouldSpawn(random, 0.0, 0.0, 10.0, 1.0f), "Straight ahead");
+        assertTrue(AmbientParticles.shouldSpawn(random, 5.0, 0.0, 10.0, 1.0f), "Inside the cone");
+        assertFalse(AmbientParticles.shouldSpawn(random, 10.0, 0.0, 5.0, 1.0f), "Outside the cone");
+        assertFalse(AmbientParticles.shouldSpawn(random, 0.0, 0.0, -10.0, 1.0f), "Behind the camera");
+        assertTrue(AmbientParticles.shouldSpawn(random, 0.0, 0.0, -3.0, 1.0f), "Too close to cull");
+    }
+
+    @Test
+    void shouldSpawn_ignoresTheConeInThirdPerson() {
+        AmbientParticles.setCamera(0.0, 0.0, 0.0, 0.0, 0.0, 0.0, Math.PI);
+        assertTrue(AmbientParticles.shouldSpawn(random, 0.0, 0.0, -10.0, 1.0f));
+    }
+
+    @Test
+    void shouldSpawn_refusedPositionsDoNotUseBudget() {
+        AmbientParticles.setCamera(0.0, 0.0, 0.0, 0.0, 0.0, 1.0, Math.PI / 4.0);
+        for (int i = 0; i < AmbientParticles.TICK_BUDGET * 2; i++) {
+            AmbientParticles.shouldSpawn(random, 0.0, 0.0, -10.0, 1.0f);
+        }
+        assertEquals(AmbientParticles.TICK_BUDGET, spawnsUntilRefused());
+    }
+
+    @Test
+    void claimPortal_sizesEmitterFromPortalBlocks() {
+        Map<BlockPos, BlockState> blocks = new HashMap<>();
+        putPortal(blocks, new BlockPos(0, 64, 0), 2, 3);
+        putPortal(blocks, new BlockPos(100, 64, 0), 21, 21);
+
+        AmbientParticles.PortalEmitter small = claim(blocks, new BlockPos(1, 65, 0));
+        assertNotNull(small);
+        assertEquals(new BoundingBox(0, 64, 0, 1, 66, 0), small.bounds());
+        assertEquals(1, small.particlesPerTick());
+
+        AmbientParticles.PortalEmitter large = claim(blocks, new BlockPos(110, 74, 0));
+        assertNotNull(large);
+        assertEquals(new BoundingBox(100, 64, 0, 120, 84, 0), large.bounds());
+        assertEquals(5, large.particlesPerTick());
+    }
+
+    @Test
+    void claimPortal_grantsOneClaimPerPortalPerTick() {
+        Map<BlockPos, BlockState> blocks = new HashMap<>();
+        putPortal(blocks, new BlockPos(0, 64, 0), 3, 3);
+        putPortal(blocks, new BlockPos(10, 64, 0), 3, 3);
+
+        AmbientParticles.PortalEmitter first = claim(blocks, new BlockPos(0, 64, 0));
+        assertNotNull(first);
+        assertNull(claim(blocks, new BlockPos(2, 66, 0)), "Same portal, same tick");
+        assertNull(claim(blocks, new BlockPos(0, 64, 0)), "Same block, same tick");
+
+        AmbientParticles.PortalEmitter other = claim(blocks, new BlockPos(11, 65, 0));
+        assertNotNull(other, "Another portal has its own claim");
+        assertNotSame(first, other);
+
+        AmbientParticles.beginTick(level, ALL);
+        assertSame(first, claim(blocks, new BlockPos(1, 65, 0)), "Cached emitter claimed again next tick");
+    }
+
+    @Test
+    void claimPortal_ignoresBlocksThatAreNotPortal() {
+        Map<BlockPos, BlockState> blocks = new HashMap<>();
+        putPortal(blocks, new BlockPos(0, 64, 0), 2, 3);
+        assertNull(claim(blocks, new BlockPos(5, 64, 0)));
+    }
+
+    private int spawnsUntilRefused() {
+        int spawned = 0;
+        while (spawned <= AmbientParticles.TICK_BUDGET && AmbientParticles.shouldSpawn(random, 0.0, 0.0, 0.0, 1.0f)) {
+            spawned++;
+        }
+        return spawned;
+    }
+
+    private double spawnRate(double distance) {
+        return spawnRate(distance, 1.0f);
+    }
+
+    // Fraction of spawns at the given distance along +X, with a fresh budget for every sample
+    private double spawnRate(double distance, float chance) {
+        int spawned = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            AmbientParticles.beginTick(level, ALL);
+            if (AmbientParticles.shouldSpawn(random, distance, 0.0, 0.0, chance)) {
+                spawned++;
+            }
+        }
+        return spawned / (double) SAMPLES;
+    }
+
+    private static AmbientParticles.PortalEmitter claim(Map<BlockPos, BlockState> blocks, BlockPos pos) {
+        return AmbientParticles.claimPortal(
+            p -> blocks.getOrDefault(p, Blocks.AIR.defaultBlockState()), pos, Blocks.NETHER_PORTAL);
+    }
+
+    // Portal interior in the X/Y plane (axis X), with its lower corner at origin
+    private static void putPortal(Map<BlockPos, BlockState> blocks, BlockPos origin, int width, int height) {
+        BlockState portal = Blocks.NETHER_PORTAL.defaultBlockState()
+            .setValue(BlockStateProperties.HORIZONTAL_AXIS, Direction.Axis.X);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                blocks.put(origin.offset(x, y, 0), portal);
+            }
+        }
+    }
+}
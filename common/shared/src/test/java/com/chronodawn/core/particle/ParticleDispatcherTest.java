@@ -0,0 +1,111 @@
+package com.chronodawn.core.particle;
+
+import com.chronodawn.config.ParticleSettings;
+import net.minecraft.util.RandomSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link ParticleDispatcher#allowance}: distance bands, stochastic rounding and the
+ * per-player budget for cosmetic and gameplay effects.
+ *
+ * Lives in the class's package because {@code allowance} is package-private. Every test uses
+ * a fresh player id, so budget spent in one test never carries over into another.
+ */
+class ParticleDispatcherTest {
+
+    private static final double NEAR = 16.0;
+    private static final double FAR = 32.0;
+    private static final ParticleSettings UNLIMITED = new ParticleSettings(0, NEAR, FAR, 0.5, 0.25);
+    private static final ParticleSettings BUDGET_10 = new ParticleSettings(10, NEAR, FAR, 0.5, 0.25);
+
+    private static final int SAMPLES = 4000;
+
+    private UUID player;
+    private RandomSource random;
+
+    @BeforeEach
+    void setUp() {
+        player = UUID.randomUUID();
+        random = RandomSource.create(42L);
+    }
+
+    @Test
+    void allowance_nearBandSendsFullCount() {
+        assertEquals(40, allowance(UNLIMITED, ParticlePriority.COSMETIC, 40, NEAR));
+        assertEquals(40, allowance(UNLIMITED, ParticlePriority.GAMEPLAY, 40, 1.0));
+    }
+
+    @Test
+    void allowance_midBandSendsMidDetail() {
+        assertEquals(20, allowance(UNLIMITED, ParticlePriority.COSMETIC, 40, NEAR + 1.0));
+        assertEquals(20, allowance(UNLIMITED, ParticlePriority.GAMEPLAY, 40, FAR));
+    }
+
+    @Test
+    void allowance_farBandSendsOnlyGameplayAtFarDetail() {
+        assertEquals(0, allowance(UNLIMITED, ParticlePriority.COSMETIC, 40, FAR + 1.0));
+        assertEquals(10, allowance(UNLIMITED, ParticlePriority.GAMEPLAY, 40, FAR + 1.0));
+        assertEquals(10, allowance(UNLIMITED, ParticlePriority.GAMEPLAY, 40, FAR * 2.0));
+    }
+
+    @Test
+    void allowance_beyondTwiceFarDistanceSendsNothing() {
+        assertEquals(0, allowance(UNLIMITED, ParticlePriority.GAMEPLAY, 40, FAR * 2.0 + 1.0));
+    }
+
+    @Test
+    void allowance_roundsFractionalCountsStochastically() {
+        // 1 particle at mid detail: sent about half the time, never rounded to always or never
+        int sent = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            int allowed = allowance(UNLIMITED, ParticlePriority.COSMETIC, 1, NEAR + 1.0);
+            assertTrue(allowed == 0 || allowed == 1);
+            sent += allowed;
+        }
+        assertEquals(0.5, sent / (double) SAMPLES, 0.05);
+
+        // 3 particles at far detail: 0.75 expected, so 0 or 1 with a 3:1 ratio
+        int total = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            total += allowance(UNLIMITED, ParticlePriority.GAMEPLAY, 3, FAR + 1.0);
+        }
+        assertEquals(0.75, total / (double) SAMPLES, 0.05);
+    }
+
+    @Test
+    void allowance_capsCosmeticAtTheBudget() {
+        assertEquals(8, allowance(BUDGET_10, ParticlePriority.COSMETIC, 8, 1.0));
+        assertEquals(2, allowance(BUDGET_10, ParticlePriority.COSMETIC, 8, 1.0), "Trimmed to what is left");
+        assertEquals(0, allowance(BUDGET_10, ParticlePriority.COSMETIC, 8, 1.0), "Budget spent");
+    }
+
+    @Test
+    void allowance_neverDropsGameplayOverBudget() {
+        assertEquals(10, allowance(BUDGET_10, ParticlePriority.COSMETIC, 10, 1.0));
+        assertEquals(5, allowance(BUDGET_10, ParticlePriority.GAMEPLAY, 5, 1.0), "Gameplay ignores a spent budget");
+        assertEquals(0, allowance(BUDGET_10, ParticlePriority.COSMETIC, 1, 1.0));
+    }
+
+    @Test
+    void allowance_gameplayLeavesLessRoomForCosmetic() {
+        assertEquals(7, allowance(BUDGET_10, ParticlePriority.GAMEPLAY, 7, 1.0));
+        assertEquals(3, allowance(BUDGET_10, ParticlePriority.COSMETIC, 8, 1.0));
+    }
+
+    @Test
+    void allowance_budgetIsPerPlayer() {
+        assertEquals(10, allowance(BUDGET_10, ParticlePriority.COSMETIC, 10, 1.0));
+        player = UUID.randomUUID();
+        assertEquals(10, allowance(BUDGET_10, ParticlePriority.COSMETIC, 10, 1.0));
+    }
+
+    private int allowance(ParticleSettings settings, ParticlePriority priority, int count, double distance) {
+        return ParticleDispatcher.allowance(player, settings, priority, count, distance * distance, random);
+    }
+}
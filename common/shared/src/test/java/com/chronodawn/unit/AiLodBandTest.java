@@ -0,0 +1,68 @@
+package com.chronodawn.unit;
+
+import com.chronodawn.config.AiLodSettings;
+import com.chronodawn.entities.ai.AiLodBand;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link AiLodBand} band selection and update staggering.
+ */
+class AiLodBandTest {
+
+    private static final AiLodSettings SETTINGS = new AiLodSettings(true, 32.0, 64.0, 4, 20, false);
+
+    @Test
+    void of_picksBandByDistance() {
+        assertEquals(AiLodBand.NEAR, AiLodBand.of(0.0, SETTINGS));
+        assertEquals(AiLodBand.NEAR, AiLodBand.of(32.0 * 32.0, SETTINGS));
+        assertEquals(AiLodBand.MID, AiLodBand.of(33.0 * 33.0, SETTINGS));
+        assertEquals(AiLodBand.MID, AiLodBand.of(64.0 * 64.0, SETTINGS));
+        assertEquals(AiLodBand.FAR, AiLodBand.of(65.0 * 65.0, SETTINGS));
+    }
+
+    @Test
+    void of_noPlayers_isFar() {
+        assertEquals(AiLodBand.FAR, AiLodBand.of(Double.POSITIVE_INFINITY, SETTINGS));
+    }
+
+    @Test
+    void runsOn_nearBand_runsEveryTick() {
+        for (int tick = 0; tick < 40; tick++) {
+            assertTrue(AiLodBand.NEAR.runsOn(tick, 7, SETTINGS));
+        }
+    }
+
+    @Test
+    void runsOn_throttledBands_runOncePerInterval() {
+        assertEquals(10, countRuns(AiLodBand.MID, 40, 7));
+        assertEquals(2, countRuns(AiLodBand.FAR, 40, 7));
+    }
+
+    @Test
+    void runsOn_staggersByEntityId() {
+        // Twenty far mobs with consecutive IDs update on twenty different ticks
+        boolean[] used = new boolean[20];
+        for (int id = 0; id < 20; id++) {
+            for (int tick = 0; tick < 20; tick++) {
+                if (AiLodBand.FAR.runsOn(tick, id, SETTINGS)) {
+                    assertFalse(used[tick], "Two mobs share tick " + tick);
+                    used[tick] = true;
+                }
+            }
+        }
+    }
+
+    private static int countRuns(AiLodBand band, int ticks, int entityId) {
+        int runs = 0;
+        for (int tick = 0; tick < ticks; tick++) {
+            if (band.runsOn(tick, entityId, SETTINGS)) {
+                runs++;
+            }
+        }
+        return runs;
+    }
+}
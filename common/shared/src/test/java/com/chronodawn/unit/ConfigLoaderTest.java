@@ -17,11 +17,16 @@
  */
 package com.chronodawn.unit;
 
+import com.chronodawn.config.AiLodSettings;
 import com.chronodawn.config.BossesConfig;
 import com.chronodawn.config.BossSettings;
 import com.chronodawn.config.ChronoDawnConfig;
 import com.chronodawn.config.ConfigDefaults;
 import com.chronodawn.config.ConfigLoader;
+import com.chronodawn.config.DegradationSettings;
+import com.chronodawn.config.MetricsSettings;
+import com.chronodawn.config.ParticleSettings;
+import com.chronodawn.config.TemplatePlacementSettings;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
@@ -30,6 +35,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -451,4 +457,204 @@ class ConfigLoaderTest {
 
         assertEquals(2.0, config.gameplay().bosses().clockworkColossus().healthMultiplier());
     }
+
+    @Test
+    void particles_missingSection_fallsBackToDefaults(@TempDir Path tmp) throws IOException {
+        Files.writeString(tmp.resolve("chronodawn.toml"),
+            "[world.structures.ancient_ruins]\n" +
+            "spacing = 32\n");
+
+        ChronoDawnConfig config = ConfigLoader.load(tmp);
+
+        assertEquals(ConfigDefaults.PARTICLE_DEFAULTS, config.performance().particles());
+    }
+
+    @Test
+    void particles_validCustom_isReturnedVerbatim(@TempDir Path tmp) throws IOException {
+        Files.writeString(tmp.resolve("chronodawn.toml"),
+            "[performance.particles]\n" +
+            "per_player_budget = 200\n" +
+            "near_distance = 8\n" +
+            "far_distance = 24.0\n" +
+            "mid_detail = 0.75\n" +
+            "far_detail = 0.0\n");
+
+        ChronoDawnConfig config = ConfigLoader.load(tmp);
+
+        assertEquals(new ParticleSettings(200, 8.0, 24.0, 0.75, 0.0), config.performance().particles());
+    }
+
+    @Test
+    void particles_invertedDistances_revertBothDistancesOnly(@TempDir Path tmp) throws IOException {
+        Files.writeString(tmp.resolve("chronodawn.toml"),
+            "[performance.particles]\n" +
+            "per_player_budget = 300\n" +
+            "near_distance = 40\n" +
+            "far_distance = 20\n");
+
+        ParticleSettings particles = ConfigLoader.load(tmp).performance().particles();
+
+        assertEquals(ConfigDefaults.PARTICLE_DEFAULTS.nearDistance(), particles.nearDistance());
+        assertEquals(ConfigDefaults.PARTICLE_DEFAULTS.farDistance(), particles.farDistance());
+        assertEquals(300, particles.perPlayerBudget(),
+            "A valid field must not be reset by an invalid sibling");
+    }
+
+    @Test
+    void particles_outOfRangeValues_revertToDefault(@TempDir Path tmp) throws IOException {
+        Files.writeString(tmp.resolve("chronodawn.toml"),
+            "[performance.particles]\n" +
+            "per_player_budget = -1\n" +
+            "mid_detail = 1.5\n" +
+            "far_detail = nan\n");
+
+        ChronoDawnConfig config = ConfigLoader.load(tmp);
+
+        assertEquals(ConfigDefaults.PARTICLE_DEFAULTS, config.performance().particles());
+    }
+
+    @Test
+    void mobAiLod_missingSection_isDisabled(@TempDir Path tmp) throws IOException {
+        Files.writeString(tmp.resolve("chronodawn.toml"),
+            "[performance.particles]\n" +
+            "per_player_budget = 200\n");
+
+        AiLodSettings lod = ConfigLoader.load(tmp).performance().mobAiLod();
+
+        assertEquals(ConfigDefaults.AI_LOD_DEFAULTS, lod);
+        assertFalse(lod.enabled(), "AI level-of-detail must be opt-in");
+    }
+
+    @Test
+    void mobAiLod_validCustom_isReturnedVerbatim(@TempDir Path tmp) throws IOException {
+        Files.writeString(tmp.resolve("chronodawn.toml"),
+            "[performance.mob_ai_lod]\n" +
+            "enabled = true\n" +
+            "near_distance = 24\n" +
+            "far_distance = 48.0\n" +
+            "mid_interval = 2\n" +
+            "far_interval = 10\n" +
+            "debug_overlay = true\n");
+
+        AiLodSettings lod = ConfigLoader.load(tmp).performance().mobAiLod();
+
+        assertEquals(new AiLodSettings(true, 24.0, 48.0, 2, 10, true), lod);
+    }
+
+    @Test
+    void mobAiLod_invalidValues_revertFieldByField(@TempDir Path tmp) throws IOException {
+        Files.writeString(tmp.resolve("chronodawn.toml"),
+            "[performance.mob_ai_lod]\n" +
+            "enabled = true\n" +
+            "near_distance = 80\n" +
+            "far_distance = 40\n" +
+            "mid_interval = 0\n" +
+            "far_interval = 30\n");
+
+        AiLodSettings lod = ConfigLoader.load(tmp).performance().mobAiLod();
+
+        assertTrue(lod.enabled());
+        assertEquals(ConfigDefaults.AI_LOD_DEFAULTS.nearDistance(), lod.nearDistance());
+        assertEquals(ConfigDefaults.AI_LOD_DEFAULTS.farDistance(), lod.farDistance());
+        assertEquals(ConfigDefaults.AI_LOD_DEFAULTS.midInterval(), lod.midInterval());
+        assertEquals(30, lod.farInterval(), "A valid field must not be reset by an invalid sibling");
+    }
+
+    @Test
+    void degradation_validCustom_isReturnedVerbatim(@TempDir Path tmp) throws IOException {
+        Files.writeString(tmp.resolve("chronodawn.toml"),
+            "[performance.degradation]\n" +
+            "enabled = false\n" +
+            "reduce_particles_mspt = 30\n" +
+            "slow_scans_mspt = 40.0\n" +
+            "defer_placement_mspt = 60.0\n" +
+            "recovery_margin_mspt = 2.5\n");
+
+        DegradationSettings degradation = ConfigLoader.load(tmp).performance().degradation();
+
+        assertEquals(new DegradationSettings(false, 30.0, 40.0, 60.0, 2.5), degradation);
+    }
+
+    @Test
+    void degradation_unorderedThresholds_revertTogether(@TempDir Path tmp) throws IOException {
+        Files.writeString(tmp.resolve("chronodawn.toml"),
+            "[performance.degradation]\n" +
+            "reduce_particles_mspt = 30.0\n" +
+            "slow_scans_mspt = 60.0\n" +
+            "defer_placement_mspt = 50.0\n" +
+            "recovery_margin_mspt = 3.0\n");
+
+        DegradationSettings degradation = ConfigLoader.load(tmp).performance().degradation();
+        DegradationSettings defaults = ConfigDefaults.DEGRADATION_DEFAULTS;
+
+        assertEquals(defaults.reduceParticlesMspt(), degradation.reduceParticlesMspt());
+        assertEquals(defaults.slowScansMspt(), degradation.slowScansMspt());
+        assertEquals(defaults.deferPlacementMspt(), degradation.deferPlacementMspt());
+        assertEquals(3.0, degradation.recoveryMarginMspt(), "A valid margin must not be reset by invalid thresholds");
+    }
+
+    @Test
+    void degradation_marginNotBelowLowestThreshold_isClamped(@TempDir Path tmp) throws IOException {
+        Files.writeString(tmp.resolve("chronodawn.toml"),
+            "[performance.degradation]\n" +
+            "reduce_particles_mspt = 4.0\n" +
+            "slow_scans_mspt = 6.0\n" +
+            "defer_placement_mspt = 8.0\n" +
+            "recovery_margin_mspt = 4.0\n");
+
+        DegradationSettings degradation = ConfigLoader.load(tmp).performance().degradation();
+
+        assertEquals(2.0, degradation.recoveryMarginMspt());
+    }
+
+    @Test
+    void templatePlacement_validCustom_isReturnedVerbatim(@TempDir Path tmp) throws IOException {
+        Files.writeString(tmp.resolve("chronodawn.toml"),
+            "[performance.template_placement]\n" +
+            "enabled = false\n" +
+            "blocks_per_tick = 1024\n");
+
+        TemplatePlacementSettings placement = ConfigLoader.load(tmp).performance().templatePlacement();
+
+        assertEquals(new TemplatePlacementSettings(false, 1024), placement);
+    }
+
+    @Test
+    void templatePlacement_nonPositiveBudget_fallsBackToDefault(@TempDir Path tmp) throws IOException {
+        Files.writeString(tmp.resolve("chronodawn.toml"),
+            "[performance.template_placement]\n" +
+            "blocks_per_tick = 0\n");
+
+        TemplatePlacementSettings placement = ConfigLoader.load(tmp).performance().templatePlacement();
+
+        assertEquals(ConfigDefaults.TEMPLATE_PLACEMENT_DEFAULTS, placement);
+    }
+
+    @Test
+    void metrics_validCustom_isReturnedVerbatim(@TempDir Path tmp) throws IOException {
+        Files.writeString(tmp.resolve("chronodawn.toml"),
+            "[performance.metrics]\n" +
+            "jmx = true\n" +
+            "csv_interval_seconds = 60\n" +
+            "csv_file = \"metrics/chronodawn.csv\"\n");
+
+        MetricsSettings metrics = ConfigLoader.load(tmp).performance().metrics();
+
+        assertEquals(new MetricsSettings(true, 60, "metrics/chronodawn.csv"), metrics);
+    }
+
+    @Test
+    void metrics_invalidIntervalAndFile_fallBackIndependently(@TempDir Path tmp) throws IOException {
+        Files.writeString(tmp.resolve("chronodawn.toml"),
+            "[performance.metrics]\n" +
+            "jmx = true\n" +
+            "csv_interval_seconds = -5\n" +
+            "csv_file = \"  \"\n");
+
+        MetricsSettings metrics = ConfigLoader.load(tmp).performance().metrics();
+
+        assertTrue(metrics.jmx(), "A valid jmx flag must not be reset by invalid CSV settings");
+        assertEquals(ConfigDefaults.METRICS_DEFAULTS.csvIntervalSeconds(), metrics.csvIntervalSeconds());
+        assertEquals(ConfigDefaults.METRICS_DEFAULTS.csvFile(), metrics.csvFile());
+    }
 }
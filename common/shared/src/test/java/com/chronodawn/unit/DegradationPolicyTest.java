@@ -0,0 +1,75 @@
+package com.chronodawn.unit;
+
+import com.chronodawn.config.DegradationSettings;
+import com.chronodawn.core.performance.DegradationLevel;
+import com.chronodawn.core.performance.DegradationPolicy;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link DegradationPolicy} level transitions and hysteresis.
+ */
+class DegradationPolicyTest {
+
+    private static final DegradationSettings SETTINGS = new DegradationSettings(true, 40.0, 45.0, 50.0, 5.0);
+    private static final int SETTLED = DegradationPolicy.MIN_TICKS_BEFORE_RECOVERY;
+
+    @Test
+    void forMspt_picksHighestReachedThreshold() {
+        assertEquals(DegradationLevel.NORMAL, DegradationLevel.forMspt(39.9, SETTINGS));
+        assertEquals(DegradationLevel.REDUCED_PARTICLES, DegradationLevel.forMspt(40.0, SETTINGS));
+        assertEquals(DegradationLevel.SLOW_SCANS, DegradationLevel.forMspt(47.0, SETTINGS));
+        assertEquals(DegradationLevel.DEFER_PLACEMENT, DegradationLevel.forMspt(120.0, SETTINGS));
+    }
+
+    @Test
+    void next_escalatesImmediately_evenRightAfterAChange() {
+        assertEquals(DegradationLevel.DEFER_PLACEMENT,
+            DegradationPolicy.next(DegradationLevel.NORMAL, 55.0, 0, SETTINGS));
+        assertEquals(DegradationLevel.SLOW_SCANS,
+            DegradationPolicy.next(DegradationLevel.REDUCED_PARTICLES, 46.0, 0, SETTINGS));
+    }
+
+    @Test
+    void next_withinMargin_staysAtLevel() {
+        // 36 ms is below the 40 ms threshold but not by the 5 ms margin
+        assertEquals(DegradationLevel.REDUCED_PARTICLES,
+            DegradationPolicy.next(DegradationLevel.REDUCED_PARTICLES, 36.0, SETTLED, SETTINGS));
+    }
+
+    @Test
+    void next_belowMargin_recovers() {
+        assertEquals(DegradationLevel.NORMAL,
+            DegradationPolicy.next(DegradationLevel.REDUCED_PARTICLES, 34.0, SETTLED, SETTINGS));
+    }
+
+    @Test
+    void next_recoveryWaitsForMinimumDwell() {
+        assertEquals(DegradationLevel.SLOW_SCANS,
+            DegradationPolicy.next(DegradationLevel.SLOW_SCANS, 10.0, SETTLED - 1, SETTINGS));
+        assertEquals(DegradationLevel.NORMAL,
+            DegradationPolicy.next(DegradationLevel.SLOW_SCANS, 10.0, SETTLED, SETTINGS));
+    }
+
+    @Test
+    void next_partialRecovery_stepsToMatchingLevel() {
+        // 38 ms: clear of SLOW_SCANS (45 - 5) but not of REDUCED_PARTICLES (40 - 5)
+        assertEquals(DegradationLevel.REDUCED_PARTICLES,
+            DegradationPolicy.next(DegradationLevel.DEFER_PLACEMENT, 38.0, SETTLED, SETTINGS));
+    }
+
+    @Test
+    void next_disabled_isAlwaysNormal() {
+        DegradationSettings disabled = new DegradationSettings(false, 40.0, 45.0, 50.0, 5.0);
+        assertEquals(DegradationLevel.NORMAL,
+            DegradationPolicy.next(DegradationLevel.DEFER_PLACEMENT, 200.0, 0, disabled));
+    }
+
+    @Test
+    void byOrdinal_unknownValue_isNormal() {
+        assertEquals(DegradationLevel.SLOW_SCANS, DegradationLevel.byOrdinal(2));
+        assertEquals(DegradationLevel.NORMAL, DegradationLevel.byOrdinal(99));
+        assertEquals(DegradationLevel.NORMAL, DegradationLevel.byOrdinal(-1));
+    }
+}
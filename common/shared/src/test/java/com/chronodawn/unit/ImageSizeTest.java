@@ -0,0 +1,45 @@
+package com.chronodawn.unit;
+
+import com.chronodawn.gui.data.ImageSize;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link ImageSize}, which the Chronicle reads from PNG headers on resource reload
+ * instead of decoding each image every frame.
+ */
+class ImageSizeTest {
+
+    @Test
+    void readsSizeOfShippedChronicleVignette() throws IOException {
+        Path vignette = Paths.get(TestUtils.getProjectRoot(), "common", "shared", "src", "main", "resources",
+            "assets", "chronodawn", "textures", "gui", "chronicle", "vignette.png");
+        assertTrue(Files.exists(vignette), "vignette.png should exist");
+
+        try (InputStream stream = Files.newInputStream(vignette)) {
+            assertEquals(new ImageSize(31, 31), ImageSize.read(stream));
+        }
+    }
+
+    @Test
+    void rejectsNonPngData() {
+        byte[] jpeg = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 0, 0x10, 'J', 'F', 'I', 'F'};
+        assertThrows(IOException.class, () -> ImageSize.read(new ByteArrayInputStream(jpeg)));
+    }
+
+    @Test
+    void rejectsTruncatedHeader() {
+        byte[] signatureOnly = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 0, 0};
+        assertThrows(IOException.class, () -> ImageSize.read(new ByteArrayInputStream(signatureOnly)));
+    }
+}
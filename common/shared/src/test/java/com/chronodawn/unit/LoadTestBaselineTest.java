@@ -0,0 +1,120 @@
+package com.chronodawn.unit;
+
+import com.chronodawn.entities.bosses.BossKind;
+import com.chronodawn.gametest.LoadTestBaseline;
+import com.chronodawn.registry.ModEntityId;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Validates the checked-in MSPT load test baseline.
+ * Every mob and boss needs a scenario, so a new entity can't silently skip load testing.
+ */
+class LoadTestBaselineTest {
+
+    // Entities that are not spawned as a population
+    private static final Set<ModEntityId> NOT_SPAWNED = EnumSet.of(
+        ModEntityId.GEAR_PROJECTILE,        // Covered by the volley scenario
+        ModEntityId.TIME_ARROW,             // Projectile
+        ModEntityId.TIME_BLAST,             // Projectile
+        ModEntityId.CHRONO_DAWN_BOAT,       // Vehicle
+        ModEntityId.CHRONO_DAWN_CHEST_BOAT  // Vehicle
+    );
+
+    private static LoadTestBaseline loadBundled() throws Exception {
+        try (var reader = Files.newBufferedReader(LoadTestBaseline.locate(), StandardCharsets.UTF_8)) {
+            return LoadTestBaseline.parse(reader);
+        }
+    }
+
+    @Test
+    void bundledBaseline_coversEveryMobAndBoss() throws Exception {
+        Set<String> covered = loadBundled().scenarios().stream()
+            .map(LoadTestBaseline.Scenario::entityId)
+            .filter(id -> id != null)
+            .collect(Collectors.toSet());
+
+        List<String> missing = new ArrayList<>();
+        for (ModEntityId entity : ModEntityId.values()) {
+            if (!NOT_SPAWNED.contains(entity) && !covered.contains("chronodawn:" + entity.id())) {
+                missing.add(entity.id());
+            }
+        }
+        for (BossKind boss : BossKind.values()) {
+            assertTrue(covered.contains("chronodawn:" + boss.configKey()), "No scenario for boss " + boss);
+        }
+        assertTrue(missing.isEmpty(), "Entities without a load test scenario: " + missing);
+    }
+
+    @Test
+    void bundledBaseline_hasGearVolley() throws Exception {
+        assertTrue(loadBundled().scenarios().stream()
+            .anyMatch(s -> s.isVolley() && "chronodawn:gear_projectile".equals(s.entityId())),
+            "Missing gear projectile volley scenario");
+    }
+
+    @Test
+    void bundledBaseline_budgetsEveryScenario() throws Exception {
+        // Without budgets the load test only measures and can never fail
+        List<String> unbudgeted = loadBundled().scenarios().stream()
+            .filter(s -> !s.hasBudget())
+            .map(LoadTestBaseline.Scenario::name)
+            .toList();
+        assertTrue(unbudgeted.isEmpty(), "Load test scenarios without a budget: " + unbudgeted);
+    }
+
+    @Test
+    void bundledBaseline_isNotOnTheClasspath() {
+        // The scenario list is read from the source tree so it stays out of the release jar
+        assertNull(LoadTestBaselineTest.class.getClassLoader()
+            .getResource("chronodawn-load-test-baseline.json"));
+    }
+
+    @Test
+    void parse_roundsSampleTicksUpToWholeWindows() {
+        LoadTestBaseline baseline = LoadTestBaseline.parse(new StringReader(
+            "{\"sampleTicks\": 150, \"scenarios\": [{\"name\": \"idle\", \"maxAvgMs\": 1, \"maxP99Ms\": 2}]}"));
+        assertEquals(200, baseline.sampleTicks());
+        assertEquals(0, baseline.scenarios().get(0).population());
+    }
+
+    @Test
+    void parse_rejectsDuplicateNames() {
+        assertThrows(IllegalStateException.class, () -> LoadTestBaseline.parse(new StringReader(
+            "{\"scenarios\": [{\"name\": \"a\", \"maxAvgMs\": 1, \"maxP99Ms\": 2},"
+                + " {\"name\": \"a\", \"maxAvgMs\": 1, \"maxP99Ms\": 2}]}")));
+    }
+
+    @Test
+    void parse_scenarioWithoutBudgetIsMeasuredOnly() {
+        LoadTestBaseline baseline = LoadTestBaseline.parse(new StringReader(
+            "{\"scenarios\": [{\"name\": \"a\", \"entity\": \"chronodawn:floq\"}]}"));
+        assertFalse(baseline.scenarios().get(0).hasBudget());
+    }
+
+    @Test
+    void parse_rejectsHalfABudget() {
+        assertThrows(IllegalStateException.class, () -> LoadTestBaseline.parse(new StringReader(
+            "{\"scenarios\": [{\"name\": \"a\", \"entity\": \"chronodawn:floq\", \"maxAvgMs\": 1}]}")));
+    }
+
+    @Test
+    void parse_rejectsP99BudgetBelowAverage() {
+        assertThrows(IllegalStateException.class, () -> LoadTestBaseline.parse(new StringReader(
+            "{\"scenarios\": [{\"name\": \"a\", \"maxAvgMs\": 2, \"maxP99Ms\": 1}]}")));
+    }
+}
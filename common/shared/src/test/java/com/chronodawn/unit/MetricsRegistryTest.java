@@ -0,0 +1,92 @@
+package com.chronodawn.unit;
+
+import com.chronodawn.core.performance.MetricsMBean;
+import com.chronodawn.core.performance.MetricsRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.management.AttributeNotFoundException;
+import javax.management.MBeanAttributeInfo;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link MetricsRegistry} snapshots and CSV rows, and the {@link MetricsMBean} view of them.
+ */
+class MetricsRegistryTest {
+
+    @Test
+    void snapshot_readsGaugesAndGroupsSortedByName() {
+        MetricsRegistry<Integer> registry = new MetricsRegistry<>();
+        registry.gauge("sandstone.pending_restorations", context -> context * 2L);
+        registry.gaugeGroup("portals", context -> Map.of("minecraft:overworld", 3, "chronodawn:chronodawn", context));
+
+        SortedMap<String, Long> snapshot = registry.snapshot(5, 20);
+
+        assertEquals(List.of("portals.chronodawn:chronodawn", "portals.minecraft:overworld", "sandstone.pending_restorations"),
+            List.copyOf(snapshot.keySet()));
+        assertEquals(5L, snapshot.get("portals.chronodawn:chronodawn"));
+        assertEquals(3L, snapshot.get("portals.minecraft:overworld"));
+        assertEquals(10L, snapshot.get("sandstone.pending_restorations"));
+    }
+
+    @Test
+    void snapshot_averagesTickNanosAndResetsThem() {
+        MetricsRegistry<Object> registry = new MetricsRegistry<>();
+        registry.recordTick("pregen", 3_000L);
+        registry.recordTick("pregen", 5_000L);
+
+        assertEquals(4_000L, registry.snapshot(null, 2).get("tick_nanos.pregen"));
+        assertEquals(0L, registry.snapshot(null, 20).get("tick_nanos.pregen"));
+    }
+
+    @Test
+    void resetTicks_dropsCollectedTimes() {
+        MetricsRegistry<Object> registry = new MetricsRegistry<>();
+        registry.recordTick("chrono_shield", 7_000L);
+        registry.resetTicks();
+
+        assertEquals(0L, registry.snapshot(null, 1).get("tick_nanos.chrono_shield"));
+    }
+
+    @Test
+    void snapshot_leavesOutFailingGauge() {
+        MetricsRegistry<Object> registry = new MetricsRegistry<>();
+        registry.gauge("broken", context -> {
+            throw new IllegalStateException("boom");
+        });
+        registry.gauge("protection.permanent", context -> 2L);
+
+        SortedMap<String, Long> snapshot = registry.snapshot(null, 20);
+
+        assertFalse(snapshot.containsKey("broken"));
+        assertEquals(2L, snapshot.get("protection.permanent"));
+    }
+
+    @Test
+    void csvRows_oneRowPerMetric() {
+        SortedMap<String, Long> snapshot = new TreeMap<>(Map.of("bosses.active", 1L, "portal_teleports.pending", 0L));
+
+        assertEquals("2026-01-01T00:00:00Z,bosses.active,1\n2026-01-01T00:00:00Z,portal_teleports.pending,0\n",
+            MetricsRegistry.csvRows("2026-01-01T00:00:00Z", snapshot));
+    }
+
+    @Test
+    void mbean_exposesLatestSnapshot() throws Exception {
+        MetricsMBean mbean = new MetricsMBean();
+        mbean.update(new TreeMap<>(Map.of("bosses.active", 2L, "time_distortion.slowed_mobs", 14L)));
+
+        assertEquals(14L, mbean.getAttribute("time_distortion.slowed_mobs"));
+        assertThrows(AttributeNotFoundException.class, () -> mbean.getAttribute("unknown"));
+
+        MBeanAttributeInfo[] attributes = mbean.getMBeanInfo().getAttributes();
+        assertEquals(2, attributes.length);
+        assertEquals("bosses.active", attributes[0].getName());
+        assertEquals("long", attributes[0].getType());
+    }
+}
@@ -0,0 +1,60 @@
+package com.chronodawn.unit;
+
+import com.chronodawn.worldgen.pregen.PregenBudget;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link PregenBudget} slice sizing.
+ */
+class PregenBudgetTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void idleServer_getsMaximumSlice() {
+        PregenBudget budget = new PregenBudget();
+        budget.recordTickWork(2 * MS);
+        assertEquals(PregenBudget.MAX_SLICE_NANOS, budget.sliceNanos());
+    }
+
+    @Test
+    void loadedServer_getsRemainderOfTarget() {
+        PregenBudget budget = new PregenBudget();
+        budget.recordTickWork(30 * MS);
+        assertEquals(PregenBudget.TARGET_TICK_NANOS - 30 * MS, budget.sliceNanos());
+    }
+
+    @Test
+    void busyServer_pauses() {
+        PregenBudget budget = new PregenBudget();
+        budget.recordTickWork(55 * MS);
+        assertEquals(0L, budget.sliceNanos());
+    }
+
+    @Test
+    void singleSpike_doesNotPauseImmediately() {
+        PregenBudget budget = new PregenBudget();
+        for (int i = 0; i < 20; i++) {
+            budget.recordTickWork(5 * MS);
+        }
+        budget.recordTickWork(200 * MS);
+        assertTrue(budget.sliceNanos() > 0, "One slow tick should only shrink the slice");
+
+        for (int i = 0; i < 20; i++) {
+            budget.recordTickWork(200 * MS);
+        }
+        assertEquals(0L, budget.sliceNanos());
+    }
+
+    @Test
+    void reset_forgetsHistory() {
+        PregenBudget budget = new PregenBudget();
+        budget.recordTickWork(100 * MS);
+        budget.reset();
+        budget.recordTickWork(MS);
+        assertEquals(PregenBudget.MAX_SLICE_NANOS, budget.sliceNanos());
+    }
+}
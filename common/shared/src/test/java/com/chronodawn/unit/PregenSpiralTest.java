@@ -0,0 +1,63 @@
+package com.chronodawn.unit;
+
+import com.chronodawn.worldgen.pregen.PregenSpiral;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link PregenSpiral} visiting order.
+ */
+class PregenSpiralTest {
+
+    @Test
+    void offset_coversSquareExactlyOnce() {
+        for (int radius = 0; radius <= 8; radius++) {
+            int count = PregenSpiral.count(radius);
+            Set<PregenSpiral.Offset> seen = new HashSet<>();
+            for (int i = 0; i < count; i++) {
+                PregenSpiral.Offset offset = PregenSpiral.offset(i);
+                assertTrue(Math.abs(offset.dx()) <= radius && Math.abs(offset.dz()) <= radius,
+                    "Index " + i + " outside radius " + radius + ": " + offset);
+                assertTrue(seen.add(offset), "Duplicate offset " + offset + " at index " + i);
+            }
+            assertEquals(count, seen.size());
+        }
+    }
+
+    @Test
+    void offset_stepsToNeighbouringChunk() {
+        // A continuous spiral keeps consecutive chunks adjacent, so their neighbours are reused
+        PregenSpiral.Offset previous = PregenSpiral.offset(0);
+        for (int i = 1; i < PregenSpiral.count(6); i++) {
+            PregenSpiral.Offset offset = PregenSpiral.offset(i);
+            int step = Math.abs(offset.dx() - previous.dx()) + Math.abs(offset.dz() - previous.dz());
+            assertEquals(1, step, "Jump between index " + (i - 1) + " and " + i);
+            previous = offset;
+        }
+    }
+
+    @Test
+    void offset_startsAtCenter() {
+        assertEquals(new PregenSpiral.Offset(0, 0), PregenSpiral.offset(0));
+    }
+
+    @Test
+    void count_matchesSquareArea() {
+        assertEquals(1, PregenSpiral.count(0));
+        assertEquals(9, PregenSpiral.count(1));
+        assertEquals(2049 * 2049, PregenSpiral.count(1024));
+    }
+
+    @Test
+    void invalidArguments_areRejected() {
+        assertThrows(IllegalArgumentException.class, () -> PregenSpiral.offset(-1));
+        assertThrows(IllegalArgumentException.class, () -> PregenSpiral.count(-1));
+        assertThrows(IllegalArgumentException.class, () -> PregenSpiral.count(PregenSpiral.MAX_RADIUS + 1));
+    }
+}
@@ -72,7 +72,8 @@ class RuntimeStructureOverlayTest {
                 ),
                 ConfigDefaults.defaults().world().ores()
             ),
-            ConfigDefaults.defaults().gameplay()
+            ConfigDefaults.defaults().gameplay(),
+            ConfigDefaults.defaults().performance()
         );
 
         JsonObject json = parse(RuntimeStructureOverlay.generate(custom)
@@ -95,7 +96,8 @@ class RuntimeStructureOverlayTest {
                 ),
                 ConfigDefaults.defaults().world().ores()
             ),
-            ConfigDefaults.defaults().gameplay()
+            ConfigDefaults.defaults().gameplay(),
+            ConfigDefaults.defaults().performance()
         );
 
         JsonObject json = parse(RuntimeStructureOverlay.generate(disabled)
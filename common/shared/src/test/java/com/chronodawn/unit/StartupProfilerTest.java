@@ -0,0 +1,70 @@
+package com.chronodawn.unit;
+
+import com.chronodawn.core.performance.StartupProfiler;
+import com.chronodawn.core.performance.StartupProfiler.Phase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link StartupProfiler} phase recording and summary formatting.
+ */
+class StartupProfilerTest {
+
+    @AfterEach
+    void tearDown() {
+        StartupProfiler.drain();
+    }
+
+    @Test
+    void format_listsPhasesInOrderWithTotal() {
+        String line = StartupProfiler.format("common", List.of(
+            new Phase("registry/blocks", 41_250_000L),
+            new Phase("registry/items", 63_000_000L)
+        ));
+        assertEquals("Startup profile (common): registry/blocks 41.3 ms, registry/items 63.0 ms (total 104.3 ms)", line);
+    }
+
+    @Test
+    void format_countsShortPhasesOnlyInTotal() {
+        String line = StartupProfiler.format("neoforge", List.of(
+            new Phase("registry_event/item", 2_000_000L),
+            new Phase("registry_event/villager_type", 60_000L)
+        ));
+        assertEquals("Startup profile (neoforge): registry_event/item 2.0 ms (total 2.1 ms)", line);
+    }
+
+    @Test
+    void format_withOnlyShortPhases() {
+        String line = StartupProfiler.format("client", List.of(new Phase("client/particles", 10_000L)));
+        assertEquals("Startup profile (client): no phase over 0.1 ms (total 0.0 ms)", line);
+    }
+
+    @Test
+    void time_recordsPhaseAndDrainClears() {
+        StartupProfiler.time("registry/sounds", () -> { });
+        StartupProfiler.time("registry/effects", () -> { });
+
+        List<Phase> phases = StartupProfiler.drain();
+        assertEquals(2, phases.size());
+        assertEquals("registry/sounds", phases.get(0).name());
+        assertEquals("registry/effects", phases.get(1).name());
+        assertTrue(phases.get(0).nanos() >= 0);
+        assertTrue(StartupProfiler.drain().isEmpty());
+    }
+
+    @Test
+    void time_recordsPhaseWhenWorkThrows() {
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+            () -> StartupProfiler.time("registry/broken", () -> {
+                throw new IllegalStateException("boom");
+            }));
+        assertEquals("boom", thrown.getMessage());
+        assertEquals("registry/broken", StartupProfiler.drain().get(0).name());
+    }
+}
@@ -0,0 +1,51 @@
+package com.chronodawn.unit;
+
+import com.chronodawn.core.time.TimeFlowState;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link TimeFlowState} day-time extrapolation.
+ * The client uses it to predict the server's variable-speed day time between payloads.
+ */
+class TimeFlowStateTest {
+
+    @Test
+    void normalFlow_advancesBySpeed() {
+        TimeFlowState state = new TimeFlowState(1000L, 6000L, 2.0f, TimeFlowState.NO_SLEEP_SKIP);
+        assertFalse(state.isSleepSkipping());
+        assertEquals(6000L, state.dayTimeAt(1000L));
+        assertEquals(6020L, state.dayTimeAt(1010L));
+    }
+
+    @Test
+    void normalFlow_fractionalSpeedRoundsDown() {
+        TimeFlowState state = new TimeFlowState(0L, 0L, 0.67f, TimeFlowState.NO_SLEEP_SKIP);
+        assertEquals(0L, state.dayTimeAt(1L));
+        assertEquals(2L, state.dayTimeAt(3L));
+        assertEquals(67L, state.dayTimeAt(100L));
+    }
+
+    @Test
+    void gameTimeBeforeAnchor_doesNotRunBackwards() {
+        TimeFlowState state = new TimeFlowState(1000L, 6000L, 5.0f, TimeFlowState.NO_SLEEP_SKIP);
+        assertEquals(6000L, state.dayTimeAt(990L));
+    }
+
+    @Test
+    void sleepSkip_advancesAtSkipRateAndStopsAtTarget() {
+        TimeFlowState state = new TimeFlowState(0L, 13000L, 1.0f, 25000L);
+        assertTrue(state.isSleepSkipping());
+        assertEquals(13000L + TimeFlowState.SLEEP_SKIP_TICKS_PER_TICK, state.dayTimeAt(1L));
+        assertEquals(25000L, state.dayTimeAt(100L));
+    }
+
+    @Test
+    void sleepSkip_alreadyPastTarget_holdsAnchor() {
+        TimeFlowState state = new TimeFlowState(0L, 26000L, 1.0f, 25000L);
+        assertEquals(26000L, state.dayTimeAt(10L));
+    }
+}
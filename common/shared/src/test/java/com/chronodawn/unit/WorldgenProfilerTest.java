@@ -0,0 +1,68 @@
+package com.chronodawn.unit;
+
+import com.chronodawn.worldgen.profiling.WorldgenProfiler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link WorldgenProfiler} label parsing and section accounting.
+ */
+class WorldgenProfilerTest {
+
+    private static final String TREE = "ResourceKey[minecraft:worldgen/placed_feature / chronodawn:fruit_of_time_tree]";
+    private static final String CLOCK = "ResourceKey[minecraft:worldgen/structure / chronodawn:master_clock]";
+
+    @AfterEach
+    void tearDown() {
+        WorldgenProfiler.stop();
+    }
+
+    @Test
+    void parseLabel_splitsWorldgenResourceKeys() {
+        assertArrayEquals(new String[] {"placed_feature", "chronodawn:fruit_of_time_tree"},
+            WorldgenProfiler.parseLabel(TREE));
+        assertArrayEquals(new String[] {"structure", "chronodawn:master_clock"},
+            WorldgenProfiler.parseLabel(CLOCK));
+        assertArrayEquals(new String[] {"minecraft:dimension", "chronodawn:chronodawn"},
+            WorldgenProfiler.parseLabel("ResourceKey[minecraft:dimension / chronodawn:chronodawn]"));
+    }
+
+    @Test
+    void parseLabel_keepsUnknownLabels() {
+        assertArrayEquals(new String[] {"other", "PlacedFeature[...]"},
+            WorldgenProfiler.parseLabel("PlacedFeature[...]"));
+    }
+
+    @Test
+    void switchSection_chargesTimeToPreviousLabel() {
+        WorldgenProfiler.start();
+        WorldgenProfiler.switchSection(() -> TREE);
+        WorldgenProfiler.switchSection(() -> CLOCK);
+        WorldgenProfiler.switchSection(() -> TREE);
+        WorldgenProfiler.switchSection(null);
+
+        List<WorldgenProfiler.SectionStats> stats = WorldgenProfiler.snapshot();
+        assertEquals(2, stats.size());
+        WorldgenProfiler.SectionStats tree = stats.stream()
+            .filter(s -> s.id().equals("chronodawn:fruit_of_time_tree")).findFirst().orElseThrow();
+        assertEquals(2, tree.calls());
+        assertTrue(tree.totalNanos() >= 0);
+    }
+
+    @Test
+    void start_dropsSectionsLeftOpenByEarlierRun() {
+        WorldgenProfiler.start();
+        WorldgenProfiler.switchSection(() -> TREE);
+
+        WorldgenProfiler.start();
+        WorldgenProfiler.switchSection(null);
+
+        assertTrue(WorldgenProfiler.snapshot().isEmpty());
+    }
+}
@@ -17,6 +17,7 @@
  */
 package com.chronodawn.worldgen.runtime;
 
+import com.chronodawn.config.ChronoDawnConfig;
 import com.chronodawn.config.ConfigDefaults;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,116 +25,158 @@ import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
- * Tests for {@link OverlayPackBootstrap}, the on-disk materialiser of the
- * runtime overlay datapack. Loader-side pack registration depends on
- * {@code overlayPath} being non-null only after a successful write, so the
- * three regressions guarded here are:
+ * Tests for {@link OverlayPackBootstrap}, which builds the runtime overlay
+ * datapack in memory and optionally exports a debug copy. The regressions
+ * guarded here are:
  *
  * <ol>
- *   <li>A successful run writes {@code pack.mcmeta} plus every byte payload
+ *   <li>The prepared contents hold {@code pack.mcmeta} plus every byte payload
  *       returned by {@link RuntimeStructureOverlay#generate} and
- *       {@link RuntimePlacedFeatureOverlay#generate} to the expected paths.</li>
- *   <li>Calling {@code writeOverlay} twice with the same args is idempotent
- *       — same file set, same bytes, same {@code overlayPath} — so a server
- *       restart never observes a partial or drifted overlay.</li>
- *   <li>If {@code writeOverlay} fails (here: target dir collision with a
- *       regular file), {@code overlayPath} remains {@code null} so the
- *       Fabric Mixin / NeoForge {@code OverlayPackFinder} skip registration
- *       instead of pointing at a half-written directory.</li>
+ *       {@link RuntimePlacedFeatureOverlay#generate}, and are published for
+ *       loader-side registration.</li>
+ *   <li>JSON is only regenerated when the config hash changes.</li>
+ *   <li>Preparing the overlay writes nothing to disk; the debug export writes
+ *       the same bytes and skips an export of the same config.</li>
+ *   <li>A failed export does not affect the in-memory overlay.</li>
  * </ol>
  */
 class OverlayPackBootstrapTest {
 
     /**
-     * {@link OverlayPackBootstrap#overlayPath} is a static field that survives
-     * across tests; reset to {@code null} before each test so failure-path
-     * assertions are not contaminated by a previous successful run.
+     * {@link OverlayPackBootstrap#contents} is a static field that survives
+     * across tests; reset to {@code null} before each test so reuse assertions
+     * are not contaminated by a previous run.
      */
     @BeforeEach
-    void resetOverlayPath() throws ReflectiveOperationException {
-        Field f = OverlayPackBootstrap.class.getDeclaredField("overlayPath");
+    void resetContents() throws ReflectiveOperationException {
+        Field f = OverlayPackBootstrap.class.getDeclaredField("contents");
         f.setAccessible(true);
         f.set(null, null);
     }
 
     @Test
-    void writeOverlay_writesPackMcmetaAndAllGeneratedJsons(@TempDir Path configDir) throws IOException {
-        OverlayPackBootstrap.writeOverlay(configDir, ConfigDefaults.defaults());
+    void prepare_publishesPackMcmetaAndAllGeneratedJsons() {
+        OverlayPackContents contents = OverlayPackBootstrap.prepare(ConfigDefaults.defaults());
 
-        Path overlayRoot = configDir.resolve(OverlayPackBootstrap.OVERLAY_DIR_NAME);
-        assertEquals(overlayRoot, OverlayPackBootstrap.getOverlayPath(),
-            "overlayPath must be published on success");
-        assertTrue(Files.isRegularFile(overlayRoot.resolve("pack.mcmeta")),
-            "pack.mcmeta must be written at the overlay root");
+        assertSame(contents, OverlayPackBootstrap.getContents(),
+            "Prepared contents must be published for pack registration");
+        assertNotNull(contents.get(OverlayPackContents.PACK_MCMETA),
+            "pack.mcmeta must be served at the pack root");
 
         // The overlay generators are the source of truth for which files must exist.
-        // Re-generating here and comparing bytes guards against the bootstrap dropping
-        // entries or writing them to the wrong relative path.
-        Map<String, byte[]> expected = new LinkedHashMap<>();
-        expected.putAll(RuntimeStructureOverlay.generate(ConfigDefaults.defaults()));
-        expected.putAll(RuntimePlacedFeatureOverlay.generate(ConfigDefaults.defaults()));
-        for (Map.Entry<String, byte[]> entry : expected.entrySet()) {
-            Path file = overlayRoot.resolve(entry.getKey());
-            assertTrue(Files.isRegularFile(file),
-                "Expected overlay file not written: " + entry.getKey());
-            assertArrayEquals(entry.getValue(), Files.readAllBytes(file),
-                "Bytes on disk diverge from generator output for: " + entry.getKey());
+        for (Map.Entry<String, byte[]> entry : expectedFiles(ConfigDefaults.defaults()).entrySet()) {
+            assertArrayEquals(entry.getValue(), contents.get(entry.getKey()),
+                "Overlay diverges from generator output for: " + entry.getKey());
         }
     }
 
     @Test
-    void writeOverlay_isIdempotentAcrossRepeatedCalls(@TempDir Path configDir) throws IOException {
-        OverlayPackBootstrap.writeOverlay(configDir, ConfigDefaults.defaults());
-        Map<Path, byte[]> first = snapshotRegularFiles(configDir);
-        Path firstPath = OverlayPackBootstrap.getOverlayPath();
-
-        OverlayPackBootstrap.writeOverlay(configDir, ConfigDefaults.defaults());
-        Map<Path, byte[]> second = snapshotRegularFiles(configDir);
-
-        assertEquals(first.keySet(), second.keySet(),
-            "File set must be identical across writeOverlay invocations");
-        for (Map.Entry<Path, byte[]> e : first.entrySet()) {
-            assertArrayEquals(e.getValue(), second.get(e.getKey()),
-                "Content drift across writeOverlay invocations at: " + e.getKey());
+    void prepare_sameConfig_reusesContents() {
+        OverlayPackContents first = OverlayPackBootstrap.prepare(ConfigDefaults.defaults());
+        OverlayPackContents second = OverlayPackBootstrap.prepare(ConfigDefaults.defaults());
+
+        assertSame(first, second, "An unchanged config hash must not regenerate the overlay");
+    }
+
+    @Test
+    void prepare_changedConfig_regenerates() {
+        OverlayPackContents first = OverlayPackBootstrap.prepare(ConfigDefaults.defaults());
+        ChronoDawnConfig changed = withAncientRuinsSpacing(ConfigDefaults.ANCIENT_RUINS_SPACING + 8);
+        OverlayPackContents second = OverlayPackBootstrap.prepare(changed);
+
+        assertNotEquals(first.configHash(), second.configHash());
+        assertSame(second, OverlayPackBootstrap.getContents());
+        assertArrayEquals(expectedFiles(changed).get(RuntimeStructureOverlay.ANCIENT_RUINS_PATH),
+            second.get(RuntimeStructureOverlay.ANCIENT_RUINS_PATH));
+    }
+
+    @Test
+    void init_withoutExportProperty_writesNothing(@TempDir Path configDir) throws IOException {
+        OverlayPackBootstrap.init(configDir, ConfigDefaults.defaults());
+
+        assertNotNull(OverlayPackBootstrap.getContents());
+        try (var entries = Files.list(configDir)) {
+            assertEquals(0, entries.count(), "The overlay must be served from memory only");
         }
-        assertEquals(firstPath, OverlayPackBootstrap.getOverlayPath(),
-            "Published overlayPath must be stable across repeated successful writes");
     }
 
     @Test
-    void writeOverlay_ioFailure_leavesOverlayPathNull(@TempDir Path configDir) throws IOException {
+    void exportOverlay_writesAllFilesAndHash(@TempDir Path configDir) throws IOException {
+        OverlayPackContents contents = OverlayPackBootstrap.prepare(ConfigDefaults.defaults());
+
+        assertTrue(OverlayPackBootstrap.exportOverlay(configDir, contents));
+
+        Path overlayRoot = configDir.resolve(OverlayPackBootstrap.OVERLAY_DIR_NAME);
+        for (Map.Entry<String, byte[]> entry : contents.files().entrySet()) {
+            assertArrayEquals(entry.getValue(), Files.readAllBytes(overlayRoot.resolve(entry.getKey())),
+                "Exported bytes diverge from the in-memory overlay at: " + entry.getKey());
+        }
+        assertEquals(contents.configHash(),
+            Files.readString(overlayRoot.resolve(OverlayPackBootstrap.HASH_FILE_NAME), StandardCharsets.UTF_8).trim());
+    }
+
+    @Test
+    void exportOverlay_sameHash_skipsRewrite(@TempDir Path configDir) throws IOException {
+        OverlayPackContents contents = OverlayPackBootstrap.prepare(ConfigDefaults.defaults());
+        OverlayPackBootstrap.exportOverlay(configDir, contents);
+        Path ancientRuins = configDir.resolve(OverlayPackBootstrap.OVERLAY_DIR_NAME)
+            .resolve(RuntimeStructureOverlay.ANCIENT_RUINS_PATH);
+        Files.writeString(ancientRuins, "marker");
+
+        OverlayPackBootstrap.exportOverlay(configDir, contents);
+
+        assertEquals("marker", Files.readString(ancientRuins),
+            "An export of the same config must not be rewritten");
+    }
+
+    @Test
+    void exportOverlay_ioFailure_keepsInMemoryOverlay(@TempDir Path configDir) throws IOException {
         // Pre-occupy the overlay directory slot with a regular file so
         // Files.createDirectories(overlayRoot) throws FileAlreadyExistsException
-        // — a deterministic, cross-platform way to drive writeOverlay's catch block.
-        Path overlayRoot = configDir.resolve(OverlayPackBootstrap.OVERLAY_DIR_NAME);
-        Files.writeString(overlayRoot, "regular-file-blocker");
+        // — a deterministic, cross-platform way to drive exportOverlay's catch block.
+        Files.writeString(configDir.resolve(OverlayPackBootstrap.OVERLAY_DIR_NAME), "regular-file-blocker");
+        OverlayPackContents contents = OverlayPackBootstrap.prepare(ConfigDefaults.defaults());
 
-        OverlayPackBootstrap.writeOverlay(configDir, ConfigDefaults.defaults());
+        assertFalse(OverlayPackBootstrap.exportOverlay(configDir, contents));
+        assertSame(contents, OverlayPackBootstrap.getContents(),
+            "A failed debug export must not unpublish the overlay");
+    }
 
-        assertNull(OverlayPackBootstrap.getOverlayPath(),
-            "overlayPath must remain null when writeOverlay fails — otherwise "
-            + "loader-side registration would point at a half-written directory");
+    private static Map<String, byte[]> expectedFiles(ChronoDawnConfig config) {
+        Map<String, byte[]> expected = new LinkedHashMap<>();
+        expected.putAll(RuntimeStructureOverlay.generate(config));
+        expected.putAll(RuntimePlacedFeatureOverlay.generate(config));
+        return expected;
     }
 
-    private static Map<Path, byte[]> snapshotRegularFiles(Path root) throws IOException {
-        Map<Path, byte[]> out = new LinkedHashMap<>();
-        try (Stream<Path> stream = Files.walk(root)) {
-            for (Path p : (Iterable<Path>) stream.filter(Files::isRegularFile)::iterator) {
-                out.put(root.relativize(p), Files.readAllBytes(p));
-            }
-        }
-        return out;
+    private static ChronoDawnConfig withAncientRuinsSpacing(int spacing) {
+        ChronoDawnConfig defaults = ConfigDefaults.defaults();
+        ChronoDawnConfig.AncientRuins ruins = defaults.world().structures().ancientRuins();
+        return new ChronoDawnConfig(
+            defaults.schemaVersion(),
+            new ChronoDawnConfig.World(
+                new ChronoDawnConfig.Structures(
+                    new ChronoDawnConfig.AncientRuins(ruins.enabled(), spacing, ruins.separation(), ruins.salt())
+                ),
+                defaults.world().ores()
+            ),
+            defaults.gameplay(),
+            defaults.performance()
+        );
     }
 }
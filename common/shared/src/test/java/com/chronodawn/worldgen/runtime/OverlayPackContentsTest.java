@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2025 ksoichiro
+ *
+ * This file is part of Chrono Dawn.
+ *
+ * Chrono Dawn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, version 3 of the License.
+ *
+ * Chrono Dawn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Chrono Dawn. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.chronodawn.worldgen.runtime;
+
+import com.chronodawn.config.ConfigDefaults;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the {@link OverlayPackContents} lookups that back
+ * {@code InMemoryOverlayPackResources}.
+ */
+class OverlayPackContentsTest {
+
+    private final OverlayPackContents contents = OverlayPackContents.generate(ConfigDefaults.defaults());
+
+    @Test
+    void configHash_isStableForEqualConfigs() {
+        assertEquals(OverlayPackContents.configHash(ConfigDefaults.defaults()),
+            OverlayPackContents.configHash(ConfigDefaults.defaults()));
+        assertEquals(64, contents.configHash().length(), "SHA-256 as lower-case hex");
+    }
+
+    @Test
+    void packMcmeta_carriesConfigHash() {
+        String mcmeta = new String(contents.get(OverlayPackContents.PACK_MCMETA), StandardCharsets.UTF_8);
+        assertTrue(mcmeta.contains(contents.configHash().substring(0, 12)), mcmeta);
+    }
+
+    @Test
+    void namespaces_onlyCoverTheRequestedPackType() {
+        assertEquals(Set.of("chronodawn"), contents.namespaces("data"));
+        assertTrue(contents.namespaces("assets").isEmpty());
+    }
+
+    @Test
+    void list_returnsNamespaceRelativePathsUnderDirectory() {
+        Map<String, byte[]> placed = contents.list("data", "chronodawn", "worldgen/placed_feature");
+
+        assertEquals(Set.of(
+            "worldgen/placed_feature/ore_time_crystal.json",
+            "worldgen/placed_feature/ore_entropy_crystal.json",
+            "worldgen/placed_feature/ore_temporal_amber.json",
+            "worldgen/placed_feature/ore_clockstone.json"
+        ), placed.keySet());
+        assertEquals(Set.of("worldgen/structure_set/ancient_ruins.json"),
+            contents.list("data", "chronodawn", "worldgen").keySet().stream()
+                .filter(path -> path.startsWith("worldgen/structure_set/"))
+                .collect(Collectors.toSet()));
+    }
+
+    @Test
+    void list_doesNotMatchDirectoryNamePrefixes() {
+        // "worldgen/placed" must not match "worldgen/placed_feature/..."
+        assertTrue(contents.list("data", "chronodawn", "worldgen/placed").isEmpty());
+    }
+
+    @Test
+    void get_unknownPath_isNull() {
+        assertNull(contents.get("data/chronodawn/worldgen/structure_set/missing.json"));
+    }
+}
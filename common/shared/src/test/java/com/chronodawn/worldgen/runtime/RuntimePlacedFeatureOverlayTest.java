@@ -209,7 +209,8 @@ class RuntimePlacedFeatureOverlayTest {
                 defaults.world().structures(),
                 new com.chronodawn.config.OresConfig(tc, ec, ta, clk)
             ),
-            defaults.gameplay()
+            defaults.gameplay(),
+            defaults.performance()
         );
     }
 
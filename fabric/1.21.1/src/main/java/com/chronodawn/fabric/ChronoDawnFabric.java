@@ -18,6 +18,7 @@
 package com.chronodawn.fabric;
 
 import com.chronodawn.ChronoDawn;
+import com.chronodawn.core.performance.StartupProfiler;
 import com.chronodawn.entities.bosses.*;
 import com.chronodawn.entities.mobs.*;
 import com.chronodawn.fabric.event.BlockProtectionEventHandler;
@@ -35,20 +36,20 @@ public class ChronoDawnFabric implements ModInitializer {
     @Override
     public void onInitialize() {
         ChronoDawn.init();
-        com.chronodawn.network.ModNetworking.register();
+        StartupProfiler.time("networking", com.chronodawn.network.ModNetworking::register);
 
         // Register entity attributes (Fabric-specific)
-        registerEntityAttributes();
+        StartupProfiler.time("entity_attributes", this::registerEntityAttributes);
 
         // Register spawn placements (Fabric-specific)
-        registerSpawnPlacements();
+        StartupProfiler.time("spawn_placements", this::registerSpawnPlacements);
 
         // Initialize spawn eggs (Fabric-specific timing)
-        com.chronodawn.registry.ModItems.initializeSpawnEggs();
+        StartupProfiler.time("spawn_eggs", com.chronodawn.registry.ModItems::initializeSpawnEggs);
         ChronoDawn.LOGGER.debug("Initialized spawn eggs for Fabric");
 
         // Register fuel items
-        ChronoDawnFuelRegistry.register();
+        StartupProfiler.time("fuel", ChronoDawnFuelRegistry::register);
 
         // Register block protection event handler
         BlockProtectionEventHandler.register();
@@ -66,6 +67,7 @@ public class ChronoDawnFabric implements ModInitializer {
             }
         });
 
+        StartupProfiler.logSummary("fabric");
         ChronoDawn.LOGGER.info("ChronoDawn Mod (Fabric) initialized");
     }
 
@@ -8,8 +8,9 @@ import com.chronodawn.client.TemporalPlantColorProvider;
 import com.chronodawn.client.model.*;
 import com.chronodawn.client.particle.ChronoDawnPortalParticle;
 import com.chronodawn.client.particle.ChronoShieldEchoParticle;
+import com.chronodawn.core.performance.StartupProfiler;
 import com.chronodawn.gui.ChronicleScreen;
-import com.chronodawn.gui.data.ChronicleData;
+import com.chronodawn.gui.data.ChronicleReloadListener;
 import com.chronodawn.items.ChronicleBookItem;
 import com.chronodawn.client.renderer.*;
 import com.chronodawn.client.renderer.mobs.*;
@@ -26,10 +27,11 @@ import net.fabricmc.fabric.api.client.rendering.v1.ColorProviderRegistry;
 import net.fabricmc.fabric.api.client.rendering.v1.EntityModelLayerRegistry;
 import net.fabricmc.fabric.api.client.rendering.v1.EntityRendererRegistry;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
 import net.fabricmc.fabric.api.event.client.player.ClientPlayerBlockBreakEvents;
 import net.fabricmc.fabric.api.event.player.UseItemCallback;
+import net.fabricmc.fabric.api.resource.IdentifiableResourceReloadListener;
 import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
-import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.renderer.RenderType;
 import net.minecraft.core.BlockPos;
@@ -62,15 +64,17 @@ public class ChronoDawnClientFabric implements ClientModInitializer {
 
     @Override
     public void onInitializeClient() {
-        registerBlockColors();
-        registerRenderLayers();
-        registerEntityModelLayers();
-        registerEntityRenderers();
-        registerParticles();
-        registerItemProperties();
-        registerChronicleDataLoader();
-        registerChronicleBookHandler();
-        registerPortalEffects();
+        StartupProfiler.time("client/block_colors", this::registerBlockColors);
+        StartupProfiler.time("client/render_layers", this::registerRenderLayers);
+        StartupProfiler.time("client/model_layers", this::registerEntityModelLayers);
+        StartupProfiler.time("client/entity_renderers", this::registerEntityRenderers);
+        StartupProfiler.time("client/particles", this::registerParticles);
+        StartupProfiler.time("client/item_properties", this::registerItemProperties);
+        StartupProfiler.time("client/chronicle_data", this::registerChronicleDataLoader);
+        StartupProfiler.time("client/chronicle_book", this::registerChronicleBookHandler);
+        StartupProfiler.time("client/portal_effects", this::registerPortalEffects);
+        StartupProfiler.time("client/disconnect", this::registerDisconnectHandler);
+        StartupProfiler.logSummary("fabric client");
     }
 
     /**
@@ -79,18 +83,19 @@ public class ChronoDawnClientFabric implements ClientModInitializer {
      */
     private void registerChronicleDataLoader() {
         ResourceManagerHelper.get(net.minecraft.server.packs.PackType.CLIENT_RESOURCES)
-            .registerReloadListener(new SimpleSynchronousResourceReloadListener() {
-                @Override
-                public ResourceLocation getFabricId() {
-                    return ResourceLocation.fromNamespaceAndPath("chronodawn", "chronicle_data");
-                }
+            .registerReloadListener(new ChronicleDataReloadListener());
+    }
 
-                @Override
-                public void onResourceManagerReload(net.minecraft.server.packs.resources.ResourceManager resourceManager) {
-                    ChronicleData.getInstance().load(resourceManager);
-                    ChronoDawn.LOGGER.debug("Chronicle data loaded/reloaded");
-                }
-            });
+    /**
+     * {@link ChronicleReloadListener} with the ID Fabric's resource loader requires.
+     * Parsing runs in the prepare phase on the reload worker pool.
+     */
+    private static class ChronicleDataReloadListener extends ChronicleReloadListener
+            implements IdentifiableResourceReloadListener {
+        @Override
+        public ResourceLocation getFabricId() {
+            return ResourceLocation.fromNamespaceAndPath("chronodawn", "chronicle_data");
+        }
     }
 
     /**
@@ -734,11 +739,26 @@ public class ChronoDawnClientFabric implements ClientModInitializer {
 
     /**
      * Register portal effects handler for client tick events.
-     * Manages portal-related visual effects (nausea, fade, overlay).
+     * Manages portal-related visual effects (nausea, fade, overlay) and the
+     * per-tick Chrono Dawn sky/fog state read by the environment mixins, and the
+     * camera view used to thin out ambient block particles.
      */
     private void registerPortalEffects() {
         ClientTickEvents.END_CLIENT_TICK.register(client -> {
             com.chronodawn.client.PortalEffectHandler.onClientTick();
+            com.chronodawn.client.environment.ChronoDawnEnvironmentState.tick();
+            com.chronodawn.client.particle.AmbientParticleView.tick();
+        });
+    }
+
+    /**
+     * Register the handler that drops server-sent client state when leaving a world,
+     * so the next world does not start from the last one's.
+     */
+    private void registerDisconnectHandler() {
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> {
+            com.chronodawn.client.time.ClientTimeFlow.reset();
+            com.chronodawn.client.performance.ClientServerLoad.reset();
         });
     }
 }
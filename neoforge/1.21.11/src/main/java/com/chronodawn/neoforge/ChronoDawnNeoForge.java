@@ -18,6 +18,7 @@
 package com.chronodawn.neoforge;
 
 import com.chronodawn.ChronoDawn;
+import com.chronodawn.core.performance.StartupProfiler;
 import com.chronodawn.entities.bosses.*;
 import com.chronodawn.entities.mobs.*;
 import com.chronodawn.neoforge.event.OverlayPackFinder;
@@ -32,6 +33,7 @@ import com.chronodawn.worldgen.protection.BlockProtectionHandler;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.entity.SpawnPlacementTypes;
 import net.minecraft.world.level.levelgen.Heightmap;
+import net.neoforged.bus.api.EventPriority;
 import net.neoforged.bus.api.IEventBus;
 import net.neoforged.fml.common.Mod;
 import net.neoforged.fml.event.lifecycle.FMLCommonSetupEvent;
@@ -41,6 +43,7 @@ import net.neoforged.neoforge.event.entity.EntityAttributeCreationEvent;
 import net.neoforged.neoforge.event.entity.RegisterSpawnPlacementsEvent;
 import net.neoforged.neoforge.event.level.BlockEvent;
 import net.neoforged.neoforge.event.tick.ServerTickEvent;
+import net.neoforged.neoforge.registries.RegisterEvent;
 
 /**
  * Main mod class for NeoForge (1.21.5 version).
@@ -50,6 +53,8 @@ import net.neoforged.neoforge.event.tick.ServerTickEvent;
 @Mod(ChronoDawn.MOD_ID)
 public class ChronoDawnNeoForge {
     private int tickCounter = 0;
+    // Start of the RegisterEvent being handled, for the startup profile
+    private long registryEventStart = 0L;
 
     public ChronoDawnNeoForge(IEventBus modEventBus) {
         // Register FluidTypes (NeoForge-specific, must be registered before ChronoDawn.init())
@@ -59,7 +64,7 @@ public class ChronoDawnNeoForge {
 
         // Single-call S2C registration: registers the payload type always,
         // and the client receiver only when env is CLIENT.
-        com.chronodawn.network.ModNetworking.register();
+        StartupProfiler.time("networking", com.chronodawn.network.ModNetworking::register);
 
         // Register particle types (NeoForge-specific)
         ModParticles.register(modEventBus);
@@ -70,17 +75,25 @@ public class ChronoDawnNeoForge {
         // Register GameTests (1.21.5 registry-based system)
         ChronoDawnGameTestsNeoForge.register(modEventBus);
 
+        // Time each RegisterEvent: on NeoForge the deferred registers queued by ChronoDawn.init()
+        // build their entries there, around every other listener on this mod's bus
+        modEventBus.addListener(EventPriority.HIGHEST, (RegisterEvent event) -> registryEventStart = System.nanoTime());
+        modEventBus.addListener(EventPriority.LOWEST, (RegisterEvent event) -> StartupProfiler.record(
+            "registry_event/" + event.getRegistryKey().identifier().getPath(), registryEventStart));
+
         // Register entity attributes (NeoForge-specific)
-        modEventBus.addListener(this::registerEntityAttributes);
+        modEventBus.addListener((EntityAttributeCreationEvent event) ->
+            StartupProfiler.time("entity_attributes", () -> registerEntityAttributes(event)));
 
         // Register spawn placements (NeoForge-specific)
-        modEventBus.addListener(this::registerSpawnPlacements);
+        modEventBus.addListener((RegisterSpawnPlacementsEvent event) ->
+            StartupProfiler.time("spawn_placements", () -> registerSpawnPlacements(event)));
 
         // Common setup - initialize spawn eggs after entities are registered
         modEventBus.addListener(this::commonSetup);
 
         // Register the runtime config overlay datapack with the server pack repository.
-        // OverlayPackBootstrap.writeOverlay() ran during ChronoDawn.init() above; this
+        // OverlayPackBootstrap.init() ran during ChronoDawn.init() above; this
         // event fires later (when PackRepository is constructed for a world load).
         modEventBus.addListener((AddPackFindersEvent event) -> OverlayPackFinder.onAddPackFinders(event));
 
@@ -91,6 +104,7 @@ public class ChronoDawnNeoForge {
         NeoForge.EVENT_BUS.addListener(this::onBlockBreak);
         NeoForge.EVENT_BUS.addListener(this::onBlockPlace);
 
+        StartupProfiler.logSummary("neoforge construct");
         ChronoDawn.LOGGER.info("ChronoDawn Mod (NeoForge 1.21.5) initialized");
     }
 
@@ -324,8 +338,9 @@ public class ChronoDawnNeoForge {
     private void commonSetup(FMLCommonSetupEvent event) {
         event.enqueueWork(() -> {
             // Initialize spawn eggs - must be done after entities are registered
-            ModItems.initializeSpawnEggs();
+            StartupProfiler.time("spawn_eggs", ModItems::initializeSpawnEggs);
             ChronoDawn.LOGGER.debug("Initialized spawn eggs for NeoForge");
+            StartupProfiler.logSummary("neoforge");
         });
     }
 
@@ -10,8 +10,9 @@ import com.chronodawn.client.particle.ChronoDawnPortalParticle;
 import com.chronodawn.client.particle.ChronoShieldEchoParticle;
 import com.chronodawn.client.renderer.*;
 import com.chronodawn.client.renderer.mobs.*;
+import com.chronodawn.core.performance.StartupProfiler;
 import com.chronodawn.gui.ChronicleScreen;
-import com.chronodawn.gui.data.ChronicleData;
+import com.chronodawn.gui.data.ChronicleReloadListener;
 import com.chronodawn.items.ChronicleBookItem;
 import com.chronodawn.neoforge.registry.ModFluidTypes;
 import com.chronodawn.registry.ModBlocks;
@@ -67,6 +68,7 @@ public class ChronoDawnClientNeoForge {
      */
     @SubscribeEvent
     public static void onRegisterLayerDefinitions(EntityRenderersEvent.RegisterLayerDefinitions event) {
+        long start = System.nanoTime();
         // Register Time Guardian model layer
         event.registerLayerDefinition(
             TimeGuardianRenderer.LAYER_LOCATION,
@@ -216,6 +218,7 @@ public class ChronoDawnClientNeoForge {
         VersionSpecificClientHelper.registerBoatModelLayers(event);
 
         ChronoDawn.LOGGER.debug("Registered entity model layers for NeoForge");
+        StartupProfiler.record("client/model_layers", start);
     }
 
     /**
@@ -226,6 +229,7 @@ public class ChronoDawnClientNeoForge {
      */
     @SubscribeEvent
     public static void onRegisterEntityRenderers(EntityRenderersEvent.RegisterRenderers event) {
+        long start = System.nanoTime();
         // Register Time Guardian with custom renderer
         event.registerEntityRenderer(
             ModEntities.TIME_GUARDIAN.get(),
@@ -403,6 +407,7 @@ public class ChronoDawnClientNeoForge {
         );
 
         ChronoDawn.LOGGER.debug("Registered entity renderers for NeoForge");
+        StartupProfiler.record("client/entity_renderers", start);
     }
 
     /**
@@ -414,6 +419,7 @@ public class ChronoDawnClientNeoForge {
      */
     @SubscribeEvent
     public static void onRegisterBlockColors(RegisterColorHandlersEvent.Block event) {
+        long start = System.nanoTime();
         // Per-tree color variation for all 3 Time Wood leaf kinds.
         // Item tints for inventory icons are defined in items/<id>.json (1.21.4+).
         event.register(
@@ -485,6 +491,7 @@ public class ChronoDawnClientNeoForge {
         );
 
         ChronoDawn.LOGGER.debug("Registered block color handlers for NeoForge");
+        StartupProfiler.record("client/block_colors", start);
     }
 
     // Item color registration removed in 1.21.4
@@ -498,6 +505,7 @@ public class ChronoDawnClientNeoForge {
      */
     @SubscribeEvent
     public static void onRegisterParticleProviders(RegisterParticleProvidersEvent event) {
+        long start = System.nanoTime();
         // Register ChronoDawn portal particle provider
         event.registerSpriteSet(
             ModParticles.CHRONO_DAWN_PORTAL.get(),
@@ -511,6 +519,7 @@ public class ChronoDawnClientNeoForge {
         );
 
         ChronoDawn.LOGGER.debug("Registered particle providers for NeoForge");
+        StartupProfiler.record("client/particles", start);
     }
 
     /**
@@ -615,18 +624,7 @@ public class ChronoDawnClientNeoForge {
     public static void onAddClientReloadListeners(AddClientReloadListenersEvent event) {
         event.addListener(
             ResourceLocation.fromNamespaceAndPath(ChronoDawn.MOD_ID, "chronicle_data"),
-            new net.minecraft.server.packs.resources.SimplePreparableReloadListener<Void>() {
-                @Override
-                protected Void prepare(net.minecraft.server.packs.resources.ResourceManager resourceManager, net.minecraft.util.profiling.ProfilerFiller profiler) {
-                    return null;
-                }
-
-                @Override
-                protected void apply(Void object, net.minecraft.server.packs.resources.ResourceManager resourceManager, net.minecraft.util.profiling.ProfilerFiller profiler) {
-                    ChronicleData.getInstance().load(resourceManager);
-                    ChronoDawn.LOGGER.debug("Chronicle data loaded/reloaded");
-                }
-            }
+            new ChronicleReloadListener()
         );
     }
 
@@ -636,6 +634,8 @@ public class ChronoDawnClientNeoForge {
      */
     @EventBusSubscriber(modid = ChronoDawn.MOD_ID, value = Dist.CLIENT)
     public static class ForgeEventHandlers {
+        private static boolean startupProfileLogged = false;
+
         /**
          * Handle client tick events for portal effects.
          * Called every client tick after all other tick logic completes.
@@ -646,6 +646,26 @@ public class ChronoDawnClientNeoForge {
         public static void onClientTickEnd(ClientTickEvent.Post event) {
             // Call portal effect handler (version-specific path)
             VersionSpecificClientHelper.onClientTick();
+            com.chronodawn.client.environment.ChronoDawnEnvironmentState.tick();
+            com.chronodawn.client.particle.AmbientParticleView.tick();
+
+            // Client registration events have all fired by the first tick
+            if (!startupProfileLogged) {
+                startupProfileLogged = true;
+                StartupProfiler.logSummary("neoforge client");
+            }
+        }
+
+        /**
+         * Drop server-sent client state when leaving a world, so the next world does not
+         * start from the last one's.
+         *
+         * @param event The logging out event
+         */
+        @SubscribeEvent
+        public static void onLoggingOut(ClientPlayerNetworkEvent.LoggingOut event) {
+            com.chronodawn.client.time.ClientTimeFlow.reset();
+            com.chronodawn.client.performance.ClientServerLoad.reset();
         }
 
         /**
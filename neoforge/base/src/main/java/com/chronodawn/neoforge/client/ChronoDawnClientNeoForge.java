@@ -2,8 +2,9 @@ package com.chronodawn.neoforge.client;
 
 import com.chronodawn.ChronoDawn;
 import com.chronodawn.client.TemporalGrassEdgeTint;
+import com.chronodawn.core.performance.StartupProfiler;
 import com.chronodawn.gui.ChronicleScreen;
-import com.chronodawn.gui.data.ChronicleData;
+import com.chronodawn.gui.data.ChronicleReloadListener;
 import com.chronodawn.items.ChronicleBookItem;
 import com.chronodawn.client.CobwebColorProvider;
 import com.chronodawn.client.LeafColorProvider;
@@ -31,6 +32,7 @@ import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.fml.event.lifecycle.FMLClientSetupEvent;
 import net.neoforged.neoforge.client.event.EntityRenderersEvent;
+import net.neoforged.neoforge.client.event.ClientPlayerNetworkEvent;
 import net.neoforged.neoforge.client.event.ClientTickEvent;
 import net.neoforged.neoforge.client.event.RegisterClientReloadListenersEvent;
 import net.neoforged.neoforge.client.event.RegisterColorHandlersEvent;
@@ -78,6 +80,7 @@ public class ChronoDawnClientNeoForge {
      */
     @SubscribeEvent
     public static void onRegisterLayerDefinitions(EntityRenderersEvent.RegisterLayerDefinitions event) {
+        long start = System.nanoTime();
         // Register Time Guardian model layer
         event.registerLayerDefinition(
             TimeGuardianRenderer.LAYER_LOCATION,
@@ -227,6 +230,7 @@ public class ChronoDawnClientNeoForge {
         VersionSpecificClientHelper.registerBoatModelLayers(event);
 
         ChronoDawn.LOGGER.debug("Registered entity model layers for NeoForge");
+        StartupProfiler.record("client/model_layers", start);
     }
 
     /**
@@ -237,6 +241,7 @@ public class ChronoDawnClientNeoForge {
      */
     @SubscribeEvent
     public static void onRegisterEntityRenderers(EntityRenderersEvent.RegisterRenderers event) {
+        long start = System.nanoTime();
         // Register Time Guardian with custom renderer
         event.registerEntityRenderer(
             ModEntities.TIME_GUARDIAN.get(),
@@ -414,6 +419,7 @@ public class ChronoDawnClientNeoForge {
         );
 
         ChronoDawn.LOGGER.debug("Registered entity renderers for NeoForge");
+        StartupProfiler.record("client/entity_renderers", start);
     }
 
     /**
@@ -425,6 +431,7 @@ public class ChronoDawnClientNeoForge {
      */
     @SubscribeEvent
     public static void onRegisterBlockColors(RegisterColorHandlersEvent.Block event) {
+        long start = System.nanoTime();
         // Per-tree color variation for all 3 Time Wood leaf kinds.
         event.register(
             (state, world, pos, tintIndex) ->
@@ -495,6 +502,7 @@ public class ChronoDawnClientNeoForge {
         );
 
         ChronoDawn.LOGGER.debug("Registered block color handlers for NeoForge");
+        StartupProfiler.record("client/block_colors", start);
     }
 
     /**
@@ -502,6 +510,7 @@ public class ChronoDawnClientNeoForge {
      */
     @SubscribeEvent
     public static void onRegisterItemColors(RegisterColorHandlersEvent.Item event) {
+        long start = System.nanoTime();
         // Inventory icons use the canonical color for each leaf kind.
         event.register(
             (stack, tintIndex) -> LeafColorProvider.LeafKind.TIME_WOOD.iconColor(),
@@ -581,6 +590,7 @@ public class ChronoDawnClientNeoForge {
         );
 
         ChronoDawn.LOGGER.debug("Registered item color handlers for NeoForge");
+        StartupProfiler.record("client/item_colors", start);
     }
 
     /**
@@ -590,6 +600,7 @@ public class ChronoDawnClientNeoForge {
      */
     @SubscribeEvent
     public static void onRegisterParticleProviders(RegisterParticleProvidersEvent event) {
+        long start = System.nanoTime();
         // Register ChronoDawn portal particle provider
         event.registerSpriteSet(
             ModParticles.CHRONO_DAWN_PORTAL.get(),
@@ -603,6 +614,7 @@ public class ChronoDawnClientNeoForge {
         );
 
         ChronoDawn.LOGGER.debug("Registered particle providers for NeoForge");
+        StartupProfiler.record("client/particles", start);
     }
 
     /**
@@ -757,18 +769,7 @@ public class ChronoDawnClientNeoForge {
     @SubscribeEvent
     public static void onRegisterClientReloadListeners(RegisterClientReloadListenersEvent event) {
         // 1.21.2: PreparableReloadListener API changed, use SimplePreparableReloadListener
-        event.registerReloadListener(new net.minecraft.server.packs.resources.SimplePreparableReloadListener<Void>() {
-            @Override
-            protected Void prepare(net.minecraft.server.packs.resources.ResourceManager resourceManager, net.minecraft.util.profiling.ProfilerFiller profiler) {
-                return null;
-            }
-
-            @Override
-            protected void apply(Void object, net.minecraft.server.packs.resources.ResourceManager resourceManager, net.minecraft.util.profiling.ProfilerFiller profiler) {
-                ChronicleData.getInstance().load(resourceManager);
-                ChronoDawn.LOGGER.debug("Chronicle data loaded/reloaded");
-            }
-        });
+        event.registerReloadListener(new ChronicleReloadListener());
     }
 
     /**
@@ -777,6 +778,8 @@ public class ChronoDawnClientNeoForge {
      */
     @EventBusSubscriber(modid = ChronoDawn.MOD_ID, value = Dist.CLIENT, bus = EventBusSubscriber.Bus.GAME)
     public static class ForgeEventHandlers {
+        private static boolean startupProfileLogged = false;
+
         /**
          * Handle client tick events for portal effects.
          * Called every client tick after all other tick logic completes.
@@ -787,6 +790,26 @@ public class ChronoDawnClientNeoForge {
         public static void onClientTickEnd(ClientTickEvent.Post event) {
             // Call portal effect handler (version-specific path)
             VersionSpecificClientHelper.onClientTick();
+            com.chronodawn.client.environment.ChronoDawnEnvironmentState.tick();
+            com.chronodawn.client.particle.AmbientParticleView.tick();
+
+            // Client registration events have all fired by the first tick
+            if (!startupProfileLogged) {
+                startupProfileLogged = true;
+                StartupProfiler.logSummary("neoforge client");
+            }
+        }
+
+        /**
+         * Drop server-sent client state when leaving a world, so the next world does not
+         * start from the last one's.
+         *
+         * @param event The logging out event
+         */
+        @SubscribeEvent
+        public static void onLoggingOut(ClientPlayerNetworkEvent.LoggingOut event) {
+            com.chronodawn.client.time.ClientTimeFlow.reset();
+            com.chronodawn.client.performance.ClientServerLoad.reset();
         }
 
         /**
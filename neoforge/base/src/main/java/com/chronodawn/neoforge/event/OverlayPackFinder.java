@@ -18,27 +18,26 @@
 package com.chronodawn.neoforge.event;
 
 import com.chronodawn.ChronoDawn;
+import com.chronodawn.worldgen.runtime.InMemoryOverlayPackResources;
 import com.chronodawn.worldgen.runtime.OverlayPackBootstrap;
+import com.chronodawn.worldgen.runtime.OverlayPackContents;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.packs.PackLocationInfo;
 import net.minecraft.server.packs.PackSelectionConfig;
 import net.minecraft.server.packs.PackType;
-import net.minecraft.server.packs.PathPackResources;
 import net.minecraft.server.packs.repository.Pack;
 import net.minecraft.server.packs.repository.PackSource;
 import net.neoforged.neoforge.event.AddPackFindersEvent;
 
-import java.nio.file.Path;
 import java.util.Optional;
 
 /**
- * NeoForge-side registration of the on-disk runtime overlay datapack as a
+ * NeoForge-side registration of the in-memory runtime overlay datapack as a
  * built-in pack source for the server pack repository.
  *
- * <p>{@link com.chronodawn.config.ConfigLoader} writes
- * {@code config/chronodawn-runtime-overlay/} during {@code ChronoDawn.init()};
- * here we expose that directory as a high-priority data pack so the JSONs
- * inside override the bundled mod resources.
+ * <p>{@link OverlayPackBootstrap} generates the overlay files during
+ * {@code ChronoDawn.init()}; here we expose them as a high-priority data pack
+ * so the JSONs override the bundled mod resources.
  */
 public final class OverlayPackFinder {
     public static final String PACK_DISPLAY_NAME = "ChronoDawn config overlay";
@@ -49,10 +48,10 @@ public final class OverlayPackFinder {
         if (event.getPackType() != PackType.SERVER_DATA) {
             return;
         }
-        Path overlayPath = OverlayPackBootstrap.getOverlayPath();
-        if (overlayPath == null) {
-            // Bootstrap failed to materialise the overlay (e.g. IO error). Skip
-            // rather than register an empty pack source.
+        OverlayPackContents overlay = OverlayPackBootstrap.getContents();
+        if (overlay == null) {
+            // ChronoDawn.init() has not prepared the overlay. Skip rather than
+            // register an empty pack source.
             return;
         }
 
@@ -68,14 +67,14 @@ public final class OverlayPackFinder {
 
         Pack pack = Pack.readMetaAndCreate(
             info,
-            new PathPackResources.PathResourcesSupplier(overlayPath),
+            InMemoryOverlayPackResources.supplier(overlay),
             PackType.SERVER_DATA,
             selection
         );
         if (pack == null) {
             ChronoDawn.LOGGER.warn(
-                "Runtime overlay pack at {} failed metadata validation; not registering",
-                overlayPath
+                "Runtime overlay pack (config {}) failed metadata validation; not registering",
+                overlay.configHash()
             );
             return;
         }